@@ -7,28 +7,23 @@
 
 package com.chutneytesting.action.jakarta;
 
-import static com.chutneytesting.tools.ThrowingFunction.toUnchecked;
-import static com.chutneytesting.tools.ThrowingSupplier.toUnchecked;
-
+import com.chutneytesting.action.jakarta.JakartaConnectionCache.CachedSession;
+import com.chutneytesting.action.jakarta.JakartaConnectionCache.ConnectionKey;
 import com.chutneytesting.action.jakarta.consumer.Consumer;
 import com.chutneytesting.action.jakarta.consumer.ConsumerFactory;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.tools.CloseableResource;
-import com.chutneytesting.tools.UncheckedException;
-import jakarta.jms.Connection;
-import jakarta.jms.ConnectionFactory;
 import jakarta.jms.Destination;
 import jakarta.jms.InvalidSelectorException;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.MessageProducer;
-import jakarta.jms.Session;
-import java.util.Hashtable;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import javax.naming.Context;
-import javax.naming.InitialContext;
 import javax.naming.NameNotFoundException;
 import javax.naming.NamingException;
 import org.slf4j.Logger;
@@ -37,6 +32,7 @@ import org.slf4j.LoggerFactory;
 public class JakartaConnectionFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JakartaConnectionFactory.class);
+    private static final JakartaConnectionCache CONNECTIONS = new JakartaConnectionCache(Duration.ofMinutes(5));
 
     public CloseableResource<Consumer> createConsumer(Target target, String destination, String timeout) {
         return createConsumer(target, destination, timeout, null, null, 0);
@@ -44,54 +40,50 @@ public class JakartaConnectionFactory {
 
     public CloseableResource<Consumer> createConsumer(Target target, String destination, String timeout, String bodySelector, String selector, int browserMaxDepth) {
         ConsumerFactory consumerFactory = new ConsumerFactory(bodySelector, selector, timeout, browserMaxDepth);
-        return obtainCloseableResource(target, destination, consumerFactory::build);
+        return obtainCloseableResource(target, destination, (session, jmsDestination) ->
+            new SessionConsumer(session, consumerFactory.build(session.session(), jmsDestination))
+        );
     }
 
     public CloseableResource<MessageSender> getMessageProducer(Target target, String destinationName) throws UncheckedJakartaException {
         return obtainCloseableResource(target, destinationName, (session, destination) -> {
-            MessageProducer messageProducer = session.createProducer(destination);
+            MessageProducer messageProducer = session.producer();
 
             return (messageContent, headers) -> {
-                Message message = session.createTextMessage(messageContent);
-                for (Entry<String, String> headerEntry : headers.entrySet()) {
-                    message.setStringProperty(headerEntry.getKey(), headerEntry.getValue());
+                try {
+                    Message message = session.session().createTextMessage(messageContent);
+                    for (Entry<String, String> headerEntry : headers.entrySet()) {
+                        message.setStringProperty(headerEntry.getKey(), headerEntry.getValue());
+                    }
+                    messageProducer.send(destination, message);
+                } catch (JMSException e) {
+                    session.invalidate();
+                    throw e;
                 }
-                messageProducer.send(message);
             };
         });
     }
 
-    private <T> CloseableResource<T> obtainCloseableResource(Target target, String destinationName, JmsThrowingBiFunction<Session, Destination, T> resourceBuilder) throws UncheckedJakartaException {
-        Hashtable<String, String> environmentProperties = new Hashtable<>();
-        environmentProperties.put(Context.PROVIDER_URL, target.uri().toString());
-        environmentProperties.putAll(target.prefixedProperties("java.naming."));
-        environmentProperties.putAll(target.prefixedProperties("jndi.", true));
-
-        configureSsl(target, environmentProperties);
-
-        String connectionFactoryName = target.property("connectionFactoryName").orElse("ConnectionFactory");
-
+    private <T> CloseableResource<T> obtainCloseableResource(Target target, String destinationName, JmsThrowingBiFunction<CachedSession, Destination, T> resourceBuilder) throws UncheckedJakartaException {
         try {
             debugClassLoader();
-            Context context = new InitialContext(environmentProperties);
-            ConnectionFactory connectionFactory = (ConnectionFactory) context.lookup(connectionFactoryName);
-
-            Connection connection = createConnection(connectionFactory, target);
-            connection.start();
-            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-            Destination destination = (Destination) context.lookup(destinationName);
-            return CloseableResource.build(resourceBuilder.apply(session, destination), () -> {
-                try {
-                    session.close();
-                } catch (JMSException e) {
-                    LOGGER.warn("Unable to close JMS Session: " + e.getMessage());
-                }
-                try {
-                    connection.close();
-                } catch (JMSException e) {
-                    LOGGER.warn("Unable to close JMS Connection: " + e.getMessage());
-                }
-            });
+            CachedSession session = CONNECTIONS.borrowSession(connectionKey(target));
+            try {
+                Destination destination = session.destination(destinationName);
+                T resource = resourceBuilder.apply(session, destination);
+                return CloseableResource.build(resource, () -> {
+                    if (resource instanceof SessionConsumer consumer) {
+                        consumer.close();
+                    }
+                    session.release();
+                });
+            } catch (NamingException e) {
+                session.release();
+                throw e;
+            } catch (JMSException | RuntimeException e) {
+                session.invalidate();
+                throw e;
+            }
         } catch (InvalidSelectorException e) {
             throw new UncheckedJakartaException("Cannot parse selector " + e.getMessage(), e);
         } catch (NameNotFoundException e) {
@@ -101,6 +93,23 @@ public class JakartaConnectionFactory {
         }
     }
 
+    private ConnectionKey connectionKey(Target target) {
+        Map<String, String> environmentProperties = new HashMap<>();
+        environmentProperties.put(Context.PROVIDER_URL, target.uri().toString());
+        environmentProperties.putAll(target.prefixedProperties("java.naming."));
+        environmentProperties.putAll(target.prefixedProperties("jndi.", true));
+
+        configureSsl(target, environmentProperties);
+
+        String connectionFactoryName = target.property("connectionFactoryName").orElse("ConnectionFactory");
+        return new ConnectionKey(
+            environmentProperties,
+            connectionFactoryName,
+            target.user().orElse(null),
+            target.user().flatMap(user -> target.userPassword()).orElse("")
+        );
+    }
+
     private void debugClassLoader() {
         ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
         LOGGER.debug("Thread.currentThread().getContextClassLoader(): " + contextClassLoader);
@@ -108,17 +117,6 @@ public class JakartaConnectionFactory {
         LOGGER.debug("ClassLoader.getSystemClassLoader(): " + systemClassLoader);
     }
 
-    private Connection createConnection(ConnectionFactory connectionFactory, Target target) throws JMSException {
-        try {
-            return target.user()
-                .map(toUnchecked(user -> connectionFactory.createConnection(user, target.userPassword().orElse(""))))
-                .orElseGet(toUnchecked(connectionFactory::createConnection));
-        } catch (UncheckedException e) {
-            // Only JMSException can be unchecked in previous calls
-            throw (JMSException) e.getCause();
-        }
-    }
-
     private void configureSsl(Target target, Map<String, String> environmentProperties) {
         putInMapIfPresent("connection.ConnectionFactory.keyStore", target.keyStore(), environmentProperties);
         putInMapIfPresent("connection.ConnectionFactory.keyStorePassword", target.keyStorePassword(), environmentProperties);
@@ -135,6 +133,41 @@ public class JakartaConnectionFactory {
         R apply(T1 t1, T2 t2) throws JMSException;
     }
 
+    /**
+     * Consumer closed when its action is done, so that the cached session does not keep receiving messages.
+     * A failing consumer invalidates its session.
+     */
+    private static class SessionConsumer implements Consumer {
+
+        private final CachedSession session;
+        private final Consumer consumer;
+
+        private SessionConsumer(CachedSession session, Consumer consumer) {
+            this.session = session;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public Optional<Message> getMessage() throws JMSException {
+            try {
+                return consumer.getMessage();
+            } catch (JMSException e) {
+                session.invalidate();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                consumer.close();
+            } catch (JMSException e) {
+                LOGGER.warn("Unable to close JMS Consumer: " + e.getMessage());
+                session.invalidate();
+            }
+        }
+    }
+
     public interface MessageSender {
         void send(String message, Map<String, String> headers) throws JMSException;
     }
@@ -14,4 +14,6 @@ import java.util.Optional;
 public interface Consumer {
 
     Optional<Message> getMessage() throws JMSException;
+
+    void close() throws JMSException;
 }
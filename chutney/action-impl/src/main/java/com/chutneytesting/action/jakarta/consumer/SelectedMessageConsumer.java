@@ -35,4 +35,9 @@ class SelectedMessageConsumer implements Consumer {
             .filter(bodySelector::match)
             .findFirst();
     }
+
+    @Override
+    public void close() throws JMSException {
+        browser.close();
+    }
 }
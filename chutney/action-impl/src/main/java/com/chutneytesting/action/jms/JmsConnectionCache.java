@@ -0,0 +1,284 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.jms;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+import javax.naming.Context;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JMS connections kept open between actions, one per target configuration.<br>
+ * Each connection keeps its JNDI context, the destinations already looked up and idle sessions with their producer.
+ * A connection is dropped from the cache when the provider reports a failure on it, or when a session fails,
+ * and is closed once its borrowed sessions are released.
+ * Connections without activity during the idle timeout are closed in background.
+ */
+class JmsConnectionCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JmsConnectionCache.class);
+
+    private static final int MAX_IDLE_SESSIONS = 10;
+
+    private final Map<ConnectionKey, CachedConnection> connections = new ConcurrentHashMap<>();
+    private final Duration idleTimeout;
+
+    JmsConnectionCache(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jms-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionPeriod = Math.max(1, idleTimeout.toMillis() / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections, evictionPeriod, evictionPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a session on the cached connection matching the key, opening the connection if needed.<br>
+     * If a session cannot be created on a previously opened connection, this one is replaced once by a new connection.
+     */
+    CachedSession borrowSession(ConnectionKey key) throws NamingException, JMSException {
+        return borrowSession(key, true);
+    }
+
+    private CachedSession borrowSession(ConnectionKey key, boolean reconnect) throws NamingException, JMSException {
+        CachedConnection connection = connections.computeIfAbsent(key, CachedConnection::new);
+        boolean reused = connection.opened();
+        try {
+            CachedSession session = connection.borrowSession();
+            if (session == null) {
+                // Connection evicted in the meantime
+                return borrowSession(key, reconnect);
+            }
+            return session;
+        } catch (JMSException e) {
+            invalidate(connection);
+            if (!reconnect || !reused) {
+                throw e;
+            }
+            LOGGER.info("Cannot create session on cached jms connection, reconnect: {}", e.getMessage());
+            return borrowSession(key, false);
+        } catch (NamingException | RuntimeException e) {
+            invalidate(connection);
+            throw e;
+        }
+    }
+
+    private void invalidate(CachedConnection connection) {
+        connections.remove(connection.key, connection);
+        connection.invalidate();
+    }
+
+    private void evictIdleConnections() {
+        Instant idleLimit = Instant.now().minus(idleTimeout);
+        connections.values().stream()
+            .filter(connection -> connection.idleSince(idleLimit))
+            .forEach(this::invalidate);
+    }
+
+    record ConnectionKey(Map<String, String> environment, String connectionFactoryName, String user, String password) {
+    }
+
+    /**
+     * Connection opened on first use, with the JNDI context used to find its factory and destinations.
+     */
+    private class CachedConnection {
+
+        private final ConnectionKey key;
+        private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+        private final Deque<CachedSession> idleSessions = new ArrayDeque<>();
+        private Context context;
+        private Connection connection;
+        private int borrowedSessions;
+        private Instant lastUsed = Instant.now();
+        private boolean invalid;
+
+        private CachedConnection(ConnectionKey key) {
+            this.key = key;
+        }
+
+        private synchronized boolean opened() {
+            return connection != null;
+        }
+
+        private synchronized boolean idleSince(Instant idleLimit) {
+            return borrowedSessions == 0 && lastUsed.isBefore(idleLimit);
+        }
+
+        /**
+         * @return null if this connection has been invalidated
+         */
+        private synchronized CachedSession borrowSession() throws NamingException, JMSException {
+            if (invalid) {
+                return null;
+            }
+            if (connection == null) {
+                open();
+            }
+            CachedSession session = idleSessions.pollFirst();
+            if (session == null) {
+                session = new CachedSession(this, connection.createSession(false, Session.AUTO_ACKNOWLEDGE));
+            }
+            borrowedSessions++;
+            lastUsed = Instant.now();
+            return session;
+        }
+
+        private void open() throws NamingException, JMSException {
+            context = new InitialContext(new Hashtable<>(key.environment()));
+            try {
+                ConnectionFactory connectionFactory = (ConnectionFactory) context.lookup(key.connectionFactoryName());
+                connection = key.user() == null
+                    ? connectionFactory.createConnection()
+                    : connectionFactory.createConnection(key.user(), key.password());
+                connection.setExceptionListener(e -> {
+                    LOGGER.warn("Jms connection failure, drop it from cache: {}", e.getMessage());
+                    JmsConnectionCache.this.invalidate(this);
+                });
+                connection.start();
+            } catch (NamingException | JMSException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private Destination destination(String name) throws NamingException {
+            Destination destination = destinations.get(name);
+            if (destination == null) {
+                synchronized (this) {
+                    destination = (Destination) context.lookup(name);
+                }
+                destinations.put(name, destination);
+            }
+            return destination;
+        }
+
+        private synchronized void release(CachedSession session, boolean reusable) {
+            borrowedSessions--;
+            lastUsed = Instant.now();
+            if (reusable && !invalid && idleSessions.size() < MAX_IDLE_SESSIONS) {
+                idleSessions.addFirst(session);
+            } else {
+                session.close();
+            }
+            if (invalid && borrowedSessions == 0) {
+                close();
+            }
+        }
+
+        private synchronized void invalidate() {
+            invalid = true;
+            idleSessions.forEach(CachedSession::close);
+            idleSessions.clear();
+            if (borrowedSessions == 0) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (JMSException e) {
+                    LOGGER.warn("Unable to close JMS Connection: " + e.getMessage());
+                }
+                connection = null;
+            }
+            if (context != null) {
+                try {
+                    context.close();
+                } catch (NamingException e) {
+                    LOGGER.warn("Unable to close JNDI Context: " + e.getMessage());
+                }
+                context = null;
+            }
+        }
+    }
+
+    /**
+     * A session borrowed from a cached connection, with its producer created on first use.<br>
+     * It must be either released or invalidated when the action is done with it.
+     */
+    class CachedSession {
+
+        private final CachedConnection connection;
+        private final Session session;
+        private MessageProducer producer;
+        private boolean borrowed = true;
+
+        private CachedSession(CachedConnection connection, Session session) {
+            this.connection = connection;
+            this.session = session;
+        }
+
+        Session session() {
+            return session;
+        }
+
+        /**
+         * @return A producer without destination, to be given one on each send
+         */
+        MessageProducer producer() throws JMSException {
+            if (producer == null) {
+                producer = session.createProducer(null);
+            }
+            return producer;
+        }
+
+        Destination destination(String name) throws NamingException {
+            return connection.destination(name);
+        }
+
+        /**
+         * Give back the session to be used by another action.
+         */
+        void release() {
+            if (borrowed) {
+                borrowed = false;
+                connection.release(this, true);
+            }
+        }
+
+        /**
+         * Close the session after a failure, and drop its connection from cache.
+         */
+        void invalidate() {
+            if (borrowed) {
+                borrowed = false;
+                JmsConnectionCache.this.invalidate(connection);
+                connection.release(this, false);
+            }
+        }
+
+        private void close() {
+            try {
+                session.close();
+            } catch (JMSException e) {
+                LOGGER.warn("Unable to close JMS Session: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -14,4 +14,6 @@ import javax.jms.Message;
 public interface Consumer {
 
     Optional<Message> getMessage() throws JMSException;
+
+    void close() throws JMSException;
 }
@@ -26,4 +26,9 @@ class SimpleMessageConsumer implements Consumer {
     public Optional<Message> getMessage() throws JMSException {
         return Optional.ofNullable(messageConsumer.receive(timeout));
     }
+
+    @Override
+    public void close() throws JMSException {
+        messageConsumer.close();
+    }
 }
@@ -12,6 +12,7 @@ import static org.junit.platform.commons.util.StringUtils.isNotBlank;
 import com.chutneytesting.action.spi.injectable.Target;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Objects;
 import java.util.Optional;
 
 public class Connection {
@@ -69,6 +70,24 @@ public class Connection {
         return isNotBlank(privateKey);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Connection that = (Connection) o;
+        return serverPort == that.serverPort &&
+            Objects.equals(serverHost, that.serverHost) &&
+            Objects.equals(username, that.username) &&
+            Objects.equals(password, that.password) &&
+            Objects.equals(privateKey, that.privateKey) &&
+            Objects.equals(passphrase, that.passphrase);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(serverHost, serverPort, username, password, privateKey, passphrase);
+    }
+
     private static void guardClause(Target target) {
         if (target.uri() == null) {
             throw new IllegalArgumentException("Target URL is undefined");
@@ -10,8 +10,10 @@ package com.chutneytesting.action.ssh;
 import static java.util.Collections.singletonList;
 
 import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.action.ssh.SshSessionPool.PooledSession;
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import org.apache.sshd.client.SshClient;
 import org.apache.sshd.client.auth.UserAuthFactory;
@@ -26,20 +28,31 @@ public class SshClientFactory {
 
     public static String DEFAULT_TIMEOUT = "5 s";
 
-    public static ClientSession buildSSHClientSession(Target target, long timeout) throws IOException {
-        Connection connection = Connection.from(target);
-        SshClient defaultClient = createDefaultClient();
-        defaultClient.setUserAuthFactories(getAuthFactory(connection));
-        ClientSession session = getConnectedSession(defaultClient, connection);
+    private static final Duration SESSION_IDLE_TIMEOUT = Duration.ofMinutes(2);
+    private static final SshSessionPool<ClientSession> SESSIONS = new SshSessionPool<>(
+        session -> session.isOpen() && session.isAuthenticated(),
+        ClientSession::close,
+        SESSION_IDLE_TIMEOUT
+    );
 
-        session.auth().verify(timeout);
-        return session;
+    /**
+     * Borrow an authenticated session from the pool shared by scp and sftp actions.
+     */
+    public static PooledSession<ClientSession> borrowSSHClientSession(Target target, long timeout) throws IOException {
+        Connection connection = Connection.from(target);
+        return SESSIONS.borrow(connection, null, () -> buildSSHClientSession(connection, timeout));
     }
 
-    private static SshClient createDefaultClient() {
-        SshClient defaultClient = SshClient.setUpDefaultClient();
-        defaultClient.start();
-        return defaultClient;
+    private static ClientSession buildSSHClientSession(Connection connection, long timeout) throws IOException {
+        ClientSession session = getConnectedSession(ClientHolder.CLIENT, connection);
+        session.setUserAuthFactories(getAuthFactory(connection));
+        try {
+            session.auth().verify(timeout);
+        } catch (IOException | RuntimeException e) {
+            session.close();
+            throw e;
+        }
+        return session;
     }
 
     private static List<UserAuthFactory> getAuthFactory(Connection connection) {
@@ -65,4 +78,16 @@ public class SshClientFactory {
         return session;
     }
 
+    /**
+     * Single client, started on first use, whose io threads are shared by all sessions.
+     */
+    private static class ClientHolder {
+        private static final SshClient CLIENT = createDefaultClient();
+
+        private static SshClient createDefaultClient() {
+            SshClient defaultClient = SshClient.setUpDefaultClient();
+            defaultClient.start();
+            return defaultClient;
+        }
+    }
 }
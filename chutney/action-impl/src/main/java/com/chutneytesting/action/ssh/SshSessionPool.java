@@ -0,0 +1,230 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.ssh;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of authenticated ssh sessions, keyed by target and credentials, proxy included.<br>
+ * A session is lent to one action at a time, then kept for the following actions on the same target.
+ * Idle sessions failing the health check when borrowed are closed and replaced,
+ * and sessions idle for longer than the idle timeout are closed in background until the pool is closed.
+ * Sessions given back after the pool is closed are closed instead of being kept.
+ *
+ * @param <S> The ssh library session type
+ */
+public class SshSessionPool<S> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SshSessionPool.class);
+
+    private static final ScheduledThreadPoolExecutor EVICTOR = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "ssh-session-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        EVICTOR.setRemoveOnCancelPolicy(true);
+    }
+
+    private final Predicate<S> healthCheck;
+    private final SessionCloser<S> closer;
+    private final Duration idleTimeout;
+    private final Map<SessionKey, Deque<IdleSession<S>>> idleSessions = new HashMap<>();
+    private final ScheduledFuture<?> eviction;
+    private boolean closed;
+
+    public SshSessionPool(Predicate<S> healthCheck, SessionCloser<S> closer, Duration idleTimeout) {
+        this.healthCheck = healthCheck;
+        this.closer = closer;
+        this.idleTimeout = idleTimeout;
+        long evictionPeriod = Math.max(1, idleTimeout.toMillis() / 2);
+        this.eviction = EVICTOR.scheduleWithFixedDelay(this::evictIdleSessions, evictionPeriod, evictionPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a healthy idle session for the given connection, or open a new one.
+     *
+     * @param proxyConnection The proxy to go through, null if none
+     */
+    public PooledSession<S> borrow(Connection connection, Connection proxyConnection, SessionOpener<S> opener) throws IOException {
+        SessionKey key = new SessionKey(connection, proxyConnection);
+        S session;
+        while ((session = pollIdleSession(key)) != null) {
+            if (isHealthy(session)) {
+                return new PooledSession<>(this, key, session, true);
+            }
+            close(session);
+        }
+        return new PooledSession<>(this, key, opener.open(), false);
+    }
+
+    /**
+     * Close all idle sessions.
+     */
+    public void clear() {
+        List<S> sessions = new ArrayList<>();
+        synchronized (this) {
+            idleSessions.values().forEach(deque -> deque.forEach(idleSession -> sessions.add(idleSession.session)));
+            idleSessions.clear();
+        }
+        sessions.forEach(this::close);
+    }
+
+    /**
+     * Stop evicting idle sessions in background and close them.
+     * Sessions still borrowed are closed when given back.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        eviction.cancel(false);
+        clear();
+    }
+
+    private synchronized S pollIdleSession(SessionKey key) {
+        Deque<IdleSession<S>> sessions = idleSessions.get(key);
+        if (sessions == null) {
+            return null;
+        }
+        IdleSession<S> idleSession = sessions.pollFirst();
+        if (sessions.isEmpty()) {
+            idleSessions.remove(key);
+        }
+        return idleSession == null ? null : idleSession.session;
+    }
+
+    private void release(SessionKey key, S session) {
+        synchronized (this) {
+            if (!closed) {
+                idleSessions.computeIfAbsent(key, k -> new ArrayDeque<>()).addFirst(new IdleSession<>(session, Instant.now()));
+                return;
+            }
+        }
+        close(session);
+    }
+
+    private void evictIdleSessions() {
+        Instant idleLimit = Instant.now().minus(idleTimeout);
+        List<S> evictedSessions = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Deque<IdleSession<S>>> sessionsIterator = idleSessions.values().iterator();
+            while (sessionsIterator.hasNext()) {
+                Deque<IdleSession<S>> sessions = sessionsIterator.next();
+                sessions.removeIf(idleSession -> {
+                    if (idleSession.idleSince.isBefore(idleLimit)) {
+                        evictedSessions.add(idleSession.session);
+                        return true;
+                    }
+                    return false;
+                });
+                if (sessions.isEmpty()) {
+                    sessionsIterator.remove();
+                }
+            }
+        }
+        evictedSessions.forEach(this::close);
+    }
+
+    private boolean isHealthy(S session) {
+        try {
+            return healthCheck.test(session);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void close(S session) {
+        try {
+            closer.close(session);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot close ssh session: {}", e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    public interface SessionOpener<S> {
+        S open() throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface SessionCloser<S> {
+        void close(S session) throws IOException;
+    }
+
+    /**
+     * A borrowed session, given back to the pool when closed unless invalidated.
+     */
+    public static class PooledSession<S> implements AutoCloseable {
+
+        private final SshSessionPool<S> pool;
+        private final SessionKey key;
+        private final S session;
+        private final boolean reused;
+        private boolean done;
+
+        private PooledSession(SshSessionPool<S> pool, SessionKey key, S session, boolean reused) {
+            this.pool = pool;
+            this.key = key;
+            this.session = session;
+            this.reused = reused;
+        }
+
+        public S session() {
+            return session;
+        }
+
+        /**
+         * @return true if the session was already opened and authenticated by a previous action
+         */
+        public boolean reused() {
+            return reused;
+        }
+
+        /**
+         * Close the session instead of giving it back to the pool.
+         */
+        public void invalidate() {
+            if (!done) {
+                done = true;
+                pool.close(session);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!done) {
+                done = true;
+                pool.release(key, session);
+            }
+        }
+    }
+
+    private record SessionKey(Connection connection, Connection proxyConnection) {
+    }
+
+    private record IdleSession<S>(S session, Instant idleSince) {
+    }
+}
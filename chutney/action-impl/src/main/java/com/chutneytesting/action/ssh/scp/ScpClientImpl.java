@@ -9,48 +9,59 @@ package com.chutneytesting.action.ssh.scp;
 
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.action.ssh.SshClientFactory;
+import com.chutneytesting.action.ssh.SshSessionPool.PooledSession;
 import java.io.IOException;
 import java.util.Collections;
 import org.apache.sshd.client.session.ClientSession;
-import org.apache.sshd.scp.client.CloseableScpClient;
 import org.apache.sshd.scp.client.ScpClientCreator;
 
 public class ScpClientImpl implements ScpClient {
 
-    private final ClientSession session;
-    private final CloseableScpClient scpClient;
+    private final PooledSession<ClientSession> session;
+    private final org.apache.sshd.scp.client.ScpClient scpClient;
 
-    private ScpClientImpl(ClientSession session, CloseableScpClient scpClient) {
+    private boolean failed = false;
+
+    ScpClientImpl(PooledSession<ClientSession> session, org.apache.sshd.scp.client.ScpClient scpClient) {
         this.session = session;
         this.scpClient = scpClient;
     }
 
     @Override
     public void upload(String local, String remote) throws IOException {
-        scpClient.upload(local, remote, Collections.emptyList());
+        try {
+            scpClient.upload(local, remote, Collections.emptyList());
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        }
     }
 
     @Override
     public void download(String remote, String local) throws IOException {
-        scpClient.download(remote, local, Collections.emptyList());
+        try {
+            scpClient.download(remote, local, Collections.emptyList());
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        }
     }
 
+    /**
+     * Give the session back to the pool, or close it if a transfer failed.
+     */
     @Override
-    public void close() throws Exception {
-        session.close();
-        scpClient.close();
+    public void close() {
+        if (failed) {
+            session.invalidate();
+        } else {
+            session.close();
+        }
     }
 
     public static ScpClient buildFor(Target target, long timeout) throws IOException {
-        ClientSession session = SshClientFactory.buildSSHClientSession(target, timeout);
-        return new ScpClientImpl(session, closeableScpClient(session));
-    }
-
-    private static CloseableScpClient closeableScpClient(ClientSession session) {
-        ScpClientCreator creator = ScpClientCreator.instance();
-        return CloseableScpClient.singleSessionInstance(
-            creator.createScpClient(session)
-        );
+        PooledSession<ClientSession> session = SshClientFactory.borrowSSHClientSession(target, timeout);
+        return new ScpClientImpl(session, ScpClientCreator.instance().createScpClient(session.session()));
     }
 
 }
@@ -13,6 +13,7 @@ import static java.time.ZoneId.systemDefault;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.action.ssh.SshClientFactory;
+import com.chutneytesting.action.ssh.SshSessionPool.PooledSession;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -35,10 +36,11 @@ import org.apache.sshd.sftp.client.impl.DefaultSftpClientFactory;
 
 public class SftpClientImpl implements ChutneySftpClient {
 
-    private final ClientSession session;
+    private final PooledSession<ClientSession> session;
     private final SftpClient sftpClient;
+    private boolean failed = false;
 
-    private SftpClientImpl(ClientSession session, SftpClient sftpClient) {
+    SftpClientImpl(PooledSession<ClientSession> session, SftpClient sftpClient) {
         this.session = session;
         this.sftpClient = sftpClient;
     }
@@ -50,37 +52,55 @@ public class SftpClientImpl implements ChutneySftpClient {
 
         try (BufferedOutputStream out = new BufferedOutputStream(sftpClient.write(destination))) {
             out.write(fileContent);
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
         }
     }
 
     @Override
     public void download(String source, String destination) throws IOException {
+        byte[] fileContent;
         try (InputStream read = sftpClient.read(source)) {
-            byte[] fileContent = read.readAllBytes();
-            File file = new File(destination);
-            file.getParentFile().mkdirs();
+            fileContent = read.readAllBytes();
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+        File file = new File(destination);
+        file.getParentFile().mkdirs();
 
-            try (BufferedOutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
-                out.write(fileContent);
-            }
+        try (BufferedOutputStream out = new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
+            out.write(fileContent);
         }
     }
 
     @Override
     public List<String> listDirectory(String directory) throws IOException {
-        SftpClient.Handle handle = sftpClient.openDir(directory);
-        Iterable<SftpClient.DirEntry> files = sftpClient.listDir(handle);
-
-        return StreamSupport.stream(
-                Spliterators.spliteratorUnknownSize(files.iterator(), Spliterator.ORDERED), false)
-            .map(SftpClient.DirEntry::getFilename)
-            .filter(f -> !".".equals(f) && !"..".equals(f))
-            .collect(Collectors.toList());
+        try {
+            SftpClient.Handle handle = sftpClient.openDir(directory);
+            Iterable<SftpClient.DirEntry> files = sftpClient.listDir(handle);
+
+            return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(files.iterator(), Spliterator.ORDERED), false)
+                .map(SftpClient.DirEntry::getFilename)
+                .filter(f -> !".".equals(f) && !"..".equals(f))
+                .collect(Collectors.toList());
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        }
     }
 
     @Override
     public Map<String, Object> getAttributes(String file) throws IOException {
-        SftpClient.Attributes stat = sftpClient.stat(file);
+        SftpClient.Attributes stat;
+        try {
+            stat = sftpClient.stat(file);
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        }
         return Map.of(
             "CreationDate", ofInstant(stat.getCreateTime().toInstant(), systemDefault()),
             "lastAccess", ofInstant(stat.getAccessTime().toInstant(), systemDefault()),
@@ -90,21 +110,38 @@ public class SftpClientImpl implements ChutneySftpClient {
         );
     }
 
+    /**
+     * Close the sftp channel and give the session back to the pool, or close it if an operation failed.
+     */
     @Override
     public void close() throws Exception {
-        sftpClient.close();
-        session.close();
+        try {
+            sftpClient.close();
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            if (failed) {
+                session.invalidate();
+            } else {
+                session.close();
+            }
+        }
     }
 
     public static ChutneySftpClient buildFor(Target target, long timeout, Logger logger) throws IOException {
-        ClientSession session = SshClientFactory.buildSSHClientSession(target, timeout);
-        return new SftpClientImpl(session, buildSftpClient(session, logger));
+        PooledSession<ClientSession> session = SshClientFactory.borrowSSHClientSession(target, timeout);
+        try {
+            return new SftpClientImpl(session, buildSftpClient(session.session(), logger));
+        } catch (IOException | RuntimeException e) {
+            session.invalidate();
+            throw e;
+        }
     }
 
     private static SftpClient buildSftpClient(ClientSession session, Logger logger) throws IOException {
         SftpClientFactory factory = DefaultSftpClientFactory.INSTANCE;
-        SftpClient client = factory.createSftpClient(session, new ActionSftpErrorDataHandler(logger));
-        return client.singleSessionInstance();
+        return factory.createSftpClient(session, new ActionSftpErrorDataHandler(logger));
     }
 
     /*
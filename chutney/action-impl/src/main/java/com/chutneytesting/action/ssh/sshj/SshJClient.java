@@ -14,11 +14,14 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.ssh.Connection;
+import com.chutneytesting.action.ssh.SshSessionPool;
+import com.chutneytesting.action.ssh.SshSessionPool.PooledSession;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
 import java.security.PublicKey;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import net.schmizz.concurrent.Event;
@@ -34,6 +37,14 @@ import net.schmizz.sshj.userauth.keyprovider.KeyProvider;
 
 public class SshJClient implements SshClient {
 
+    private static final int KEEP_ALIVE_INTERVAL_SECONDS = 30;
+    private static final Duration SESSION_IDLE_TIMEOUT = Duration.ofMinutes(2);
+    private static final SshSessionPool<SshJSession> SESSIONS = new SshSessionPool<>(
+        SshJSession::isHealthy,
+        SshJSession::disconnect,
+        SESSION_IDLE_TIMEOUT
+    );
+
     private final Connection connection;
     private final Connection proxyConnection;
     private final Logger logger;
@@ -46,30 +57,42 @@ public class SshJClient implements SshClient {
         this.shell = shell;
     }
 
+    /**
+     * Execute the command on a pooled session, opened and authenticated on first use for a given target and proxy.
+     */
     @Override
     public CommandResult execute(Command command) throws IOException {
-        SSHClient sshClient = new SSHClient();
-        Optional<SSHClient> tunnel = connect(sshClient);
-        try {
-            authenticate(sshClient, connection);
-            return executeCommand(sshClient, command);
-        } finally {
-            sshClient.disconnect();
-            if (tunnel.isPresent()) {
-                tunnel.get().disconnect();
+        try (PooledSession<SshJSession> pooledSession = SESSIONS.borrow(connection, proxyConnection, this::connect)) {
+            if (pooledSession.reused()) {
+                ofNullable(proxyConnection).ifPresent(this::logReusedAuthentication);
+                logReusedAuthentication(connection);
+            }
+            try {
+                return executeCommand(pooledSession.session().client(), command);
+            } catch (IOException | RuntimeException e) {
+                pooledSession.invalidate();
+                throw e;
             }
         }
     }
 
-    private Optional<SSHClient> connect(SSHClient client) throws IOException {
-        client.addHostKeyVerifier(alwaysVerified()); // TODO : Add best way host key verifier to really check.
+    private SshJSession connect() throws IOException {
+        SSHClient client = new SSHClient();
         Optional<SSHClient> tunnel = tunnel();
-        if (tunnel.isPresent()) {
-            client.connectVia(tunnel.get().newDirectConnection(connection.serverHost, connection.serverPort));
-        } else {
-            client.connect(connection.serverHost, connection.serverPort);
+        try {
+            client.addHostKeyVerifier(alwaysVerified()); // TODO : Add best way host key verifier to really check.
+            if (tunnel.isPresent()) {
+                client.connectVia(tunnel.get().newDirectConnection(connection.serverHost, connection.serverPort));
+            } else {
+                client.connect(connection.serverHost, connection.serverPort);
+            }
+            client.getConnection().getKeepAlive().setKeepAliveInterval(KEEP_ALIVE_INTERVAL_SECONDS);
+            authenticate(client, connection);
+            return new SshJSession(client, tunnel.orElse(null));
+        } catch (IOException | RuntimeException e) {
+            new SshJSession(client, tunnel.orElse(null)).disconnect();
+            throw e;
         }
-        return tunnel;
     }
 
     private Optional<SSHClient> tunnel() {
@@ -78,6 +101,7 @@ public class SshJClient implements SshClient {
             try {
                 sshClient.addHostKeyVerifier(alwaysVerified()); // TODO : Add best way host key verifier to really check.
                 sshClient.connect(pc.serverHost, pc.serverPort);
+                sshClient.getConnection().getKeepAlive().setKeepAliveInterval(KEEP_ALIVE_INTERVAL_SECONDS);
                 authenticate(sshClient, pc);
             } catch (IOException e) {
                 logger.error("Error in proxy setup : " + e.getMessage());
@@ -96,6 +120,14 @@ public class SshJClient implements SshClient {
         }
     }
 
+    private void logReusedAuthentication(Connection connection) {
+        if (isBlank(connection.privateKey)) {
+            logger.info("Authentication via username/password as " + connection.username + " (pooled session)");
+        } else {
+            logger.info("Authentication via private key as " + connection.username + " (pooled session)");
+        }
+    }
+
     private void loginWithPassword(SSHClient client, String username, String password) throws UserAuthException, TransportException {
         client.authPassword(username, password);
     }
@@ -180,6 +212,26 @@ public class SshJClient implements SshClient {
         };
     }
 
+    /**
+     * Authenticated client, with the tunnel it goes through when a proxy is used.
+     */
+    private record SshJSession(SSHClient client, SSHClient tunnel) {
+
+        boolean isHealthy() {
+            return client.isConnected() && client.isAuthenticated() && (tunnel == null || tunnel.isConnected());
+        }
+
+        void disconnect() throws IOException {
+            try {
+                client.disconnect();
+            } finally {
+                if (tunnel != null) {
+                    tunnel.disconnect();
+                }
+            }
+        }
+    }
+
     private static final String BRACKETED_PASTE_ON = "\033[?2004h";
     private static final String BRACKETED_PASTE_OFF = "\033[?2004l";
     private static final String BRACKETED_PASTE_BEGIN = "\033[200~";
@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.jakarta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.action.jakarta.JakartaConnectionCache.CachedSession;
+import com.chutneytesting.action.jakarta.JakartaConnectionCache.ConnectionKey;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.JMSException;
+import jakarta.jms.Queue;
+import jakarta.jms.Session;
+import java.time.Duration;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.spi.InitialContextFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JakartaConnectionCacheTest {
+
+    private static final ConnectionKey KEY = new ConnectionKey(
+        Map.of(Context.INITIAL_CONTEXT_FACTORY, MockInitialContextFactory.class.getName()),
+        "ConnectionFactory",
+        null,
+        ""
+    );
+
+    private static Context context;
+    private static ConnectionFactory connectionFactory;
+
+    private final AtomicReference<ExceptionListener> exceptionListener = new AtomicReference<>();
+    private final JakartaConnectionCache sut = new JakartaConnectionCache(Duration.ofMinutes(5));
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        context = mock(Context.class);
+        connectionFactory = mock(ConnectionFactory.class);
+        when(context.lookup("ConnectionFactory")).thenReturn(connectionFactory);
+        when(context.lookup("queue")).thenReturn(mock(Queue.class));
+        when(connectionFactory.createConnection()).thenAnswer(invocation -> connection());
+    }
+
+    @Test
+    public void should_reuse_connection_session_and_destination_between_borrows() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            CachedSession session = sut.borrowSession(KEY);
+            session.destination("queue");
+            session.producer();
+            session.release();
+        }
+
+        verify(connectionFactory, times(1)).createConnection();
+        verify(context, times(1)).lookup("queue");
+    }
+
+    @Test
+    public void should_open_a_session_per_concurrent_borrow() throws Exception {
+        CachedSession first = sut.borrowSession(KEY);
+        CachedSession second = sut.borrowSession(KEY);
+
+        assertThat(first.session()).isNotSameAs(second.session());
+        verify(connectionFactory, times(1)).createConnection();
+    }
+
+    @Test
+    public void should_reconnect_after_connection_failure() throws Exception {
+        sut.borrowSession(KEY).release();
+
+        exceptionListener.get().onException(new JMSException("connection lost"));
+        sut.borrowSession(KEY).release();
+
+        verify(connectionFactory, times(2)).createConnection();
+    }
+
+    @Test
+    public void should_reconnect_after_session_failure() throws Exception {
+        CachedSession session = sut.borrowSession(KEY);
+        session.invalidate();
+
+        CachedSession newSession = sut.borrowSession(KEY);
+
+        assertThat(newSession.session()).isNotSameAs(session.session());
+        verify(session.session()).close();
+        verify(connectionFactory, times(2)).createConnection();
+    }
+
+    @Test
+    public void should_reconnect_when_cached_connection_cannot_create_session() throws Exception {
+        Connection brokenConnection = connection();
+        Session session = mock(Session.class);
+        when(brokenConnection.createSession(anyBoolean(), anyInt()))
+            .thenReturn(session)
+            .thenThrow(new JMSException("connection closed"));
+        when(connectionFactory.createConnection())
+            .thenReturn(brokenConnection)
+            .thenAnswer(invocation -> connection());
+
+        CachedSession first = sut.borrowSession(KEY);
+        CachedSession second = sut.borrowSession(KEY);
+        first.release();
+
+        assertThat(second.session()).isNotSameAs(session);
+        verify(connectionFactory, times(2)).createConnection();
+        verify(brokenConnection).close();
+    }
+
+    private Connection connection() throws JMSException {
+        Connection connection = mock(Connection.class);
+        when(connection.createSession(anyBoolean(), anyInt())).thenAnswer(invocation -> mock(Session.class));
+        doAnswer(invocation -> {
+            exceptionListener.set(invocation.getArgument(0));
+            return null;
+        }).when(connection).setExceptionListener(any());
+        return connection;
+    }
+
+    public static final class MockInitialContextFactory implements InitialContextFactory {
+        @Override
+        public Context getInitialContext(Hashtable<?, ?> environment) throws NamingException {
+            return context;
+        }
+    }
+}
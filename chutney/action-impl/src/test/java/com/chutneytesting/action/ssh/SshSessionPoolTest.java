@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.ssh;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.chutneytesting.action.TestTarget;
+import com.chutneytesting.action.ssh.SshSessionPool.PooledSession;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SshSessionPoolTest {
+
+    private final AtomicInteger openedSessions = new AtomicInteger();
+    private final List<FakeSession> closedSessions = new ArrayList<>();
+    private final List<SshSessionPool<FakeSession>> pools = new ArrayList<>();
+
+    @AfterEach
+    void closePools() {
+        pools.forEach(SshSessionPool::close);
+    }
+
+    @Test
+    void should_reuse_released_session_for_same_connection() throws IOException {
+        SshSessionPool<FakeSession> sut = pool(Duration.ofMinutes(1));
+        Connection connection = connection("host", "user");
+
+        for (int i = 0; i < 200; i++) {
+            try (PooledSession<FakeSession> session = sut.borrow(connection, null, this::open)) {
+                assertThat(session.reused()).isEqualTo(i > 0);
+            }
+        }
+
+        assertThat(openedSessions).hasValue(1);
+    }
+
+    @Test
+    void should_not_share_sessions_between_connections() throws IOException {
+        SshSessionPool<FakeSession> sut = pool(Duration.ofMinutes(1));
+
+        sut.borrow(connection("host", "user"), null, this::open).close();
+        sut.borrow(connection("host", "other"), null, this::open).close();
+        sut.borrow(connection("host", "user"), connection("proxy", "user"), this::open).close();
+
+        assertThat(openedSessions).hasValue(3);
+    }
+
+    @Test
+    void should_open_new_session_while_the_idle_one_is_borrowed() throws IOException {
+        SshSessionPool<FakeSession> sut = pool(Duration.ofMinutes(1));
+        Connection connection = connection("host", "user");
+
+        try (PooledSession<FakeSession> first = sut.borrow(connection, null, this::open);
+             PooledSession<FakeSession> second = sut.borrow(connection, null, this::open)) {
+            assertThat(first.session()).isNotSameAs(second.session());
+        }
+
+        assertThat(openedSessions).hasValue(2);
+    }
+
+    @Test
+    void should_close_invalidated_session() throws IOException {
+        SshSessionPool<FakeSession> sut = pool(Duration.ofMinutes(1));
+        Connection connection = connection("host", "user");
+
+        PooledSession<FakeSession> session = sut.borrow(connection, null, this::open);
+        session.invalidate();
+        session.close();
+        sut.borrow(connection, null, this::open).close();
+
+        assertThat(closedSessions).containsExactly(session.session());
+        assertThat(openedSessions).hasValue(2);
+    }
+
+    @Test
+    void should_replace_unhealthy_idle_session() throws IOException {
+        SshSessionPool<FakeSession> sut = pool(Duration.ofMinutes(1));
+        Connection connection = connection("host", "user");
+
+        PooledSession<FakeSession> session = sut.borrow(connection, null, this::open);
+        session.close();
+        session.session().healthy = false;
+
+        try (PooledSession<FakeSession> newSession = sut.borrow(connection, null, this::open)) {
+            assertThat(newSession.reused()).isFalse();
+            assertThat(newSession.session()).isNotSameAs(session.session());
+        }
+        assertThat(closedSessions).containsExactly(session.session());
+    }
+
+    @Test
+    void should_evict_idle_sessions() throws IOException {
+        SshSessionPool<FakeSession> sut = pool(Duration.ofMillis(100));
+
+        PooledSession<FakeSession> session = sut.borrow(connection("host", "user"), null, this::open);
+        session.close();
+
+        await().atMost(5, SECONDS).untilAsserted(() ->
+            assertThat(closedSessions).containsExactly(session.session())
+        );
+    }
+
+    @Test
+    void should_close_idle_sessions_and_stop_eviction_when_closed() throws IOException, InterruptedException {
+        SshSessionPool<FakeSession> sut = pool(Duration.ofMillis(100));
+        Connection connection = connection("host", "user");
+        PooledSession<FakeSession> idleSession = sut.borrow(connection, null, this::open);
+        PooledSession<FakeSession> borrowedSession = sut.borrow(connection, null, this::open);
+        idleSession.close();
+
+        sut.close();
+        assertThat(closedSessions).containsExactly(idleSession.session());
+        borrowedSession.close();
+
+        assertThat(closedSessions).containsExactly(idleSession.session(), borrowedSession.session());
+        Thread.sleep(500);
+        assertThat(closedSessions).containsExactly(idleSession.session(), borrowedSession.session());
+    }
+
+    private SshSessionPool<FakeSession> pool(Duration idleTimeout) {
+        SshSessionPool<FakeSession> pool = new SshSessionPool<>(session -> session.healthy, this::close, idleTimeout);
+        pools.add(pool);
+        return pool;
+    }
+
+    private FakeSession open() {
+        openedSessions.incrementAndGet();
+        return new FakeSession();
+    }
+
+    private synchronized void close(FakeSession session) {
+        closedSessions.add(session);
+    }
+
+    private static Connection connection(String host, String user) {
+        return Connection.from(
+            TestTarget.TestTargetBuilder.builder()
+                .withTargetId("ssh")
+                .withUrl("ssh://" + host + ":22")
+                .withProperty("user", user)
+                .withProperty("password", "password")
+                .build()
+        );
+    }
+
+    private static class FakeSession {
+        private volatile boolean healthy = true;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.ssh.scp;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.chutneytesting.action.ssh.SshSessionPool.PooledSession;
+import java.io.IOException;
+import org.apache.sshd.client.session.ClientSession;
+import org.apache.sshd.scp.client.ScpClient;
+import org.junit.jupiter.api.Test;
+
+class ScpClientImplTest {
+
+    @SuppressWarnings("unchecked")
+    private final PooledSession<ClientSession> session = mock(PooledSession.class);
+    private final ScpClient scpClient = mock(ScpClient.class);
+
+    @Test
+    void should_give_session_back_to_pool_after_transfer() throws IOException {
+        ScpClientImpl sut = new ScpClientImpl(session, scpClient);
+
+        sut.upload("local", "remote");
+        sut.close();
+
+        verify(session).close();
+        verify(session, never()).invalidate();
+    }
+
+    @Test
+    void should_invalidate_session_after_failed_transfer() throws IOException {
+        doThrow(new IOException("broken pipe")).when(scpClient).download(anyString(), anyString(), anyCollection());
+        ScpClientImpl sut = new ScpClientImpl(session, scpClient);
+
+        assertThatThrownBy(() -> sut.download("remote", "local")).isInstanceOf(IOException.class);
+        sut.close();
+
+        verify(session).invalidate();
+        verify(session, never()).close();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.ssh.sftp;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.action.ssh.SshSessionPool.PooledSession;
+import java.io.IOException;
+import java.util.List;
+import org.apache.sshd.client.session.ClientSession;
+import org.apache.sshd.sftp.client.SftpClient;
+import org.junit.jupiter.api.Test;
+
+class SftpClientImplTest {
+
+    @SuppressWarnings("unchecked")
+    private final PooledSession<ClientSession> session = mock(PooledSession.class);
+    private final SftpClient sftpClient = mock(SftpClient.class);
+
+    @Test
+    void should_give_session_back_to_pool_after_operation() throws Exception {
+        when(sftpClient.listDir(any())).thenReturn(List.of());
+        SftpClientImpl sut = new SftpClientImpl(session, sftpClient);
+
+        sut.listDirectory("dir");
+        sut.close();
+
+        verify(sftpClient).close();
+        verify(session).close();
+        verify(session, never()).invalidate();
+    }
+
+    @Test
+    void should_invalidate_session_after_failed_operation() throws Exception {
+        when(sftpClient.stat("file")).thenThrow(new IOException("broken pipe"));
+        SftpClientImpl sut = new SftpClientImpl(session, sftpClient);
+
+        assertThatThrownBy(() -> sut.getAttributes("file")).isInstanceOf(IOException.class);
+        sut.close();
+
+        verify(session).invalidate();
+        verify(session, never()).close();
+    }
+
+    @Test
+    void should_invalidate_session_when_sftp_channel_cannot_be_closed() throws Exception {
+        doThrow(new IOException("broken pipe")).when(sftpClient).close();
+        SftpClientImpl sut = new SftpClientImpl(session, sftpClient);
+
+        assertThatThrownBy(sut::close).isInstanceOf(IOException.class);
+
+        verify(session).invalidate();
+        verify(session, never()).close();
+    }
+}
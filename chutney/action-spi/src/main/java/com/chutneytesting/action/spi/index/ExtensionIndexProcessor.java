@@ -0,0 +1,209 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.spi.index;
+
+import com.chutneytesting.action.spi.Action;
+import com.chutneytesting.action.spi.SpelFunction;
+import com.chutneytesting.action.spi.injectable.Input;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Write at build time an index of the actions and functions registered in
+ * <i>META-INF/extension/chutney.actions</i> and <i>META-INF/extension/chutney.functions</i>,
+ * so the engine can register them without loading and introspecting their classes.<br>
+ * <p>
+ * The index is a text file, one line per action or functions class:
+ * <pre>
+ * action &lt;class&gt; &lt;name&gt;:&lt;type&gt;[@&lt;input&gt;] ...
+ * functions &lt;class&gt; &lt;declaring class&gt;#&lt;method&gt;(&lt;type&gt;,...) ...
+ * </pre>
+ * Types are binary names of erased types, arrays being written as JVM descriptors (i.e. <i>[Ljava.lang.String;</i>).<br>
+ * Classes the engine could not register as-is, like an action with several constructors, are left out of the index
+ * and discovered by reflection at runtime.
+ */
+@SupportedAnnotationTypes("*")
+public class ExtensionIndexProcessor extends AbstractProcessor {
+
+    public static final String INDEX_PATH = "META-INF/extension/chutney.index";
+    public static final String ACTIONS_PATH = "META-INF/extension/chutney.actions";
+    public static final String FUNCTIONS_PATH = "META-INF/extension/chutney.functions";
+    public static final String ACTION_ENTRY = "action";
+    public static final String FUNCTIONS_ENTRY = "functions";
+
+    private boolean indexed;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (indexed || roundEnv.processingOver()) {
+            return false;
+        }
+        indexed = true;
+
+        List<String> entries = new ArrayList<>();
+        readRegistrations(ACTIONS_PATH).forEach(className -> actionEntry(className).ifPresent(entries::add));
+        readRegistrations(FUNCTIONS_PATH).forEach(className -> functionsEntry(className).ifPresent(entries::add));
+        if (!entries.isEmpty()) {
+            writeIndex(entries);
+        }
+        return false;
+    }
+
+    private List<String> readRegistrations(String path) {
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (BufferedReader reader = new BufferedReader(resource.openReader(true))) {
+                return reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .collect(Collectors.toList());
+            }
+        } catch (IOException e) {
+            // No registration file in this module
+            return List.of();
+        }
+    }
+
+    private Optional<String> actionEntry(String className) {
+        TypeElement type = typeElement(className);
+        if (type == null || !isAction(type)) {
+            return Optional.empty();
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        if (constructors.size() != 1) {
+            return Optional.empty();
+        }
+
+        StringJoiner entry = new StringJoiner(" ").add(ACTION_ENTRY).add(className);
+        for (VariableElement parameter : constructors.get(0).getParameters()) {
+            Input input = parameter.getAnnotation(Input.class);
+            long otherAnnotations = parameter.getAnnotationMirrors().stream()
+                .filter(this::isRuntimeRetained)
+                .count() - (input == null ? 0 : 1);
+            if (otherAnnotations > 0 || (input != null && !isIndexable(input.value()))) {
+                return Optional.empty();
+            }
+            String parameterEntry = parameter.getSimpleName() + ":" + binaryName(parameter.asType());
+            entry.add(input == null ? parameterEntry : parameterEntry + "@" + input.value());
+        }
+        return Optional.of(entry.toString());
+    }
+
+    private Optional<String> functionsEntry(String className) {
+        TypeElement type = typeElement(className);
+        if (type == null) {
+            return Optional.empty();
+        }
+
+        StringJoiner entry = new StringJoiner(" ").add(FUNCTIONS_ENTRY).add(className);
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getAnnotation(SpelFunction.class) == null) {
+                continue;
+            }
+            if (!method.getModifiers().contains(Modifier.STATIC)) {
+                return Optional.empty();
+            }
+            String declaringClass = binaryName(method.getEnclosingElement().asType());
+            String parameterTypes = method.getParameters().stream()
+                .map(parameter -> binaryName(parameter.asType()))
+                .collect(Collectors.joining(","));
+            entry.add(declaringClass + "#" + method.getSimpleName() + "(" + parameterTypes + ")");
+        }
+        return Optional.of(entry.toString());
+    }
+
+    private TypeElement typeElement(String className) {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+        if (type == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Cannot index " + className + ": class not found");
+        }
+        return type;
+    }
+
+    private boolean isAction(TypeElement type) {
+        TypeElement action = processingEnv.getElementUtils().getTypeElement(Action.class.getCanonicalName());
+        return action != null && processingEnv.getTypeUtils().isAssignable(type.asType(), processingEnv.getTypeUtils().erasure(action.asType()));
+    }
+
+    private boolean isRuntimeRetained(AnnotationMirror annotation) {
+        Retention retention = annotation.getAnnotationType().asElement().getAnnotation(Retention.class);
+        return retention != null && retention.value() == RetentionPolicy.RUNTIME;
+    }
+
+    private boolean isIndexable(String inputName) {
+        return !inputName.isEmpty() && inputName.chars().noneMatch(Character::isWhitespace);
+    }
+
+    private String binaryName(TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        return switch (erasure.getKind()) {
+            case ARRAY -> "[" + descriptor(((ArrayType) erasure).getComponentType());
+            case DECLARED -> processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) erasure).asElement()).toString();
+            default -> erasure.toString();
+        };
+    }
+
+    private String descriptor(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "Z";
+            case BYTE -> "B";
+            case CHAR -> "C";
+            case SHORT -> "S";
+            case INT -> "I";
+            case LONG -> "J";
+            case FLOAT -> "F";
+            case DOUBLE -> "D";
+            case ARRAY -> binaryName(type);
+            default -> "L" + binaryName(type) + ";";
+        };
+    }
+
+    private void writeIndex(List<String> entries) {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_PATH);
+            try (Writer writer = index.openWriter()) {
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Cannot write " + INDEX_PATH + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.spi.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExtensionIndexProcessorTest {
+
+    @TempDir
+    Path sources;
+    @TempDir
+    Path classes;
+
+    @Test
+    void should_index_registered_actions_with_their_parameters() throws IOException {
+        source("test/IndexedAction.java", """
+            package test;
+            import com.chutneytesting.action.spi.*;
+            import com.chutneytesting.action.spi.injectable.*;
+            import java.util.List;
+            public class IndexedAction implements Action {
+                public IndexedAction(Target target, Logger logger, @Input("body") List<String> body, @Input("timeout") int timeout, @Input("headers") String[] headers) {}
+                public ActionExecutionResult execute() { return null; }
+                public static class NestedAction implements Action {
+                    public ActionExecutionResult execute() { return null; }
+                }
+            }
+            """);
+        registration("chutney.actions", "test.IndexedAction", "test.IndexedAction$NestedAction");
+
+        compile();
+
+        assertThat(index()).containsExactly(
+            "action test.IndexedAction target:com.chutneytesting.action.spi.injectable.Target logger:com.chutneytesting.action.spi.injectable.Logger body:java.util.List@body timeout:int@timeout headers:[Ljava.lang.String;@headers",
+            "action test.IndexedAction$NestedAction"
+        );
+    }
+
+    @Test
+    void should_not_index_actions_the_engine_must_parse_by_reflection() throws IOException {
+        source("test/TwoConstructorsAction.java", """
+            package test;
+            import com.chutneytesting.action.spi.*;
+            public class TwoConstructorsAction implements Action {
+                public TwoConstructorsAction() {}
+                public TwoConstructorsAction(String s) {}
+                public ActionExecutionResult execute() { return null; }
+            }
+            """);
+        source("test/BlankInputAction.java", """
+            package test;
+            import com.chutneytesting.action.spi.*;
+            import com.chutneytesting.action.spi.injectable.*;
+            public class BlankInputAction implements Action {
+                public BlankInputAction(@Input("a name") String name) {}
+                public ActionExecutionResult execute() { return null; }
+            }
+            """);
+        source("test/NotAnAction.java", """
+            package test;
+            public class NotAnAction {}
+            """);
+        registration("chutney.actions", "test.TwoConstructorsAction", "test.BlankInputAction", "test.NotAnAction", "test.UnknownAction");
+
+        compile();
+
+        assertThat(classes.resolve(ExtensionIndexProcessor.INDEX_PATH)).doesNotExist();
+    }
+
+    @Test
+    void should_index_static_functions() throws IOException {
+        source("test/BaseFunctions.java", """
+            package test;
+            import com.chutneytesting.action.spi.SpelFunction;
+            public class BaseFunctions {
+                @SpelFunction
+                public static String inherited(Object o) { return null; }
+            }
+            """);
+        source("test/Functions.java", """
+            package test;
+            import com.chutneytesting.action.spi.SpelFunction;
+            import java.util.Map;
+            public class Functions extends BaseFunctions {
+                @SpelFunction("other")
+                public static int function(Map<String, Object> map, long... values) { return 0; }
+                public static void notAFunction() {}
+            }
+            """);
+        source("test/InstanceFunctions.java", """
+            package test;
+            import com.chutneytesting.action.spi.SpelFunction;
+            public class InstanceFunctions {
+                @SpelFunction
+                public String function() { return null; }
+            }
+            """);
+        registration("chutney.functions", "test.Functions", "test.InstanceFunctions");
+
+        compile();
+
+        assertThat(index()).hasSize(1);
+        assertThat(index().get(0))
+            .startsWith("functions test.Functions ")
+            .contains(" test.Functions#function(java.util.Map,[J)")
+            .contains(" test.BaseFunctions#inherited(java.lang.Object)")
+            .doesNotContain("notAFunction");
+    }
+
+    private void source(String path, String content) throws IOException {
+        Path source = sources.resolve(path);
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, content);
+    }
+
+    private void registration(String fileName, String... classNames) throws IOException {
+        Path registration = classes.resolve("META-INF/extension/" + fileName);
+        Files.createDirectories(registration.getParent());
+        Files.write(registration, List.of(classNames));
+    }
+
+    private void compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+             var paths = Files.walk(sources)) {
+            List<Path> sourceFiles = paths.filter(Files::isRegularFile).toList();
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                null,
+                List.of("-d", classes.toString(), "-classpath", System.getProperty("java.class.path"), "-proc:only"),
+                null,
+                fileManager.getJavaFileObjectsFromPaths(sourceFiles)
+            );
+            task.setProcessors(List.of(new ExtensionIndexProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+    }
+
+    private List<String> index() throws IOException {
+        return Files.readAllLines(classes.resolve(ExtensionIndexProcessor.INDEX_PATH));
+    }
+}
@@ -17,6 +17,7 @@ import com.chutneytesting.action.domain.ActionTemplateParserV2;
 import com.chutneytesting.action.domain.ActionTemplateRegistry;
 import com.chutneytesting.action.domain.DefaultActionTemplateRegistry;
 import com.chutneytesting.action.infra.DefaultActionTemplateLoader;
+import com.chutneytesting.action.infra.ExtensionIndex;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
 import com.chutneytesting.engine.api.execution.EmbeddedTestEngine;
@@ -31,6 +32,7 @@ import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctionCallbac
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
 import com.chutneytesting.engine.domain.execution.strategies.StepExecutionStrategies;
 import com.chutneytesting.engine.domain.execution.strategies.StepExecutionStrategy;
+import com.chutneytesting.engine.domain.instrument.EngineInstrumentation;
 import com.chutneytesting.engine.domain.report.Reporter;
 import com.chutneytesting.engine.infrastructure.delegation.HttpClient;
 import com.chutneytesting.tools.ThrowingFunction;
@@ -63,16 +65,21 @@ public class ExecutionConfiguration {
     }
 
     public ExecutionConfiguration(Long reporterTTL, ExecutorService actionExecutor, Map<String, String> actionsConfiguration, String user, String password) {
+        this(reporterTTL, actionExecutor, actionsConfiguration, user, password, EngineInstrumentation.DISABLED);
+    }
+
+    public ExecutionConfiguration(Long reporterTTL, ExecutorService actionExecutor, Map<String, String> actionsConfiguration, String user, String password, EngineInstrumentation instrumentation) {
         this.reporterTTL = reporterTTL;
 
-        ActionTemplateLoader actionTemplateLoaderV2 = createActionTemplateLoaderV2();
-        spelFunctions = createSpelFunctions();
+        ExtensionIndex extensionIndex = ExtensionIndex.fromClasspath();
+        ActionTemplateLoader actionTemplateLoaderV2 = createActionTemplateLoaderV2(extensionIndex);
+        spelFunctions = createSpelFunctions(extensionIndex);
         stepExecutionStrategies = createStepExecutionStrategies();
 
         actionTemplateRegistry = new DefaultActionTemplateRegistry(new ActionTemplateLoaders(singletonList(actionTemplateLoaderV2)));
         reporter = createReporter();
         executionEngine = createExecutionEngine(actionExecutor, user, password);
-        embeddedTestEngine = createEmbeddedTestEngine(new EngineActionsConfiguration(actionsConfiguration));
+        embeddedTestEngine = createEmbeddedTestEngine(new EngineActionsConfiguration(actionsConfiguration), instrumentation);
     }
 
     public ActionTemplateRegistry actionTemplateRegistry() {
@@ -96,22 +103,34 @@ public class ExecutionConfiguration {
     }
 
 
-    private ActionTemplateLoader createActionTemplateLoaderV2() {
+    private ActionTemplateLoader createActionTemplateLoaderV2(ExtensionIndex extensionIndex) {
         return new DefaultActionTemplateLoader<>(
             "chutney.actions",
             Action.class,
-            new ActionTemplateParserV2());
+            new ActionTemplateParserV2(),
+            extensionIndex);
     }
 
-    private SpelFunctions createSpelFunctions() {
+    private SpelFunctions createSpelFunctions(ExtensionIndex extensionIndex) {
         SpelFunctionCallback spelFunctionCallback = new SpelFunctionCallback();
         ExtensionLoaders
-            .classpathToClass("META-INF/extension/chutney.functions")
-            .load().forEach(c -> ReflectionUtils.doWithMethods(c, spelFunctionCallback));
+            .classpathToClassName("META-INF/extension/chutney.functions")
+            .load().forEach(className -> extensionIndex.functions(className).ifPresentOrElse(
+                methods -> methods.forEach(spelFunctionCallback::doWith),
+                () -> ReflectionUtils.doWithMethods(loadFunctionsClass(className), spelFunctionCallback)
+            ));
 
         return spelFunctionCallback.getSpelFunctions();
     }
 
+    private static Class<?> loadFunctionsClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to load registered functions " + className, e);
+        }
+    }
+
     private Set<StepExecutionStrategy> createStepExecutionStrategies() {
         return ExtensionLoaders
             .classpathToClass("META-INF/extension/chutney.strategies")
@@ -135,8 +154,8 @@ public class ExecutionConfiguration {
             actionExecutor);
     }
 
-    private TestEngine createEmbeddedTestEngine(ActionsConfiguration actionsConfiguration) {
-        return new EmbeddedTestEngine(executionEngine, reporter, new ExecutionManager(), actionsConfiguration);
+    private TestEngine createEmbeddedTestEngine(ActionsConfiguration actionsConfiguration, EngineInstrumentation instrumentation) {
+        return new EmbeddedTestEngine(executionEngine, reporter, new ExecutionManager(), actionsConfiguration, instrumentation);
     }
 
     @SuppressWarnings("unchecked")
@@ -7,6 +7,8 @@
 
 package com.chutneytesting.action.domain;
 
+import java.util.Optional;
+
 /**
  * Parse a {@link Class} of type <b>T</b> into a {@link ActionTemplate}.<br>
  * <p>
@@ -17,4 +19,13 @@ package com.chutneytesting.action.domain;
 public interface ActionTemplateParser<T> {
 
     ResultOrError<ActionTemplate, ParsingError> parse(Class<? extends T> actionClass);
+
+    /**
+     * Build an {@link ActionTemplate} from the build-time index, without loading the action class.
+     *
+     * @return empty if this parser cannot make use of the index, the class has then to be parsed
+     */
+    default Optional<ActionTemplate> parse(IndexedAction indexedAction) {
+        return Optional.empty();
+    }
 }
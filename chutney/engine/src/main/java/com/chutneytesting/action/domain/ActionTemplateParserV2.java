@@ -14,6 +14,7 @@ import com.google.common.base.Converter;
 import java.lang.reflect.Constructor;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class ActionTemplateParserV2 implements ActionTemplateParser<Action> {
@@ -25,21 +26,31 @@ public class ActionTemplateParserV2 implements ActionTemplateParser<Action> {
         if (taskClass.getDeclaredConstructors().length > 1) {
             return ResultOrError.error(new ParsingError(taskClass, "More than one constructor"));
         }
-        String taskName = computeActionName(taskClass);
+        String taskName = computeActionName(taskClass.getSimpleName());
         Constructor<? extends Action> constructor = (Constructor<? extends Action>) taskClass.getDeclaredConstructors()[0];
         List<Parameter> parameters = extractParameters(constructor);
         return ResultOrError.result(new ActionTemplateV2(taskName, taskClass, constructor, parameters));
     }
 
+    @Override
+    public Optional<ActionTemplate> parse(IndexedAction indexedAction) {
+        String className = indexedAction.className();
+        String simpleName = className.substring(Math.max(className.lastIndexOf('.'), className.lastIndexOf('$')) + 1);
+        List<Parameter> parameters = indexedAction.parameters().stream()
+            .map(Parameter::fromIndexedParameter)
+            .collect(Collectors.toList());
+        return Optional.of(new IndexedActionTemplate(computeActionName(simpleName), indexedAction, parameters));
+    }
+
     private List<Parameter> extractParameters(Constructor<? extends Action> constructor) {
         return Arrays.stream(constructor.getParameters())
             .map(Parameter::fromJavaParameter)
             .collect(Collectors.toList());
     }
 
-    private String computeActionName(Class<? extends Action> taskClass) {
+    private String computeActionName(String simpleClassName) {
         // TODO extract @taskIdentifier if present
-        String taskName = taskClass.getSimpleName();
+        String taskName = simpleClassName;
         if (taskName.endsWith(CLASS_NAME_ACTION_SUFFIX)) {
             taskName = taskName.substring(0, taskName.length() - CLASS_NAME_ACTION_SUFFIX.length());
         }
@@ -35,7 +35,7 @@ public class DefaultActionTemplateRegistry implements ActionTemplateRegistry {
                 ActionTemplate alreadyStoredActionTemplate = actionTemplatesByType.putIfAbsent(actionTemplate.identifier(), actionTemplate);
                 if (alreadyStoredActionTemplate != null) {
                     LOGGER.warn("Unable to register ActionTemplate[" + actionTemplate.identifier() + " (" + actionTemplate.implementationClass().getName() + ")]: already defined by " + alreadyStoredActionTemplate.implementationClass().getName());
-                } else {
+                } else if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("Action registered: " + actionTemplate.identifier() + " (" + actionTemplate.implementationClass().getName() + ")");
                 }
             });
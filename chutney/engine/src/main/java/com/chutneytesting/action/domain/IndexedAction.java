@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.domain;
+
+import java.util.List;
+
+/**
+ * An action as described by the build-time index, before its class is loaded.
+ *
+ * @param className  binary name of the action class
+ * @param classLoader loader to use to load the action class
+ * @param parameters constructor parameters, in declaration order
+ */
+public record IndexedAction(String className, ClassLoader classLoader, List<IndexedParameter> parameters) {
+
+    /**
+     * @param input name of the step input, null if the parameter is not annotated with {@link com.chutneytesting.action.spi.injectable.Input}
+     */
+    public record IndexedParameter(String name, Class<?> type, String input) {
+    }
+}
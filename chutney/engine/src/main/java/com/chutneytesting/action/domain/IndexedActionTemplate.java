@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.domain;
+
+import com.chutneytesting.action.domain.parameter.Parameter;
+import com.chutneytesting.action.domain.parameter.ParameterResolver;
+import com.chutneytesting.action.spi.Action;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link ActionTemplate} built from the build-time index of actions.<br>
+ * The action class is only loaded when needed, and initialized on first instantiation.
+ */
+public class IndexedActionTemplate implements ActionTemplate {
+
+    private final String identifier;
+    private final IndexedAction indexedAction;
+    private final List<Parameter> parameters;
+    private volatile Constructor<? extends Action> constructor;
+
+    public IndexedActionTemplate(String identifier, IndexedAction indexedAction, List<Parameter> parameters) {
+        this.identifier = identifier;
+        this.indexedAction = indexedAction;
+        this.parameters = parameters;
+    }
+
+    @Override
+    public String identifier() {
+        return identifier;
+    }
+
+    @Override
+    public Class<? extends Action> implementationClass() {
+        try {
+            return loadClass();
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Indexed Action[" + identifier + "] class not found: " + indexedAction.className(), e);
+        }
+    }
+
+    @Override
+    public Set<Parameter> parameters() {
+        return new LinkedHashSet<>(parameters);
+    }
+
+    @Override
+    public Action create(List<ParameterResolver> parameterResolvers) {
+        Object[] parameterValues = parameters.stream()
+            .map(p -> resolveParameter(parameterResolvers, p))
+            .toArray(Object[]::new);
+        try {
+            return constructor().newInstance(parameterValues);
+        } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new ActionInstantiationFailureException(identifier, e);
+        }
+    }
+
+    private Constructor<? extends Action> constructor() throws ClassNotFoundException, NoSuchMethodException {
+        if (constructor == null) {
+            Class<?>[] parameterTypes = parameters.stream().map(Parameter::rawType).toArray(Class<?>[]::new);
+            constructor = loadClass().getDeclaredConstructor(parameterTypes);
+        }
+        return constructor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends Action> loadClass() throws ClassNotFoundException {
+        return (Class<? extends Action>) Class.forName(indexedAction.className(), false, indexedAction.classLoader());
+    }
+}
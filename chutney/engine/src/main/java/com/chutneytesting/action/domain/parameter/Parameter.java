@@ -7,6 +7,8 @@
 
 package com.chutneytesting.action.domain.parameter;
 
+import com.chutneytesting.action.domain.IndexedAction.IndexedParameter;
+import com.chutneytesting.action.spi.injectable.Input;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
@@ -49,4 +51,19 @@ public class Parameter {
         Set<Annotation> annotations = new LinkedHashSet<>(Arrays.asList(parameter.getDeclaredAnnotations()));
         return new Parameter(name, new AnnotationSet(annotations), parameter.getType());
     }
+
+    public static Parameter fromIndexedParameter(IndexedParameter parameter) {
+        Set<Annotation> annotations = parameter.input() == null ? Set.of() : Set.of(new InputLiteral(parameter.input()));
+        return new Parameter(parameter.name(), new AnnotationSet(annotations), parameter.type());
+    }
+
+    /**
+     * {@link Input} read from the build-time index instead of the parameter declaration.
+     */
+    private record InputLiteral(String value) implements Input {
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return Input.class;
+        }
+    }
 }
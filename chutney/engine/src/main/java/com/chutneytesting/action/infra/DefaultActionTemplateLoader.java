@@ -14,12 +14,15 @@ import com.chutneytesting.action.domain.ParsingError;
 import com.chutneytesting.action.domain.ResultOrError;
 import com.chutneytesting.tools.loader.ExtensionLoaders;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Actions found in the {@link ExtensionIndex} are registered from their index entry, without loading their classes.
+ * Others are loaded and parsed.
+ *
  * @param <T> the Action type to load as {@link ActionTemplate} using an appropriate {@link ActionTemplateParser}
  */
 public class DefaultActionTemplateLoader<T> implements ActionTemplateLoader {
@@ -29,31 +32,49 @@ public class DefaultActionTemplateLoader<T> implements ActionTemplateLoader {
     private final String extensionFileName;
     private final Class<T> actionInterface;
     private final ActionTemplateParser<T> actionTemplateParser;
+    private final ExtensionIndex extensionIndex;
 
     public DefaultActionTemplateLoader(String extensionFileName, Class<T> actionInterface, ActionTemplateParser<T> actionTemplateParser) {
+        this(extensionFileName, actionInterface, actionTemplateParser, ExtensionIndex.fromClasspath());
+    }
+
+    public DefaultActionTemplateLoader(String extensionFileName, Class<T> actionInterface, ActionTemplateParser<T> actionTemplateParser, ExtensionIndex extensionIndex) {
         this.extensionFileName = extensionFileName;
         this.actionInterface = actionInterface;
         this.actionTemplateParser = actionTemplateParser;
+        this.extensionIndex = extensionIndex;
     }
 
     @Override
     public List<ActionTemplate> load() {
-        return loadClasses()
-            .map(actionTemplateParser::parse)
-            .peek(this::warnIfParsingError)
-            .filter(ResultOrError::isOk)
-            .map(parsingResult -> parsingResult.result())
-            .collect(Collectors.toList());
-    }
-
-    private Stream<Class<? extends T>> loadClasses() {
         return ExtensionLoaders
-            .classpathToClass("META-INF/extension/" + extensionFileName)
+            .classpathToClassName("META-INF/extension/" + extensionFileName)
             .load()
             .stream()
-            .peek(this::warnIfNotAction)
-            .filter(this::isAction)
-            .map(clazz -> (Class<? extends T>) clazz);
+            .map(className -> extensionIndex.action(className)
+                .flatMap(actionTemplateParser::parse)
+                .or(() -> parseClass(className)))
+            .flatMap(Optional::stream)
+            .collect(Collectors.toList());
+    }
+
+    private Optional<ActionTemplate> parseClass(String className) {
+        Class<?> clazz = loadClass(className);
+        warnIfNotAction(clazz);
+        if (!isAction(clazz)) {
+            return Optional.empty();
+        }
+        ResultOrError<ActionTemplate, ParsingError> parsingResult = actionTemplateParser.parse((Class<? extends T>) clazz);
+        warnIfParsingError(parsingResult);
+        return parsingResult.isOk() ? Optional.of(parsingResult.result()) : Optional.empty();
+    }
+
+    private static Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to load registered Action " + className, e);
+        }
     }
 
     private void warnIfNotAction(Class<?> clazz) {
@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.infra;
+
+import static com.chutneytesting.action.spi.index.ExtensionIndexProcessor.ACTION_ENTRY;
+import static com.chutneytesting.action.spi.index.ExtensionIndexProcessor.FUNCTIONS_ENTRY;
+import static com.chutneytesting.action.spi.index.ExtensionIndexProcessor.INDEX_PATH;
+
+import com.chutneytesting.action.domain.IndexedAction;
+import com.chutneytesting.action.domain.IndexedAction.IndexedParameter;
+import com.chutneytesting.action.spi.index.ExtensionIndexProcessor;
+import com.chutneytesting.tools.loader.ExtensionLoader;
+import com.chutneytesting.tools.loader.ExtensionLoaders;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Actions and functions index written at build time by {@link ExtensionIndexProcessor}.<br>
+ * Classes missing from the index, or which index entry cannot be resolved, have to be discovered by reflection.
+ */
+public class ExtensionIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExtensionIndex.class);
+
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = Map.of(
+        "boolean", boolean.class,
+        "byte", byte.class,
+        "char", char.class,
+        "short", short.class,
+        "int", int.class,
+        "long", long.class,
+        "float", float.class,
+        "double", double.class
+    );
+
+    private final ClassLoader classLoader;
+    private final Map<String, List<String>> actions = new HashMap<>();
+    private final Map<String, List<String>> functions = new HashMap<>();
+
+    ExtensionIndex(Set<String> entries, ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        entries.forEach(this::addEntry);
+    }
+
+    /**
+     * @return index merged from all <i>META-INF/extension/chutney.index</i> found in classpath
+     */
+    public static ExtensionIndex fromClasspath() {
+        Set<String> entries = ExtensionLoader.Builder
+            .<String, String>withSource(ExtensionLoaders.Sources.classpath(INDEX_PATH))
+            .withMapper(ExtensionLoaders.Mappers.splitByLine())
+            .load();
+        return new ExtensionIndex(entries, ExtensionIndex.class.getClassLoader());
+    }
+
+    private void addEntry(String entry) {
+        List<String> tokens = Arrays.asList(entry.trim().split(" "));
+        if (tokens.size() < 2) {
+            return;
+        }
+        List<String> values = tokens.subList(2, tokens.size());
+        switch (tokens.get(0)) {
+            case ACTION_ENTRY -> actions.putIfAbsent(tokens.get(1), values);
+            case FUNCTIONS_ENTRY -> functions.putIfAbsent(tokens.get(1), values);
+            default -> LOGGER.warn("Unknown index entry ignored: {}", entry);
+        }
+    }
+
+    /**
+     * @return the indexed action, empty if not indexed or if its parameter types cannot be loaded
+     */
+    public Optional<IndexedAction> action(String className) {
+        List<String> parameterEntries = actions.get(className);
+        if (parameterEntries == null) {
+            return Optional.empty();
+        }
+        try {
+            List<IndexedParameter> parameters = new ArrayList<>();
+            for (String parameterEntry : parameterEntries) {
+                int nameEnd = parameterEntry.indexOf(':');
+                int inputStart = parameterEntry.indexOf('@', nameEnd);
+                String name = parameterEntry.substring(0, nameEnd);
+                String type = inputStart < 0 ? parameterEntry.substring(nameEnd + 1) : parameterEntry.substring(nameEnd + 1, inputStart);
+                String input = inputStart < 0 ? null : parameterEntry.substring(inputStart + 1);
+                parameters.add(new IndexedParameter(name, loadClass(type), input));
+            }
+            return Optional.of(new IndexedAction(className, classLoader, parameters));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.warn("Unable to use index entry of Action[{}], fall back to class parsing: {}", className, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the functions methods of given class, empty if not indexed or if a method cannot be found
+     */
+    public Optional<List<Method>> functions(String className) {
+        List<String> functionEntries = functions.get(className);
+        if (functionEntries == null) {
+            return Optional.empty();
+        }
+        try {
+            List<Method> methods = new ArrayList<>();
+            for (String functionEntry : functionEntries) {
+                int methodStart = functionEntry.indexOf('#');
+                int parametersStart = functionEntry.indexOf('(', methodStart);
+                Class<?> declaringClass = loadClass(functionEntry.substring(0, methodStart));
+                String methodName = functionEntry.substring(methodStart + 1, parametersStart);
+                String parameters = functionEntry.substring(parametersStart + 1, functionEntry.length() - 1);
+                Class<?>[] parameterTypes = parameters.isEmpty() ? new Class<?>[0] : loadClasses(parameters.split(","));
+                methods.add(declaringClass.getDeclaredMethod(methodName, parameterTypes));
+            }
+            return Optional.of(methods);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.warn("Unable to use index entry of functions {}, fall back to class parsing: {}", className, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private Class<?>[] loadClasses(String[] names) throws ClassNotFoundException {
+        Class<?>[] classes = new Class<?>[names.length];
+        for (int i = 0; i < names.length; i++) {
+            classes[i] = loadClass(names[i]);
+        }
+        return classes;
+    }
+
+    private Class<?> loadClass(String name) throws ClassNotFoundException {
+        Class<?> primitiveType = PRIMITIVE_TYPES.get(name);
+        return primitiveType != null ? primitiveType : Class.forName(name, false, classLoader);
+    }
+}
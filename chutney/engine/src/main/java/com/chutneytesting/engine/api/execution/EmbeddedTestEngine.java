@@ -14,6 +14,7 @@ import com.chutneytesting.engine.domain.execution.ScenarioExecution;
 import com.chutneytesting.engine.domain.execution.StepDefinition;
 import com.chutneytesting.engine.domain.execution.engine.Dataset;
 import com.chutneytesting.engine.domain.execution.engine.Environment;
+import com.chutneytesting.engine.domain.instrument.EngineInstrumentation;
 import com.chutneytesting.engine.domain.report.Reporter;
 import io.reactivex.rxjava3.core.Observable;
 import java.util.Optional;
@@ -24,12 +25,18 @@ public final class EmbeddedTestEngine implements TestEngine {
     private final Reporter reporter;
     private final ExecutionManager executionManager;
     private final ActionsConfiguration actionsConfiguration;
+    private final EngineInstrumentation instrumentation;
 
     public EmbeddedTestEngine(ExecutionEngine engine, Reporter reporter, ExecutionManager executionManager, ActionsConfiguration actionsConfiguration) {
+        this(engine, reporter, executionManager, actionsConfiguration, EngineInstrumentation.DISABLED);
+    }
+
+    public EmbeddedTestEngine(ExecutionEngine engine, Reporter reporter, ExecutionManager executionManager, ActionsConfiguration actionsConfiguration, EngineInstrumentation instrumentation) {
         this.engine = engine;
         this.reporter = reporter;
         this.executionManager = executionManager;
         this.actionsConfiguration = actionsConfiguration;
+        this.instrumentation = instrumentation;
     }
 
     @Override
@@ -48,7 +55,7 @@ public final class EmbeddedTestEngine implements TestEngine {
         return engine.execute(
             stepDefinition,
             dataset,
-            ScenarioExecution.createScenarioExecution(actionsConfiguration),
+            ScenarioExecution.createScenarioExecution(actionsConfiguration, instrumentation.newExecutionTimings()),
             environment);
     }
 
@@ -7,14 +7,24 @@
 
 package com.chutneytesting.engine.api.execution;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 /**
  * Exposes Scenario execution HTTP service.
@@ -25,8 +35,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class HttpTestEngine implements TestEngine {
 
     public static final String EXECUTION_URL = "/api/scenario/execution/v1";
+    private static final long NO_TIMEOUT = -1;
 
     private final TestEngine testEngine;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .findAndRegisterModules();
 
     public HttpTestEngine(TestEngine embeddedTestEngine) {
         this.testEngine = embeddedTestEngine;
@@ -39,6 +54,45 @@ public class HttpTestEngine implements TestEngine {
         return testEngine.execute(request);
     }
 
+    /**
+     * Execute and stream the execution progress as newline delimited {@link StepExecutionEventDto}, ending with the final report.<br>
+     * The stream is not bound by the default asynchronous request timeout, since it lasts as long as the execution.
+     */
+    @PreAuthorize("hasAuthority('SCENARIO_EXECUTE')")
+    @PostMapping(path = EXECUTION_URL, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> executeAndStream(@Valid @RequestBody ExecutionRequestDto request) {
+        Long executionId = testEngine.executeAsync(request);
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(NO_TIMEOUT);
+        AtomicReference<StepExecutionReportDto> previousReport = new AtomicReference<>();
+        Disposable subscription = testEngine.receiveNotification(executionId)
+            .observeOn(Schedulers.io())
+            .subscribe(
+                report -> {
+                    for (StepExecutionEventDto event : StepExecutionEvents.between(previousReport.get(), report)) {
+                        sendLine(event, emitter);
+                    }
+                    previousReport.set(report);
+                },
+                emitter::completeWithError,
+                () -> {
+                    if (previousReport.get() != null) {
+                        sendLine(StepExecutionEvents.last(previousReport.get()), emitter);
+                    }
+                    emitter.complete();
+                }
+            );
+        emitter.onCompletion(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+    }
+
+    private void sendLine(StepExecutionEventDto event, ResponseBodyEmitter emitter) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(event);
+        byte[] line = Arrays.copyOf(json, json.length + 1);
+        line[json.length] = '\n';
+        emitter.send(line, MediaType.APPLICATION_NDJSON);
+    }
+
     @Override
     public Long executeAsync(ExecutionRequestDto request) {
         throw new IllegalArgumentException();
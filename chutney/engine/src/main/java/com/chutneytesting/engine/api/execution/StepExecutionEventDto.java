@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.api.execution;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.List;
+
+/**
+ * One line of a streamed delegated execution.<br>
+ * Either the progress of one step of the delegated fragment, identified by its sub-steps indexes from the fragment's root step,
+ * with the information and errors added since its previous event,
+ * or, as last line, the final report of the fragment's root step without its sub-steps.
+ */
+public class StepExecutionEventDto {
+
+    public List<Integer> path;
+    public String name;
+    public StatusDto status;
+    public List<String> information;
+    public List<String> errors;
+    public StepExecutionReportDto report;
+
+    public StepExecutionEventDto() {
+    }
+
+    public StepExecutionEventDto(List<Integer> path, String name, StatusDto status, List<String> information, List<String> errors) {
+        this.path = path;
+        this.name = name;
+        this.status = status;
+        this.information = information;
+        this.errors = errors;
+    }
+
+    public StepExecutionEventDto(StepExecutionReportDto report) {
+        this.report = report;
+    }
+
+    @JsonIgnore
+    public boolean isFinalReport() {
+        return report != null;
+    }
+}
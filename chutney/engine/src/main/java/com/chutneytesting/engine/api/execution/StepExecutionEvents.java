@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.api.execution;
+
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Turn successive reports of an execution into step events.
+ */
+class StepExecutionEvents {
+
+    private StepExecutionEvents() {
+    }
+
+    /**
+     * @param previous The previously streamed report, null if none
+     * @return An event for each step whose status changed or which got new information or errors since the previous report
+     */
+    static List<StepExecutionEventDto> between(StepExecutionReportDto previous, StepExecutionReportDto current) {
+        List<StepExecutionEventDto> events = new ArrayList<>();
+        collectEvents(List.of(), previous, current, events);
+        return events;
+    }
+
+    /**
+     * @return The final event, carrying the report without its sub-steps already streamed as events
+     */
+    static StepExecutionEventDto last(StepExecutionReportDto report) {
+        StepExecutionReportDto lastReport = new StepExecutionReportDto(
+            report.name,
+            report.environment,
+            report.startDate,
+            report.duration,
+            report.status,
+            report.information,
+            report.errors,
+            emptyList(),
+            report.context,
+            report.type,
+            report.targetName,
+            report.targetUrl,
+            report.strategy
+        );
+        lastReport.phaseTimings = report.phaseTimings;
+        return new StepExecutionEventDto(lastReport);
+    }
+
+    private static void collectEvents(List<Integer> path, StepExecutionReportDto previous, StepExecutionReportDto current, List<StepExecutionEventDto> events) {
+        List<String> newInformation = added(Optional.ofNullable(previous).map(p -> p.information).orElse(null), current.information);
+        List<String> newErrors = added(Optional.ofNullable(previous).map(p -> p.errors).orElse(null), current.errors);
+        if (previous == null || previous.status != current.status || !newInformation.isEmpty() || !newErrors.isEmpty()) {
+            events.add(new StepExecutionEventDto(path, current.name, current.status, newInformation, newErrors));
+        }
+
+        List<StepExecutionReportDto> currentSteps = Optional.ofNullable(current.steps).orElse(emptyList());
+        List<StepExecutionReportDto> previousSteps = Optional.ofNullable(previous).map(p -> p.steps).orElse(emptyList());
+        for (int i = 0; i < currentSteps.size(); i++) {
+            List<Integer> subStepPath = new ArrayList<>(path);
+            subStepPath.add(i);
+            collectEvents(subStepPath, i < previousSteps.size() ? previousSteps.get(i) : null, currentSteps.get(i), events);
+        }
+    }
+
+    private static List<String> added(List<String> previous, List<String> current) {
+        if (current == null) {
+            return emptyList();
+        }
+        int alreadySent = previous == null ? 0 : previous.size();
+        if (alreadySent > current.size() || !Objects.equals(previous, current.subList(0, alreadySent))) {
+            return current;
+        }
+        return current.subList(alreadySent, current.size());
+    }
+}
@@ -7,6 +7,7 @@
 
 package com.chutneytesting.engine.api.execution;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,8 @@ public class StepExecutionReportDto {
     public String targetName;
     public String targetUrl;
     public String strategy;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Map<String, Long> phaseTimings;
 
     public StepExecutionReportDto() {
     }
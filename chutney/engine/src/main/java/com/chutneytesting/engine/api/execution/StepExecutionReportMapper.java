@@ -21,7 +21,7 @@ class StepExecutionReportMapper {
     }
 
     static StepExecutionReportDto toDto(StepExecutionReport report) {
-        return new StepExecutionReportDto(
+        StepExecutionReportDto dto = new StepExecutionReportDto(
             report.name,
             report.environment,
             report.startDate,
@@ -36,6 +36,8 @@ class StepExecutionReportMapper {
             report.targetUrl,
             report.strategy
         );
+        dto.phaseTimings = report.phaseTimings;
+        return dto;
     }
 
     static class StepContextMapper {
@@ -14,4 +14,8 @@ public class CannotDelegateException extends RuntimeException {
         super(message);
     }
 
+    public CannotDelegateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
 }
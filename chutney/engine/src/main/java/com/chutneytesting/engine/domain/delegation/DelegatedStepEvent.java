@@ -0,0 +1,25 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.delegation;
+
+import com.chutneytesting.engine.domain.execution.report.Status;
+import java.util.List;
+
+/**
+ * Progress of a step executed by an agent.
+ *
+ * @param path        The sub-steps indexes leading to this step from the delegated step, empty for the delegated step itself
+ * @param information The information added since the previous event of this step
+ * @param errors      The errors added since the previous event of this step
+ */
+public record DelegatedStepEvent(List<Integer> path, String stepName, Status status, List<String> information, List<String> errors) {
+
+    public boolean isDelegatedStep() {
+        return path.isEmpty();
+    }
+}
@@ -10,9 +10,17 @@ package com.chutneytesting.engine.domain.delegation;
 
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import java.util.function.Consumer;
 
 public interface DelegationClient {
 
-    StepExecutionReport handDown(Step stepDefinition, NamedHostAndPort delegate) throws CannotDelegateException;
+    default StepExecutionReport handDown(Step stepDefinition, NamedHostAndPort delegate) throws CannotDelegateException {
+        return handDown(stepDefinition, delegate, event -> {});
+    }
+
+    /**
+     * @param eventListener Notified of the delegated steps' progress while the agent executes them
+     */
+    StepExecutionReport handDown(Step stepDefinition, NamedHostAndPort delegate, Consumer<DelegatedStepEvent> eventListener) throws CannotDelegateException;
 
 }
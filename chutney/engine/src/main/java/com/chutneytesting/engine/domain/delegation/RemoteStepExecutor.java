@@ -8,14 +8,21 @@
 package com.chutneytesting.engine.domain.delegation;
 
 import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.engine.domain.execution.RxBus;
 import com.chutneytesting.engine.domain.execution.ScenarioExecution;
 import com.chutneytesting.engine.domain.execution.engine.StepExecutor;
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.engine.domain.execution.event.StepProgressEvent;
+import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import java.util.EnumSet;
+import java.util.Set;
 import org.springframework.util.Assert;
 
 public class RemoteStepExecutor implements StepExecutor {
 
+    private static final Set<Status> RUNNING_STATUS = EnumSet.of(Status.RUNNING, Status.PAUSED, Status.NOT_EXECUTED);
+
     private final DelegationClient delegationClient;
     private final NamedHostAndPort agentInfo;
 
@@ -27,7 +34,10 @@ public class RemoteStepExecutor implements StepExecutor {
     @Override
     public void execute(ScenarioExecution scenarioExecution, Target target, Step step) {
         try {
-            StepExecutionReport remoteReport = delegationClient.handDown(step, agentInfo);
+            StepExecutionReport remoteReport = delegationClient.handDown(step, agentInfo, event -> {
+                report(step, event);
+                RxBus.getInstance().post(new StepProgressEvent(scenarioExecution, step));
+            });
 
             guardFromIllegalReport(remoteReport);
 
@@ -40,6 +50,19 @@ public class RemoteStepExecutor implements StepExecutor {
         }
     }
 
+    /**
+     * Add the delegated steps' information and errors to the step as they arrive.
+     * Sub-steps' ones are prefixed by the sub-step name, along with their final status.
+     */
+    private void report(Step step, DelegatedStepEvent event) {
+        String prefix = event.isDelegatedStep() ? "" : "[" + event.stepName() + "] ";
+        event.information().forEach(information -> step.addInformation(prefix + information));
+        event.errors().forEach(error -> step.addErrorMessage(prefix + error));
+        if (!event.isDelegatedStep() && !RUNNING_STATUS.contains(event.status())) {
+            step.addInformation(prefix + event.status());
+        }
+    }
+
     private void guardFromIllegalReport(StepExecutionReport remoteReport) {
         Assert.notNull(remoteReport.evaluatedInputs, "EvaluatedInputs are null after delegation. 0_o !");
         Assert.notNull(remoteReport.scenarioContext, "ScenarioContext is null after delegation. 0_o !");
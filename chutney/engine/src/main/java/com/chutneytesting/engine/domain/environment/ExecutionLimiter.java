@@ -0,0 +1,294 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.environment;
+
+import com.chutneytesting.tools.ExecutionLimits;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Hold concurrency permits and rate tokens shared by all executions, one bucket per limited environment or target.<br>
+ * Nothing here blocks: executions waiting for concurrency permits are queued in arrival order and called back by the release of a permit,
+ * and rate tokens are reserved ahead, the caller deciding how to wait for them.<br>
+ * Limits declared with new values are applied to the existing bucket, so permits held by running executions still count.
+ * Buckets are dropped as soon as they are idle, so buckets of removed or renamed environments and targets do not pile up,
+ * and the next execution rebuilds them from the current declaration.
+ */
+public class ExecutionLimiter {
+
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+    /**
+     * Queue an execution until it holds a concurrency permit of each given limit.<br>
+     * Permits are taken in keys order, so executions sharing limits cannot wait for each other.
+     *
+     * @param onAdmitted called with the permit to release once the execution is done, by the thread granting the last permit
+     */
+    public Admission admit(Map<String, ExecutionLimits> executionLimits, Consumer<Permit> onAdmitted) {
+        Admission admission = new Admission(new TreeMap<>(executionLimits), onAdmitted);
+        admission.proceed();
+        return admission;
+    }
+
+    /**
+     * Reserve the next rate token of the given limit, without waiting for it.
+     *
+     * @return the delay before the reserved token is due, zero when it is due now
+     */
+    public Duration reserveRate(String key, ExecutionLimits executionLimits) {
+        return Duration.ofNanos(onLimit(key, executionLimits, limit -> limit.reserveRate(System.nanoTime())));
+    }
+
+    /**
+     * @return the number of buckets currently held
+     */
+    int size() {
+        return limits.size();
+    }
+
+    /**
+     * Apply the operation to the bucket of the key, created or resized with the given limits,
+     * atomically with respect to the other operations and the eviction of this bucket.
+     */
+    private <T> T onLimit(String key, ExecutionLimits executionLimits, Function<Limit, T> operation) {
+        List<Admission> granted = new ArrayList<>();
+        List<T> result = new ArrayList<>(1);
+        AtomicBoolean created = new AtomicBoolean(false);
+        Limit limit = limits.compute(key, (k, current) -> {
+            Limit bucket = current;
+            if (bucket == null) {
+                bucket = new Limit(k);
+                created.set(true);
+            }
+            granted.addAll(bucket.update(executionLimits));
+            result.add(operation.apply(bucket));
+            return bucket;
+        });
+        granted.forEach(admission -> admission.granted(limit));
+        if (created.get()) {
+            evictIdleLimits();
+        }
+        return result.get(0);
+    }
+
+    /**
+     * Apply the operation to an existing bucket, and drop the bucket if it is idle afterward.
+     */
+    private List<Admission> onExistingLimit(Limit limit, Function<Limit, List<Admission>> operation) {
+        List<Admission> granted = new ArrayList<>();
+        limits.computeIfPresent(limit.key, (k, current) -> {
+            if (current != limit) {
+                return current;
+            }
+            granted.addAll(operation.apply(current));
+            return current.idle(System.nanoTime()) ? null : current;
+        });
+        return granted;
+    }
+
+    /**
+     * Rate only buckets are never released, they are dropped here once their last reserved token is due.
+     */
+    private void evictIdleLimits() {
+        long now = System.nanoTime();
+        limits.keySet().forEach(key -> limits.computeIfPresent(key, (k, limit) -> limit.idle(now) ? null : limit));
+    }
+
+    public interface Permit {
+        void release();
+    }
+
+    public class Admission {
+        private final SortedMap<String, ExecutionLimits> executionLimits;
+        private final List<String> keys;
+        private final Consumer<Permit> onAdmitted;
+        private final Deque<Limit> held = new ArrayDeque<>();
+        private Limit waitedLimit;
+        private boolean admitted = false;
+        private boolean cancelled = false;
+
+        private Admission(SortedMap<String, ExecutionLimits> executionLimits, Consumer<Permit> onAdmitted) {
+            this.executionLimits = executionLimits;
+            this.keys = new ArrayList<>(executionLimits.keySet());
+            this.onAdmitted = onAdmitted;
+        }
+
+        /**
+         * Give up waiting and release the permits already taken.
+         *
+         * @return false if the execution was already admitted
+         */
+        public boolean cancel() {
+            Limit waited;
+            List<Limit> toRelease;
+            synchronized (this) {
+                if (admitted || cancelled) {
+                    return false;
+                }
+                cancelled = true;
+                waited = waitedLimit;
+                toRelease = new ArrayList<>(held);
+                held.clear();
+            }
+            if (waited != null) {
+                onExistingLimit(waited, limit -> limit.dequeue(this));
+            }
+            toRelease.forEach(this::release);
+            return true;
+        }
+
+        private void proceed() {
+            while (true) {
+                String key;
+                synchronized (this) {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (held.size() == keys.size()) {
+                        admitted = true;
+                        break;
+                    }
+                    key = keys.get(held.size());
+                }
+                Limit limit = onLimit(key, executionLimits.get(key), bucket -> {
+                    synchronized (this) {
+                        waitedLimit = bucket;
+                    }
+                    return bucket.acquireOrQueue(this) ? bucket : null;
+                });
+                if (limit == null || !hold(limit)) {
+                    return;
+                }
+            }
+            List<Limit> admittedLimits = List.copyOf(held);
+            onAdmitted.accept(() -> admittedLimits.forEach(this::release));
+        }
+
+        /**
+         * Called by a limit once it counted a permit for this waiting admission
+         */
+        private void granted(Limit limit) {
+            if (hold(limit)) {
+                proceed();
+            }
+        }
+
+        private boolean hold(Limit limit) {
+            synchronized (this) {
+                waitedLimit = null;
+                if (!cancelled) {
+                    held.push(limit);
+                    return true;
+                }
+            }
+            release(limit);
+            return false;
+        }
+
+        private void release(Limit limit) {
+            onExistingLimit(limit, Limit::release).forEach(admission -> admission.granted(limit));
+        }
+    }
+
+    /**
+     * A bucket, only read and changed within the compute functions of the limits map.
+     */
+    private static class Limit {
+        private final String key;
+        private final Queue<Admission> waiting = new ArrayDeque<>();
+        private ExecutionLimits executionLimits;
+        private Long rateIntervalNanos;
+        private long nextRateTokenNanos = System.nanoTime();
+        private int inUse = 0;
+
+        private Limit(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Resize this limit in place
+         *
+         * @return the waiting admissions granted by a larger concurrency limit
+         */
+        private List<Admission> update(ExecutionLimits newLimits) {
+            if (newLimits.equals(executionLimits)) {
+                return List.of();
+            }
+            executionLimits = newLimits;
+            Double maxExecutionsPerSecond = newLimits.maxExecutionsPerSecond();
+            rateIntervalNanos = maxExecutionsPerSecond == null ? null : (long) (Duration.ofSeconds(1).toNanos() / maxExecutionsPerSecond);
+            return grant();
+        }
+
+        /**
+         * @return the delay in nanoseconds before the reserved token is due
+         */
+        private long reserveRate(long now) {
+            if (rateIntervalNanos == null) {
+                return 0;
+            }
+            long due = nextRateTokenNanos - now > 0 ? nextRateTokenNanos : now;
+            nextRateTokenNanos = due + rateIntervalNanos;
+            return due - now;
+        }
+
+        /**
+         * @return true if a permit is counted for the admission, false if it is queued
+         */
+        private boolean acquireOrQueue(Admission admission) {
+            if (waiting.isEmpty() && available()) {
+                inUse++;
+                return true;
+            }
+            waiting.add(admission);
+            return false;
+        }
+
+        private List<Admission> dequeue(Admission admission) {
+            waiting.remove(admission);
+            return List.of();
+        }
+
+        /**
+         * @return the waiting admissions granted by the released permit
+         */
+        private List<Admission> release() {
+            inUse--;
+            return grant();
+        }
+
+        private boolean idle(long now) {
+            return inUse == 0 && waiting.isEmpty() && nextRateTokenNanos - now <= 0;
+        }
+
+        private List<Admission> grant() {
+            List<Admission> granted = new ArrayList<>();
+            while (!waiting.isEmpty() && available()) {
+                granted.add(waiting.poll());
+                inUse++;
+            }
+            return granted;
+        }
+
+        private boolean available() {
+            Integer maxConcurrentExecutions = executionLimits.maxConcurrentExecutions();
+            return maxConcurrentExecutions == null || inUse < maxConcurrentExecutions;
+        }
+    }
+}
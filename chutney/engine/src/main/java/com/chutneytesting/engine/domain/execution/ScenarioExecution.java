@@ -13,6 +13,7 @@ import com.chutneytesting.engine.domain.execution.command.PauseExecutionCommand;
 import com.chutneytesting.engine.domain.execution.command.ResumeExecutionCommand;
 import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
 import com.chutneytesting.engine.domain.execution.event.EndScenarioExecutionEvent;
+import com.chutneytesting.engine.domain.instrument.PhaseTimings;
 import io.reactivex.rxjava3.disposables.Disposable;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +24,7 @@ public class ScenarioExecution {
 
     private final List<FinallyAction> finallyActions = new ArrayList<>();
     private final ActionsConfiguration actionConfiguration;
+    private final PhaseTimings timings;
     public final long executionId;
 
     private boolean pause = false;
@@ -31,13 +33,18 @@ public class ScenarioExecution {
     private Disposable endExecutionSubscriber;
 
     public static ScenarioExecution createScenarioExecution(ActionsConfiguration actionConfiguration) {
+        return createScenarioExecution(actionConfiguration, PhaseTimings.DISABLED);
+    }
+
+    public static ScenarioExecution createScenarioExecution(ActionsConfiguration actionConfiguration, PhaseTimings timings) {
         long executionId = UUID.randomUUID().getMostSignificantBits();
-        return new ScenarioExecution(executionId, actionConfiguration);
+        return new ScenarioExecution(executionId, actionConfiguration, timings);
     }
 
-    private ScenarioExecution(long executionId, ActionsConfiguration actionConfiguration) {
+    private ScenarioExecution(long executionId, ActionsConfiguration actionConfiguration, PhaseTimings timings) {
         this.executionId = executionId;
         this.actionConfiguration = actionConfiguration;
+        this.timings = timings;
 
         final Disposable pauseSubscriber = RxBus.getInstance()
             .registerOnExecutionId(PauseExecutionCommand.class, executionId, e -> this.pause());
@@ -99,4 +106,8 @@ public class ScenarioExecution {
     public List<FinallyAction> finallyActions() {
         return finallyActions;
     }
+
+    public PhaseTimings timings() {
+        return timings;
+    }
 }
@@ -17,6 +17,7 @@ import static java.util.stream.Collectors.toMap;
 import com.chutneytesting.action.spi.FinallyAction;
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.engine.domain.delegation.DelegationService;
+import com.chutneytesting.engine.domain.environment.ExecutionLimiter;
 import com.chutneytesting.engine.domain.execution.ExecutionEngine;
 import com.chutneytesting.engine.domain.execution.RxBus;
 import com.chutneytesting.engine.domain.execution.ScenarioExecution;
@@ -51,6 +52,7 @@ public class DefaultExecutionEngine implements ExecutionEngine {
     private final StepDataEvaluator dataEvaluator;
     private final StepExecutionStrategies stepExecutionStrategies;
     private final DelegationService delegationService;
+    private final ExecutionLimiter executionLimiter;
     private final Reporter reporter;
 
     public DefaultExecutionEngine(StepDataEvaluator dataEvaluator,
@@ -58,9 +60,19 @@ public class DefaultExecutionEngine implements ExecutionEngine {
                                   DelegationService delegationService,
                                   Reporter reporter,
                                   ExecutorService actionExecutor) {
+        this(dataEvaluator, stepExecutionStrategies, delegationService, new ExecutionLimiter(), reporter, actionExecutor);
+    }
+
+    public DefaultExecutionEngine(StepDataEvaluator dataEvaluator,
+                                  StepExecutionStrategies stepExecutionStrategies,
+                                  DelegationService delegationService,
+                                  ExecutionLimiter executionLimiter,
+                                  Reporter reporter,
+                                  ExecutorService actionExecutor) {
         this.dataEvaluator = dataEvaluator;
         this.stepExecutionStrategies = stepExecutionStrategies != null ? stepExecutionStrategies : new StepExecutionStrategies();
         this.delegationService = delegationService;
+        this.executionLimiter = executionLimiter;
         this.reporter = reporter;
         this.actionExecutor = actionExecutor;
     }
@@ -80,7 +92,7 @@ public class DefaultExecutionEngine implements ExecutionEngine {
                     scenarioContext.put("dataset", getDataSet(dataset, scenarioContext));
                     scenarioContext.putAll(evaluateDatasetConstants(dataset, scenarioContext));
 
-                    rootStep.set(buildStep(stepDefinition));
+                    rootStep.set(buildStep(stepDefinition, environment));
                     RxBus.getInstance().post(new StartScenarioExecutionEvent(execution, rootStep.get()));
 
                     final StepExecutionStrategy strategy = stepExecutionStrategies.buildStrategyFrom(rootStep.get());
@@ -94,7 +106,7 @@ public class DefaultExecutionEngine implements ExecutionEngine {
                     LOGGER.warn("Intercepted exception in root step execution !", t);
                 }
 
-                executeFinallyActions(execution, rootStep, scenarioContext);
+                executeFinallyActions(execution, rootStep, scenarioContext, environment);
 
             } finally {
                 RxBus.getInstance().post(new EndScenarioExecutionEvent(execution, rootStep.get()));
@@ -123,12 +135,12 @@ public class DefaultExecutionEngine implements ExecutionEngine {
             .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    private Optional<Step> initFinalRootStep(AtomicReference<Step> rootStep, List<FinallyAction> finallyActionsSnapshot) {
+    private Optional<Step> initFinalRootStep(AtomicReference<Step> rootStep, List<FinallyAction> finallyActionsSnapshot, Environment environment) {
         try {
             Pair<List<StepDefinition>, List<Step>> finalStepsWithDefinitions = finallyActionsSnapshot.stream()
                 .map(fa -> {
                     StepDefinition definition = new FinallyActionMapper().toStepDefinition(fa);
-                    return Pair.of(singletonList(definition), singletonList(buildStep(definition)));
+                    return Pair.of(singletonList(definition), singletonList(buildStep(definition, environment)));
                 })
                 .reduce(Pair.of(new ArrayList<>(), new ArrayList<>()), (p1, p2) -> {
                     p1.getLeft().addAll(p2.getLeft());
@@ -157,11 +169,11 @@ public class DefaultExecutionEngine implements ExecutionEngine {
         }
     }
 
-    private void executeFinallyActions(ScenarioExecution execution, AtomicReference<Step> rootStep, ScenarioContext scenarioContext) {
+    private void executeFinallyActions(ScenarioExecution execution, AtomicReference<Step> rootStep, ScenarioContext scenarioContext, Environment environment) {
         if (!execution.finallyActions().isEmpty()) {
             List<FinallyAction> finallyActionsSnapshot = new ArrayList<>(execution.finallyActions());
 
-            Optional<Step> finalRootStep = initFinalRootStep(rootStep, finallyActionsSnapshot);
+            Optional<Step> finalRootStep = initFinalRootStep(rootStep, finallyActionsSnapshot, environment);
             finalRootStep.ifPresent(frs -> {
                 rootStep.get().addStepExecution(frs);
                 execution.initFinallyActionExecution();
@@ -179,12 +191,19 @@ public class DefaultExecutionEngine implements ExecutionEngine {
         }
     }
 
-    private Step buildStep(StepDefinition definition) {
+    private Step buildStep(StepDefinition definition, Environment environment) {
         LOGGER.debug("Build : " + definition);
         final Optional<Target> target = definition.getTarget();
-        final StepExecutor executor = delegationService.findExecutor(target);
-        final List<Step> steps = definition.steps.stream().map(this::buildStep).collect(toList());
+        final StepExecutor executor = limited(delegationService.findExecutor(target), environment);
+        final List<Step> steps = definition.steps.stream().map(d -> buildStep(d, environment)).collect(toList());
 
         return new Step(dataEvaluator, definition, executor, steps);
     }
+
+    private StepExecutor limited(StepExecutor executor, Environment environment) {
+        if (environment == null) {
+            return executor;
+        }
+        return new LimitedStepExecutor(executor, executionLimiter, environment);
+    }
 }
@@ -7,6 +7,7 @@
 
 package com.chutneytesting.engine.domain.execution.engine;
 
+import static com.chutneytesting.engine.domain.instrument.EnginePhase.ACTION_INSTANTIATION;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.action.domain.ActionTemplate;
@@ -25,6 +26,7 @@ import com.chutneytesting.engine.domain.execution.engine.parameterResolver.Deleg
 import com.chutneytesting.engine.domain.execution.engine.parameterResolver.InputParameterResolver;
 import com.chutneytesting.engine.domain.execution.engine.parameterResolver.TypedValueParameterResolver;
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.engine.domain.instrument.PhaseTimings;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -47,11 +49,14 @@ public class DefaultStepExecutor implements StepExecutor {
         Optional<ActionTemplate> matchedAction = actionTemplateRegistry.getByIdentifier(type);
 
         if (matchedAction.isPresent()) {
+            PhaseTimings timings = scenarioExecution.timings();
+            long instantiationStart = timings.start();
             List<ParameterResolver> parameterResolvers = gatherResolvers(scenarioExecution, targetServer, step);
 
             ActionExecutionResult executionResult;
             try {
                 Action action = matchedAction.get().create(parameterResolvers);
+                timings.stop(ACTION_INSTANTIATION, type, null, instantiationStart);
                 List<String> errors = action.validateInputs();
                 if (errors.isEmpty()) {
                     executionResult = action.execute();
@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine;
+
+import static java.util.Optional.ofNullable;
+
+import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.engine.domain.environment.ExecutionLimiter;
+import com.chutneytesting.engine.domain.execution.RxBus;
+import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
+import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.tools.ExecutionLimits;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Wait for the concurrency permits and execution rates of the environment and the target before letting the delegate executor touch the target,
+ * and release the permits once the step is done.<br>
+ * Steps run synchronously on their scenario thread, so a waiting step parks that thread until a permit is released,
+ * its rate token is due or its scenario is stopped, without polling.<br>
+ * Wrapping local and remote executors alike, limits also bound steps delegated to agents.
+ */
+public class LimitedStepExecutor implements StepExecutor {
+
+    private final StepExecutor delegate;
+    private final ExecutionLimiter executionLimiter;
+    private final Environment environment;
+
+    public LimitedStepExecutor(StepExecutor delegate, ExecutionLimiter executionLimiter, Environment environment) {
+        this.delegate = delegate;
+        this.executionLimiter = executionLimiter;
+        this.environment = environment;
+    }
+
+    @Override
+    public void execute(ScenarioExecution scenarioExecution, Target target, Step step) {
+        if (step.type().isEmpty() || target.name().isEmpty()) {
+            delegate.execute(scenarioExecution, target, step);
+            return;
+        }
+
+        Map<String, ExecutionLimits> limits = new TreeMap<>();
+        ExecutionLimits.from(key -> ofNullable(environment.variables()).map(variables -> variables.get(key)))
+            .ifPresent(environmentLimits -> limits.put(environment.name(), environmentLimits));
+        ExecutionLimits.from(target::property)
+            .ifPresent(targetLimits -> limits.put(environment.name() + "/" + target.name(), targetLimits));
+        if (limits.isEmpty()) {
+            delegate.execute(scenarioExecution, target, step);
+            return;
+        }
+
+        CompletableFuture<Void> stopped = new CompletableFuture<>();
+        Disposable stopSubscriber = RxBus.getInstance().registerOnExecutionId(StopExecutionCommand.class, scenarioExecution.executionId, e -> stopped.complete(null));
+        Optional<ExecutionLimiter.Permit> permit = Optional.empty();
+        try {
+            if (scenarioExecution.hasToStop()) {
+                stopped.complete(null);
+            }
+            permit = acquireConcurrency(limits, stopped);
+            if (stopped.isDone() || !waitRates(limits, stopped)) {
+                step.failure("Stop requested while waiting for execution limits of target [" + target.name() + "]");
+                return;
+            }
+            delegate.execute(scenarioExecution, target, step);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            step.failure("Interrupted while waiting for execution limits of target [" + target.name() + "]");
+        } finally {
+            stopSubscriber.dispose();
+            permit.ifPresent(ExecutionLimiter.Permit::release);
+        }
+    }
+
+    /**
+     * Queue for a permit of each concurrency limit, and park until admitted or stopped.
+     *
+     * @return the permit to release, empty if no concurrency limit is declared or if stopped while queued
+     */
+    private Optional<ExecutionLimiter.Permit> acquireConcurrency(Map<String, ExecutionLimits> limits, CompletableFuture<Void> stopped) throws InterruptedException {
+        Map<String, ExecutionLimits> concurrencyLimits = new TreeMap<>(limits);
+        concurrencyLimits.values().removeIf(executionLimits -> executionLimits.maxConcurrentExecutions() == null);
+        if (concurrencyLimits.isEmpty() || stopped.isDone()) {
+            return Optional.empty();
+        }
+
+        CompletableFuture<ExecutionLimiter.Permit> admitted = new CompletableFuture<>();
+        ExecutionLimiter.Admission admission = executionLimiter.admit(concurrencyLimits, admitted::complete);
+        try {
+            CompletableFuture.anyOf(admitted, stopped).get();
+        } catch (InterruptedException e) {
+            if (!admission.cancel()) {
+                admitted.join().release();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        if (!admitted.isDone() && admission.cancel()) {
+            return Optional.empty();
+        }
+        return Optional.of(admitted.join());
+    }
+
+    /**
+     * Reserve a rate token of each rate limit, and park until the last one is due.
+     *
+     * @return false if stopped while waiting
+     */
+    private boolean waitRates(Map<String, ExecutionLimits> limits, CompletableFuture<Void> stopped) throws InterruptedException {
+        Duration wait = limits.entrySet().stream()
+            .filter(limit -> limit.getValue().maxExecutionsPerSecond() != null)
+            .map(limit -> executionLimiter.reserveRate(limit.getKey(), limit.getValue()))
+            .max(Duration::compareTo)
+            .orElse(Duration.ZERO);
+        if (wait.isZero()) {
+            return true;
+        }
+        try {
+            stopped.get(wait.toNanos(), TimeUnit.NANOSECONDS);
+            return false;
+        } catch (TimeoutException e) {
+            return true;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -7,6 +7,8 @@
 
 package com.chutneytesting.engine.domain.execution.engine.step;
 
+import static com.chutneytesting.engine.domain.instrument.EnginePhase.CONTEXT_SNAPSHOT;
+import static com.chutneytesting.engine.domain.instrument.EnginePhase.SPEL_EVALUATION;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
@@ -27,6 +29,8 @@ import com.chutneytesting.engine.domain.execution.event.PauseStepExecutionEvent;
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
 import com.chutneytesting.engine.domain.execution.strategies.StepStrategyDefinition;
+import com.chutneytesting.engine.domain.instrument.EnginePhase;
+import com.chutneytesting.engine.domain.instrument.PhaseTimings;
 import com.chutneytesting.tools.Try;
 import com.google.common.collect.Lists;
 import java.time.Duration;
@@ -55,6 +59,7 @@ public class Step {
     private final StepExecutor executor;
     private final StepDataEvaluator dataEvaluator;
     private StepContext stepContext;
+    private PhaseTimings timings = PhaseTimings.DISABLED;
 
     public Step(StepDataEvaluator dataEvaluator, StepDefinition definition, StepExecutor executor, List<Step> steps) {
         this.dataEvaluator = dataEvaluator;
@@ -90,12 +95,15 @@ public class Step {
         }
 
         beginExecution(scenarioExecution);
+        timings = scenarioExecution.timings();
 
         try {
+            long evaluationStart = timings.start();
             Map<String, Object> evaluationContext = buildEvaluationContext(scenarioContext, localContext);
             final Map<String, Object> evaluatedInputs = definition.type.equals("final") ? definition.inputs() : unmodifiableMap(dataEvaluator.evaluateNamedDataWithContextVariables(definition.inputs(), evaluationContext));
             target = dataEvaluator.evaluateTarget(target, evaluationContext);
             resolveName(evaluationContext);
+            stopTiming(SPEL_EVALUATION, evaluationStart);
             Try
                 .exec(() -> this.stepContext = new StepContext(scenarioContext, localContext, evaluatedInputs))
                 .ifSuccess(stepContextExecuted -> {
@@ -103,7 +111,9 @@ public class Step {
                     if (Status.SUCCESS.equals(this.state.status())) {
                         executeStepValidations(stepContextExecuted);
                     }
+                    long snapshotStart = timings.start();
                     this.stepContext = stepContextExecuted.copy();
+                    stopTiming(CONTEXT_SNAPSHOT, snapshotStart);
                 })
                 .ifFailed(this::failure);
         } catch (RuntimeException e) {
@@ -290,14 +300,18 @@ public class Step {
     }
 
     private void updateContextWithDefinitionOutputs() {
+        long evaluationStart = timings.start();
         final Map<String, Object> evaluatedOutputs = dataEvaluator.evaluateNamedDataWithContextVariables(definition.outputs, stepContext.evaluationContext());
+        stopTiming(SPEL_EVALUATION, evaluationStart);
         this.stepContext.addStepOutputs(evaluatedOutputs);
         this.stepContext.addScenarioContext(evaluatedOutputs);
     }
 
     private void executeStepValidations(StepContext stepContext) {
         Try.exec(() -> {
+                long evaluationStart = timings.start();
                 final Map<String, Object> evaluatedValidations = dataEvaluator.evaluateNamedDataWithContextVariables(definition.validations, stepContext.evaluationContext());
+                stopTiming(SPEL_EVALUATION, evaluationStart);
                 evaluatedValidations.forEach((k, v) -> {
                     if (!(boolean) v) {
                         failure("Validation [" + k + " : " + definition.validations.get(k).toString() + "] : KO");
@@ -311,6 +325,12 @@ public class Step {
                 + " - Exception: " + e.getClass() + " with message: \"" + e.getMessage() + "\""));
     }
 
+    private void stopTiming(EnginePhase phase, long start) {
+        if (timings.isEnabled()) {
+            timings.stop(phase, definition.type, strategy().map(s -> s.type).orElse(null), start);
+        }
+    }
+
     public void addStepExecution(Step step) {
         this.steps.add(step);
     }
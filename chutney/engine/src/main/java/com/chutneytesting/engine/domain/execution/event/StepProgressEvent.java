@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.event;
+
+import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.engine.step.Step;
+
+public class StepProgressEvent implements Event {
+    public final ScenarioExecution scenarioExecution;
+    public final Step step;
+
+    public StepProgressEvent(ScenarioExecution scenarioExecution, Step step) {
+        this.scenarioExecution = scenarioExecution;
+        this.step = step;
+    }
+
+    @Override
+    public long executionId() {
+        return scenarioExecution.executionId;
+    }
+}
@@ -13,6 +13,7 @@ import static java.util.Optional.ofNullable;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,11 @@ public class StepExecutionReport implements Status.HavingStatus {
     public final String strategy;
     public final Map<String, Object> evaluatedInputs;
     public final Map<String, Object> evaluatedInputsSnapshot;
+    /**
+     * Total time in microseconds spent by the engine in each phase, only on the root report of an instrumented execution.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public final Map<String, Long> phaseTimings;
 
     @JsonIgnore
     public Map<String, Object> stepResults;
@@ -57,7 +63,7 @@ public class StepExecutionReport implements Status.HavingStatus {
                                String targetUrl,
                                String strategy
     ) {
-        this(executionId, name, environment, duration, startDate, status, information, errors, steps, type, targetName, targetUrl, strategy, null, null, null, null, null);
+        this(executionId, name, environment, duration, startDate, status, information, errors, steps, type, targetName, targetUrl, strategy, null, null, null, null, null, null);
     }
 
     public StepExecutionReport(Long executionId,
@@ -77,7 +83,8 @@ public class StepExecutionReport implements Status.HavingStatus {
                                Map<String, Object> stepResults,
                                Map<String, Object> scenarioContext,
                                Map<String, Object> evaluatedInputsSnapshot,
-                               Map<String, Object> stepResultsSnapshot
+                               Map<String, Object> stepResultsSnapshot,
+                               Map<String, Long> phaseTimings
     ) {
         this.executionId = executionId;
         this.name = name;
@@ -97,6 +104,7 @@ public class StepExecutionReport implements Status.HavingStatus {
         this.stepResults = ofNullable(stepResults).orElse(emptyMap());
         this.stepResultsSnapshot = ofNullable(stepResultsSnapshot).orElse(emptyMap());
         this.scenarioContext = ofNullable(scenarioContext).orElse(emptyMap());
+        this.phaseTimings = phaseTimings;
     }
 
     @Override
@@ -35,6 +35,7 @@ public class StepExecutionReportBuilder {
     private Map<String, Object> evaluatedInputsSnapshot;
     private Map<String, Object> stepResultsSnapshot;
     private Map<String, Object> scenarioContext;
+    private Map<String, Long> phaseTimings;
 
     public StepExecutionReportBuilder from(StepExecutionReport stepExecutionReport) {
         setExecutionId(stepExecutionReport.executionId);
@@ -55,6 +56,7 @@ public class StepExecutionReportBuilder {
         setScenarioContext(stepExecutionReport.scenarioContext);
         setStepResultsSnapshot(stepExecutionReport.stepResultsSnapshot);
         setEvaluatedInputsSnapshot(stepExecutionReport.evaluatedInputsSnapshot);
+        setPhaseTimings(stepExecutionReport.phaseTimings);
         return this;
     }
 
@@ -83,6 +85,11 @@ public class StepExecutionReportBuilder {
         return this;
     }
 
+    public StepExecutionReportBuilder setPhaseTimings(Map<String, Long> phaseTimings) {
+        this.phaseTimings = phaseTimings;
+        return this;
+    }
+
     private void setExecutionId(long executionId) {
         this.executionId = executionId;
     }
@@ -176,7 +183,8 @@ public class StepExecutionReportBuilder {
             stepResults,
             scenarioContext,
             evaluatedInputsSnapshot,
-            stepResultsSnapshot
+            stepResultsSnapshot,
+            phaseTimings
         );
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.instrument;
+
+import java.util.List;
+
+/**
+ * Opt-in timing of engine phases.<br>
+ * When enabled, each execution gets its own {@link PhaseTimings} notifying the given listeners,
+ * and the totals of the execution are added to its root report.
+ */
+public final class EngineInstrumentation {
+
+    public static final EngineInstrumentation DISABLED = new EngineInstrumentation(null);
+
+    private final List<PhaseListener> listeners;
+
+    private EngineInstrumentation(List<PhaseListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    public static EngineInstrumentation enabled(PhaseListener... listeners) {
+        return new EngineInstrumentation(List.of(listeners));
+    }
+
+    public boolean isEnabled() {
+        return listeners != null;
+    }
+
+    public PhaseTimings newExecutionTimings() {
+        return listeners == null ? PhaseTimings.DISABLED : new PhaseTimings(listeners);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.instrument;
+
+/**
+ * Engine work done around actions execution, which can be timed by {@link PhaseTimings}.
+ */
+public enum EnginePhase {
+    /**
+     * Evaluation of step inputs, target, name, validations and outputs.
+     */
+    SPEL_EVALUATION,
+    /**
+     * Resolution of action parameters and action creation.
+     */
+    ACTION_INSTANTIATION,
+    /**
+     * Snapshot of step inputs and outputs kept for the report.
+     */
+    CONTEXT_SNAPSHOT,
+    /**
+     * Build of the execution report published on each step event.
+     */
+    REPORT_BUILDING
+}
@@ -0,0 +1,21 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.instrument;
+
+@FunctionalInterface
+public interface PhaseListener {
+
+    /**
+     * Called on the engine thread each time a phase ends, so implementations must be cheap.
+     *
+     * @param actionType     the step action type, null when the phase is not related to a step
+     * @param strategy       the step strategy type, null when none
+     * @param durationNanos  the phase duration in nanoseconds
+     */
+    void onPhaseEnd(EnginePhase phase, String actionType, String strategy, long durationNanos);
+}
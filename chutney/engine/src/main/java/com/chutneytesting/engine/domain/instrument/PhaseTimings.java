@@ -0,0 +1,65 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.instrument;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Time spent in each {@link EnginePhase} by one execution.<br>
+ * Usage is {@code long start = timings.start(); ...; timings.stop(phase, actionType, strategy, start);}.<br>
+ * The {@link #DISABLED} instance neither reads the clock nor records anything.
+ */
+public final class PhaseTimings {
+
+    public static final PhaseTimings DISABLED = new PhaseTimings(null);
+
+    private final List<PhaseListener> listeners;
+    private final AtomicLongArray totalNanos;
+
+    PhaseTimings(List<PhaseListener> listeners) {
+        this.listeners = listeners;
+        this.totalNanos = listeners == null ? null : new AtomicLongArray(EnginePhase.values().length);
+    }
+
+    public boolean isEnabled() {
+        return listeners != null;
+    }
+
+    public long start() {
+        return listeners == null ? 0L : System.nanoTime();
+    }
+
+    public void stop(EnginePhase phase, String actionType, String strategy, long start) {
+        if (listeners == null) {
+            return;
+        }
+        long durationNanos = System.nanoTime() - start;
+        totalNanos.addAndGet(phase.ordinal(), durationNanos);
+        for (PhaseListener listener : listeners) {
+            listener.onPhaseEnd(phase, actionType, strategy, durationNanos);
+        }
+    }
+
+    /**
+     * @return total time spent in each phase in microseconds, null when disabled
+     */
+    public Map<String, Long> totals() {
+        if (listeners == null) {
+            return null;
+        }
+        Map<String, Long> totals = new LinkedHashMap<>();
+        for (EnginePhase phase : EnginePhase.values()) {
+            totals.put(phase.name(), TimeUnit.NANOSECONDS.toMicros(totalNanos.get(phase.ordinal())));
+        }
+        return totals;
+    }
+}
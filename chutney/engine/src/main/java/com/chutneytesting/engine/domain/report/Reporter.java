@@ -10,6 +10,7 @@ package com.chutneytesting.engine.domain.report;
 
 import static com.chutneytesting.engine.domain.execution.report.Status.PAUSED;
 import static com.chutneytesting.engine.domain.execution.report.Status.RUNNING;
+import static com.chutneytesting.engine.domain.instrument.EnginePhase.REPORT_BUILDING;
 
 import com.chutneytesting.engine.domain.execution.RxBus;
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
@@ -19,10 +20,12 @@ import com.chutneytesting.engine.domain.execution.event.EndStepExecutionEvent;
 import com.chutneytesting.engine.domain.execution.event.Event;
 import com.chutneytesting.engine.domain.execution.event.PauseStepExecutionEvent;
 import com.chutneytesting.engine.domain.execution.event.StartScenarioExecutionEvent;
+import com.chutneytesting.engine.domain.execution.event.StepProgressEvent;
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReportBuilder;
 import com.chutneytesting.engine.domain.execution.strategies.StepStrategyDefinition;
+import com.chutneytesting.engine.domain.instrument.PhaseTimings;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Observer;
@@ -46,6 +49,7 @@ public class Reporter {
 
     private final Map<Long, Subject<StepExecutionReport>> reportsPublishers = new ConcurrentHashMap<>();
     private final Map<Long, Step> rootSteps = new ConcurrentHashMap<>();
+    private final Map<Long, PhaseTimings> executionsTimings = new ConcurrentHashMap<>();
     private long retentionDelaySeconds;
 
     public Reporter() {
@@ -77,6 +81,9 @@ public class Reporter {
     private void storeRootStepAndPublishReport(StartScenarioExecutionEvent event) {
         LOGGER.trace("Store root step for execution {}", event.executionId());
         rootSteps.put(event.executionId(), event.step);
+        if (event.scenarioExecution.timings().isEnabled()) {
+            executionsTimings.put(event.executionId(), event.scenarioExecution.timings());
+        }
         publishReport(event);
     }
 
@@ -107,12 +114,20 @@ public class Reporter {
         } else {
             finalStatus = calculatedRootStepStatus;
         }
-        return generateReport(step, s -> finalStatus, getEnvironment(step));
+        return generateRootReport(executionId, step, s -> finalStatus);
     }
 
     private StepExecutionReport generateLastReport(long executionId) {
         Step step = rootSteps.get(executionId);
-        return generateReport(step, Step::status, getEnvironment(step));
+        return generateRootReport(executionId, step, Step::status);
+    }
+
+    private StepExecutionReport generateRootReport(long executionId, Step step, Function<Step, Status> statusSupplier) {
+        PhaseTimings timings = executionsTimings.getOrDefault(executionId, PhaseTimings.DISABLED);
+        long reportStart = timings.start();
+        StepExecutionReport report = generateReport(step, statusSupplier, getEnvironment(step), timings.totals());
+        timings.stop(REPORT_BUILDING, null, null, reportStart);
+        return report;
     }
 
     private static String getEnvironment(Step step) {
@@ -123,6 +138,10 @@ public class Reporter {
     }
 
     StepExecutionReport generateReport(Step step, Function<Step, Status> statusSupplier, String env) {
+        return generateReport(step, statusSupplier, env, null);
+    }
+
+    private StepExecutionReport generateReport(Step step, Function<Step, Status> statusSupplier, String env, Map<String, Long> phaseTimings) {
         try {
             return new StepExecutionReportBuilder()
                 .setName(step.name())
@@ -141,6 +160,7 @@ public class Reporter {
                 .setType(step.type())
                 .setTarget(step.target())
                 .setStrategy(guardNullStrategy(step.strategy()))
+                .setPhaseTimings(phaseTimings)
                 .createStepExecutionReport();
         } catch (Exception e) {
             String error = "Cannot generate step report: " + e.getMessage();
@@ -161,6 +181,7 @@ public class Reporter {
     private void completePublisher(long executionId, Observer<StepExecutionReport> observer) {
         LOGGER.trace("Complete publisher for execution {}", executionId);
         observer.onComplete();
+        executionsTimings.remove(executionId);
         if (retentionDelaySeconds > 0) {
             Completable.timer(retentionDelaySeconds, TimeUnit.SECONDS)
                 .subscribe(() -> {
@@ -185,6 +206,7 @@ public class Reporter {
         bus.register(BeginStepExecutionEvent.class, this::publishReport);
         bus.register(EndStepExecutionEvent.class, this::publishReport);
         bus.register(PauseStepExecutionEvent.class, this::publishReport);
+        bus.register(StepProgressEvent.class, this::publishReport);
         bus.register(EndScenarioExecutionEvent.class, this::publishReportAndCompletePublisher);
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.infrastructure.delegation;
+
+import com.chutneytesting.engine.domain.delegation.NamedHostAndPort;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Track agents' health from the outcome of delegations, instead of probing them before each call.<br>
+ * After {@code failureThreshold} consecutive failures, the agent's circuit opens and delegations are rejected without network access.
+ * Once {@code openDuration} elapsed, a single delegation is let through: its success closes the circuit, its failure opens it again.
+ */
+class AgentCircuitBreaker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AgentCircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Map<NamedHostAndPort, AgentState> agentsState = new HashMap<>();
+
+    AgentCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    synchronized boolean allowRequest(NamedHostAndPort agent) {
+        AgentState state = agentsState.get(agent);
+        if (state == null || !state.isOpen()) {
+            return true;
+        }
+        if (state.probing || Instant.now().isBefore(state.openUntil)) {
+            return false;
+        }
+        agentsState.put(agent, new AgentState(state.failures, state.openUntil, true));
+        return true;
+    }
+
+    synchronized void onSuccess(NamedHostAndPort agent) {
+        AgentState state = agentsState.remove(agent);
+        if (state != null && state.isOpen()) {
+            LOGGER.info("Agent [{}] is reachable again", agent);
+        }
+    }
+
+    synchronized void onFailure(NamedHostAndPort agent) {
+        AgentState state = agentsState.get(agent);
+        int failures = (state == null ? 0 : state.failures) + 1;
+        if (failures < failureThreshold) {
+            agentsState.put(agent, new AgentState(failures, null, false));
+        } else {
+            LOGGER.warn("Agent [{}] unreachable after {} attempt(s), suspend delegation for {}", agent, failures, openDuration);
+            agentsState.put(agent, new AgentState(failures, Instant.now().plus(openDuration), false));
+        }
+    }
+
+    private record AgentState(int failures, Instant openUntil, boolean probing) {
+        boolean isOpen() {
+            return openUntil != null;
+        }
+    }
+}
@@ -13,9 +13,10 @@ import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
+import com.chutneytesting.engine.api.execution.StepExecutionEventDto;
 import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
 import com.chutneytesting.engine.domain.delegation.CannotDelegateException;
-import com.chutneytesting.engine.domain.delegation.ConnectionChecker;
+import com.chutneytesting.engine.domain.delegation.DelegatedStepEvent;
 import com.chutneytesting.engine.domain.delegation.DelegationClient;
 import com.chutneytesting.engine.domain.delegation.NamedHostAndPort;
 import com.chutneytesting.engine.domain.execution.engine.Dataset;
@@ -26,11 +27,22 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.google.common.collect.Lists;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.support.BasicAuthenticationInterceptor;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 /* TODO all -
@@ -38,20 +50,39 @@ import org.springframework.web.client.RestTemplate;
     The complete scenario will not work due to this early unexpected teardown.
     Thus, Finally Actions should be driven by the main Agent executing the whole scenario.
 */
+/**
+ * Delegate steps to agents over a single JDK http client.<br>
+ * Its connections are kept alive and reused between delegations to the same agent, multiplexed when the agent speaks HTTP/2.
+ * Agents' health is tracked passively by an {@link AgentCircuitBreaker}.
+ */
 public class HttpClient implements DelegationClient {
 
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(1);
+    private static final int CIRCUIT_FAILURE_THRESHOLD = 3;
+    private static final Duration CIRCUIT_OPEN_DURATION = Duration.ofSeconds(30);
+
     private final RestTemplate restTemplate;
-    private final ConnectionChecker connectionChecker;
+    private final ObjectMapper objectMapper;
+    private final AgentCircuitBreaker circuitBreaker;
 
     public HttpClient() {
         this(null, null);
     }
 
     public HttpClient(String username, String password) {
-        this.restTemplate = new RestTemplate();
-        this.connectionChecker = new TcpConnectionChecker();
+        this(username, password, new AgentCircuitBreaker(CIRCUIT_FAILURE_THRESHOLD, CIRCUIT_OPEN_DURATION));
+    }
 
-        ObjectMapper objectMapper = new ObjectMapper();
+    HttpClient(String username, String password, AgentCircuitBreaker circuitBreaker) {
+        this.restTemplate = new RestTemplate(new JdkClientHttpRequestFactory(
+            java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_2)
+                .connectTimeout(CONNECTION_TIMEOUT)
+                .build()
+        ));
+        this.circuitBreaker = circuitBreaker;
+
+        objectMapper = new ObjectMapper();
         objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         objectMapper.findAndRegisterModules();
@@ -60,19 +91,59 @@ public class HttpClient implements DelegationClient {
         addBasicAuth(username, password);
     }
 
+    /**
+     * Ask the agent to stream the execution, so that its progress is notified while it runs.
+     * Agents not able to stream answer with the final report only.
+     */
     @Override
-    public StepExecutionReport handDown(Step step, NamedHostAndPort delegate) throws CannotDelegateException {
-        if (connectionChecker.canConnectTo(delegate)) {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            Dataset dataset = new Dataset(emptyMap(), emptyList()); // TODO - check if it still works
-            Environment environment =  new Environment((String) step.getScenarioContext().get("environment"));
-            HttpEntity<ExecutionRequestDto> request = new HttpEntity<>(ExecutionRequestMapper.from(step.definition(), dataset, environment), headers);
-            StepExecutionReportDto reportDto = restTemplate.postForObject("https://" + delegate.host() + ":" + delegate.port() + EXECUTION_URL, request, StepExecutionReportDto.class);
-            return StepExecutionReportMapper.fromDto(reportDto);
-        } else {
-            throw new CannotDelegateException("Unable to connect to " + delegate.name() + " at " + delegate.host() + ":" + delegate.port());
+    public StepExecutionReport handDown(Step step, NamedHostAndPort delegate, Consumer<DelegatedStepEvent> eventListener) throws CannotDelegateException {
+        if (!circuitBreaker.allowRequest(delegate)) {
+            throw new CannotDelegateException("Delegation to " + delegate.name() + " at " + delegate.host() + ":" + delegate.port() + " is suspended after repeated connection failures");
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON));
+        Dataset dataset = new Dataset(emptyMap(), emptyList()); // TODO - check if it still works
+        Environment environment =  new Environment((String) step.getScenarioContext().get("environment"));
+        HttpEntity<ExecutionRequestDto> request = new HttpEntity<>(ExecutionRequestMapper.from(step.definition(), dataset, environment), headers);
+        StepExecutionReportDto reportDto;
+        try {
+            reportDto = restTemplate.execute(
+                "https://" + delegate.host() + ":" + delegate.port() + EXECUTION_URL,
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(request),
+                response -> readReport(response, eventListener)
+            );
+        } catch (ResourceAccessException e) {
+            circuitBreaker.onFailure(delegate);
+            throw new CannotDelegateException("Unable to connect to " + delegate.name() + " at " + delegate.host() + ":" + delegate.port(), e);
+        } catch (RuntimeException e) {
+            // Error status or unreadable answer, the circuit must still be opened or closed after a probing delegation
+            circuitBreaker.onFailure(delegate);
+            throw e;
+        }
+        circuitBreaker.onSuccess(delegate);
+        return StepExecutionReportMapper.fromDto(reportDto);
+    }
+
+    private StepExecutionReportDto readReport(ClientHttpResponse response, Consumer<DelegatedStepEvent> eventListener) throws IOException {
+        MediaType contentType = response.getHeaders().getContentType();
+        if (contentType == null || !MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return objectMapper.readValue(response.getBody(), StepExecutionReportDto.class);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            StepExecutionEventDto event = objectMapper.readValue(line, StepExecutionEventDto.class);
+            if (event.isFinalReport()) {
+                return event.report;
+            }
+            eventListener.accept(StepExecutionReportMapper.fromDto(event));
         }
+        throw new CannotDelegateException("Delegated execution stream ended without final report");
     }
 
     private void addBasicAuth(String user, String password) {
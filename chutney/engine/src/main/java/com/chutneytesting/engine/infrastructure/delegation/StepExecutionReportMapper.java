@@ -7,8 +7,13 @@
 
 package com.chutneytesting.engine.infrastructure.delegation;
 
+import static java.util.Collections.emptyList;
+import static java.util.Optional.ofNullable;
+
 import com.chutneytesting.engine.api.execution.StatusDto;
+import com.chutneytesting.engine.api.execution.StepExecutionEventDto;
 import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
+import com.chutneytesting.engine.domain.delegation.DelegatedStepEvent;
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReportBuilder;
@@ -39,6 +44,16 @@ class StepExecutionReportMapper {
             .createStepExecutionReport();
     }
 
+    static DelegatedStepEvent fromDto(StepExecutionEventDto eventDto) {
+        return new DelegatedStepEvent(
+            eventDto.path,
+            eventDto.name,
+            StatusMapper.fromDto(eventDto.status),
+            ofNullable(eventDto.information).orElse(emptyList()),
+            ofNullable(eventDto.errors).orElse(emptyList())
+        );
+    }
+
     private static class StatusMapper {
         static Status fromDto(StatusDto status) {
             return Status.valueOf(status.name());
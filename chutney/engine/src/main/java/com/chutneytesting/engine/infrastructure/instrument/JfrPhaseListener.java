@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.infrastructure.instrument;
+
+import com.chutneytesting.engine.domain.instrument.EnginePhase;
+import com.chutneytesting.engine.domain.instrument.PhaseListener;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Commits a {@code chutney.EnginePhase} JFR event for each engine phase, when the event is enabled in the recording.
+ */
+public class JfrPhaseListener implements PhaseListener {
+
+    @Override
+    public void onPhaseEnd(EnginePhase phase, String actionType, String strategy, long durationNanos) {
+        EnginePhaseEvent event = new EnginePhaseEvent();
+        if (event.isEnabled()) {
+            event.phase = phase.name();
+            event.actionType = actionType;
+            event.strategy = strategy;
+            event.phaseDuration = durationNanos;
+            event.commit();
+        }
+    }
+
+    @Name("chutney.EnginePhase")
+    @Label("Engine Phase")
+    @Category("Chutney")
+    @StackTrace(false)
+    static class EnginePhaseEvent extends Event {
+        @Label("Phase")
+        String phase;
+        @Label("Action Type")
+        String actionType;
+        @Label("Strategy")
+        String strategy;
+        @Label("Phase Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        long phaseDuration;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chutneytesting.action.TestActionTemplateFactory.TwoParametersAction;
+import com.chutneytesting.action.TypeBasedParameterResolver;
+import com.chutneytesting.action.domain.IndexedAction.IndexedParameter;
+import com.chutneytesting.action.spi.Action;
+import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.injectable.Input;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+public class IndexedActionTemplateTest {
+
+    private static final AtomicBoolean LAZY_ACTION_INITIALIZED = new AtomicBoolean();
+
+    private final ActionTemplateParserV2 parser = new ActionTemplateParserV2();
+
+    @Test
+    public void indexed_action_class_is_initialized_on_first_instantiation() {
+        IndexedAction indexedAction = new IndexedAction(
+            LazyAction.class.getName(),
+            getClass().getClassLoader(),
+            List.of(new IndexedParameter("value", String.class, "value"))
+        );
+
+        ActionTemplate actionTemplate = parser.parse(indexedAction).orElseThrow();
+
+        assertThat(actionTemplate.identifier()).isEqualTo("lazy");
+        assertThat(actionTemplate.implementationClass()).isEqualTo(LazyAction.class);
+        assertThat(actionTemplate.parameters())
+            .singleElement()
+            .satisfies(parameter -> assertThat(parameter.annotations().get(Input.class).value()).isEqualTo("value"));
+        assertThat(LAZY_ACTION_INITIALIZED).isFalse();
+
+        Action action = actionTemplate.create(List.of(new TypeBasedParameterResolver<>(String.class, p -> "some value")));
+
+        assertThat(LAZY_ACTION_INITIALIZED).isTrue();
+        assertThat(action.execute().outputs).containsEntry("value", "some value");
+    }
+
+    @Test
+    public void indexed_action_not_matching_its_class_fails_on_instantiation() {
+        IndexedAction indexedAction = new IndexedAction(
+            TwoParametersAction.class.getName(),
+            getClass().getClassLoader(),
+            List.of(new IndexedParameter("someString", String.class, null))
+        );
+
+        ActionTemplate actionTemplate = parser.parse(indexedAction).orElseThrow();
+
+        assertThat(actionTemplate.identifier()).isEqualTo("two-parameters");
+        assertThatThrownBy(() -> actionTemplate.create(List.of(new TypeBasedParameterResolver<>(String.class, p -> ""))))
+            .isInstanceOf(ActionInstantiationFailureException.class)
+            .hasMessageContaining("two-parameters");
+    }
+
+    public static class LazyAction implements Action {
+
+        static {
+            LAZY_ACTION_INITIALIZED.set(true);
+        }
+
+        private final String value;
+
+        public LazyAction(@Input("value") String value) {
+            this.value = value;
+        }
+
+        @Override
+        public ActionExecutionResult execute() {
+            return ActionExecutionResult.ok("value", value);
+        }
+    }
+}
@@ -9,11 +9,14 @@ package com.chutneytesting.action.infra;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.chutneytesting.action.TestActionTemplateFactory.SleepAction;
 import com.chutneytesting.action.TestActionTemplateFactory.TestAction;
 import com.chutneytesting.action.TestActionTemplateFactory.TestAction3;
 import com.chutneytesting.action.domain.ActionInstantiationFailureException;
 import com.chutneytesting.action.domain.ActionTemplate;
 import com.chutneytesting.action.domain.ActionTemplateParser;
+import com.chutneytesting.action.domain.ActionTemplateParserV2;
+import com.chutneytesting.action.domain.IndexedActionTemplate;
 import com.chutneytesting.action.domain.ParsingError;
 import com.chutneytesting.action.domain.ResultOrError;
 import com.chutneytesting.action.domain.UnresolvableActionParameterException;
@@ -41,6 +44,29 @@ public class DefaultActionTemplateLoaderTest {
 
     }
 
+    @Test
+    public void load_indexed_actions_without_parsing_their_class() {
+        ExtensionIndex extensionIndex = new ExtensionIndex(
+            Set.of("action " + SleepAction.class.getName() + " duration:java.lang.String@duration"),
+            getClass().getClassLoader()
+        );
+        DefaultActionTemplateLoader<Action> actionTemplateLoader = new DefaultActionTemplateLoader<>(
+            "chutney.actions",
+            Action.class,
+            new ActionTemplateParserV2(),
+            extensionIndex);
+
+        List<ActionTemplate> actionTemplates = actionTemplateLoader.load();
+
+        assertThat(actionTemplates)
+            .extracting(ActionTemplate::identifier)
+            .containsExactlyInAnyOrder("success", "fail", "sleep", "complex", "context-put", "list");
+        assertThat(actionTemplates)
+            .filteredOn(actionTemplate -> actionTemplate instanceof IndexedActionTemplate)
+            .extracting(ActionTemplate::identifier)
+            .containsExactly("sleep");
+    }
+
     static class TestActionTemplateParser implements ActionTemplateParser<TestAction> {
 
         @Override
@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.action.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.action.TestActionTemplateFactory.SleepAction;
+import com.chutneytesting.action.domain.IndexedAction;
+import com.chutneytesting.action.domain.IndexedAction.IndexedParameter;
+import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.tools.TestFunctions;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class ExtensionIndexTest {
+
+    @Test
+    public void read_indexed_action_parameters() {
+        ExtensionIndex sut = index(
+            "action com.example.SomeAction target:com.chutneytesting.action.spi.injectable.Target timeout:int@timeout headers:[Ljava.lang.String;@headers body:java.util.Map@body@with@at"
+        );
+
+        IndexedAction indexedAction = sut.action("com.example.SomeAction").orElseThrow();
+
+        assertThat(indexedAction.className()).isEqualTo("com.example.SomeAction");
+        assertThat(indexedAction.parameters()).containsExactly(
+            new IndexedParameter("target", Target.class, null),
+            new IndexedParameter("timeout", int.class, "timeout"),
+            new IndexedParameter("headers", String[].class, "headers"),
+            new IndexedParameter("body", Map.class, "body@with@at")
+        );
+    }
+
+    @Test
+    public void ignore_action_not_indexed_or_not_resolvable() {
+        ExtensionIndex sut = index(
+            "action com.example.UnresolvableAction target:com.example.UnknownType",
+            "unknown com.example.Unknown"
+        );
+
+        assertThat(sut.action("com.example.UnresolvableAction")).isEmpty();
+        assertThat(sut.action(SleepAction.class.getName())).isEmpty();
+    }
+
+    @Test
+    public void read_indexed_functions() throws NoSuchMethodException {
+        ExtensionIndex sut = index(
+            "functions com.chutneytesting.tools.TestFunctions com.chutneytesting.tools.TestFunctions#randomID() com.chutneytesting.tools.TestFunctions#randomInt(int)",
+            "functions com.example.Functions com.example.Functions#unknown()"
+        );
+
+        assertThat(sut.functions(TestFunctions.class.getName())).hasValue(List.of(
+            TestFunctions.class.getDeclaredMethod("randomID"),
+            TestFunctions.class.getDeclaredMethod("randomInt", int.class)
+        ));
+        assertThat(sut.functions("com.example.Functions")).isEmpty();
+        assertThat(sut.functions("com.example.NotIndexed")).isEmpty();
+    }
+
+    private ExtensionIndex index(String... entries) {
+        return new ExtensionIndex(Set.of(entries), getClass().getClassLoader());
+    }
+}
@@ -8,9 +8,12 @@
 package com.chutneytesting.engine.api.execution;
 
 import static com.chutneytesting.engine.api.execution.HttpTestEngine.EXECUTION_URL;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,7 +23,11 @@ import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReportBuilder;
 import com.chutneytesting.tools.Jsons;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.rxjava3.core.Observable;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -28,6 +35,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -86,6 +94,101 @@ public class HttpTestEngineTest {
         verify(engine, times(1)).execute(any());
     }
 
+    @Test
+    public void controller_streams_execution_events_when_asked_for_ndjson() throws Exception {
+        TestEngine engine = mock(TestEngine.class);
+        MockMvc mvc = MockMvcBuilders
+            .standaloneSetup(new HttpTestEngine(engine))
+            .build();
+
+        StepExecutionReportBuilder reportBuilder = new StepExecutionReportBuilder()
+            .setName("test")
+            .setStartDate(Instant.now())
+            .setEvaluatedInputs(Map.of())
+            .setType("actionType");
+        StepExecutionReport runningReport = reportBuilder.setStatus(Status.RUNNING).setInformation(List.of("info")).createStepExecutionReport();
+        StepExecutionReport lastReport = reportBuilder.setStatus(Status.SUCCESS).createStepExecutionReport();
+        when(engine.executeAsync(any())).thenReturn(1L);
+        when(engine.receiveNotification(1L)).thenReturn(Observable.just(
+            StepExecutionReportMapper.toDto(runningReport),
+            StepExecutionReportMapper.toDto(lastReport)
+        ));
+
+        ExecutionRequestDto executionRequestDto = Jsons.loadJsonFromClasspath("scenarios_examples/simpleStep/scenario_sample_1.json", ExecutionRequestDto.class);
+        String body = Jsons.objectMapper().writeValueAsString(executionRequestDto);
+
+        MvcResult asyncResult = mvc
+            .perform(MockMvcRequestBuilders
+                .post(EXECUTION_URL)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .content(body)
+            )
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+        String content = mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        List<StepExecutionEventDto> events = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            events.add(objectMapper.readValue(line, StepExecutionEventDto.class));
+        }
+        assertThat(events).hasSize(3);
+        assertThat(events.get(0).status).isEqualTo(StatusDto.RUNNING);
+        assertThat(events.get(0).information).containsExactly("info");
+        assertThat(events.get(1).status).isEqualTo(StatusDto.SUCCESS);
+        assertThat(events.get(1).information).isEmpty();
+        assertThat(events.get(2).isFinalReport()).isTrue();
+        assertThat(events.get(2).report.status).isEqualTo(StatusDto.SUCCESS);
+        verify(engine, never()).execute(any());
+    }
+
+    @Test
+    public void controller_streams_execution_events_longer_than_default_async_timeout() throws Exception {
+        TestEngine engine = mock(TestEngine.class);
+        MockMvc mvc = MockMvcBuilders
+            .standaloneSetup(new HttpTestEngine(engine))
+            .setAsyncRequestTimeout(100)
+            .build();
+
+        StepExecutionReportBuilder reportBuilder = new StepExecutionReportBuilder()
+            .setName("test")
+            .setStartDate(Instant.now())
+            .setEvaluatedInputs(Map.of())
+            .setType("actionType");
+        StepExecutionReport runningReport = reportBuilder.setStatus(Status.RUNNING).createStepExecutionReport();
+        StepExecutionReport lastReport = reportBuilder.setStatus(Status.SUCCESS).createStepExecutionReport();
+        when(engine.executeAsync(any())).thenReturn(1L);
+        when(engine.receiveNotification(1L)).thenReturn(Observable.concat(
+            Observable.just(StepExecutionReportMapper.toDto(runningReport)),
+            Observable.just(StepExecutionReportMapper.toDto(lastReport)).delay(500, MILLISECONDS)
+        ));
+
+        ExecutionRequestDto executionRequestDto = Jsons.loadJsonFromClasspath("scenarios_examples/simpleStep/scenario_sample_1.json", ExecutionRequestDto.class);
+        String body = Jsons.objectMapper().writeValueAsString(executionRequestDto);
+
+        MvcResult asyncResult = mvc
+            .perform(MockMvcRequestBuilders
+                .post(EXECUTION_URL)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .content(body)
+            )
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+        String content = mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        StepExecutionEventDto lastEvent = objectMapper.readValue(content.substring(content.lastIndexOf('\n', content.length() - 2) + 1), StepExecutionEventDto.class);
+        assertThat(lastEvent.isFinalReport()).isTrue();
+        assertThat(lastEvent.report.status).isEqualTo(StatusDto.SUCCESS);
+    }
+
     @Test
     public void method_should_not_be_implemented_for_remote() {
         TestEngine engine = mock(TestEngine.class);
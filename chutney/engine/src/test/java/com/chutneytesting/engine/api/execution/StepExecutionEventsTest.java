@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.api.execution;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StepExecutionEventsTest {
+
+    @Test
+    void should_emit_an_event_for_each_step_of_first_report() {
+        StepExecutionReportDto report = report("root", StatusDto.RUNNING, List.of("root info"),
+            report("first", StatusDto.RUNNING, emptyList()),
+            report("second", StatusDto.NOT_EXECUTED, emptyList())
+        );
+
+        List<StepExecutionEventDto> events = StepExecutionEvents.between(null, report);
+
+        assertThat(events).extracting(e -> e.name).containsExactly("root", "first", "second");
+        assertThat(events).extracting(e -> e.path).containsExactly(List.of(), List.of(0), List.of(1));
+        assertThat(events.get(0).information).containsExactly("root info");
+    }
+
+    @Test
+    void should_emit_only_changed_steps_with_their_new_messages() {
+        StepExecutionReportDto previous = report("root", StatusDto.RUNNING, List.of("root info"),
+            report("first", StatusDto.RUNNING, List.of("first info")),
+            report("second", StatusDto.NOT_EXECUTED, emptyList())
+        );
+        StepExecutionReportDto current = report("root", StatusDto.RUNNING, List.of("root info"),
+            report("first", StatusDto.SUCCESS, List.of("first info", "other first info")),
+            report("second", StatusDto.NOT_EXECUTED, emptyList())
+        );
+
+        List<StepExecutionEventDto> events = StepExecutionEvents.between(previous, current);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).path).containsExactly(0);
+        assertThat(events.get(0).status).isEqualTo(StatusDto.SUCCESS);
+        assertThat(events.get(0).information).containsExactly("other first info");
+    }
+
+    @Test
+    void should_end_with_report_without_sub_steps() {
+        StepExecutionReportDto report = report("root", StatusDto.SUCCESS, emptyList(),
+            report("first", StatusDto.SUCCESS, emptyList())
+        );
+
+        StepExecutionEventDto last = StepExecutionEvents.last(report);
+
+        assertThat(last.isFinalReport()).isTrue();
+        assertThat(last.report.status).isEqualTo(StatusDto.SUCCESS);
+        assertThat(last.report.steps).isEmpty();
+    }
+
+    private static StepExecutionReportDto report(String name, StatusDto status, List<String> information, StepExecutionReportDto... steps) {
+        return new StepExecutionReportDto(name, "env", Instant.now(), 0L, status, information, emptyList(), List.of(steps),
+            new StepExecutionReportDto.StepContextDto(), "type", null, null, null);
+    }
+}
@@ -8,6 +8,7 @@
 package com.chutneytesting.engine.domain.delegation;
 
 import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -17,6 +18,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.chutneytesting.engine.domain.environment.TargetImpl;
+import com.chutneytesting.engine.domain.execution.ScenarioExecution;
 import com.chutneytesting.engine.domain.execution.StepDefinition;
 import com.chutneytesting.engine.domain.execution.engine.StepExecutor;
 import com.chutneytesting.engine.domain.execution.engine.evaluation.StepDataEvaluator;
@@ -27,6 +29,8 @@ import com.chutneytesting.engine.domain.execution.report.StepExecutionReportBuil
 import com.google.common.collect.Lists;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 
 public class RemoteStepExecutorTest {
@@ -46,7 +50,7 @@ public class RemoteStepExecutorTest {
         DelegationClient mockHttpClient = mock(DelegationClient.class);
         Step mockStep = mock(Step.class);
         NamedHostAndPort mockDelegate = mock(NamedHostAndPort.class);
-        when(mockHttpClient.handDown(any(), any()))
+        when(mockHttpClient.handDown(any(), any(), any()))
             .thenReturn(fakeRemoteReport);
 
         // When
@@ -65,7 +69,7 @@ public class RemoteStepExecutorTest {
         DelegationClient mockHttpClient = mock(DelegationClient.class);
         NamedHostAndPort mockDelegate = mock(NamedHostAndPort.class);
 
-        when(mockHttpClient.handDown(any(), any()))
+        when(mockHttpClient.handDown(any(), any(), any()))
             .thenReturn(mockStepExecutionReport);
 
         RemoteStepExecutor remoteStepExecutor = new RemoteStepExecutor(mockHttpClient, mockDelegate);
@@ -91,7 +95,7 @@ public class RemoteStepExecutorTest {
         Step step = new Step(mock(StepDataEvaluator.class), mock(StepDefinition.class), mock(StepExecutor.class), emptyList());
         Step spyCurrentStep = spy(step);
         NamedHostAndPort mockDelegate = mock(NamedHostAndPort.class);
-        when(mockHttpClient.handDown(any(), any()))
+        when(mockHttpClient.handDown(any(), any(), any()))
             .thenReturn(fakeRemoteReport);
 
         // When
@@ -105,4 +109,37 @@ public class RemoteStepExecutorTest {
         );
     }
 
+    @Test
+    public void should_report_delegated_steps_progress_on_step() {
+
+        // Given
+        StepExecutionReport fakeRemoteReport = new StepExecutionReportBuilder().setName("name")
+            .setStartDate(Instant.now())
+            .setStatus(Status.FAILURE)
+            .setEvaluatedInputs(Collections.emptyMap())
+            .setScenarioContext(Collections.emptyMap())
+            .setStepResults(Collections.emptyMap())
+            .createStepExecutionReport();
+
+        DelegationClient mockHttpClient = mock(DelegationClient.class);
+        Step step = new Step(mock(StepDataEvaluator.class), mock(StepDefinition.class), mock(StepExecutor.class), emptyList());
+        NamedHostAndPort mockDelegate = mock(NamedHostAndPort.class);
+        when(mockHttpClient.handDown(any(), any(), any()))
+            .thenAnswer(invocation -> {
+                Consumer<DelegatedStepEvent> eventListener = invocation.getArgument(2);
+                eventListener.accept(new DelegatedStepEvent(List.of(), "name", Status.RUNNING, List.of("remote info"), emptyList()));
+                eventListener.accept(new DelegatedStepEvent(List.of(0), "sub step", Status.RUNNING, emptyList(), emptyList()));
+                eventListener.accept(new DelegatedStepEvent(List.of(0), "sub step", Status.FAILURE, emptyList(), List.of("remote error")));
+                return fakeRemoteReport;
+            });
+
+        // When
+        RemoteStepExecutor remoteStepExecutor = new RemoteStepExecutor(mockHttpClient, mockDelegate);
+        remoteStepExecutor.execute(ScenarioExecution.createScenarioExecution(null), mock(TargetImpl.class), step);
+
+        // Then
+        assertThat(step.informations()).containsExactly("remote info", "[sub step] FAILURE");
+        assertThat(step.errors()).containsExactly("[sub step] remote error");
+    }
+
 }
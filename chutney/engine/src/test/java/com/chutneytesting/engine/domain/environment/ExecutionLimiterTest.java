@@ -0,0 +1,180 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.environment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.tools.ExecutionLimits;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class ExecutionLimiterTest {
+
+    private final ExecutionLimiter sut = new ExecutionLimiter();
+    private final List<String> admitted = new ArrayList<>();
+    private final Map<String, ExecutionLimiter.Permit> permits = new HashMap<>();
+
+    @Test
+    public void should_queue_executions_beyond_concurrency_limit_and_admit_them_in_arrival_order() {
+        // Given
+        Map<String, ExecutionLimits> limits = Map.of("env/target", concurrency(1));
+
+        // When
+        admit("A", limits);
+        admit("B", limits);
+        admit("C", limits);
+
+        // Then
+        assertThat(admitted).containsExactly("A");
+
+        permits.get("A").release();
+        assertThat(admitted).containsExactly("A", "B");
+
+        permits.get("B").release();
+        assertThat(admitted).containsExactly("A", "B", "C");
+    }
+
+    @Test
+    public void should_keep_permits_held_when_limits_change() {
+        // Given
+        admit("A", Map.of("env/target", concurrency(2)));
+        admit("B", Map.of("env/target", concurrency(2)));
+
+        // When
+        admit("C", Map.of("env/target", concurrency(3)));
+        admit("D", Map.of("env/target", concurrency(1)));
+
+        // Then
+        assertThat(admitted).containsExactly("A", "B", "C");
+
+        permits.get("A").release();
+        permits.get("B").release();
+        assertThat(admitted).containsExactly("A", "B", "C");
+
+        permits.get("C").release();
+        assertThat(admitted).containsExactly("A", "B", "C", "D");
+    }
+
+    @Test
+    public void should_admit_waiting_executions_when_limit_is_raised() {
+        // Given
+        admit("A", Map.of("env", concurrency(1)));
+        admit("B", Map.of("env", concurrency(1)));
+
+        // When
+        admit("C", Map.of("env", concurrency(3)));
+
+        // Then
+        assertThat(admitted).containsExactly("A", "B", "C");
+    }
+
+    @Test
+    public void should_hold_a_permit_of_each_limit() {
+        // Given
+        Map<String, ExecutionLimits> limits = Map.of("env", concurrency(2), "env/target", concurrency(1));
+        admit("A", limits);
+
+        // When
+        admit("B", limits);
+        admit("C", Map.of("env", concurrency(2)));
+
+        // Then
+        assertThat(admitted).containsExactly("A");
+
+        permits.get("A").release();
+        assertThat(admitted).containsExactly("A", "B", "C");
+    }
+
+    @Test
+    public void should_release_taken_permits_when_waiting_execution_is_cancelled() {
+        // Given
+        admit("A", Map.of("env/target", concurrency(1)));
+        ExecutionLimiter.Admission waiting = admit("B", Map.of("env", concurrency(1), "env/target", concurrency(1)));
+        admit("C", Map.of("env", concurrency(1)));
+        assertThat(admitted).containsExactly("A");
+
+        // When
+        boolean cancelled = waiting.cancel();
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(admitted).containsExactly("A", "C");
+
+        permits.get("A").release();
+        assertThat(admitted).containsExactly("A", "C");
+    }
+
+    @Test
+    public void should_not_cancel_admitted_execution() {
+        // Given
+        ExecutionLimiter.Admission admission = admit("A", Map.of("env", concurrency(1)));
+
+        // When
+        boolean cancelled = admission.cancel();
+
+        // Then
+        assertThat(cancelled).isFalse();
+        admit("B", Map.of("env", concurrency(1)));
+        assertThat(admitted).containsExactly("A");
+    }
+
+    @Test
+    public void should_reserve_rate_tokens_ahead_without_waiting() {
+        // Given
+        ExecutionLimits limits = new ExecutionLimits(null, 10.0);
+
+        // When
+        long start = System.nanoTime();
+        List<Duration> waits = IntStream.range(0, 4)
+            .mapToObj(i -> sut.reserveRate("env/target", limits))
+            .toList();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(100);
+        assertThat(waits.get(0)).isZero();
+        assertThat(waits.get(3)).isBetween(Duration.ofMillis(200), Duration.ofMillis(300));
+    }
+
+    @Test
+    public void should_drop_limits_once_idle() throws InterruptedException {
+        // Given
+        admit("A", Map.of("env", concurrency(1), "env/target", concurrency(1)));
+        sut.reserveRate("env/rated", new ExecutionLimits(null, 1000.0));
+        sut.reserveRate("env/rated", new ExecutionLimits(null, 1000.0));
+        assertThat(sut.size()).isEqualTo(3);
+
+        // When
+        permits.get("A").release();
+        TimeUnit.MILLISECONDS.sleep(10);
+        sut.reserveRate("env/other", new ExecutionLimits(null, 1000.0));
+
+        // Then
+        assertThat(sut.size()).isEqualTo(1);
+        admit("B", Map.of("env/target", concurrency(2)));
+        admit("C", Map.of("env/target", concurrency(2)));
+        assertThat(admitted).containsExactly("A", "B", "C");
+    }
+
+    private ExecutionLimiter.Admission admit(String execution, Map<String, ExecutionLimits> limits) {
+        return sut.admit(limits, permit -> {
+            admitted.add(execution);
+            permits.put(execution, permit);
+        });
+    }
+
+    private static ExecutionLimits concurrency(int maxConcurrentExecutions) {
+        return new ExecutionLimits(maxConcurrentExecutions, null);
+    }
+}
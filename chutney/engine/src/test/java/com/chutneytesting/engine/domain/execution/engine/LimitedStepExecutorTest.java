@@ -0,0 +1,216 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.execution.engine;
+
+import static com.chutneytesting.engine.domain.execution.ScenarioExecution.createScenarioExecution;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.engine.domain.environment.ExecutionLimiter;
+import com.chutneytesting.engine.domain.environment.TargetImpl;
+import com.chutneytesting.engine.domain.execution.RxBus;
+import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
+import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.tools.ExecutionLimits;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class LimitedStepExecutorTest {
+
+    private final ExecutionLimiter executionLimiter = new ExecutionLimiter();
+
+    @Test
+    public void should_bound_executions_rate_on_a_target() {
+        // Given
+        StepExecutor delegate = mock(StepExecutor.class);
+        TargetImpl target = target(Map.of("maxExecutionsPerSecond", "10"));
+        LimitedStepExecutor sut = new LimitedStepExecutor(delegate, executionLimiter, new Environment("env"));
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            sut.execute(mock(ScenarioExecution.class), target, actionStep());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        verify(delegate, times(4)).execute(any(), any(), any());
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(250);
+    }
+
+    @Test
+    public void should_bound_executions_rate_on_an_environment() {
+        // Given
+        StepExecutor delegate = mock(StepExecutor.class);
+        LimitedStepExecutor sut = new LimitedStepExecutor(delegate, executionLimiter, new Environment("env", Map.of("maxExecutionsPerSecond", "10")));
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            TargetImpl target = TargetImpl.builder().withName("target" + i).withUrl("http://host" + i).build();
+            sut.execute(mock(ScenarioExecution.class), target, actionStep());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        verify(delegate, times(4)).execute(any(), any(), any());
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(250);
+    }
+
+    @Test
+    public void should_fail_step_when_stop_is_requested_while_waiting_for_rate() {
+        // Given
+        StepExecutor delegate = mock(StepExecutor.class);
+        TargetImpl target = target(Map.of("maxExecutionsPerSecond", "0.1"));
+        LimitedStepExecutor sut = new LimitedStepExecutor(delegate, executionLimiter, new Environment("env"));
+        executionLimiter.reserveRate("env/fragile", new ExecutionLimits(null, 0.1));
+        ScenarioExecution execution = createScenarioExecution(null);
+        Step waitingStep = actionStep();
+
+        // When
+        long start = System.nanoTime();
+        stopLater(execution);
+        sut.execute(execution, target, waitingStep);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        verify(waitingStep).failure(anyString());
+        verify(delegate, never()).execute(any(), any(), any());
+        assertThat(elapsedMillis).isLessThan(5000);
+    }
+
+    @Test
+    public void should_hold_a_concurrency_permit_while_the_step_executes() throws Exception {
+        // Given
+        CountDownLatch firstStepStarted = new CountDownLatch(1);
+        CountDownLatch firstStepEnd = new CountDownLatch(1);
+        AtomicInteger executedSteps = new AtomicInteger();
+        StepExecutor delegate = mock(StepExecutor.class);
+        doAnswer(invocation -> {
+            if (executedSteps.incrementAndGet() == 1) {
+                firstStepStarted.countDown();
+                firstStepEnd.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(delegate).execute(any(), any(), any());
+        TargetImpl target = target(Map.of("maxConcurrentExecutions", "1"));
+        LimitedStepExecutor sut = new LimitedStepExecutor(delegate, executionLimiter, new Environment("env"));
+        ExecutorService scenarios = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<?> firstStep = scenarios.submit(() -> sut.execute(mock(ScenarioExecution.class), target, actionStep()));
+            assertThat(firstStepStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<?> secondStep = scenarios.submit(() -> sut.execute(mock(ScenarioExecution.class), target, actionStep()));
+
+            // Then
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertThat(executedSteps).hasValue(1);
+
+            firstStepEnd.countDown();
+            firstStep.get(5, TimeUnit.SECONDS);
+            secondStep.get(5, TimeUnit.SECONDS);
+            assertThat(executedSteps).hasValue(2);
+        } finally {
+            scenarios.shutdownNow();
+        }
+    }
+
+    @Test
+    public void should_fail_step_when_stop_is_requested_while_waiting_for_concurrency_permit() {
+        // Given
+        StepExecutor delegate = mock(StepExecutor.class);
+        TargetImpl target = target(Map.of("maxConcurrentExecutions", "1"));
+        LimitedStepExecutor sut = new LimitedStepExecutor(delegate, executionLimiter, new Environment("env"));
+        List<ExecutionLimiter.Permit> permits = new ArrayList<>();
+        executionLimiter.admit(Map.of("env/fragile", new ExecutionLimits(1, null)), permits::add);
+        ScenarioExecution execution = createScenarioExecution(null);
+        Step waitingStep = actionStep();
+
+        // When
+        stopLater(execution);
+        sut.execute(execution, target, waitingStep);
+
+        // Then
+        verify(waitingStep).failure(anyString());
+        verify(delegate, never()).execute(any(), any(), any());
+
+        permits.get(0).release();
+        sut.execute(mock(ScenarioExecution.class), target, actionStep());
+        verify(delegate).execute(any(), any(), any());
+    }
+
+    @Test
+    public void should_not_limit_steps_without_action_or_target() {
+        // Given
+        StepExecutor delegate = mock(StepExecutor.class);
+        LimitedStepExecutor sut = new LimitedStepExecutor(delegate, executionLimiter, new Environment("env", Map.of("maxExecutionsPerSecond", "0.1")));
+        Step parentStep = mock(Step.class);
+        when(parentStep.type()).thenReturn("");
+
+        // When
+        sut.execute(mock(ScenarioExecution.class), TargetImpl.NONE, actionStep());
+        sut.execute(mock(ScenarioExecution.class), target(emptyMap()), parentStep);
+
+        // Then
+        verify(delegate, times(2)).execute(any(), any(), any());
+    }
+
+    @Test
+    public void should_ignore_invalid_limits() {
+        // Given
+        StepExecutor delegate = mock(StepExecutor.class);
+        TargetImpl target = target(Map.of("maxConcurrentExecutions", "-1", "maxExecutionsPerSecond", "a lot"));
+        LimitedStepExecutor sut = new LimitedStepExecutor(delegate, executionLimiter, new Environment("env"));
+
+        // When
+        sut.execute(mock(ScenarioExecution.class), target, actionStep());
+
+        // Then
+        verify(delegate).execute(any(), any(), any());
+    }
+
+    private static void stopLater(ScenarioExecution execution) {
+        CompletableFuture.runAsync(
+            () -> RxBus.getInstance().post(new StopExecutionCommand(execution.executionId)),
+            CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)
+        );
+    }
+
+    private static TargetImpl target(Map<String, String> properties) {
+        return TargetImpl.builder()
+            .withName("fragile")
+            .withUrl("http://fragile:8080")
+            .withProperties(properties)
+            .build();
+    }
+
+    private static Step actionStep() {
+        Step step = mock(Step.class);
+        when(step.type()).thenReturn("http-get");
+        return step;
+    }
+}
@@ -8,6 +8,8 @@
 package com.chutneytesting.engine.domain.execution.engine.step;
 
 import static com.chutneytesting.engine.api.execution.StatusDto.SUCCESS;
+import static com.chutneytesting.engine.domain.instrument.EnginePhase.CONTEXT_SNAPSHOT;
+import static com.chutneytesting.engine.domain.instrument.EnginePhase.SPEL_EVALUATION;
 import static com.chutneytesting.tools.WaitUtils.awaitDuring;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -45,11 +47,15 @@ import com.chutneytesting.engine.domain.execution.event.EndStepExecutionEvent;
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReportBuilder;
+import com.chutneytesting.engine.domain.instrument.EngineInstrumentation;
+import com.chutneytesting.engine.domain.instrument.EnginePhase;
 import com.chutneytesting.engine.infrastructure.delegation.HttpClient;
 import com.chutneytesting.tools.Jsons;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
@@ -150,6 +156,34 @@ public class StepTest {
         assertThat(state.informations().get(0)).isEqualTo("Validation [second assert : ${true}] : OK");
     }
 
+    @Test
+    public void should_time_evaluations_and_context_snapshot_of_instrumented_execution() {
+        // Given
+        StepExecutor stepExecutor = new FakeStepExecutor(ActionExecutionResult.ok());
+        List<String> timedPhases = new ArrayList<>();
+        EngineInstrumentation instrumentation = EngineInstrumentation.enabled((phase, actionType, strategy, durationNanos) -> {
+            assertThat(actionType).isEqualTo("actionType");
+            assertThat(durationNanos).isNotNegative();
+            timedPhases.add(phase.name());
+        });
+
+        StepDefinition fakeStepDefinition = new StepDefinition("fakeScenario", fakeTarget, "actionType", null, Map.of("input", "${1 + 1}"), null, Map.of("output", "${2}"), Map.of("assert", "${true}"));
+        Step step = new Step(dataEvaluator, fakeStepDefinition, stepExecutor, emptyList());
+        ScenarioExecution execution = ScenarioExecution.createScenarioExecution(null, instrumentation.newExecutionTimings());
+
+        // When
+        step.execute(execution, new ScenarioContextImpl());
+
+        // Then
+        assertThat(timedPhases).containsExactly(
+            SPEL_EVALUATION.name(), // inputs
+            SPEL_EVALUATION.name(), // outputs
+            SPEL_EVALUATION.name(), // validations
+            CONTEXT_SNAPSHOT.name()
+        );
+        assertThat(execution.timings().totals()).containsOnlyKeys(Stream.of(EnginePhase.values()).map(Enum::name).toList());
+    }
+
     @Test
     public void validations_should_set_failure_state() {
         // Given
@@ -214,7 +248,7 @@ public class StepTest {
             .setStatus(Status.SUCCESS)
             .setStepResults(fakeStepResults)
             .createStepExecutionReport();
-        when(mockHttpClient.handDown(any(), any()))
+        when(mockHttpClient.handDown(any(), any(), any()))
             .thenReturn(fakeRemoteReport);
 
         StepExecutor fakeRemoteStepExecutor = new RemoteStepExecutor(mockHttpClient, mock(NamedHostAndPort.class));
@@ -440,7 +474,7 @@ public class StepTest {
             .setDuration(42L)
             .setStatus(remoteStatus)
             .createStepExecutionReport();
-        when(mockHttpClient.handDown(any(), any()))
+        when(mockHttpClient.handDown(any(), any(), any()))
             .thenReturn(fakeRemoteReport);
 
         StepExecutor fakeRemoteStepExecutor = new RemoteStepExecutor(mockHttpClient, mock(NamedHostAndPort.class));
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.domain.instrument;
+
+import static com.chutneytesting.engine.domain.instrument.EnginePhase.ACTION_INSTANTIATION;
+import static com.chutneytesting.engine.domain.instrument.EnginePhase.SPEL_EVALUATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class PhaseTimingsTest {
+
+    @Test
+    public void disabled_timings_should_neither_read_clock_nor_record() {
+        PhaseTimings sut = EngineInstrumentation.DISABLED.newExecutionTimings();
+
+        long start = sut.start();
+        sut.stop(SPEL_EVALUATION, "actionType", null, start);
+
+        assertThat(sut).isSameAs(PhaseTimings.DISABLED);
+        assertThat(sut.isEnabled()).isFalse();
+        assertThat(start).isZero();
+        assertThat(sut.totals()).isNull();
+    }
+
+    @Test
+    public void enabled_timings_should_sum_phases_durations_and_notify_listeners() {
+        List<String> notified = new ArrayList<>();
+        PhaseListener listener = (phase, actionType, strategy, durationNanos) -> notified.add(phase + "/" + actionType + "/" + strategy);
+        PhaseTimings sut = EngineInstrumentation.enabled(listener, listener).newExecutionTimings();
+
+        sut.stop(SPEL_EVALUATION, "http-get", "retry-with-timeout", sut.start() - TimeUnit.MICROSECONDS.toNanos(10));
+        sut.stop(SPEL_EVALUATION, "http-get", null, sut.start() - TimeUnit.MICROSECONDS.toNanos(20));
+        sut.stop(ACTION_INSTANTIATION, "http-get", null, sut.start() - TimeUnit.MICROSECONDS.toNanos(5));
+
+        assertThat(notified).containsExactly(
+            "SPEL_EVALUATION/http-get/retry-with-timeout", "SPEL_EVALUATION/http-get/retry-with-timeout",
+            "SPEL_EVALUATION/http-get/null", "SPEL_EVALUATION/http-get/null",
+            "ACTION_INSTANTIATION/http-get/null", "ACTION_INSTANTIATION/http-get/null"
+        );
+        assertThat(sut.totals())
+            .containsOnlyKeys("SPEL_EVALUATION", "ACTION_INSTANTIATION", "CONTEXT_SNAPSHOT", "REPORT_BUILDING")
+            .containsEntry("CONTEXT_SNAPSHOT", 0L)
+            .containsEntry("REPORT_BUILDING", 0L)
+            .hasEntrySatisfying("SPEL_EVALUATION", total -> assertThat(total).isGreaterThanOrEqualTo(30L))
+            .hasEntrySatisfying("ACTION_INSTANTIATION", total -> assertThat(total).isGreaterThanOrEqualTo(5L));
+    }
+
+    @Test
+    public void each_execution_should_have_its_own_totals() {
+        EngineInstrumentation instrumentation = EngineInstrumentation.enabled();
+        PhaseTimings first = instrumentation.newExecutionTimings();
+        PhaseTimings second = instrumentation.newExecutionTimings();
+
+        first.stop(SPEL_EVALUATION, null, null, first.start() - TimeUnit.MICROSECONDS.toNanos(10));
+
+        assertThat(first.totals().get("SPEL_EVALUATION")).isGreaterThanOrEqualTo(10L);
+        assertThat(second.totals().get("SPEL_EVALUATION")).isZero();
+    }
+}
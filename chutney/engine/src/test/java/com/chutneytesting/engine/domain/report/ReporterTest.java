@@ -29,6 +29,8 @@ import com.chutneytesting.engine.domain.execution.event.EndScenarioExecutionEven
 import com.chutneytesting.engine.domain.execution.event.StartScenarioExecutionEvent;
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import com.chutneytesting.engine.domain.instrument.EngineInstrumentation;
+import com.chutneytesting.engine.domain.instrument.EnginePhase;
 import io.reactivex.rxjava3.observers.TestObserver;
 import java.util.ArrayList;
 import java.util.List;
@@ -180,6 +182,34 @@ public class ReporterTest {
         assertThat(step.status()).isEqualTo(SUCCESS);
     }
 
+    @Test
+    public void should_time_report_building_and_give_totals_on_root_report_of_instrumented_execution() {
+        List<EnginePhase> timedPhases = new ArrayList<>();
+        EngineInstrumentation instrumentation = EngineInstrumentation.enabled((phase, actionType, strategy, durationNanos) -> timedPhases.add(phase));
+        scenarioExecution = ScenarioExecution.createScenarioExecution(null, instrumentation.newExecutionTimings());
+        sut.createPublisher(scenarioExecution.executionId, step);
+        TestObserver<StepExecutionReport> observer = sut.subscribeOnExecution(scenarioExecution.executionId).test();
+
+        executeFakeScenarioSuccess();
+
+        observer.awaitDone(5, SECONDS).assertComplete();
+        StepExecutionReport lastReport = observer.values().get(observer.values().size() - 1);
+        assertThat(lastReport.phaseTimings).containsOnlyKeys("SPEL_EVALUATION", "ACTION_INSTANTIATION", "CONTEXT_SNAPSHOT", "REPORT_BUILDING");
+        assertThat(lastReport.steps).allSatisfy(subStep -> assertThat(subStep.phaseTimings).isNull());
+        assertThat(timedPhases).hasSize(observer.values().size()).containsOnly(EnginePhase.REPORT_BUILDING);
+    }
+
+    @Test
+    public void should_not_give_timings_of_not_instrumented_execution() {
+        sut.createPublisher(scenarioExecution.executionId, step);
+        TestObserver<StepExecutionReport> observer = sut.subscribeOnExecution(scenarioExecution.executionId).test();
+
+        executeFakeScenarioSuccess();
+
+        observer.awaitDone(5, SECONDS).assertComplete();
+        assertThat(observer.values()).allSatisfy(report -> assertThat(report.phaseTimings).isNull());
+    }
+
     private Step buildFakeScenario() {
         List<StepDefinition> subSubSteps = new ArrayList<>();
         StepDefinition subSubStepDef1 = new StepDefinition("fakeStep1", fakeTarget, "actionType", null, null, null, null, null);
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.infrastructure.delegation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.engine.domain.delegation.NamedHostAndPort;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AgentCircuitBreakerTest {
+
+    private final NamedHostAndPort agent = new NamedHostAndPort("agent", "host", 1234);
+    private final NamedHostAndPort otherAgent = new NamedHostAndPort("other", "host", 4321);
+
+    @Test
+    void should_reject_requests_after_consecutive_failures() {
+        AgentCircuitBreaker sut = new AgentCircuitBreaker(2, Duration.ofMinutes(1));
+
+        sut.onFailure(agent);
+        assertThat(sut.allowRequest(agent)).isTrue();
+
+        sut.onFailure(agent);
+        assertThat(sut.allowRequest(agent)).isFalse();
+        assertThat(sut.allowRequest(otherAgent)).isTrue();
+    }
+
+    @Test
+    void should_reset_failures_on_success() {
+        AgentCircuitBreaker sut = new AgentCircuitBreaker(2, Duration.ofMinutes(1));
+
+        sut.onFailure(agent);
+        sut.onSuccess(agent);
+        sut.onFailure(agent);
+
+        assertThat(sut.allowRequest(agent)).isTrue();
+    }
+
+    @Test
+    void should_let_a_single_request_through_once_open_duration_elapsed() {
+        AgentCircuitBreaker sut = new AgentCircuitBreaker(1, Duration.ZERO);
+        sut.onFailure(agent);
+
+        assertThat(sut.allowRequest(agent)).isTrue();
+        assertThat(sut.allowRequest(agent)).isFalse();
+
+        sut.onSuccess(agent);
+        assertThat(sut.allowRequest(agent)).isTrue();
+        assertThat(sut.allowRequest(agent)).isTrue();
+    }
+
+    @Test
+    void should_open_again_when_trial_request_fails() {
+        AgentCircuitBreaker sut = new AgentCircuitBreaker(1, Duration.ofMinutes(1));
+        sut.onFailure(agent);
+
+        sut.onFailure(agent);
+
+        assertThat(sut.allowRequest(agent)).isFalse();
+    }
+}
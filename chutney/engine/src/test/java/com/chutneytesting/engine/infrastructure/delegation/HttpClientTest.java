@@ -10,6 +10,7 @@ package com.chutneytesting.engine.infrastructure.delegation;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static java.util.Optional.ofNullable;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -17,12 +18,15 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.chutneytesting.engine.api.execution.StatusDto;
+import com.chutneytesting.engine.api.execution.StepExecutionEventDto;
 import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
 import com.chutneytesting.engine.domain.delegation.CannotDelegateException;
+import com.chutneytesting.engine.domain.delegation.DelegatedStepEvent;
 import com.chutneytesting.engine.domain.delegation.NamedHostAndPort;
 import com.chutneytesting.engine.domain.environment.TargetImpl;
 import com.chutneytesting.engine.domain.execution.StepDefinition;
 import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
 import com.chutneytesting.engine.domain.execution.strategies.StepStrategyDefinition;
 import com.chutneytesting.engine.domain.execution.strategies.StrategyProperties;
@@ -33,17 +37,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import java.net.Socket;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
 import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,6 +61,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpServerErrorException;
 
 public class HttpClientTest {
 
@@ -61,12 +71,6 @@ public class HttpClientTest {
             .httpsPort(SocketUtils.findAvailableTcpPort())
     );
 
-    static {
-        //for localhost testing only
-        javax.net.ssl.HttpsURLConnection.setDefaultHostnameVerifier(
-            (hostname, sslSession) -> "localhost".equals(hostname));
-    }
-
     @BeforeEach
     public void setUp() {
         server.start();
@@ -108,16 +112,101 @@ public class HttpClientTest {
         assertThat(report).isNotNull();
     }
 
+    @Test
+    public void should_notify_streamed_events_before_returning_final_report() throws JsonProcessingException {
+        //G
+        Step step = mock(Step.class);
+        when(step.definition()).thenReturn(createFakeStepDefinition());
+        when(step.getScenarioContext()).thenReturn(Map.of("environment", "test"));
+        NamedHostAndPort remoteHost = new NamedHostAndPort("name", "localhost", server.httpsPort());
+        StepExecutionReportDto dto = createStepExecutionReportDto();
+        String stream = objectMapper().writeValueAsString(new StepExecutionEventDto(List.of(), "name", StatusDto.RUNNING, List.of("info"), List.of())) + "\n"
+            + objectMapper().writeValueAsString(new StepExecutionEventDto(List.of(0), "sub step", StatusDto.SUCCESS, List.of(), List.of())) + "\n"
+            + objectMapper().writeValueAsString(new StepExecutionEventDto(dto)) + "\n";
+
+        server.stubFor(any(anyUrl())
+            .withHeader(HttpHeaders.ACCEPT, containing(MediaType.APPLICATION_NDJSON_VALUE))
+            .willReturn(aResponse()
+                .withBody(stream)
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                .withStatus(200)));
+
+        //W
+        List<DelegatedStepEvent> events = new ArrayList<>();
+        HttpClient client = new HttpClient();
+        StepExecutionReport report = client.handDown(step, remoteHost, events::add);
+
+        //T
+        assertThat(events).extracting(DelegatedStepEvent::stepName).containsExactly("name", "sub step");
+        assertThat(events.get(0).information()).containsExactly("info");
+        assertThat(events.get(1).path()).containsExactly(0);
+        assertThat(report.status).isEqualTo(Status.NOT_EXECUTED);
+    }
+
     @Test
     public void should_throw_exception_if_delegate_not_reachable() {
         //G
-        NamedHostAndPort remoteHost = new NamedHostAndPort("name", "unknowhost", 0);
+        Step step = mock(Step.class);
+        when(step.definition()).thenReturn(createFakeStepDefinition());
+        NamedHostAndPort remoteHost = new NamedHostAndPort("name", "unknowhost", SocketUtils.findAvailableTcpPort());
 
         //W + T
         HttpClient client = new HttpClient();
         Assertions.assertThatExceptionOfType(CannotDelegateException.class)
-            .isThrownBy(() -> client.handDown(null, remoteHost));
+            .isThrownBy(() -> client.handDown(step, remoteHost));
+
+    }
+
+    @Test
+    public void should_stop_calling_unreachable_delegate() {
+        //G
+        Step step = mock(Step.class);
+        when(step.definition()).thenReturn(createFakeStepDefinition());
+        NamedHostAndPort remoteHost = new NamedHostAndPort("name", "localhost", SocketUtils.findAvailableTcpPort());
+        HttpClient client = new HttpClient(null, null, new AgentCircuitBreaker(1, Duration.ofMinutes(1)));
+        Assertions.assertThatExceptionOfType(CannotDelegateException.class)
+            .isThrownBy(() -> client.handDown(step, remoteHost));
 
+        //W + T
+        Assertions.assertThatExceptionOfType(CannotDelegateException.class)
+            .isThrownBy(() -> client.handDown(step, remoteHost))
+            .withMessageContaining("suspended")
+            .withNoCause();
+    }
+
+    @Test
+    public void should_reopen_circuit_when_probing_delegation_fails_and_close_it_when_it_succeeds() throws Exception {
+        //G
+        Step step = mock(Step.class);
+        when(step.definition()).thenReturn(createFakeStepDefinition());
+        when(step.getScenarioContext()).thenReturn(Map.of("environment", "test"));
+        NamedHostAndPort remoteHost = new NamedHostAndPort("name", "localhost", server.httpsPort());
+        HttpClient client = new HttpClient(null, null, new AgentCircuitBreaker(1, Duration.ofMillis(200)));
+        server.stubFor(any(anyUrl()).willReturn(aResponse().withStatus(500)));
+        Assertions.assertThatExceptionOfType(HttpServerErrorException.class)
+            .isThrownBy(() -> client.handDown(step, remoteHost));
+
+        //W
+        Thread.sleep(300);
+        Assertions.assertThatExceptionOfType(HttpServerErrorException.class)
+            .isThrownBy(() -> client.handDown(step, remoteHost));
+
+        //T
+        Assertions.assertThatExceptionOfType(CannotDelegateException.class)
+            .isThrownBy(() -> client.handDown(step, remoteHost))
+            .withMessageContaining("suspended");
+
+        //W
+        server.stubFor(any(anyUrl())
+            .willReturn(aResponse()
+                .withBody(objectMapper().writeValueAsString(createStepExecutionReportDto()))
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withStatus(200)));
+        Thread.sleep(300);
+
+        //T
+        assertThat(client.handDown(step, remoteHost)).isNotNull();
+        assertThat(client.handDown(step, remoteHost)).isNotNull();
     }
 
     private StepExecutionReportDto createStepExecutionReportDto() {
@@ -171,8 +260,8 @@ public class HttpClientTest {
         }
     }
 
-    private static class TrustAllX509TrustManager implements X509TrustManager {
-        static final X509TrustManager INSTANCE = new TrustAllX509TrustManager();
+    private static class TrustAllX509TrustManager extends X509ExtendedTrustManager {
+        static final X509ExtendedTrustManager INSTANCE = new TrustAllX509TrustManager();
 
         @Override
         public void checkClientTrusted(X509Certificate[] chain, String authType)
@@ -184,6 +273,22 @@ public class HttpClientTest {
             throws CertificateException {
         }
 
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+        }
+
         @Override
         public X509Certificate[] getAcceptedIssuers() {
             return new X509Certificate[0];
@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.engine.infrastructure.instrument;
+
+import static com.chutneytesting.engine.domain.instrument.EnginePhase.SPEL_EVALUATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JfrPhaseListenerTest {
+
+    private final JfrPhaseListener sut = new JfrPhaseListener();
+
+    @Test
+    public void should_commit_engine_phase_events_when_enabled_in_recording(@TempDir Path tempDir) throws Exception {
+        Path recordingFile = tempDir.resolve("engine.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("chutney.EnginePhase");
+            recording.start();
+            sut.onPhaseEnd(SPEL_EVALUATION, "http-get", "retry-with-timeout", 1500);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        assertThat(RecordingFile.readAllEvents(recordingFile))
+            .filteredOn(event -> event.getEventType().getName().equals("chutney.EnginePhase"))
+            .singleElement()
+            .satisfies(event -> {
+                assertThat(event.getString("phase")).isEqualTo("SPEL_EVALUATION");
+                assertThat(event.getString("actionType")).isEqualTo("http-get");
+                assertThat(event.getString("strategy")).isEqualTo("retry-with-timeout");
+                assertThat(event.getDuration("phaseDuration")).isEqualTo(Duration.ofNanos(1500));
+            });
+    }
+}
@@ -17,10 +17,10 @@ import com.chutneytesting.environment.infra.JsonFilesEnvironmentRepository;
 import com.chutneytesting.server.core.domain.environment.UpdateEnvironmentHandler;
 import java.util.List;
 
-public class EnvironmentConfiguration {
+public class EnvironmentConfiguration implements AutoCloseable {
 
     public static final String DEFAULT_ENV_NAME = "DEFAULT";
-    private final EnvironmentRepository environmentRepository;
+    private final JsonFilesEnvironmentRepository environmentRepository;
     private final EmbeddedEnvironmentApi environmentApi;
     private final EmbeddedTargetApi targetApi;
     private final EmbeddedVariableApi variableApi;
@@ -45,7 +45,7 @@ public class EnvironmentConfiguration {
         }
     }
 
-    private EnvironmentRepository createEnvironmentRepository(String storeFolderPath) {
+    private JsonFilesEnvironmentRepository createEnvironmentRepository(String storeFolderPath) {
         return new JsonFilesEnvironmentRepository(storeFolderPath);
     }
 
@@ -64,4 +64,9 @@ public class EnvironmentConfiguration {
     public EmbeddedVariableApi getEmbeddedVariableApi() {
         return variableApi;
     }
+
+    @Override
+    public void close() {
+        environmentRepository.close();
+    }
 }
@@ -12,6 +12,7 @@ import com.chutneytesting.environment.domain.exception.AlreadyExistingTargetExce
 import com.chutneytesting.environment.domain.exception.EnvVariableNotFoundException;
 import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundException;
 import com.chutneytesting.environment.domain.exception.InvalidEnvironmentNameException;
+import com.chutneytesting.environment.domain.exception.InvalidExecutionLimitException;
 import com.chutneytesting.environment.domain.exception.SingleEnvironmentException;
 import com.chutneytesting.environment.domain.exception.TargetNotFoundException;
 import com.chutneytesting.environment.domain.exception.VariableAlreadyExistingException;
@@ -80,7 +81,8 @@ public class EnvironmentRestExceptionHandler extends ResponseEntityExceptionHand
 
     @ExceptionHandler({
         DateTimeParseException.class,
-        InvalidEnvironmentNameException.class
+        InvalidEnvironmentNameException.class,
+        InvalidExecutionLimitException.class
     })
     protected ResponseEntity<Object> badRequest(RuntimeException ex, WebRequest request) {
         String bodyOfResponse = ex.getMessage();
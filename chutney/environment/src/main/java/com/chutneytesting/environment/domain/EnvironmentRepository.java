@@ -42,4 +42,14 @@ public interface EnvironmentRepository {
     default List<Environment> findByNames(List<String> names) {
         return names.stream().map(this::findByName).toList();
     }
+
+    /**
+     * @return the {@link Target Targets} named {@code targetName} in all environments
+     */
+    default List<Target> findTargetsByName(String targetName) {
+        return getEnvironments().stream()
+            .flatMap(environment -> environment.targets.stream())
+            .filter(target -> target.name.equals(targetName))
+            .toList();
+    }
 }
@@ -15,14 +15,19 @@ import com.chutneytesting.environment.domain.exception.CannotDeleteEnvironmentEx
 import com.chutneytesting.environment.domain.exception.EnvVariableNotFoundException;
 import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundException;
 import com.chutneytesting.environment.domain.exception.InvalidEnvironmentNameException;
+import com.chutneytesting.environment.domain.exception.InvalidExecutionLimitException;
 import com.chutneytesting.environment.domain.exception.NoEnvironmentFoundException;
 import com.chutneytesting.environment.domain.exception.SingleEnvironmentException;
 import com.chutneytesting.environment.domain.exception.TargetNotFoundException;
 import com.chutneytesting.environment.domain.exception.UnresolvedEnvironmentException;
 import com.chutneytesting.environment.domain.exception.VariableAlreadyExistingException;
 import com.chutneytesting.server.core.domain.environment.UpdateEnvironmentHandler;
+import com.chutneytesting.tools.ExecutionLimits;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -70,7 +75,7 @@ public class EnvironmentService {
         if (!force && envAlreadyExist(environment)) {
             throw new AlreadyExistingEnvironmentException("Environment [" + environment.name + "] already exists");
         }
-        createOrUpdate(environment);
+        createOrUpdate(null, environment);
         return environment;
     }
 
@@ -99,7 +104,7 @@ public class EnvironmentService {
             .withName(newVersion.name)
             .withDescription(newVersion.description)
             .build();
-        createOrUpdate(newEnvironment);
+        createOrUpdate(previousEnvironment, newEnvironment);
         if (!newEnvironment.name.equals(environmentName)) {
             environmentRepository.delete(environmentName);
             updateEnvironmentHandlers.forEach(renameEnvironmentHandler -> renameEnvironmentHandler.renameEnvironment(environmentName, newEnvironment.name));
@@ -120,9 +125,11 @@ public class EnvironmentService {
 
 
     public List<Target> listTargets(TargetFilter filters) {
-        Set<Target> targets;
+        Collection<Target> targets;
         if (filters != null && StringUtils.isNotBlank(filters.environment())) {
             targets = environmentRepository.findByName(filters.environment()).targets;
+        } else if (filters != null && StringUtils.isNotBlank(filters.name())) {
+            targets = environmentRepository.findTargetsByName(filters.name());
         } else {
             targets = listEnvironments()
                 .stream()
@@ -150,13 +157,13 @@ public class EnvironmentService {
     public void addTarget(Target target) throws EnvironmentNotFoundException, AlreadyExistingTargetException {
         Environment environment = environmentRepository.findByName(target.environment);
         Environment newEnvironment = environment.addTarget(target);
-        createOrUpdate(newEnvironment);
+        createOrUpdate(environment, newEnvironment);
     }
 
     public void deleteTarget(String environmentName, String targetName) throws EnvironmentNotFoundException, TargetNotFoundException {
         Environment environment = environmentRepository.findByName(environmentName);
         Environment newEnvironment = environment.deleteTarget(targetName);
-        createOrUpdate(newEnvironment);
+        createOrUpdate(environment, newEnvironment);
     }
 
     public void deleteTarget(String targetName) throws EnvironmentNotFoundException, TargetNotFoundException {
@@ -165,14 +172,14 @@ public class EnvironmentService {
             .filter(env -> env.targets.stream().map(target -> target.name).toList().contains(targetName))
             .forEach(env -> {
                 Environment newEnvironment = env.deleteTarget(targetName);
-                createOrUpdate(newEnvironment);
+                createOrUpdate(env, newEnvironment);
             });
     }
 
     public void updateTarget(String previousTargetName, Target targetToUpdate) throws EnvironmentNotFoundException, TargetNotFoundException {
         Environment environment = environmentRepository.findByName(targetToUpdate.environment);
         Environment newEnvironment = environment.updateTarget(previousTargetName, targetToUpdate);
-        createOrUpdate(newEnvironment);
+        createOrUpdate(environment, newEnvironment);
         logger.debug("Updated target " + previousTargetName + " as " + targetToUpdate.name);
     }
 
@@ -193,7 +200,7 @@ public class EnvironmentService {
             }
             Environment updated = environment.updateVariable(existingKey, variable);
             if (!environment.equals(updated)) {
-                createOrUpdate(updated);
+                createOrUpdate(environment, updated);
                 logger.debug("Updated variable " + existingKey + " as " + values.get(0).key());
             }
         });
@@ -214,25 +221,55 @@ public class EnvironmentService {
         environments
             .forEach(env -> {
                 Environment updated = env.deleteVariable(key);
-                createOrUpdate(updated);
+                createOrUpdate(env, updated);
             });
         logger.debug("Deleted variable: " + key);
     }
 
     private void addVariable(EnvironmentVariable variable, Environment env) throws EnvironmentNotFoundException, VariableAlreadyExistingException {
         Environment updated = env.addVariable(variable);
-        createOrUpdate(updated);
+        createOrUpdate(env, updated);
         logger.debug("Variable " + variable.key() + " added to environment " + env);
 
     }
 
-    private void createOrUpdate(Environment environment) {
+    /**
+     * @param previous the stored version of the environment, null when created
+     */
+    private void createOrUpdate(Environment previous, Environment environment) {
         if (!NAME_VALIDATION_PATTERN.matcher(environment.name).matches()) {
             throw new InvalidEnvironmentNameException("Environment name must be of 3 to 20 letters, digits, underscore or hyphen");
         }
+        validateChangedExecutionLimits(previous, environment);
         environmentRepository.save(environment);
     }
 
+    /**
+     * Only validate values which are new or changed, so values stored before validation do not block unrelated updates.
+     */
+    private void validateChangedExecutionLimits(Environment previous, Environment environment) throws InvalidExecutionLimitException {
+        Set<EnvironmentVariable> previousVariables = previous != null ? previous.variables : Set.of();
+        environment.variables.stream()
+            .filter(variable -> !previousVariables.contains(variable))
+            .forEach(variable -> validateExecutionLimit("Environment [" + environment.name + "]", variable.key(), variable.value()));
+
+        Map<String, Map<String, String>> previousTargetsProperties = previous != null
+            ? previous.targets.stream().collect(Collectors.toMap(target -> target.name, target -> target.properties, (first, second) -> first))
+            : Map.of();
+        environment.targets.forEach(target -> {
+            Map<String, String> previousProperties = previousTargetsProperties.getOrDefault(target.name, Map.of());
+            target.properties.entrySet().stream()
+                .filter(property -> !Objects.equals(property.getValue(), previousProperties.get(property.getKey())))
+                .forEach(property -> validateExecutionLimit("Target [" + target.name + "]", property.getKey(), property.getValue()));
+        });
+    }
+
+    private void validateExecutionLimit(String owner, String key, String value) throws InvalidExecutionLimitException {
+        if (!ExecutionLimits.isValid(key, value)) {
+            throw new InvalidExecutionLimitException(owner + " " + key + " must be a strictly positive number, was [" + value + "]");
+        }
+    }
+
     private boolean envAlreadyExist(Environment environment) {
         return environmentRepository.listNames().stream().map(String::toUpperCase)
             .toList().contains(environment.name.toUpperCase());
@@ -0,0 +1,14 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.environment.domain.exception;
+
+public class InvalidExecutionLimitException extends RuntimeException {
+    public InvalidExecutionLimitException(String message) {
+        super(message);
+    }
+}
@@ -20,6 +20,7 @@ import com.chutneytesting.environment.domain.exception.InvalidEnvironmentNameExc
 import com.chutneytesting.environment.domain.exception.TargetAlreadyExistsException;
 import com.chutneytesting.environment.domain.exception.VariableAlreadyExistingException;
 import com.chutneytesting.tools.file.FileUtils;
+import com.chutneytesting.tools.file.FolderChanges;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -28,13 +29,26 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Environments stored as json files, one per environment.<br>
+ * Environments are served from an in-memory registry, indexed by environment and target names,
+ * which is rebuilt only when a file of the folder changed, either through this repository or externally,
+ * as counted by {@link FolderChanges}.
+ */
+public class JsonFilesEnvironmentRepository implements EnvironmentRepository, AutoCloseable {
 
-public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonFilesEnvironmentRepository.class);
 
     private static final String JSON_FILE_EXT = ".json";
 
@@ -44,18 +58,60 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
         .enable(SerializationFeature.INDENT_OUTPUT)
         .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
 
+    private final FolderChanges folderChanges;
+    private volatile EnvironmentsRegistry registry = new EnvironmentsRegistry(-1, List.of(), Map.of(), Map.of());
+
     public JsonFilesEnvironmentRepository(String storeFolderPath) throws UncheckedIOException {
         this.storeFolderPath = Paths.get(storeFolderPath).toAbsolutePath();
         initFolder(this.storeFolderPath);
+        this.folderChanges = new FolderChanges(this.storeFolderPath);
+    }
+
+    @Override
+    public void close() {
+        folderChanges.close();
     }
 
     @Override
     public synchronized void save(Environment environment) throws UnsupportedOperationException, InvalidEnvironmentNameException {
-        doSave(environment);
+        try {
+            doSave(environment);
+        } finally {
+            folderChanges.changed();
+        }
     }
 
     @Override
     public Environment findByName(String name) throws EnvironmentNotFoundException {
+        Environment environment = folderChanges.isWatched() ? registry().environments().get(name) : null;
+        if (environment != null) {
+            return environment;
+        }
+        return readEnvironment(name);
+    }
+
+    @Override
+    public List<Environment> getEnvironments() {
+        if (!folderChanges.isWatched()) {
+            return EnvironmentRepository.super.getEnvironments();
+        }
+        return registry().names().stream().map(this::findByName).collect(toList());
+    }
+
+    @Override
+    public List<Target> findTargetsByName(String targetName) {
+        if (!folderChanges.isWatched()) {
+            return EnvironmentRepository.super.findTargetsByName(targetName);
+        }
+        EnvironmentsRegistry currentRegistry = registry();
+        if (currentRegistry.environments().size() < currentRegistry.names().size()) {
+            // Let unreadable environments fail as they would without registry
+            return EnvironmentRepository.super.findTargetsByName(targetName);
+        }
+        return currentRegistry.targets().getOrDefault(targetName, List.of());
+    }
+
+    private Environment readEnvironment(String name) throws EnvironmentNotFoundException {
         Path environmentPath = getEnvironmentPath(name);
         if (!Files.exists(environmentPath)) {
             throw new EnvironmentNotFoundException("Configuration file not found: " + environmentPath);
@@ -74,6 +130,10 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
 
     @Override
     public List<String> listNames() throws UnsupportedOperationException {
+        return folderChanges.isWatched() ? registry().names() : readNames();
+    }
+
+    private List<String> readNames() throws UnsupportedOperationException {
         return FileUtils.doOnListFiles(storeFolderPath, (pathStream) ->
             pathStream
                 .filter(Files::isRegularFile)
@@ -98,7 +158,47 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
             Files.move(environmentPath, backupPath);
         } catch (IOException e) {
             throw new CannotDeleteEnvironmentException("Cannot delete configuration file: " + environmentPath, e);
+        } finally {
+            folderChanges.changed();
+        }
+    }
+
+    /**
+     * @return The current registry, rebuilt if files changed since it was built.
+     */
+    private EnvironmentsRegistry registry() {
+        EnvironmentsRegistry currentRegistry = registry;
+        if (currentRegistry.modifications() == folderChanges.count()) {
+            return currentRegistry;
+        }
+        synchronized (this) {
+            currentRegistry = registry;
+            long currentModifications = folderChanges.count();
+            if (currentRegistry.modifications() != currentModifications) {
+                currentRegistry = readRegistry(currentModifications);
+                registry = currentRegistry;
+            }
+            return currentRegistry;
+        }
+    }
+
+    private EnvironmentsRegistry readRegistry(long currentModifications) {
+        List<String> names = readNames();
+        Map<String, Environment> environments = new LinkedHashMap<>();
+        Map<String, List<Target>> targets = new HashMap<>();
+        for (String name : names) {
+            try {
+                Environment environment = readEnvironment(name);
+                environments.put(name, environment);
+                environment.targets.forEach(target ->
+                    targets.computeIfAbsent(target.name, t -> new ArrayList<>()).add(target)
+                );
+            } catch (RuntimeException e) {
+                LOGGER.warn("Cannot load environment {} in registry", name, e);
+            }
         }
+        targets.replaceAll((name, namedTargets) -> List.copyOf(namedTargets));
+        return new EnvironmentsRegistry(currentModifications, List.copyOf(names), environments, targets);
     }
 
     private void doSave(Environment environment) {
@@ -148,4 +248,7 @@ public class JsonFilesEnvironmentRepository implements EnvironmentRepository {
     public Path getEnvironmentPath(String name) {
         return storeFolderPath.resolve(name + JSON_FILE_EXT);
     }
+
+    private record EnvironmentsRegistry(long modifications, List<String> names, Map<String, Environment> environments, Map<String, List<Target>> targets) {
+    }
 }
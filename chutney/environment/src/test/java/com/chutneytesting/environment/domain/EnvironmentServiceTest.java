@@ -20,9 +20,11 @@ import static org.mockito.Mockito.when;
 
 import com.chutneytesting.environment.domain.exception.AlreadyExistingEnvironmentException;
 import com.chutneytesting.environment.domain.exception.InvalidEnvironmentNameException;
+import com.chutneytesting.environment.domain.exception.InvalidExecutionLimitException;
 import com.chutneytesting.environment.domain.exception.NoEnvironmentFoundException;
 import com.chutneytesting.environment.domain.exception.SingleEnvironmentException;
 import com.chutneytesting.environment.domain.exception.UnresolvedEnvironmentException;
+import com.chutneytesting.tools.ExecutionLimits;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -141,4 +143,76 @@ class EnvironmentServiceTest {
         // Then
         verify(environmentRepository, times(1)).delete(eq("ENV"));
     }
+
+    @Test
+    void add_target_with_invalid_execution_limit_throws() {
+        // Given
+        when(environmentRepository.findByName("ENV")).thenReturn(Environment.builder().withName("ENV").build());
+        Target target = Target.builder()
+            .withName("fragile")
+            .withEnvironment("ENV")
+            .withUrl("http://fragile:8080")
+            .withProperty(ExecutionLimits.MAX_CONCURRENT_EXECUTIONS, "0")
+            .build();
+
+        // When & Then
+        assertThatThrownBy(() -> sut.addTarget(target))
+            .isInstanceOf(InvalidExecutionLimitException.class)
+            .hasMessageContaining("Target [fragile] maxConcurrentExecutions");
+        verify(environmentRepository, times(0)).save(any());
+    }
+
+    @Test
+    void add_variable_with_valid_execution_limit() {
+        // Given
+        when(environmentRepository.findByName("ENV")).thenReturn(Environment.builder().withName("ENV").build());
+
+        // When
+        sut.addVariable(List.of(new EnvironmentVariable(ExecutionLimits.MAX_EXECUTIONS_PER_SECOND, "2.5", "ENV")));
+
+        // Then
+        verify(environmentRepository, times(1)).save(any());
+    }
+
+    @Test
+    void update_environment_with_unchanged_invalid_execution_limits() {
+        // Given
+        Target target = Target.builder()
+            .withName("fragile")
+            .withEnvironment("ENV")
+            .withUrl("http://fragile:8080")
+            .withProperty(ExecutionLimits.MAX_CONCURRENT_EXECUTIONS, "0")
+            .build();
+        Environment environment = Environment.builder()
+            .withName("ENV")
+            .addTarget(target)
+            .addVariable(new EnvironmentVariable(ExecutionLimits.MAX_EXECUTIONS_PER_SECOND, "a lot", "ENV"))
+            .build();
+        when(environmentRepository.findByName("ENV")).thenReturn(environment);
+
+        // When
+        sut.addVariable(List.of(new EnvironmentVariable("key", "value", "ENV")));
+        sut.addTarget(Target.builder().withName("other").withEnvironment("ENV").withUrl("http://other:8080").build());
+
+        // Then
+        verify(environmentRepository, times(2)).save(any());
+    }
+
+    @Test
+    void update_target_with_invalid_execution_limit_throws() {
+        // Given
+        Target target = Target.builder()
+            .withName("fragile")
+            .withEnvironment("ENV")
+            .withUrl("http://fragile:8080")
+            .withProperty(ExecutionLimits.MAX_CONCURRENT_EXECUTIONS, "2")
+            .build();
+        when(environmentRepository.findByName("ENV")).thenReturn(Environment.builder().withName("ENV").addTarget(target).build());
+        Target updated = Target.builder().copyOf(target).withProperty(ExecutionLimits.MAX_CONCURRENT_EXECUTIONS, "-2").build();
+
+        // When & Then
+        assertThatThrownBy(() -> sut.updateTarget("fragile", updated))
+            .isInstanceOf(InvalidExecutionLimitException.class);
+        verify(environmentRepository, times(0)).save(any());
+    }
 }
@@ -9,9 +9,9 @@ package com.chutneytesting.environment.infra;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
 import com.chutneytesting.environment.domain.Environment;
-import com.chutneytesting.environment.domain.EnvironmentRepository;
 import com.chutneytesting.environment.domain.EnvironmentVariable;
 import com.chutneytesting.environment.domain.Target;
 import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundException;
@@ -24,6 +24,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -32,10 +33,11 @@ public class JsonFilesEnvironmentRepositoryTest {
 
     private static final Path CONFIGURATION_FOLDER = Paths.get("target", "conf");
 
-    private final EnvironmentRepository sut = new JsonFilesEnvironmentRepository(CONFIGURATION_FOLDER.toString());
+    private final JsonFilesEnvironmentRepository sut = new JsonFilesEnvironmentRepository(CONFIGURATION_FOLDER.toString());
 
     @AfterEach
-    public void after() {
+    public void after() throws IOException {
+        sut.close();
         try (Stream<Path> confStream = Files.list(CONFIGURATION_FOLDER)) {
             confStream.forEach(ThrowingConsumer.toUnchecked(Files::delete));
         } catch (IOException e) {
@@ -164,4 +166,43 @@ public class JsonFilesEnvironmentRepositoryTest {
         assertThatThrownBy(() -> sut.findByName("MISSING_ENV"))
             .isInstanceOf(EnvironmentNotFoundException.class);
     }
+
+    @Test
+    void should_serve_environments_from_registry_until_an_environment_is_saved() {
+        sut.save(Environment.builder().withName("TEST").withDescription("some description").build());
+
+        // Once the folder watcher has notified the save
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() ->
+            assertThat(sut.findByName("TEST")).isSameAs(sut.findByName("TEST"))
+        );
+
+        sut.save(Environment.builder().withName("TEST").withDescription("some other description").build());
+
+        assertThat(sut.findByName("TEST").description).isEqualTo("some other description");
+    }
+
+    @Test
+    void should_reload_environment_modified_outside_repository() throws IOException {
+        sut.save(Environment.builder().withName("TEST").withDescription("some description").build());
+        assertThat(sut.findByName("TEST").description).isEqualTo("some description");
+
+        Path environmentPath = sut.getEnvironmentPath("TEST");
+        Files.writeString(environmentPath, Files.readString(environmentPath).replace("some description", "external description"));
+
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() ->
+            assertThat(sut.findByName("TEST").description).isEqualTo("external description")
+        );
+    }
+
+    @Test
+    void should_find_targets_by_name_in_all_environments() {
+        Target target = Target.builder().withName("target").withEnvironment("ENV").withUrl("http://host1:1234").build();
+        Target otherTarget = Target.builder().withName("other_target").withEnvironment("ENV").withUrl("http://host2:1234").build();
+        Target targetInOtherEnv = Target.builder().withName("target").withEnvironment("OTHER_ENV").withUrl("http://host3:1234").build();
+        sut.save(Environment.builder().withName("ENV").withTargets(Set.of(target, otherTarget)).build());
+        sut.save(Environment.builder().withName("OTHER_ENV").withTargets(Set.of(targetInOtherEnv)).build());
+
+        assertThat(sut.findTargetsByName("target")).containsExactlyInAnyOrder(target, targetInOtherEnv);
+        assertThat(sut.findTargetsByName("unknown")).isEmpty();
+    }
 }
@@ -10,9 +10,14 @@ package com.chutneytesting.jira;
 import com.chutneytesting.jira.api.JiraXrayEmbeddedApi;
 import com.chutneytesting.jira.domain.JiraRepository;
 import com.chutneytesting.jira.domain.JiraXrayClientFactory;
+import com.chutneytesting.jira.domain.JiraXrayPublisher;
 import com.chutneytesting.jira.domain.JiraXrayService;
+import com.chutneytesting.jira.domain.XrayPublicationRepository;
 import com.chutneytesting.jira.infra.JiraFileRepository;
 import com.chutneytesting.jira.infra.JiraXrayFactoryImpl;
+import com.chutneytesting.jira.infra.XrayPublicationFileRepository;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,17 +26,30 @@ import org.springframework.context.annotation.Configuration;
 public class JiraSpringConfiguration {
 
     public static final String CONFIGURATION_FOLDER_SPRING_VALUE = "${chutney.jira.configuration-folder:~/.chutney/conf/jira}";
+    public static final String XRAY_PUBLICATIONS_FOLDER_SPRING_VALUE = "${chutney.jira.xray.publications-folder:~/.chutney/jira/publications}";
+    public static final String XRAY_PUBLICATION_DELAY_SPRING_VALUE = "${chutney.jira.xray.publication-delay:2000}";
+    public static final String XRAY_PUBLICATION_RETRY_DELAY_SPRING_VALUE = "${chutney.jira.xray.publication-retry-delay:5000}";
 
     // api Bean
     @Bean
-    JiraXrayEmbeddedApi jiraXrayEmbeddedApi(JiraXrayService jiraXrayService) {
-        return new JiraXrayEmbeddedApi(jiraXrayService);
+    JiraXrayEmbeddedApi jiraXrayEmbeddedApi(JiraXrayService jiraXrayService, JiraXrayPublisher jiraXrayPublisher) {
+        return new JiraXrayEmbeddedApi(jiraXrayService, jiraXrayPublisher);
     }
 
     // domain Bean
     @Bean
-    JiraXrayService jiraXrayService(JiraRepository jiraRepository, JiraXrayClientFactory jiraXrayFactory) {
-        return new JiraXrayService(jiraRepository, jiraXrayFactory);
+    JiraXrayService jiraXrayService(JiraRepository jiraRepository, JiraXrayClientFactory jiraXrayFactory, AttachmentRepository attachmentRepository) {
+        return new JiraXrayService(jiraRepository, jiraXrayFactory, attachmentRepository);
+    }
+
+    @Bean
+    JiraXrayPublisher jiraXrayPublisher(
+        JiraXrayService jiraXrayService,
+        XrayPublicationRepository xrayPublicationRepository,
+        @Value(XRAY_PUBLICATION_DELAY_SPRING_VALUE) long publicationDelay,
+        @Value(XRAY_PUBLICATION_RETRY_DELAY_SPRING_VALUE) long publicationRetryDelay
+    ) {
+        return new JiraXrayPublisher(jiraXrayService, xrayPublicationRepository, Duration.ofMillis(publicationDelay), Duration.ofMillis(publicationRetryDelay));
     }
 
     // infra Bean
@@ -44,4 +62,9 @@ public class JiraSpringConfiguration {
     JiraRepository jiraFileRepository(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath) {
         return new JiraFileRepository(storeFolderPath);
     }
+
+    @Bean
+    XrayPublicationRepository xrayPublicationFileRepository(@Value(XRAY_PUBLICATIONS_FOLDER_SPRING_VALUE) String storeFolderPath) {
+        return new XrayPublicationFileRepository(storeFolderPath);
+    }
 }
@@ -9,6 +9,7 @@ package com.chutneytesting.jira.api;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
+import com.chutneytesting.jira.domain.JiraXrayPublisher;
 import com.chutneytesting.jira.domain.JiraXrayService;
 import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
 import java.util.List;
@@ -16,14 +17,19 @@ import java.util.List;
 public class JiraXrayEmbeddedApi {
 
     private final JiraXrayService jiraXrayService;
+    private final JiraXrayPublisher jiraXrayPublisher;
 
-    public JiraXrayEmbeddedApi(JiraXrayService jiraXrayService) {
+    public JiraXrayEmbeddedApi(JiraXrayService jiraXrayService, JiraXrayPublisher jiraXrayPublisher) {
         this.jiraXrayService = jiraXrayService;
+        this.jiraXrayPublisher = jiraXrayPublisher;
     }
 
+    /**
+     * Publish the report in background, see {@link JiraXrayPublisher}.
+     */
     public void updateTestExecution(Long campaignId, Long campaignExecutionId, String scenarioId, String datasetId, ReportForJira report) {
         if (report != null && isNotEmpty(scenarioId) && campaignId != null) {
-            jiraXrayService.updateTestExecution(campaignId, campaignExecutionId, scenarioId, datasetId, report);
+            jiraXrayPublisher.publish(campaignId, campaignExecutionId, scenarioId, datasetId, report);
         }
     }
 
@@ -11,7 +11,10 @@ import com.chutneytesting.jira.xrayapi.Xray;
 import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
 import java.util.List;
 
-public interface JiraXrayApi {
+/**
+ * Xray client, to be closed by its user once done with it.
+ */
+public interface JiraXrayApi extends AutoCloseable {
 
     void updateRequest(Xray xray);
 
@@ -25,4 +28,7 @@ public interface JiraXrayApi {
 
     boolean isTestPlan(String issueId);
 
+    @Override
+    default void close() {
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.jira.domain;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import com.chutneytesting.jira.api.ReportForJira;
+import com.chutneytesting.jira.domain.JiraXrayService.ScenarioReport;
+import com.chutneytesting.jira.domain.exception.NoJiraConfigurationException;
+import com.chutneytesting.jira.domain.exception.XrayImportException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publish scenario execution reports to Xray in background.<br>
+ * Reports are persisted until published, so that pending publications survive a restart.
+ * Reports received during the publication delay are published together, with one bulk import per campaign execution.
+ * Failed publications are retried with an exponential backoff, up to {@value MAX_ATTEMPTS} attempts.
+ * Only the publications of the failed imports are retried, the other ones of the bulk are done.
+ */
+public class JiraXrayPublisher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JiraXrayPublisher.class);
+
+    static final int MAX_ATTEMPTS = 10;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(30);
+
+    private final JiraXrayService jiraXrayService;
+    private final XrayPublicationRepository publicationRepository;
+    private final Duration publicationDelay;
+    private final Duration retryDelay;
+    private final ScheduledExecutorService executor;
+
+    private final Map<String, XrayPublication> pendingPublications = new LinkedHashMap<>();
+    private Instant nextPublication;
+
+    public JiraXrayPublisher(JiraXrayService jiraXrayService, XrayPublicationRepository publicationRepository, Duration publicationDelay, Duration retryDelay) {
+        this.jiraXrayService = jiraXrayService;
+        this.publicationRepository = publicationRepository;
+        this.publicationDelay = publicationDelay;
+        this.retryDelay = retryDelay;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jira-xray-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<XrayPublication> persistedPublications = publicationRepository.findAll();
+        if (!persistedPublications.isEmpty()) {
+            LOGGER.info("Resume {} pending xray publication(s)", persistedPublications.size());
+            synchronized (this) {
+                persistedPublications.forEach(publication -> pendingPublications.put(publication.id(), publication));
+                schedule(publicationDelay);
+            }
+        }
+    }
+
+    public void publish(Long campaignId, Long campaignExecutionId, String scenarioId, String datasetId, ReportForJira report) {
+        if (!jiraXrayService.isConfigured()) {
+            return;
+        }
+        XrayPublication publication = new XrayPublication(UUID.randomUUID().toString(), campaignId, campaignExecutionId, scenarioId, datasetId, report, 0, Instant.now());
+        publicationRepository.save(publication);
+        synchronized (this) {
+            pendingPublications.put(publication.id(), publication);
+            schedule(publicationDelay);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Schedule a publication unless one is already planned sooner.
+     */
+    private synchronized void schedule(Duration delay) {
+        Instant publicationInstant = Instant.now().plus(delay);
+        if (nextPublication == null || publicationInstant.isBefore(nextPublication)) {
+            nextPublication = publicationInstant;
+            executor.schedule(this::publishPendingPublications, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void publishPendingPublications() {
+        List<XrayPublication> duePublications;
+        synchronized (this) {
+            nextPublication = null;
+            Instant now = Instant.now();
+            duePublications = pendingPublications.values().stream()
+                .filter(publication -> !publication.nextAttempt().isAfter(now))
+                .toList();
+        }
+
+        duePublications.stream()
+            .collect(groupingBy(publication -> List.of(publication.campaignId(), publication.campaignExecutionId()), LinkedHashMap::new, toList()))
+            .values()
+            .forEach(this::publish);
+
+        synchronized (this) {
+            pendingPublications.values().stream()
+                .map(XrayPublication::nextAttempt)
+                .min(Instant::compareTo)
+                .map(nextAttempt -> Duration.between(Instant.now(), nextAttempt))
+                .ifPresent(delay -> schedule(delay.isNegative() ? Duration.ZERO : delay));
+        }
+    }
+
+    private void publish(List<XrayPublication> campaignExecutionPublications) {
+        XrayPublication first = campaignExecutionPublications.get(0);
+        List<ScenarioReport> scenarioReports = new ArrayList<>();
+        Map<ScenarioReport, XrayPublication> publicationsByReport = new IdentityHashMap<>();
+        campaignExecutionPublications.forEach(publication -> {
+            ScenarioReport scenarioReport = publication.scenarioReport();
+            scenarioReports.add(scenarioReport);
+            publicationsByReport.put(scenarioReport, publication);
+        });
+        try {
+            jiraXrayService.updateTestExecution(first.campaignId(), first.campaignExecutionId(), scenarioReports);
+            campaignExecutionPublications.forEach(this::remove);
+        } catch (XrayImportException e) {
+            LOGGER.warn("Xray publication of {} scenario(s) of campaign execution {} failed", e.failedReports().size(), first.campaignExecutionId(), e);
+            e.failedReports().stream().map(publicationsByReport::remove).forEach(this::retryLater);
+            publicationsByReport.values().forEach(this::remove);
+        } catch (NoJiraConfigurationException e) {
+            LOGGER.warn("No valid Jira configuration, drop {} xray publication(s) of campaign execution {}", campaignExecutionPublications.size(), first.campaignExecutionId());
+            campaignExecutionPublications.forEach(this::remove);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Xray publication of campaign execution {} failed", first.campaignExecutionId(), e);
+            campaignExecutionPublications.forEach(this::retryLater);
+        }
+    }
+
+    private void retryLater(XrayPublication publication) {
+        XrayPublication failedPublication = publication.failed(Instant.now().plus(retryDelay(publication.attempts())));
+        if (failedPublication.attempts() >= MAX_ATTEMPTS) {
+            LOGGER.error("Give up xray publication of scenario {} for campaign execution {} after {} attempts", publication.scenarioId(), publication.campaignExecutionId(), failedPublication.attempts());
+            remove(publication);
+            return;
+        }
+        try {
+            publicationRepository.save(failedPublication);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot save xray publication {}", publication.id(), e);
+        }
+        synchronized (this) {
+            pendingPublications.put(failedPublication.id(), failedPublication);
+        }
+    }
+
+    private void remove(XrayPublication publication) {
+        synchronized (this) {
+            pendingPublications.remove(publication.id());
+        }
+        try {
+            publicationRepository.delete(publication.id());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot delete xray publication {}", publication.id(), e);
+        }
+    }
+
+    private Duration retryDelay(int previousAttempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(previousAttempts, 16));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+}
@@ -13,16 +13,20 @@ import static com.chutneytesting.jira.domain.XrayStatus.PASS;
 
 import com.chutneytesting.jira.api.ReportForJira;
 import com.chutneytesting.jira.domain.exception.NoJiraConfigurationException;
+import com.chutneytesting.jira.domain.exception.XrayImportException;
 import com.chutneytesting.jira.xrayapi.Xray;
 import com.chutneytesting.jira.xrayapi.XrayEvidence;
 import com.chutneytesting.jira.xrayapi.XrayInfo;
 import com.chutneytesting.jira.xrayapi.XrayTest;
 import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
+import com.chutneytesting.server.core.domain.execution.report.ReportAttachments;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,68 +39,120 @@ public class JiraXrayService {
 
     private final JiraRepository jiraRepository;
     private final JiraXrayClientFactory jiraXrayImplFactory;
+    private final AttachmentRepository attachmentRepository;
     private JiraServerConfiguration jiraServerConfiguration;
 
-    public JiraXrayService(JiraRepository jiraRepository, JiraXrayClientFactory jiraXrayImplFactory) {
+    public JiraXrayService(JiraRepository jiraRepository, JiraXrayClientFactory jiraXrayImplFactory, AttachmentRepository attachmentRepository) {
         this.jiraRepository = jiraRepository;
         this.jiraXrayImplFactory = jiraXrayImplFactory;
+        this.attachmentRepository = attachmentRepository;
         loadJiraServerConfiguration();
     }
 
     public void updateTestExecution(Long campaignId, Long campaignExecutionId, String scenarioId, String datasetId, ReportForJira report) {
-        JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl();
+        updateTestExecution(campaignId, campaignExecutionId, List.of(new ScenarioReport(scenarioId, datasetId, report)));
+    }
 
-        String testExecutionKey = jiraRepository.getByCampaignId(campaignId.toString());
-        String testKey = jiraRepository.getAllLinkedScenariosWithDataset()
-            .getOrDefault(scenarioId, Collections.emptyMap())
-            .getOrDefault(datasetId, jiraRepository.getByScenarioId(scenarioId));
+    /**
+     * Update the tests of a campaign execution's test execution with bulk import calls, one per environment.<br>
+     * A failed import does not prevent the other ones.
+     *
+     * @throws XrayImportException with the reports of the failed imports, when some of them failed
+     */
+    public void updateTestExecution(Long campaignId, Long campaignExecutionId, List<ScenarioReport> scenarioReports) {
+        try (JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl()) {
+            String testExecutionKey = jiraRepository.getByCampaignId(campaignId.toString());
+            if (testExecutionKey.isEmpty()) {
+                return;
+            }
 
-        if (jiraXrayApi.isTestPlan(testExecutionKey)) {
-            String newTestExecutionKey = jiraRepository.getByCampaignExecutionId(campaignExecutionId.toString());
-            if (newTestExecutionKey.isEmpty()) {
-                newTestExecutionKey = jiraXrayApi.createTestExecution(testExecutionKey);
+            Map<String, Map<String, String>> linkedScenariosWithDataset = jiraRepository.getAllLinkedScenariosWithDataset();
+            Map<String, String> linkedScenarios = jiraRepository.getAllLinkedScenarios();
+            Map<String, List<ScenarioReport>> reportsByEnvironment = new LinkedHashMap<>();
+            Map<String, List<XrayTest>> testsByEnvironment = new LinkedHashMap<>();
+            scenarioReports.forEach(scenarioReport -> {
+                String testKey = linkedScenariosWithDataset
+                    .getOrDefault(scenarioReport.scenarioId(), Collections.emptyMap())
+                    .getOrDefault(scenarioReport.datasetId(), linkedScenarios.getOrDefault(scenarioReport.scenarioId(), ""));
+                if (!testKey.isEmpty()) {
+                    String environment = scenarioReport.report().environment;
+                    reportsByEnvironment.computeIfAbsent(environment, e -> new ArrayList<>()).add(scenarioReport);
+                    testsByEnvironment.computeIfAbsent(environment, e -> new ArrayList<>()).add(toXrayTest(testKey, scenarioReport.report()));
+                }
+            });
+            if (testsByEnvironment.isEmpty()) {
+                return;
             }
-            testExecutionKey = newTestExecutionKey;
-        }
 
-        if (!testKey.isEmpty() && !testExecutionKey.isEmpty()) {
-            LOGGER.info("Update xray test {} of test execution {}", testKey, testExecutionKey);
-            jiraRepository.saveForCampaignExecution(campaignExecutionId.toString(), testExecutionKey);
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZZZZZ");
-            XrayTest xrayTest = new XrayTest(
-                testKey,
-                report.startDate.atZone(ZoneId.systemDefault()).format(formatter),
-                report.startDate.plusNanos(report.duration * 1000000).atZone(ZoneId.systemDefault()).format(formatter),
-                getErrors(report).toString(),
-                report.status.equals("SUCCESS") ? PASS.value : FAIL.value
-            );
+            if (jiraXrayApi.isTestPlan(testExecutionKey)) {
+                String newTestExecutionKey = jiraRepository.getByCampaignExecutionId(campaignExecutionId.toString());
+                if (newTestExecutionKey.isEmpty()) {
+                    newTestExecutionKey = jiraXrayApi.createTestExecution(testExecutionKey);
+                }
+                testExecutionKey = newTestExecutionKey;
+            }
 
-            xrayTest.setEvidences(getEvidences(report.rootStep, ""));
-            XrayInfo info = new XrayInfo(Collections.singletonList(report.environment));
-            Xray xray = new Xray(testExecutionKey, Collections.singletonList(xrayTest), info);
-            jiraXrayApi.updateRequest(xray);
+            jiraRepository.saveForCampaignExecution(campaignExecutionId.toString(), testExecutionKey);
+            List<ScenarioReport> failedReports = new ArrayList<>();
+            RuntimeException lastFailure = null;
+            for (Map.Entry<String, List<XrayTest>> environmentTests : testsByEnvironment.entrySet()) {
+                LOGGER.info("Update {} xray test(s) of test execution {}", environmentTests.getValue().size(), testExecutionKey);
+                XrayInfo info = new XrayInfo(Collections.singletonList(environmentTests.getKey()));
+                try {
+                    jiraXrayApi.updateRequest(new Xray(testExecutionKey, environmentTests.getValue(), info));
+                } catch (RuntimeException e) {
+                    failedReports.addAll(reportsByEnvironment.get(environmentTests.getKey()));
+                    lastFailure = e;
+                }
+            }
+            if (!failedReports.isEmpty()) {
+                throw new XrayImportException(testExecutionKey, failedReports, lastFailure);
+            }
         }
     }
 
-    public List<XrayTestExecTest> getTestExecutionScenarios(String testExecutionId) {
-        JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl();
-
-        return jiraXrayApi.getTestExecutionScenarios(testExecutionId);
+    private XrayTest toXrayTest(String testKey, ReportForJira report) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZZZZZ");
+        XrayTest xrayTest = new XrayTest(
+            testKey,
+            report.startDate.atZone(ZoneId.systemDefault()).format(formatter),
+            report.startDate.plusNanos(report.duration * 1000000).atZone(ZoneId.systemDefault()).format(formatter),
+            getErrors(report).toString(),
+            report.status.equals("SUCCESS") ? PASS.value : FAIL.value
+        );
+        xrayTest.setEvidences(getEvidences(report.rootStep, ""));
+        return xrayTest;
     }
 
-    public void updateScenarioStatus(String testExecId, String chutneyId, String executionStatus) {
-        JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl();
+    /**
+     * @return true if a valid Jira server configuration is available
+     */
+    public boolean isConfigured() {
+        return loadJiraServerConfiguration();
+    }
 
-        String scenarioJiraId = jiraRepository.getByScenarioId(chutneyId);
+    public List<XrayTestExecTest> getTestExecutionScenarios(String testExecutionId) {
+        try (JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl()) {
+            return jiraXrayApi.getTestExecutionScenarios(testExecutionId);
+        }
+    }
 
-        List<XrayTestExecTest> testExecutionScenarios = getTestExecutionScenarios(testExecId);
-        Optional<XrayTestExecTest> foundTest = testExecutionScenarios.stream().filter(test -> scenarioJiraId.equals(test.getKey())).findFirst();
-        foundTest.ifPresent(xrayTestExecTest -> {
-            LOGGER.info("Update xray test execution {} status to {}", testExecId, executionStatus);
-            jiraXrayApi.updateStatusByTestRunId(xrayTestExecTest.getId(), executionStatus);
-        });
+    public void updateScenarioStatus(String testExecId, String chutneyId, String executionStatus) {
+        try (JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl()) {
+            String scenarioJiraId = jiraRepository.getByScenarioId(chutneyId);
+
+            List<XrayTestExecTest> testExecutionScenarios = jiraXrayApi.getTestExecutionScenarios(testExecId);
+            Optional<XrayTestExecTest> foundTest = testExecutionScenarios.stream().filter(test -> scenarioJiraId.equals(test.getKey())).findFirst();
+            foundTest.ifPresent(xrayTestExecTest -> {
+                LOGGER.info("Update xray test execution {} status to {}", testExecId, executionStatus);
+                jiraXrayApi.updateStatusByTestRunId(xrayTestExecTest.getId(), executionStatus);
+            });
+        }
     }
 
+    /**
+     * @return A client to close once done with it
+     */
     private JiraXrayApi createHttpJiraXrayImpl() {
         if (!loadJiraServerConfiguration()) {
             throw new NoJiraConfigurationException();
@@ -114,7 +170,7 @@ public class JiraXrayService {
         Map<String, String> errors = new HashMap<>();
         if (!currentStep.errors.isEmpty()) {
             errors.put(parentStep + " > " + currentStep.name,
-                currentStep.errors.stream().filter(s -> !s.startsWith("data:image/png")).toList().toString());
+                currentStep.errors.stream().filter(s -> !s.startsWith("data:image/png") && !s.startsWith(ReportAttachments.REFERENCE_PREFIX)).toList().toString());
         }
         if (!currentStep.steps.isEmpty()) {
             currentStep.steps
@@ -129,6 +185,7 @@ public class JiraXrayService {
             evidences.addAll(
                 currentStep.errors
                     .stream()
+                    .map(s -> ReportAttachments.toDataUri(s, attachmentRepository))
                     .filter(s -> s.startsWith("data:image/png"))
                     .map(s -> new XrayEvidence(s.replace("data:image/png;base64,", ""), formatEvidenceFilename(parentStep, currentStep.name) + ".png", "image/png"))
                     .toList()
@@ -160,4 +217,7 @@ public class JiraXrayService {
         }
         return isConfigurationValid;
     }
+
+    public record ScenarioReport(String scenarioId, String datasetId, ReportForJira report) {
+    }
 }
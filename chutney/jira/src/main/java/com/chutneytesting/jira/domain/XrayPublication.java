@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.jira.domain;
+
+import com.chutneytesting.jira.api.ReportForJira;
+import java.time.Instant;
+
+/**
+ * A scenario execution report waiting to be published to Xray.
+ *
+ * @param attempts    The number of failed publication attempts
+ * @param nextAttempt The instant before which the publication should not be attempted again
+ */
+public record XrayPublication(
+    String id,
+    Long campaignId,
+    Long campaignExecutionId,
+    String scenarioId,
+    String datasetId,
+    ReportForJira report,
+    int attempts,
+    Instant nextAttempt
+) {
+
+    XrayPublication failed(Instant nextAttempt) {
+        return new XrayPublication(id, campaignId, campaignExecutionId, scenarioId, datasetId, report, attempts + 1, nextAttempt);
+    }
+
+    JiraXrayService.ScenarioReport scenarioReport() {
+        return new JiraXrayService.ScenarioReport(scenarioId, datasetId, report);
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.jira.domain;
+
+import java.util.List;
+
+public interface XrayPublicationRepository {
+
+    void save(XrayPublication publication);
+
+    List<XrayPublication> findAll();
+
+    void delete(String publicationId);
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.jira.domain.exception;
+
+import com.chutneytesting.jira.domain.JiraXrayService.ScenarioReport;
+import java.util.List;
+
+/**
+ * Some imports of a test execution update failed, the other ones are done.
+ */
+public class XrayImportException extends RuntimeException {
+
+    private final List<ScenarioReport> failedReports;
+
+    public XrayImportException(String testExecutionKey, List<ScenarioReport> failedReports, Throwable cause) {
+        super("Cannot import " + failedReports.size() + " xray test(s) of test execution " + testExecutionKey, cause);
+        this.failedReports = failedReports;
+    }
+
+    /**
+     * @return The scenario reports of the failed imports, as given to the update
+     */
+    public List<ScenarioReport> failedReports() {
+        return failedReports;
+    }
+}
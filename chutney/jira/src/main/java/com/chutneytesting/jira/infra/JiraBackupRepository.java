@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.zip.ZipOutputStream;
 import org.apache.commons.lang3.StringUtils;
@@ -32,12 +33,24 @@ public class JiraBackupRepository implements Backupable {
 
     @Override
     public void backup(OutputStream outputStream) {
+        backup(outputStream, (fp, zipOutPut) -> ZipUtils.compressDirectoryToZipfile(fp.getParent(), fp.getFileName(), zipOutPut));
+    }
+
+    /**
+     * Save the files modified since the given instant, and the manifest of all files, so that deleted ones can be told.
+     */
+    @Override
+    public void backup(OutputStream outputStream, Instant modifiedSince) {
+        backup(outputStream, (fp, zipOutPut) -> ZipUtils.compressDirectoryChangesToZipfile(fp.getParent(), fp.getFileName(), zipOutPut, file -> true, modifiedSince));
+    }
+
+    private void backup(OutputStream outputStream, FolderCompressor compressor) {
         Optional<Path> folderPath = ofNullable(jiraRepository.getFolderPath());
         if (folderPath.isPresent()) {
             Path fp = folderPath.get();
             if (StringUtils.isNotBlank(fp.toString())) {
                 try (ZipOutputStream zipOutPut = new ZipOutputStream(new BufferedOutputStream(outputStream, 4096))) {
-                    ZipUtils.compressDirectoryToZipfile(fp.getParent(), fp.getFileName(), zipOutPut);
+                    compressor.compress(fp, zipOutPut);
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
                 }
@@ -45,6 +58,11 @@ public class JiraBackupRepository implements Backupable {
         }
     }
 
+    @FunctionalInterface
+    private interface FolderCompressor {
+        void compress(Path folderPath, ZipOutputStream zipOutPut) throws IOException;
+    }
+
     @Override
     public String name() {
         return "jiralinks";
@@ -10,12 +10,122 @@ package com.chutneytesting.jira.infra;
 import com.chutneytesting.jira.domain.JiraServerConfiguration;
 import com.chutneytesting.jira.domain.JiraXrayApi;
 import com.chutneytesting.jira.domain.JiraXrayClientFactory;
+import com.chutneytesting.jira.xrayapi.Xray;
+import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
-public class JiraXrayFactoryImpl implements JiraXrayClientFactory {
+/**
+ * Keep the client of the last given configuration, so that its connections are reused until the configuration changes.<br>
+ * Callers are given leases on the client. A client replaced by a new configuration is closed once its last lease is closed.
+ */
+public class JiraXrayFactoryImpl implements JiraXrayClientFactory, AutoCloseable {
+
+    private final Function<JiraServerConfiguration, HttpJiraXrayImpl> clientBuilder;
+    private JiraServerConfiguration clientConfiguration;
+    private SharedClient client;
+
+    public JiraXrayFactoryImpl() {
+        this(HttpJiraXrayImpl::new);
+    }
+
+    JiraXrayFactoryImpl(Function<JiraServerConfiguration, HttpJiraXrayImpl> clientBuilder) {
+        this.clientBuilder = clientBuilder;
+    }
 
     @Override
-    public JiraXrayApi create(JiraServerConfiguration jiraServerConfiguration) {
-        return new HttpJiraXrayImpl(jiraServerConfiguration);
+    public synchronized JiraXrayApi create(JiraServerConfiguration jiraServerConfiguration) {
+        if (client == null || !jiraServerConfiguration.equals(clientConfiguration)) {
+            SharedClient newClient = new SharedClient(clientBuilder.apply(jiraServerConfiguration));
+            close();
+            clientConfiguration = jiraServerConfiguration;
+            client = newClient;
+        }
+        return client.lease();
     }
 
+    @Override
+    public synchronized void close() {
+        if (client != null) {
+            client.retire();
+            client = null;
+            clientConfiguration = null;
+        }
+    }
+
+    /**
+     * Count the leases of a client, to close it when it is retired and no longer leased.
+     */
+    static class SharedClient {
+        private final HttpJiraXrayImpl client;
+        private int leases = 0;
+        private boolean retired = false;
+
+        SharedClient(HttpJiraXrayImpl client) {
+            this.client = client;
+        }
+
+        synchronized JiraXrayApi lease() {
+            leases++;
+            return new Lease();
+        }
+
+        synchronized void retire() {
+            retired = true;
+            closeIfUnused();
+        }
+
+        private synchronized void release() {
+            leases--;
+            closeIfUnused();
+        }
+
+        private void closeIfUnused() {
+            if (retired && leases == 0) {
+                client.close();
+            }
+        }
+
+        private class Lease implements JiraXrayApi {
+            private final AtomicBoolean closed = new AtomicBoolean();
+
+            @Override
+            public void updateRequest(Xray xray) {
+                client.updateRequest(xray);
+            }
+
+            @Override
+            public List<XrayTestExecTest> getTestExecutionScenarios(String xrayId) {
+                return client.getTestExecutionScenarios(xrayId);
+            }
+
+            @Override
+            public void updateStatusByTestRunId(String id, String executionStatus) {
+                client.updateStatusByTestRunId(id, executionStatus);
+            }
+
+            @Override
+            public void associateTestExecutionFromTestPlan(String testPlanId, String testExecutionId) {
+                client.associateTestExecutionFromTestPlan(testPlanId, testExecutionId);
+            }
+
+            @Override
+            public String createTestExecution(String testPlanId) {
+                return client.createTestExecution(testPlanId);
+            }
+
+            @Override
+            public boolean isTestPlan(String issueId) {
+                return client.isTestPlan(issueId);
+            }
+
+            @Override
+            public void close() {
+                if (closed.compareAndSet(false, true)) {
+                    release();
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.jira.infra;
+
+import static com.chutneytesting.tools.file.FileUtils.initFolder;
+
+import com.chutneytesting.jira.api.ReportForJira;
+import com.chutneytesting.jira.domain.XrayPublication;
+import com.chutneytesting.jira.domain.XrayPublicationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pending xray publications stored as json files, one per publication.
+ */
+public class XrayPublicationFileRepository implements XrayPublicationRepository {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XrayPublicationFileRepository.class);
+
+    private static final String FILE_EXTENSION = ".json";
+
+    private final Path storeFolderPath;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules();
+
+    public XrayPublicationFileRepository(String storeFolderPath) throws UncheckedIOException {
+        this.storeFolderPath = Paths.get(storeFolderPath);
+        initFolder(this.storeFolderPath);
+    }
+
+    @Override
+    public void save(XrayPublication publication) {
+        Path file = storeFolderPath.resolve(publication.id() + FILE_EXTENSION);
+        try {
+            Path tmpFile = Files.createTempFile(storeFolderPath, publication.id(), ".tmp");
+            try {
+                objectMapper.writeValue(tmpFile.toFile(), toDto(publication));
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save " + file.toUri(), e);
+        }
+    }
+
+    @Override
+    public List<XrayPublication> findAll() {
+        try (Stream<Path> files = Files.list(storeFolderPath)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+                .map(this::read)
+                .filter(Objects::nonNull)
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list " + storeFolderPath.toUri(), e);
+        }
+    }
+
+    @Override
+    public void delete(String publicationId) {
+        Path file = storeFolderPath.resolve(publicationId + FILE_EXTENSION);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete " + file.toUri(), e);
+        }
+    }
+
+    private XrayPublication read(Path file) {
+        try {
+            return fromDto(objectMapper.readValue(file.toFile(), XrayPublicationDto.class));
+        } catch (IOException e) {
+            LOGGER.warn("Cannot read xray publication {}", file.toUri(), e);
+            return null;
+        }
+    }
+
+    private static XrayPublicationDto toDto(XrayPublication publication) {
+        XrayPublicationDto dto = new XrayPublicationDto();
+        dto.id = publication.id();
+        dto.campaignId = publication.campaignId();
+        dto.campaignExecutionId = publication.campaignExecutionId();
+        dto.scenarioId = publication.scenarioId();
+        dto.datasetId = publication.datasetId();
+        dto.startDate = publication.report().startDate;
+        dto.duration = publication.report().duration;
+        dto.status = publication.report().status;
+        dto.environment = publication.report().environment;
+        dto.rootStep = toDto(publication.report().rootStep);
+        dto.attempts = publication.attempts();
+        dto.nextAttempt = publication.nextAttempt();
+        return dto;
+    }
+
+    private static StepDto toDto(ReportForJira.Step step) {
+        StepDto dto = new StepDto();
+        dto.name = step.name;
+        dto.errors = step.errors;
+        dto.steps = step.steps.stream().map(XrayPublicationFileRepository::toDto).toList();
+        return dto;
+    }
+
+    private static XrayPublication fromDto(XrayPublicationDto dto) {
+        return new XrayPublication(
+            dto.id,
+            dto.campaignId,
+            dto.campaignExecutionId,
+            dto.scenarioId,
+            dto.datasetId,
+            new ReportForJira(dto.startDate, dto.duration, dto.status, fromDto(dto.rootStep), dto.environment),
+            dto.attempts,
+            dto.nextAttempt
+        );
+    }
+
+    private static ReportForJira.Step fromDto(StepDto dto) {
+        return new ReportForJira.Step(
+            dto.name,
+            dto.errors,
+            dto.steps == null ? null : dto.steps.stream().map(XrayPublicationFileRepository::fromDto).toList()
+        );
+    }
+
+    static class XrayPublicationDto {
+        public String id;
+        public Long campaignId;
+        public Long campaignExecutionId;
+        public String scenarioId;
+        public String datasetId;
+        public Instant startDate;
+        public Long duration;
+        public String status;
+        public String environment;
+        public StepDto rootStep;
+        public int attempts;
+        public Instant nextAttempt;
+    }
+
+    static class StepDto {
+        public String name;
+        public List<String> errors;
+        public List<StepDto> steps;
+    }
+}
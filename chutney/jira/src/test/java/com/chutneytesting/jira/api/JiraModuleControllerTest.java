@@ -27,6 +27,7 @@ import com.chutneytesting.jira.domain.JiraXrayClientFactory;
 import com.chutneytesting.jira.domain.JiraXrayService;
 import com.chutneytesting.jira.infra.JiraFileRepository;
 import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
@@ -54,7 +55,7 @@ class JiraModuleControllerTest {
     @BeforeEach
     public void setUp() throws IOException {
         jiraRepository = new JiraFileRepository(Files.createTempDirectory("jira").toString());
-        JiraXrayService jiraXrayService = new JiraXrayService(jiraRepository, jiraXrayFactory);
+        JiraXrayService jiraXrayService = new JiraXrayService(jiraRepository, jiraXrayFactory, mock(AttachmentRepository.class));
 
         when(jiraXrayFactory.create(any())).thenReturn(mockJiraXrayApi);
 
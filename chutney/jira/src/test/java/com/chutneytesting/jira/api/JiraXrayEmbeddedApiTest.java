@@ -10,10 +10,13 @@ package com.chutneytesting.jira.api;
 import static com.chutneytesting.jira.domain.XrayStatus.FAIL;
 import static com.chutneytesting.jira.domain.XrayStatus.PASS;
 import static java.util.List.of;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -22,19 +25,29 @@ import com.chutneytesting.jira.domain.JiraRepository;
 import com.chutneytesting.jira.domain.JiraServerConfiguration;
 import com.chutneytesting.jira.domain.JiraXrayApi;
 import com.chutneytesting.jira.domain.JiraXrayClientFactory;
+import com.chutneytesting.jira.domain.JiraXrayPublisher;
 import com.chutneytesting.jira.domain.JiraXrayService;
+import com.chutneytesting.jira.domain.XrayPublicationRepository;
 import com.chutneytesting.jira.infra.JiraFileRepository;
+import com.chutneytesting.jira.infra.XrayPublicationFileRepository;
 import com.chutneytesting.jira.xrayapi.Xray;
 import com.chutneytesting.jira.xrayapi.XrayTest;
 import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
+import com.chutneytesting.server.core.domain.execution.report.Attachment;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
+import com.chutneytesting.server.core.domain.execution.report.ReportAttachments;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,22 +59,33 @@ class JiraXrayEmbeddedApiTest {
 
     private final JiraXrayApi jiraXrayApiMock = mock(JiraXrayApi.class);
     private final JiraXrayClientFactory jiraXrayFactory = mock(JiraXrayClientFactory.class);
+    private final AttachmentRepository attachmentRepository = mock(AttachmentRepository.class);
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZZZZZ");
     private final JiraServerConfiguration jiraServerConfiguration = new JiraServerConfiguration("an url", "a username", "a password", null, null, null);
 
     private JiraXrayEmbeddedApi jiraXrayEmbeddedApi;
     private JiraRepository jiraRepository;
+    private XrayPublicationRepository publicationRepository;
+    private JiraXrayPublisher jiraXrayPublisher;
 
     @BeforeEach
     public void setUp() throws IOException {
         jiraRepository = new JiraFileRepository(Files.createTempDirectory("jira").toString());
         jiraRepository.saveServerConfiguration(jiraServerConfiguration);
 
-        JiraXrayService jiraXrayService = new JiraXrayService(jiraRepository, jiraXrayFactory);
+        JiraXrayService jiraXrayService = new JiraXrayService(jiraRepository, jiraXrayFactory, attachmentRepository);
 
         when(jiraXrayFactory.create(any())).thenReturn(jiraXrayApiMock);
 
-        jiraXrayEmbeddedApi = new JiraXrayEmbeddedApi(jiraXrayService);
+        publicationRepository = new XrayPublicationFileRepository(Files.createTempDirectory("xray").toString());
+        jiraXrayPublisher = new JiraXrayPublisher(jiraXrayService, publicationRepository, Duration.ZERO, Duration.ofMillis(10));
+
+        jiraXrayEmbeddedApi = new JiraXrayEmbeddedApi(jiraXrayService, jiraXrayPublisher);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jiraXrayPublisher.close();
     }
 
     @Test
@@ -101,7 +125,7 @@ class JiraXrayEmbeddedApiTest {
 
         //T
         ArgumentCaptor<Xray> xrayArgumentCaptor = ArgumentCaptor.forClass(Xray.class);
-        verify(jiraXrayApiMock, times(1)).updateRequest(xrayArgumentCaptor.capture());
+        verify(jiraXrayApiMock, timeout(5000)).updateRequest(xrayArgumentCaptor.capture());
 
         Xray xrayValue = xrayArgumentCaptor.getValue();
         XrayTest xrayTest = xrayValue.getTests().get(0);
@@ -112,6 +136,32 @@ class JiraXrayEmbeddedApiTest {
         assertThat(xrayTest.getStatus()).isEqualTo(PASS.value);
     }
 
+    @Test
+    void updateTestExecutionWithAttachmentsAsEvidences() {
+        // G
+        jiraRepository.saveForCampaign("20", "JIRA-20");
+        jiraRepository.saveForScenario("1", "SCE-1");
+        String attachmentId = "a".repeat(64);
+        when(attachmentRepository.findById(attachmentId)).thenReturn(Optional.of(new Attachment(attachmentId, "image/png", new byte[]{1, 2, 3})));
+        ReportForJira.Step rootStep = new ReportForJira.Step("rootStep", of("Root error", ReportAttachments.reference("image/png", attachmentId)), of());
+        ReportForJira report = new ReportForJira(Instant.parse("2021-05-19T11:22:33.00Z"), 10000L, "FAILURE", rootStep, "env");
+
+        //W
+        jiraXrayEmbeddedApi.updateTestExecution(20L, 1L, "1", "", report);
+
+        //T
+        ArgumentCaptor<Xray> xrayArgumentCaptor = ArgumentCaptor.forClass(Xray.class);
+        verify(jiraXrayApiMock, timeout(5000)).updateRequest(xrayArgumentCaptor.capture());
+
+        XrayTest xrayTest = xrayArgumentCaptor.getValue().getTests().get(0);
+        assertThat(xrayTest.getComment()).isEqualTo("[ > rootStep => [Root error]]");
+        assertThat(xrayTest.getEvidences()).singleElement().satisfies(evidence -> {
+            assertThat(evidence.getData()).isEqualTo(Base64.getEncoder().encodeToString(new byte[]{1, 2, 3}));
+            assertThat(evidence.getFilename()).isEqualTo("rootStep.png");
+            assertThat(evidence.getContentType()).isEqualTo("image/png");
+        });
+    }
+
     @Test
     @DisplayName("Given an execution report, When we want to send the result to jira xray using test plan id, Then new test execution are created")
     void updateTestExecutionWithTestPlan() {
@@ -129,7 +179,7 @@ class JiraXrayEmbeddedApiTest {
 
         //T
         ArgumentCaptor<Xray> xrayArgumentCaptor = ArgumentCaptor.forClass(Xray.class);
-        verify(jiraXrayApiMock, times(1)).updateRequest(xrayArgumentCaptor.capture());
+        verify(jiraXrayApiMock, timeout(5000)).updateRequest(xrayArgumentCaptor.capture());
 
         Xray xrayValue = xrayArgumentCaptor.getValue();
         assertThat(xrayValue.getTestExecutionKey()).isEqualTo("JIRA-22");
@@ -152,6 +202,7 @@ class JiraXrayEmbeddedApiTest {
         jiraXrayEmbeddedApi.updateTestExecution(20L, 1L, "1", "dataset-02", report);
 
         //T
+        await().atMost(5, SECONDS).until(() -> publicationRepository.findAll().isEmpty());
         verify(jiraXrayApiMock, times(0)).updateRequest(any());
     }
 
@@ -174,7 +225,7 @@ class JiraXrayEmbeddedApiTest {
 
         //T
         ArgumentCaptor<Xray> xrayArgumentCaptor = ArgumentCaptor.forClass(Xray.class);
-        verify(jiraXrayApiMock, times(1)).updateRequest(xrayArgumentCaptor.capture());
+        verify(jiraXrayApiMock, timeout(5000)).updateRequest(xrayArgumentCaptor.capture());
 
         Xray xrayValue = xrayArgumentCaptor.getValue();
         assertThat(xrayValue.getTests().get(0).getTestKey()).isEqualTo(expectedTestKey);
@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.jira.domain;
+
+import static java.util.List.of;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.jira.api.ReportForJira;
+import com.chutneytesting.jira.domain.JiraXrayService.ScenarioReport;
+import com.chutneytesting.jira.domain.exception.XrayImportException;
+import com.chutneytesting.jira.infra.XrayPublicationFileRepository;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JiraXrayPublisherTest {
+
+    private final JiraXrayService jiraXrayService = mock(JiraXrayService.class);
+    private XrayPublicationRepository publicationRepository;
+
+    @BeforeEach
+    void setUp(@TempDir Path tmpDir) {
+        publicationRepository = new XrayPublicationFileRepository(tmpDir.toString());
+        when(jiraXrayService.isConfigured()).thenReturn(true);
+    }
+
+    @Test
+    void should_publish_reports_of_a_campaign_execution_together() {
+        try (JiraXrayPublisher sut = new JiraXrayPublisher(jiraXrayService, publicationRepository, Duration.ofMillis(500), Duration.ofMillis(10))) {
+            sut.publish(1L, 10L, "1", "", report());
+            sut.publish(1L, 10L, "2", "", report());
+            sut.publish(1L, 10L, "3", "", report());
+
+            verify(jiraXrayService, timeout(5000)).updateTestExecution(eq(1L), eq(10L), argThat(reports -> reports.size() == 3));
+            await().atMost(5, SECONDS).until(() -> publicationRepository.findAll().isEmpty());
+        }
+    }
+
+    @Test
+    void should_retry_failed_publication() {
+        doThrow(new RuntimeException("Jira unavailable"))
+            .doNothing()
+            .when(jiraXrayService).updateTestExecution(eq(1L), eq(10L), anyList());
+
+        try (JiraXrayPublisher sut = new JiraXrayPublisher(jiraXrayService, publicationRepository, Duration.ZERO, Duration.ofMillis(10))) {
+            sut.publish(1L, 10L, "1", "", report());
+
+            verify(jiraXrayService, timeout(5000).times(2)).updateTestExecution(eq(1L), eq(10L), anyList());
+            await().atMost(5, SECONDS).until(() -> publicationRepository.findAll().isEmpty());
+        }
+    }
+
+    @Test
+    void should_retry_only_failed_imports() {
+        doAnswer(invocation -> {
+            List<ScenarioReport> reports = invocation.getArgument(2);
+            throw new XrayImportException("EXEC-1", reports.stream().filter(report -> report.scenarioId().equals("2")).toList(), new RuntimeException("Jira unavailable"));
+        })
+            .doNothing()
+            .when(jiraXrayService).updateTestExecution(eq(1L), eq(10L), anyList());
+
+        try (JiraXrayPublisher sut = new JiraXrayPublisher(jiraXrayService, publicationRepository, Duration.ofMillis(500), Duration.ofMillis(10))) {
+            sut.publish(1L, 10L, "1", "", report());
+            sut.publish(1L, 10L, "2", "", report());
+
+            verify(jiraXrayService, timeout(5000)).updateTestExecution(eq(1L), eq(10L), argThat(reports ->
+                reports.size() == 1 && reports.get(0).scenarioId().equals("2")
+            ));
+            await().atMost(5, SECONDS).until(() -> publicationRepository.findAll().isEmpty());
+        }
+    }
+
+    @Test
+    void should_resume_persisted_publications() {
+        publicationRepository.save(new XrayPublication("id", 1L, 10L, "1", "", report(), 1, Instant.now()));
+        doNothing().when(jiraXrayService).updateTestExecution(eq(1L), eq(10L), anyList());
+
+        try (JiraXrayPublisher ignored = new JiraXrayPublisher(jiraXrayService, publicationRepository, Duration.ZERO, Duration.ofMillis(10))) {
+            verify(jiraXrayService, timeout(5000)).updateTestExecution(eq(1L), eq(10L), argThat(reports ->
+                reports.size() == 1 && reports.get(0).report().rootStep.errors.equals(of("error"))
+            ));
+        }
+    }
+
+    @Test
+    void should_not_publish_without_jira_configuration() {
+        when(jiraXrayService.isConfigured()).thenReturn(false);
+
+        try (JiraXrayPublisher sut = new JiraXrayPublisher(jiraXrayService, publicationRepository, Duration.ZERO, Duration.ofMillis(10))) {
+            sut.publish(1L, 10L, "1", "", report());
+
+            assertThat(publicationRepository.findAll()).isEmpty();
+            verify(jiraXrayService, never()).updateTestExecution(eq(1L), eq(10L), anyList());
+        }
+    }
+
+    private static ReportForJira report() {
+        ReportForJira.Step rootStep = new ReportForJira.Step("rootStep", of("error"), of(new ReportForJira.Step("sub step", of(), of())));
+        return new ReportForJira(Instant.parse("2021-05-19T11:22:33.00Z"), 10000L, "FAILURE", rootStep, "env");
+    }
+}
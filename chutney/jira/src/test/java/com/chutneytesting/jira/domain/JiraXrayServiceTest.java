@@ -10,12 +10,22 @@ package com.chutneytesting.jira.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.chutneytesting.jira.api.ReportForJira;
+import com.chutneytesting.jira.domain.JiraXrayService.ScenarioReport;
 import com.chutneytesting.jira.domain.exception.NoJiraConfigurationException;
+import com.chutneytesting.jira.domain.exception.XrayImportException;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
 import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 class JiraXrayServiceTest {
@@ -31,7 +41,7 @@ class JiraXrayServiceTest {
         var jiraXrayApi = mock(JiraXrayApi.class);
         when(jiraXrayClientFactory.create(any())).thenReturn(jiraXrayApi);
 
-        JiraXrayService sut = new JiraXrayService(jiraRepository, jiraXrayClientFactory);
+        JiraXrayService sut = new JiraXrayService(jiraRepository, jiraXrayClientFactory, mock(AttachmentRepository.class));
         Field jiraConfigurationField = sut.getClass().getDeclaredField("jiraServerConfiguration");
         jiraConfigurationField.setAccessible(true);
 
@@ -49,4 +59,34 @@ class JiraXrayServiceTest {
         assertThat(jiraConfigurationField.get(sut)).isEqualTo(newJiraConfiguration);
         verify(jiraXrayApi).getTestExecutionScenarios("NOP-666");
     }
+
+    @Test
+    void should_report_failed_imports_after_doing_the_other_ones() {
+        // Given
+        var jiraRepository = mock(JiraRepository.class);
+        when(jiraRepository.loadServerConfiguration()).thenReturn(new JiraServerConfiguration("http://jira.server", "", "", null, null, null));
+        when(jiraRepository.getByCampaignId("1")).thenReturn("EXEC-1");
+        when(jiraRepository.getAllLinkedScenarios()).thenReturn(Map.of("1", "TEST-1", "2", "TEST-2", "3", "TEST-3"));
+
+        var jiraXrayClientFactory = mock(JiraXrayClientFactory.class);
+        var jiraXrayApi = mock(JiraXrayApi.class);
+        when(jiraXrayClientFactory.create(any())).thenReturn(jiraXrayApi);
+        doThrow(new RuntimeException("Jira unavailable"))
+            .when(jiraXrayApi).updateRequest(argThat(xray -> xray.getInfo().getTestEnvironments().equals(List.of("env2"))));
+
+        JiraXrayService sut = new JiraXrayService(jiraRepository, jiraXrayClientFactory, mock(AttachmentRepository.class));
+        ScenarioReport failedReport = scenarioReport("2", "env2");
+
+        // When
+        assertThatThrownBy(() -> sut.updateTestExecution(1L, 10L, List.of(scenarioReport("1", "env1"), failedReport, scenarioReport("3", "env3"))))
+            // Then
+            .isInstanceOfSatisfying(XrayImportException.class, e -> assertThat(e.failedReports()).singleElement().isSameAs(failedReport));
+        verify(jiraXrayApi, times(3)).updateRequest(any());
+        verify(jiraXrayApi).close();
+    }
+
+    private static ScenarioReport scenarioReport(String scenarioId, String environment) {
+        ReportForJira.Step rootStep = new ReportForJira.Step("rootStep", List.of(), List.of());
+        return new ScenarioReport(scenarioId, "", new ReportForJira(Instant.parse("2021-05-19T11:22:33.00Z"), 10000L, "SUCCESS", rootStep, environment));
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.jira.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.chutneytesting.jira.domain.JiraServerConfiguration;
+import com.chutneytesting.jira.domain.JiraXrayApi;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JiraXrayFactoryImplTest {
+
+    private final List<HttpJiraXrayImpl> clients = new ArrayList<>();
+    private final JiraXrayFactoryImpl sut = new JiraXrayFactoryImpl(configuration -> {
+        HttpJiraXrayImpl client = mock(HttpJiraXrayImpl.class);
+        clients.add(client);
+        return client;
+    });
+
+    @Test
+    void should_reuse_client_of_same_configuration() {
+        try (JiraXrayApi first = sut.create(configuration("http://jira.server")); JiraXrayApi second = sut.create(configuration("http://jira.server"))) {
+            first.isTestPlan("PLAN-1");
+            second.isTestPlan("PLAN-2");
+        }
+
+        assertThat(clients).hasSize(1);
+        verify(clients.get(0)).isTestPlan("PLAN-1");
+        verify(clients.get(0)).isTestPlan("PLAN-2");
+        verify(clients.get(0), never()).close();
+    }
+
+    @Test
+    void should_close_replaced_client_once_released() {
+        // Given
+        JiraXrayApi lease = sut.create(configuration("http://jira.server"));
+
+        // When
+        try (JiraXrayApi ignored = sut.create(configuration("http://other.jira.server"))) {
+            // Then
+            assertThat(clients).hasSize(2);
+            lease.isTestPlan("PLAN-1");
+            verify(clients.get(0)).isTestPlan("PLAN-1");
+            verify(clients.get(0), never()).close();
+
+            lease.close();
+            lease.close();
+            verify(clients.get(0)).close();
+        }
+        verify(clients.get(1), never()).close();
+    }
+
+    @Test
+    void should_close_unused_client_when_replaced() {
+        sut.create(configuration("http://jira.server")).close();
+
+        sut.create(configuration("http://other.jira.server")).close();
+
+        verify(clients.get(0)).close();
+        verify(clients.get(1), never()).close();
+    }
+
+    @Test
+    void should_close_client_on_close_once_released() {
+        JiraXrayApi lease = sut.create(configuration("http://jira.server"));
+
+        sut.close();
+        verify(clients.get(0), never()).close();
+
+        lease.close();
+        verify(clients.get(0)).close();
+    }
+
+    private static JiraServerConfiguration configuration(String url) {
+        return new JiraServerConfiguration(url, "", "", null, null, null);
+    }
+}
@@ -0,0 +1,156 @@
+#!/usr/bin/env bash
+#
+# SPDX-FileCopyrightText: 2017-2024 Enedis
+#
+# SPDX-License-Identifier: Apache-2.0
+#
+
+# Class Data Sharing (AppCDS) support for Chutney server packagings.
+#
+# Usage:
+#   chutney-appcds.sh archive <packaging-jar> <target-dir> [spring arguments...]
+#       Extract the packaging jar into <target-dir> and record a CDS archive of the classes
+#       loaded during a training run, which stops once the Spring context is refreshed.
+#   chutney-appcds.sh start <target-dir> [spring arguments...]
+#       Start the extracted server using the CDS archive.
+#   chutney-appcds.sh benchmark <packaging-jar> <target-dir> [runs] [spring arguments...]
+#       Measure startup time of the packaging jar, of the extracted server, and of the extracted server using the CDS archive.
+#
+# JAVA_HOME and JAVA_OPTS are honored.
+
+set -euo pipefail
+
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+ARCHIVE_FILE_NAME="chutney.jsa"
+
+usage() {
+  sed -n '8,20p' "$0" | sed 's/^# \{0,1\}//' >&2
+  exit 1
+}
+
+extracted_jar() {
+  local target_dir="$1"
+  local jar
+  jar=$(find "$target_dir" -maxdepth 1 -name '*.jar' | head -n 1)
+  if [[ -z "$jar" ]]; then
+    echo "No extracted jar found in $target_dir, run archive first" >&2
+    exit 1
+  fi
+  echo "$jar"
+}
+
+# Run the server until its context is refreshed, in a throwaway working directory so databases and configuration
+# folders relative to it do not pollute the current one.
+run_until_refreshed() {
+  local work_dir
+  work_dir=$(mktemp -d)
+  (cd "$work_dir" && "$JAVA" ${JAVA_OPTS:-} -Dspring.context.exit=onRefresh "$@" > "$work_dir/startup.log" 2>&1) || {
+    echo "Server startup failed, see $work_dir/startup.log" >&2
+    return 1
+  }
+  rm -rf "$work_dir"
+}
+
+# Extract the packaging jar, then gather its dependencies as <target-dir>/lib/*.jar and a <target-dir>/<packaging-jar-name>
+# application jar which manifest starts the server with them, in the order of the packaging classpath index.
+# CDS only archives classes loaded from jars by the application class loader, not from directories or by the Spring Boot
+# launcher, so that the extracted server is started with a plain classpath.
+# The jar tool is used rather than the Spring Boot jar modes, which refuse executable jars prefixed with a launch script.
+extract() {
+  local packaging_jar="$1" target_dir="$2"
+  local exploded_dir="$target_dir/exploded"
+  mkdir -p "$exploded_dir"
+  (cd "$exploded_dir" && "${JAVA%java}jar" --extract --file "$packaging_jar")
+
+  local start_class
+  start_class=$(sed -n 's/^Start-Class: *//p' "$exploded_dir/META-INF/MANIFEST.MF" | tr -d '\r')
+  if [[ -z "$start_class" ]]; then
+    echo "No Start-Class found in $packaging_jar manifest" >&2
+    exit 1
+  fi
+
+  mkdir -p "$target_dir/lib"
+  local classpath=() lib
+  while read -r lib; do
+    mv "$exploded_dir/$lib" "$target_dir/lib/"
+    classpath+=("lib/$(basename "$lib")")
+  done < <(sed -n 's/^- "\(.*\)"$/\1/p' "$exploded_dir/BOOT-INF/classpath.idx")
+
+  # Manifest lines are limited to 72 bytes, longer values continue on lines starting with a space
+  local manifest="$exploded_dir/MANIFEST.MF"
+  {
+    echo "Main-Class: $start_class"
+    echo "Class-Path: ${classpath[*]}" | fold -w 71 | sed '2,$s/^/ /'
+  } > "$manifest"
+  "${JAVA%java}jar" --create --file "$target_dir/$(basename "$packaging_jar")" --manifest "$manifest" -C "$exploded_dir/BOOT-INF/classes" .
+
+  rm -rf "$exploded_dir"
+}
+
+archive() {
+  local packaging_jar target_dir
+  packaging_jar=$(realpath "$1")
+  target_dir=$(realpath -m "$2")
+  shift 2
+
+  rm -rf "$target_dir"
+  extract "$packaging_jar" "$target_dir"
+
+  echo "Training run to record ${target_dir}/${ARCHIVE_FILE_NAME}"
+  run_until_refreshed -XX:ArchiveClassesAtExit="$target_dir/$ARCHIVE_FILE_NAME" -jar "$(extracted_jar "$target_dir")" "$@"
+}
+
+start() {
+  local target_dir
+  target_dir=$(realpath "$1")
+  shift
+
+  exec "$JAVA" ${JAVA_OPTS:-} -XX:SharedArchiveFile="$target_dir/$ARCHIVE_FILE_NAME" -Xshare:auto -jar "$(extracted_jar "$target_dir")" "$@"
+}
+
+# Average wall clock time in milliseconds of <runs> startups
+measure() {
+  local runs="$1"
+  shift
+  local total=0 start
+  for ((i = 0; i < runs; i++)); do
+    start=$(date +%s%N)
+    run_until_refreshed "$@"
+    total=$((total + ($(date +%s%N) - start) / 1000000))
+  done
+  echo $((total / runs))
+}
+
+benchmark() {
+  local packaging_jar target_dir runs
+  packaging_jar=$(realpath "$1")
+  target_dir=$(realpath "$2")
+  shift 2
+  runs=5
+  if [[ "${1:-}" =~ ^[0-9]+$ ]]; then
+    runs="$1"
+    shift
+  fi
+
+  local extracted_jar
+  extracted_jar=$(extracted_jar "$target_dir")
+  if [[ ! -f "$target_dir/$ARCHIVE_FILE_NAME" ]]; then
+    echo "No CDS archive found in $target_dir, run archive first" >&2
+    exit 1
+  fi
+
+  echo "Average startup time over $runs runs:"
+  echo "  packaging jar          : $(measure "$runs" -jar "$packaging_jar" "$@") ms"
+  echo "  extracted jar          : $(measure "$runs" -jar "$extracted_jar" "$@") ms"
+  echo "  extracted jar with CDS : $(measure "$runs" -XX:SharedArchiveFile="$target_dir/$ARCHIVE_FILE_NAME" -Xshare:auto -jar "$extracted_jar" "$@") ms"
+}
+
+[[ $# -lt 2 ]] && usage
+command="$1"
+shift
+case "$command" in
+  archive) [[ $# -lt 2 ]] && usage; archive "$@" ;;
+  start) start "$@" ;;
+  benchmark) [[ $# -lt 2 ]] && usage; benchmark "$@" ;;
+  *) usage ;;
+esac
@@ -8,9 +8,18 @@
 package com.chutneytesting.server.core.domain.admin;
 
 import java.io.OutputStream;
+import java.time.Instant;
 
 public interface Backupable {
     void backup(OutputStream outputStream);
 
+    /**
+     * Backup only the data modified since the given instant.<br>
+     * Backupables unable to tell which data changed backup everything.
+     */
+    default void backup(OutputStream outputStream, Instant modifiedSince) {
+        backup(outputStream);
+    }
+
     String name();
 }
@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution;
+
+import com.chutneytesting.server.core.domain.execution.report.FollowedReport;
+import io.reactivex.rxjava3.core.Observable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Running executions which reports can be followed.<br>
+ * Each execution has one hot source of reports shared by all its followers, which only retains the latest report.<br>
+ * An execution is released as soon as its last report is persisted and no follower remains.
+ */
+class ExecutionFollowRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionFollowRegistry.class);
+
+    private final Map<Long, FollowedExecution> executions = new ConcurrentHashMap<>();
+
+    /**
+     * @param executionId       the stored execution id
+     * @param engineExecutionId the engine execution id, used to stop, pause or resume the execution
+     * @param reports           the hot source of reports, replaying the latest one
+     */
+    void register(Long executionId, Long engineExecutionId, Observable<FollowedReport> reports) {
+        executions.put(executionId, new FollowedExecution(engineExecutionId, reports));
+        LOGGER.debug("Followed executions : {}", executions.size());
+    }
+
+    /**
+     * @return the shared reports of the execution, empty if the execution has been released
+     */
+    Optional<Observable<FollowedReport>> follow(Long executionId) {
+        return Optional.ofNullable(executions.get(executionId))
+            .map(execution -> execution.reports
+                .doOnSubscribe(disposable -> execution.followers.incrementAndGet())
+                .doFinally(() -> {
+                    execution.followers.decrementAndGet();
+                    release(executionId);
+                })
+            );
+    }
+
+    Optional<Long> engineExecutionId(Long executionId) {
+        return Optional.ofNullable(executions.get(executionId)).map(execution -> execution.engineExecutionId);
+    }
+
+    /**
+     * Mark the execution as ended, its last report being persisted.
+     */
+    void persisted(Long executionId) {
+        Optional.ofNullable(executions.get(executionId)).ifPresent(execution -> execution.persisted = true);
+        release(executionId);
+    }
+
+    int size() {
+        return executions.size();
+    }
+
+    private void release(Long executionId) {
+        executions.computeIfPresent(executionId, (id, execution) -> {
+            if (execution.persisted && execution.followers.get() == 0) {
+                LOGGER.trace("Release execution {}", executionId);
+                return null;
+            }
+            return execution;
+        });
+    }
+
+    private static class FollowedExecution {
+        private final Long engineExecutionId;
+        private final Observable<FollowedReport> reports;
+        private final AtomicInteger followers = new AtomicInteger();
+        private volatile boolean persisted;
+
+        private FollowedExecution(Long engineExecutionId, Observable<FollowedReport> reports) {
+            this.engineExecutionId = engineExecutionId;
+            this.reports = reports;
+        }
+    }
+}
@@ -13,6 +13,8 @@ import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionR
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
 import com.chutneytesting.server.core.domain.scenario.ScenarioNotFoundException;
 import com.chutneytesting.server.core.domain.scenario.ScenarioNotParsableException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 public class ScenarioExecutionEngine {
@@ -40,6 +42,16 @@ public class ScenarioExecutionEngine {
         return executionEngineAsync.followExecution(executionRequest.testCase.id(), executionEngineAsync.execute(executionRequest)).blockingLast();
     }
 
+    /**
+     * Executes a test case on ExecutionEngine without waiting for its end.
+     *
+     * @param executionRequest The request execution.
+     * @return a future completed with the final execution Report.
+     */
+    public CompletableFuture<ScenarioExecutionReport> executeAsync(ExecutionRequest executionRequest) throws ScenarioNotFoundException, ScenarioNotParsableException {
+        return executionEngineAsync.executeAsync(executionRequest);
+    }
+
     public ScenarioExecutionReport simpleSyncExecution(ExecutionRequest executionRequest) {
         ExecutionRequest processedExecutionRequest = new ExecutionRequest(testCasePreProcessors.apply(executionRequest), executionRequest.environment, executionRequest.userId, executionRequest.dataset);
 
@@ -51,4 +63,8 @@ public class ScenarioExecutionEngine {
         return executionEngineAsync.saveNotExecutedScenarioExecution(executionRequest);
     }
 
+    public List<ExecutionHistory.Execution> saveNotExecutedScenarioExecutions(List<ExecutionRequest> executionRequests) {
+        return executionEngineAsync.saveNotExecutedScenarioExecutions(executionRequests);
+    }
+
 }
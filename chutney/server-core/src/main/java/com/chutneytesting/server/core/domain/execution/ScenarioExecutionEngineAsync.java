@@ -15,6 +15,10 @@ import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProcessors;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
+import com.chutneytesting.server.core.domain.execution.report.FollowedReport;
+import com.chutneytesting.server.core.domain.execution.report.ReportAttachments;
+import com.chutneytesting.server.core.domain.execution.report.ReportNotFoundException;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
@@ -25,18 +29,22 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Ascii;
 import com.google.common.base.Joiner;
-import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,8 +52,8 @@ import org.slf4j.LoggerFactory;
 public class ScenarioExecutionEngineAsync {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScenarioExecutionEngineAsync.class);
-    private static final long DEFAULT_RETENTION_DELAY_SECONDS = 5;
     private static final long DEFAULT_DEBOUNCE_MILLISECONDS = 100;
+    private static final String PERSISTENCE_PHASE = "PERSISTENCE";
 
     private final ObjectMapper reportObjectMapper;
 
@@ -55,9 +63,10 @@ public class ScenarioExecutionEngineAsync {
     private final ChutneyMetrics metrics;
     private final TestCasePreProcessors testCasePreProcessors;
 
-    private final Map<Long, Pair<Observable<ScenarioExecutionReport>, Long>> scenarioExecutions = new ConcurrentHashMap<>();
-    private long retentionDelaySeconds;
+    private final ExecutionFollowRegistry followRegistry = new ExecutionFollowRegistry();
     private long debounceMilliSeconds;
+    private boolean instrumented;
+    private AttachmentRepository attachmentRepository;
 
     public ScenarioExecutionEngineAsync(ExecutionHistoryRepository executionHistoryRepository,
                                         ServerTestEngine executionEngine,
@@ -65,7 +74,7 @@ public class ScenarioExecutionEngineAsync {
                                         ChutneyMetrics metrics,
                                         TestCasePreProcessors testCasePreProcessors,
                                         ObjectMapper reportObjectMapper) {
-        this(executionHistoryRepository, executionEngine, executionStateRepository, metrics, testCasePreProcessors, reportObjectMapper, DEFAULT_RETENTION_DELAY_SECONDS, DEFAULT_DEBOUNCE_MILLISECONDS);
+        this(executionHistoryRepository, executionEngine, executionStateRepository, metrics, testCasePreProcessors, reportObjectMapper, DEFAULT_DEBOUNCE_MILLISECONDS);
     }
 
     public ScenarioExecutionEngineAsync(ExecutionHistoryRepository executionHistoryRepository,
@@ -74,7 +83,6 @@ public class ScenarioExecutionEngineAsync {
                                         ChutneyMetrics metrics,
                                         TestCasePreProcessors testCasePreProcessors,
                                         ObjectMapper reportObjectMapper,
-                                        long retentionDelaySeconds,
                                         long debounceMilliSeconds) {
         this.executionHistoryRepository = executionHistoryRepository;
         this.executionEngine = executionEngine;
@@ -82,7 +90,6 @@ public class ScenarioExecutionEngineAsync {
         this.metrics = metrics;
         this.testCasePreProcessors = testCasePreProcessors;
         this.reportObjectMapper = reportObjectMapper;
-        this.retentionDelaySeconds = retentionDelaySeconds;
         this.debounceMilliSeconds = debounceMilliSeconds;
     }
 
@@ -93,6 +100,32 @@ public class ScenarioExecutionEngineAsync {
      * @return execution id.
      */
     public Long execute(ExecutionRequest executionRequest) {
+        return start(executionRequest).getLeft();
+    }
+
+    /**
+     * Execute a test case with ExecutionEngine and store StepExecutionReport.
+     * No thread is held while waiting for the execution end.
+     *
+     * @param executionRequest with the test case to execute and the environment chosen
+     * @return a future completed with the last execution report when execution ends
+     * @throws FailedExecutionAttempt when the engine cannot start the execution
+     */
+    public CompletableFuture<ScenarioExecutionReport> executeAsync(ExecutionRequest executionRequest) {
+        Pair<Long, Observable<FollowedReport>> execution = start(executionRequest);
+        CompletableFuture<ScenarioExecutionReport> lastReport = new CompletableFuture<>();
+        execution.getRight()
+            .lastElement()
+            .map(followedReport -> followedReport.report)
+            .subscribe(
+                lastReport::complete,
+                lastReport::completeExceptionally,
+                () -> lastReport.completeExceptionally(new ScenarioNotRunningException(executionRequest.testCase.id()))
+            );
+        return lastReport;
+    }
+
+    private Pair<Long, Observable<FollowedReport>> start(ExecutionRequest executionRequest) {
         // Compile testcase for execution
         ExecutionRequest executionRequestProcessed = new ExecutionRequest(testCasePreProcessors.apply(executionRequest), executionRequest.environment, executionRequest.userId, executionRequest.dataset, executionRequest.campaignExecution, executionRequest.tags);
         // Initialize execution history
@@ -104,15 +137,14 @@ public class ScenarioExecutionEngineAsync {
         // Start engine execution
         Pair<Observable<StepExecutionReportCore>, Long> followResult = callEngineExecution(executionRequestProcessed, storedExecution);
         // Build execution observable
-        Observable<ScenarioExecutionReport> executionObservable = buildScenarioExecutionReportObservable(executionRequestProcessed, storedExecution.executionId(), followResult);
-        // Store execution Observable to permit further subscriptions
-        LOGGER.trace("Add replayer for execution {}", storedExecution.executionId());
-        scenarioExecutions.put(storedExecution.executionId(), Pair.of(executionObservable, followResult.getRight()));
-        LOGGER.debug("Replayers map size : {}", scenarioExecutions.size());
+        Observable<FollowedReport> executionObservable = buildFollowedReportObservable(executionRequestProcessed, storedExecution.executionId(), followResult);
+        // Register execution Observable to permit further subscriptions
+        LOGGER.trace("Register execution {}", storedExecution.executionId());
+        followRegistry.register(storedExecution.executionId(), followResult.getRight(), executionObservable);
         // Begin execution
         executionObservable.subscribeOn(io()).subscribe();
         // Return execution id
-        return storedExecution.executionId();
+        return Pair.of(storedExecution.executionId(), executionObservable);
     }
 
     private ExecutionHistory.Execution storeInitialReport(ExecutionRequest executionRequest) {
@@ -145,8 +177,18 @@ public class ScenarioExecutionEngineAsync {
     }
 
     Observable<ScenarioExecutionReport> buildScenarioExecutionReportObservable(ExecutionRequest executionRequest, Long executionId, Pair<Observable<StepExecutionReportCore>, Long> engineExecution) {
-        // Observe in background
-        Observable<StepExecutionReportCore> replayer = engineExecution.getLeft().observeOn(io());
+        return buildFollowedReportObservable(executionRequest, executionId, engineExecution).map(followedReport -> followedReport.report);
+    }
+
+    private Observable<FollowedReport> buildFollowedReportObservable(ExecutionRequest executionRequest, Long executionId, Pair<Observable<StepExecutionReportCore>, Long> engineExecution) {
+        AtomicReference<FollowedReport> lastFollowedReport = new AtomicReference<>();
+        UnaryOperator<StepExecutionReportCore> attachmentsExtractor = attachmentRepository == null
+            ? UnaryOperator.identity()
+            : ReportAttachments.extractor(executionId, attachmentRepository);
+        // Observe in background, keeping only the latest engine report while the previous one is processed
+        Flowable<StepExecutionReportCore> replayer = engineExecution.getLeft()
+            .toFlowable(BackpressureStrategy.LATEST)
+            .observeOn(io(), false, 1);
         // Debounce configuration
         if (debounceMilliSeconds > 0) {
             replayer = replayer.throttleLatest(debounceMilliSeconds, TimeUnit.MILLISECONDS, true);
@@ -154,6 +196,9 @@ public class ScenarioExecutionEngineAsync {
         return replayer
             .doOnSubscribe(disposable -> notifyExecutionStart(executionId, executionRequest.testCase))
 
+            // Store binaries as attachments, only for the engine reports kept to be persisted
+            .map(attachmentsExtractor::apply)
+
             // Create report
             .map(report -> {
                 LOGGER.trace("Map report for execution {}", executionId);
@@ -170,11 +215,15 @@ public class ScenarioExecutionEngineAsync {
 
             .doOnNext(report -> updateHistory(executionId, executionRequest, report))
 
+            // Version report steps for followers
+            .map(report -> lastFollowedReport.updateAndGet(previous -> previous == null ? FollowedReport.first(report) : previous.next(report)))
+
             .doOnTerminate(() -> notifyExecutionEnd(executionId, executionRequest.testCase))
             .doOnTerminate(() -> sendMetrics(executionId, executionRequest.testCase))
-            .doOnTerminate(() -> cleanExecutionId(executionId))
+            .doOnTerminate(() -> followRegistry.persisted(executionId))
 
             // Make hot with replay last state
+            .toObservable()
             .replay(1)
             // Begin process on the first subscribe
             .autoConnect();
@@ -188,48 +237,119 @@ public class ScenarioExecutionEngineAsync {
     }
 
 
+    /**
+     * Follow a running execution, or get the persisted last report of an ended one.
+     *
+     * @return reports of the execution, starting with its latest one
+     * @throws ScenarioNotRunningException when the execution is neither running nor ended
+     */
     public Observable<ScenarioExecutionReport> followExecution(String scenarioId, Long executionId) {
-        if (scenarioExecutions.containsKey(executionId)) {
-            return scenarioExecutions.get(executionId).getLeft();
-        } else {
-            throw new ScenarioNotRunningException(scenarioId);
-        }
+        return followExecutionUpdates(scenarioId, executionId).map(followedReport -> followedReport.report);
+    }
+
+    /**
+     * Follow a running execution, or get the persisted last report of an ended one, with the steps changed by each update.
+     *
+     * @return report updates of the execution, starting with its latest one
+     * @throws ScenarioNotRunningException when the execution is neither running nor ended
+     */
+    public Observable<FollowedReport> followExecutionUpdates(String scenarioId, Long executionId) {
+        return followRegistry.follow(executionId)
+            .or(() -> persistedReport(scenarioId, executionId).map(FollowedReport::persisted).map(Observable::just))
+            .orElseThrow(() -> new ScenarioNotRunningException(scenarioId));
     }
 
     public void stop(String scenarioId, Long executionId) {
-        if (scenarioExecutions.containsKey(executionId)) {
-            executionEngine.stop(scenarioExecutions.get(executionId).getRight());
-        } else {
-            throw new ScenarioNotRunningException(scenarioId);
-        }
+        executionEngine.stop(engineExecutionId(scenarioId, executionId));
     }
 
     public void pause(String scenarioId, Long executionId) {
-        if (scenarioExecutions.containsKey(executionId)) {
-            executionEngine.pause(scenarioExecutions.get(executionId).getRight());
-        } else {
-            throw new ScenarioNotRunningException(scenarioId);
-        }
+        executionEngine.pause(engineExecutionId(scenarioId, executionId));
     }
 
     public void resume(String scenarioId, Long executionId) {
-        if (scenarioExecutions.containsKey(executionId)) {
-            executionEngine.resume(scenarioExecutions.get(executionId).getRight());
-        } else {
-            throw new ScenarioNotRunningException(scenarioId);
+        executionEngine.resume(engineExecutionId(scenarioId, executionId));
+    }
+
+    private Long engineExecutionId(String scenarioId, Long executionId) {
+        return followRegistry.engineExecutionId(executionId)
+            .orElseThrow(() -> new ScenarioNotRunningException(scenarioId));
+    }
+
+    private Optional<ScenarioExecutionReport> persistedReport(String scenarioId, Long executionId) {
+        try {
+            ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(scenarioId, executionId);
+            if (execution == null || execution.status() == ServerReportStatus.RUNNING || execution.report().isBlank()) {
+                return Optional.empty();
+            }
+            return Optional.of(reportObjectMapper.readValue(execution.report(), ScenarioExecutionReport.class));
+        } catch (ReportNotFoundException | JsonProcessingException e) {
+            LOGGER.debug("No persisted report for execution {}", executionId, e);
+            return Optional.empty();
         }
     }
 
-    public void setRetentionDelaySeconds(long retentionDelaySeconds) {
-        this.retentionDelaySeconds = retentionDelaySeconds;
+    int followedExecutions() {
+        return followRegistry.size();
     }
 
     public void setDebounceMilliSeconds(long debounceMilliSeconds) {
         this.debounceMilliSeconds = debounceMilliSeconds;
     }
 
+    /**
+     * @param instrumented whether the persistence of each report update is timed as the {@code PERSISTENCE} execution phase
+     */
+    public void setInstrumented(boolean instrumented) {
+        this.instrumented = instrumented;
+    }
+
+    /**
+     * @param attachmentRepository where binaries of the reports are stored before persisting them, kept in reports when not set
+     */
+    public void setAttachmentRepository(AttachmentRepository attachmentRepository) {
+        this.attachmentRepository = attachmentRepository;
+    }
+
     public ExecutionHistory.Execution saveNotExecutedScenarioExecution(ExecutionRequest executionRequest) {
-        ExecutionHistory.DetachedExecution detachedExecution = ImmutableExecutionHistory.DetachedExecution.builder()
+        ExecutionHistory.Execution execution = executionHistoryRepository.store(executionRequest.testCase.id(), notExecutedExecution(executionRequest));
+        saveNotExecutedReport(executionRequest, execution);
+        return execution;
+    }
+
+    /**
+     * Record many scenarios as not executed, storing all executions then all reports in one go.
+     *
+     * @return stored executions, in the order of the given requests
+     */
+    public List<ExecutionHistory.Execution> saveNotExecutedScenarioExecutions(List<ExecutionRequest> executionRequests) {
+        if (executionRequests.isEmpty()) {
+            return emptyList();
+        }
+        List<ExecutionHistory.DetachedScenarioExecution> detachedExecutions = executionRequests.stream()
+            .map(executionRequest -> ImmutableExecutionHistory.DetachedScenarioExecution.builder()
+                .scenarioId(executionRequest.testCase.id())
+                .detachedExecution(notExecutedExecution(executionRequest))
+                .build())
+            .map(ExecutionHistory.DetachedScenarioExecution.class::cast)
+            .toList();
+
+        List<ExecutionHistory.Execution> executions = executionHistoryRepository.store(detachedExecutions);
+        try {
+            executionHistoryRepository.update(
+                IntStream.range(0, executions.size())
+                    .mapToObj(i -> summarize(notExecutedReport(executionRequests.get(i), executions.get(i)), executionRequests.get(i))
+                        .attach(executions.get(i).executionId(), executions.get(i).scenarioId()))
+                    .toList()
+            );
+        } catch (Exception e) {
+            LOGGER.error("Update history for {} not executed scenarios failed", executions.size(), e);
+        }
+        return executions;
+    }
+
+    private ExecutionHistory.DetachedExecution notExecutedExecution(ExecutionRequest executionRequest) {
+        return ImmutableExecutionHistory.DetachedExecution.builder()
             .time(LocalDateTime.now())
             .duration(0L)
             .status(ServerReportStatus.NOT_EXECUTED)
@@ -240,13 +360,13 @@ public class ScenarioExecutionEngineAsync {
             .tags(new HashSet<>(executionRequest.tags))
             .dataset(executionRequest.dataset)
             .build();
-
-        ExecutionHistory.Execution execution = executionHistoryRepository.store(executionRequest.testCase.id(), detachedExecution);
-        saveNotExecutedReport(executionRequest, execution);
-        return execution;
     }
 
     private void saveNotExecutedReport(ExecutionRequest executionRequest, ExecutionHistory.Execution execution) {
+        updateHistory(execution.executionId(), executionRequest, notExecutedReport(executionRequest, execution));
+    }
+
+    private ScenarioExecutionReport notExecutedReport(ExecutionRequest executionRequest, ExecutionHistory.Execution execution) {
         StepExecutionReportCore report = new StepExecutionReportCore(
             executionRequest.testCase.metadata().title(),
             0L,
@@ -261,7 +381,7 @@ public class ScenarioExecutionEngineAsync {
             null
         );
 
-        ScenarioExecutionReport scenarioExecutionReport =  new ScenarioExecutionReport(
+        return new ScenarioExecutionReport(
             execution.executionId(),
             executionRequest.testCase.metadata().title(),
             executionRequest.environment, executionRequest.userId,
@@ -269,7 +389,6 @@ public class ScenarioExecutionEngineAsync {
             executionRequest.dataset,
             report
         );
-        updateHistory(execution.executionId(), executionRequest, scenarioExecutionReport);
     }
 
     /**
@@ -292,6 +411,29 @@ public class ScenarioExecutionEngineAsync {
             .build();
     }
 
+    /**
+     * Build a {@link ExecutionHistory.ExecutionSummary} from a live report, sparing a reload of the stored execution
+     *
+     * @param scenarioReport report to summarize
+     * @param executionRequest request which led to the report
+     */
+    public static ExecutionHistory.ExecutionSummary summary(ScenarioExecutionReport scenarioReport, ExecutionRequest executionRequest) {
+        return ImmutableExecutionHistory.ExecutionSummary.builder()
+            .executionId(scenarioReport.executionId)
+            .scenarioId(executionRequest.testCase.id())
+            .time(scenarioReport.report.startDate.atZone(ZoneId.systemDefault()).toLocalDateTime())
+            .duration(scenarioReport.report.duration)
+            .status(scenarioReport.report.status)
+            .info(joinAndTruncateMessages(searchInfo(scenarioReport.report)))
+            .error(searchErrors(scenarioReport.report).stream().findFirst().orElse(""))
+            .testCaseTitle(scenarioReport.scenarioName)
+            .environment(executionRequest.environment)
+            .user(executionRequest.userId)
+            .dataset(ofNullable(executionRequest.dataset))
+            .tags(new HashSet<>(executionRequest.tags))
+            .build();
+    }
+
     private String serialize(ScenarioExecutionReport stepExecutionReport) {
         try {
             return reportObjectMapper.writeValueAsString(stepExecutionReport);
@@ -301,7 +443,7 @@ public class ScenarioExecutionEngineAsync {
         }
     }
 
-    private Optional<String> joinAndTruncateMessages(Iterable<String> messages) {
+    private static Optional<String> joinAndTruncateMessages(Iterable<String> messages) {
         return Optional.of(Ascii.truncate(Joiner.on(", ").useForNull("null").join(messages), 50, "...")).filter(s -> !s.isEmpty());
     }
 
@@ -310,19 +452,6 @@ public class ScenarioExecutionEngineAsync {
         executionStateRepository.notifyExecutionStart(testCase.id());
     }
 
-    private void cleanExecutionId(long executionId) {
-        LOGGER.trace("Clean for execution {}", executionId);
-        if (retentionDelaySeconds > 0) {
-            Completable.timer(retentionDelaySeconds, TimeUnit.SECONDS)
-                .subscribe(() -> {
-                    LOGGER.trace("Remove replayer for execution {}", executionId);
-                    scenarioExecutions.remove(executionId);
-                }, throwable -> LOGGER.error("Cannot remove replayer for execution {}", executionId, throwable));
-        } else {
-            scenarioExecutions.remove(executionId);
-        }
-    }
-
     private void sendMetrics(long executionId, TestCase testCase) {
         LOGGER.trace("Send metrics for execution {}", executionId);
         try {
@@ -335,11 +464,15 @@ public class ScenarioExecutionEngineAsync {
 
     private void updateHistory(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report) {
         LOGGER.trace("Update history for execution {}", executionId);
+        long start = instrumented ? System.nanoTime() : 0L;
         try {
             executionHistoryRepository.update(executionRequest.testCase.id(), summarize(report, executionRequest).attach(executionId, executionRequest.testCase.id()));
         } catch (Exception e) {
             LOGGER.error("Update history for execution {} failed", executionId, e);
         }
+        if (instrumented) {
+            metrics.onExecutionPhaseEnded(PERSISTENCE_PHASE, null, null, Duration.ofNanos(System.nanoTime() - start));
+        }
     }
 
     private void notifyExecutionEnd(long executionId, TestCase testCase) {
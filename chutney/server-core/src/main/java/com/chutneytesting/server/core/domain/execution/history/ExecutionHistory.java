@@ -73,6 +73,11 @@ public interface ExecutionHistory {
         }
     }
 
+    @Value.Immutable
+    interface DetachedScenarioExecution extends WithScenario {
+        DetachedExecution detachedExecution();
+    }
+
     @Value.Immutable
     interface ExecutionSummary extends ExecutionProperties, Attached, WithScenario {
     }
@@ -10,6 +10,7 @@ package com.chutneytesting.server.core.domain.execution.history;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
 import com.chutneytesting.server.core.domain.execution.report.ReportNotFoundException;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -27,12 +28,25 @@ public interface ExecutionHistoryRepository {
      **/
     ExecutionHistory.Execution store(String scenarioId, ExecutionHistory.DetachedExecution executionProperties) throws IllegalStateException;
 
+    /**
+     * Add reports for many scenarios at once, in a single transaction.
+     *
+     * @return stored executions, in the order of the given ones
+     * @throws IllegalStateException when storage for a scenario cannot be created
+     **/
+    List<ExecutionHistory.Execution> store(List<ExecutionHistory.DetachedScenarioExecution> detachedExecutions) throws IllegalStateException;
+
     /**
      * @param scenarioIds
      * @return the last report. Key of the map are scenarioIds
      */
     Map<String, ExecutionSummary> getLastExecutions(List<String> scenarioIds);
 
+    /**
+     * @return the mean duration in milliseconds of the ended executions on the given environment. Key of the map are scenarioIds, scenarios without any ended execution are absent
+     */
+    Map<String, Long> getMeanDurations(List<String> scenarioIds, String environment);
+
     /**
      * @return last reports of the indicated scenario.
      **/
@@ -54,9 +68,32 @@ public interface ExecutionHistoryRepository {
      */
     void update(String scenarioId, ExecutionHistory.Execution updatedExecution);
 
+    /**
+     * Override many previously stored {@link ExecutionHistory.Execution}, in a single transaction.
+     */
+    void update(List<ExecutionHistory.Execution> updatedExecutions);
+
     int setAllRunningExecutionsToKO();
 
     List<ExecutionSummary> getExecutionsWithStatus(ServerReportStatus status);
 
     void deleteExecutions(Set<Long> executionsIds);
+
+    /**
+     * Keyset scan of the scenarios having executions, deleted scenarios included.
+     *
+     * @param afterScenarioId the last scenario id of the previous page, null for the first one
+     * @return at most {@code limit} scenario ids, in ascending order
+     */
+    List<String> getScenariosWithExecutions(String afterScenarioId, int limit);
+
+    /**
+     * Select the executions of the given scenarios to purge without loading them.<br>
+     * Only executions outside any campaign execution and older than {@code executedBefore} are considered.
+     * Among them, on each environment, the {@code maxExecutionsToKeep} most recent ones and the most recent success one are kept.
+     *
+     * @param afterExecutionId the last execution id of the previous batch, 0 for the first one
+     * @return at most {@code limit} execution ids, in ascending order
+     */
+    List<Long> getExecutionsToPurge(List<String> scenarioIds, int maxExecutionsToKeep, LocalDateTime executedBefore, long afterExecutionId, int limit);
 }
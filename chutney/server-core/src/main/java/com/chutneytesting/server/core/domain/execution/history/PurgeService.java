@@ -7,16 +7,13 @@
 
 package com.chutneytesting.server.core.domain.execution.history;
 
-import java.util.Set;
-
 public interface PurgeService {
 
     PurgeReport purge();
 
-    record PurgeReport(Set<Long> scenariosExecutionsIds, Set<Long> campaignsExecutionsIds) {
-        public PurgeReport {
-            scenariosExecutionsIds = Set.copyOf(scenariosExecutionsIds);
-            campaignsExecutionsIds = Set.copyOf(campaignsExecutionsIds);
-        }
+    /**
+     * Number of executions deleted by a purge, ids are not kept so that a purge over a large history runs in constant memory.
+     */
+    record PurgeReport(long scenariosExecutionsCount, long campaignsExecutionsCount) {
     }
 }
@@ -0,0 +1,14 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.report;
+
+/**
+ * Binary evidence of a step execution, stored out of the report which only holds its {@link ReportAttachments reference}.
+ */
+public record Attachment(String id, String mediaType, byte[] content) {
+}
@@ -0,0 +1,16 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.report;
+
+@SuppressWarnings("serial")
+public class AttachmentNotFoundException extends RuntimeException {
+
+    public AttachmentNotFoundException(String attachmentId) {
+        super("Unable to find attachment " + attachmentId);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.report;
+
+import java.util.Optional;
+import java.util.Set;
+
+public interface AttachmentRepository {
+
+    /**
+     * Store content once per execution, saving the same content again for the execution gives the same id.
+     *
+     * @return The attachment id
+     */
+    String save(long executionId, String mediaType, byte[] content);
+
+    Optional<Attachment> findById(String attachmentId);
+
+    /**
+     * Attachments live as long as the reports of their execution.
+     */
+    void deleteByExecutionIds(Set<Long> executionIds);
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.report;
+
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Execution report as seen by its followers.<br>
+ * Each report update of a running execution has a sequence number, starting at 1, and each step node of the report
+ * remembers the sequence number of the update which last changed it.<br>
+ * So a follower knowing the report at a given sequence number only needs the {@link #changesSince(long) changes} since.
+ */
+public class FollowedReport {
+
+    public final long sequence;
+    public final ScenarioExecutionReport report;
+    private final StepVersion root;
+    private final long contextVariablesVersion;
+
+    private FollowedReport(long sequence, ScenarioExecutionReport report, StepVersion root, long contextVariablesVersion) {
+        this.sequence = sequence;
+        this.report = report;
+        this.root = root;
+        this.contextVariablesVersion = contextVariablesVersion;
+    }
+
+    /**
+     * @return the first update of a running execution report
+     */
+    public static FollowedReport first(ScenarioExecutionReport report) {
+        return new FollowedReport(1, report, StepVersion.of(null, report.report, 1), 1);
+    }
+
+    /**
+     * @return a report which updates history is unknown, as one read from storage
+     */
+    public static FollowedReport persisted(ScenarioExecutionReport report) {
+        return new FollowedReport(0, report, StepVersion.of(null, report.report, 0), 0);
+    }
+
+    /**
+     * @return the following update of this report
+     */
+    public FollowedReport next(ScenarioExecutionReport nextReport) {
+        long nextSequence = sequence + 1;
+        return new FollowedReport(
+            nextSequence,
+            nextReport,
+            StepVersion.of(root, nextReport.report, nextSequence),
+            report.contextVariables.equals(nextReport.contextVariables) ? contextVariablesVersion : nextSequence
+        );
+    }
+
+    /**
+     * @param knownSequence sequence number of the report known by the follower
+     * @return step nodes changed since given sequence number,
+     * empty when it is not a sequence number of this report updates, thus requiring the whole report
+     */
+    public Optional<List<StepChange>> changesSince(long knownSequence) {
+        if (knownSequence < 0 || knownSequence > sequence) {
+            return Optional.empty();
+        }
+        List<StepChange> changes = new ArrayList<>();
+        root.collectChanges(knownSequence, new ArrayList<>(), changes);
+        return Optional.of(changes);
+    }
+
+    public boolean contextVariablesChangedSince(long knownSequence) {
+        return contextVariablesVersion > knownSequence;
+    }
+
+    /**
+     * A changed step node.
+     *
+     * @param path  indexes of the step node from the report root step, empty for the root step
+     * @param step  the step node, with its sub steps only if they changed in number, otherwise with null sub steps
+     */
+    public record StepChange(List<Integer> path, StepExecutionReportCore step) {
+    }
+
+    /**
+     * @param version        sequence number of the last update of the step own fields
+     * @param stepsVersion   sequence number of the last update of the sub steps number
+     * @param subtreeVersion sequence number of the last update of the step or any of its descendants
+     */
+    private record StepVersion(StepExecutionReportCore step, long version, long stepsVersion, long subtreeVersion, List<StepVersion> steps) {
+
+        private static StepVersion of(StepVersion previous, StepExecutionReportCore step, long sequence) {
+            List<StepExecutionReportCore> subSteps = Optional.ofNullable(step.steps).orElse(emptyList());
+            List<StepVersion> previousSteps = previous == null ? emptyList() : previous.steps;
+            List<StepVersion> steps = new ArrayList<>(subSteps.size());
+            long subtreeVersion = 0;
+            for (int i = 0; i < subSteps.size(); i++) {
+                StepVersion subStep = of(i < previousSteps.size() ? previousSteps.get(i) : null, subSteps.get(i), sequence);
+                steps.add(subStep);
+                subtreeVersion = Math.max(subtreeVersion, subStep.subtreeVersion);
+            }
+            long version = previous != null && sameOwnFields(previous.step, step) ? previous.version : sequence;
+            long stepsVersion = previous != null && previousSteps.size() == subSteps.size() ? previous.stepsVersion : sequence;
+            return new StepVersion(step, version, stepsVersion, Math.max(subtreeVersion, Math.max(version, stepsVersion)), steps);
+        }
+
+        private void collectChanges(long knownSequence, List<Integer> path, List<StepChange> changes) {
+            if (subtreeVersion <= knownSequence) {
+                return;
+            }
+            if (stepsVersion > knownSequence) {
+                changes.add(new StepChange(List.copyOf(path), step));
+                return;
+            }
+            if (version > knownSequence) {
+                changes.add(new StepChange(List.copyOf(path), withoutSteps(step)));
+            }
+            for (int i = 0; i < steps.size(); i++) {
+                path.add(i);
+                steps.get(i).collectChanges(knownSequence, path, changes);
+                path.remove(path.size() - 1);
+            }
+        }
+
+        private static boolean sameOwnFields(StepExecutionReportCore previous, StepExecutionReportCore step) {
+            return Objects.equals(previous.name, step.name)
+                && Objects.equals(previous.duration, step.duration)
+                && Objects.equals(previous.startDate, step.startDate)
+                && previous.status == step.status
+                && Objects.equals(previous.information, step.information)
+                && Objects.equals(previous.errors, step.errors)
+                && Objects.equals(previous.type, step.type)
+                && Objects.equals(previous.targetName, step.targetName)
+                && Objects.equals(previous.targetUrl, step.targetUrl)
+                && Objects.equals(previous.strategy, step.strategy)
+                && Objects.equals(previous.evaluatedInputs, step.evaluatedInputs)
+                && Objects.equals(previous.stepOutputs, step.stepOutputs)
+                && Objects.equals(previous.phaseTimings, step.phaseTimings);
+        }
+
+        private static StepExecutionReportCore withoutSteps(StepExecutionReportCore step) {
+            return new StepExecutionReportCore(step.name, step.duration, step.startDate, step.status, step.information, step.errors,
+                null, step.type, step.targetName, step.targetUrl, step.strategy, step.evaluatedInputs, step.stepOutputs, step.phaseTimings);
+        }
+    }
+}
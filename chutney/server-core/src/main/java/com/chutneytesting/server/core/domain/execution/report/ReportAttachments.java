@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.report;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * Steps' information and errors may hold binaries as base64 data URIs, i.e. {@code data:image/png;base64,iVBORw0...}.<br>
+ * They are stored as {@link Attachment} and replaced in reports by references, i.e. {@code attachment:image/png;<attachment id>}.
+ */
+public final class ReportAttachments {
+
+    public static final String REFERENCE_PREFIX = "attachment:";
+    private static final String DATA_URI_PREFIX = "data:";
+    private static final String BASE64_SEPARATOR = ";base64,";
+    /**
+     * Media types are short, do not look further for the base64 separator
+     */
+    private static final int MEDIA_TYPE_MAX_LENGTH = 127;
+
+    private ReportAttachments() {
+    }
+
+    /**
+     * Successive reports of a running execution repeat the messages of its ended steps,
+     * so each data URI is decoded and stored once for the execution and its reference reused afterwards.
+     *
+     * @return A function replacing base64 data URIs of the execution's reports by attachments references
+     */
+    public static UnaryOperator<StepExecutionReportCore> extractor(long executionId, AttachmentRepository attachmentRepository) {
+        Map<String, String> references = new HashMap<>();
+        UnaryOperator<String> messageExtractor = message -> isDataUri(message)
+            ? references.computeIfAbsent(message, dataUri -> extract(dataUri, executionId, attachmentRepository))
+            : message;
+        return report -> extract(report, messageExtractor);
+    }
+
+    private static StepExecutionReportCore extract(StepExecutionReportCore report, UnaryOperator<String> messageExtractor) {
+        List<String> information = extract(report.information, messageExtractor);
+        List<String> errors = extract(report.errors, messageExtractor);
+        List<StepExecutionReportCore> steps = report.steps.stream().map(step -> extract(step, messageExtractor)).toList();
+        boolean unchangedSteps = true;
+        for (int i = 0; i < steps.size() && unchangedSteps; i++) {
+            unchangedSteps = steps.get(i) == report.steps.get(i);
+        }
+        if (information == report.information && errors == report.errors && unchangedSteps) {
+            return report;
+        }
+        return new StepExecutionReportCore(
+            report.name,
+            report.duration,
+            report.startDate,
+            report.status,
+            information,
+            errors,
+            steps,
+            report.type,
+            report.targetName,
+            report.targetUrl,
+            report.strategy,
+            report.evaluatedInputs,
+            report.stepOutputs,
+            report.phaseTimings
+        );
+    }
+
+    private static List<String> extract(List<String> messages, UnaryOperator<String> messageExtractor) {
+        if (messages == null || messages.stream().noneMatch(ReportAttachments::isDataUri)) {
+            return messages;
+        }
+        return messages.stream().map(messageExtractor).toList();
+    }
+
+    /**
+     * @return A reference to the attachment of the execution the base64 data URI message is stored as, or the message itself for any other message
+     */
+    public static String extract(String message, long executionId, AttachmentRepository attachmentRepository) {
+        if (!isDataUri(message)) {
+            return message;
+        }
+        int separatorIndex = message.lastIndexOf(BASE64_SEPARATOR, DATA_URI_PREFIX.length() + MEDIA_TYPE_MAX_LENGTH);
+        if (separatorIndex < DATA_URI_PREFIX.length()) {
+            return message;
+        }
+        String mediaType = message.substring(DATA_URI_PREFIX.length(), separatorIndex);
+        byte[] content;
+        try {
+            content = Base64.getMimeDecoder().decode(message.substring(separatorIndex + BASE64_SEPARATOR.length()));
+        } catch (IllegalArgumentException e) {
+            return message;
+        }
+        return reference(mediaType, attachmentRepository.save(executionId, mediaType, content));
+    }
+
+    private static boolean isDataUri(String message) {
+        return message != null && message.startsWith(DATA_URI_PREFIX);
+    }
+
+    public static String reference(String mediaType, String attachmentId) {
+        return REFERENCE_PREFIX + mediaType + ";" + attachmentId;
+    }
+
+    /**
+     * @return The id of the attachment referenced by the message, if it is a reference
+     */
+    public static Optional<String> referencedId(String message) {
+        if (message == null || !message.startsWith(REFERENCE_PREFIX)) {
+            return Optional.empty();
+        }
+        int separatorIndex = message.lastIndexOf(';');
+        if (separatorIndex < REFERENCE_PREFIX.length()) {
+            return Optional.empty();
+        }
+        return Optional.of(message.substring(separatorIndex + 1));
+    }
+
+    /**
+     * @return The base64 data URI of the attachment referenced by the message, or the message itself when it is not a reference to a stored attachment
+     */
+    public static String toDataUri(String message, AttachmentRepository attachmentRepository) {
+        return referencedId(message)
+            .flatMap(attachmentRepository::findById)
+            .map(attachment -> DATA_URI_PREFIX + attachment.mediaType() + BASE64_SEPARATOR + Base64.getEncoder().encodeToString(attachment.content()))
+            .orElse(message);
+    }
+}
@@ -10,6 +10,7 @@ package com.chutneytesting.server.core.domain.execution.report;
 import com.chutneytesting.server.core.domain.tools.Default;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,11 @@ public class StepExecutionReportCore implements ServerReportStatus.HavingStatus
     public final String strategy;
     public final Map<String, Object> evaluatedInputs;
     public final Map<String, Object> stepOutputs;
+    /**
+     * Total time in microseconds spent by the engine in each phase, only on the root report of an instrumented execution.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public final Map<String, Long> phaseTimings;
 
     @JsonCreator
     public StepExecutionReportCore(String name,
@@ -46,6 +52,22 @@ public class StepExecutionReportCore implements ServerReportStatus.HavingStatus
         this(name, duration, startDate, status, information, errors, steps, type, targetName, targetUrl, strategy, null, null);
     }
 
+    public StepExecutionReportCore(String name,
+                                   Long duration,
+                                   Instant startDate,
+                                   ServerReportStatus status,
+                                   List<String> information,
+                                   List<String> errors,
+                                   List<StepExecutionReportCore> steps,
+                                   String type,
+                                   String targetName,
+                                   String targetUrl,
+                                   String strategy,
+                                   Map<String, Object> evaluatedInputs,
+                                   Map<String, Object> stepOutputs
+    ) {
+        this(name, duration, startDate, status, information, errors, steps, type, targetName, targetUrl, strategy, evaluatedInputs, stepOutputs, null);
+    }
 
     @Default
     public StepExecutionReportCore(String name,
@@ -60,7 +82,8 @@ public class StepExecutionReportCore implements ServerReportStatus.HavingStatus
                                    String targetUrl,
                                    String strategy,
                                    Map<String, Object> evaluatedInputs,
-                                   Map<String, Object> stepOutputs
+                                   Map<String, Object> stepOutputs,
+                                   Map<String, Long> phaseTimings
     ) {
         this.name = name;
         this.duration = duration;
@@ -75,6 +98,7 @@ public class StepExecutionReportCore implements ServerReportStatus.HavingStatus
         this.strategy = strategy;
         this.evaluatedInputs = evaluatedInputs;
         this.stepOutputs = stepOutputs;
+        this.phaseTimings = phaseTimings;
     }
 
     @Override
@@ -29,6 +29,7 @@ public class StepExecutionReportCoreBuilder {
     private String strategy = "sequential";
     private Map<String, Object> evaluatedInputs;
     private Map<String, Object> stepOutputs;
+    private Map<String, Long> phaseTimings;
 
     public StepExecutionReportCoreBuilder setName(String name) {
         this.name = name;
@@ -90,6 +91,11 @@ public class StepExecutionReportCoreBuilder {
         return this;
     }
 
+    public StepExecutionReportCoreBuilder setPhaseTimings(Map<String, Long> phaseTimings) {
+        this.phaseTimings = phaseTimings;
+        return this;
+    }
+
     public StepExecutionReportCoreBuilder setStrategy(String strategy) {
         if (strategy != null) {
             this.strategy = strategy;
@@ -112,7 +118,8 @@ public class StepExecutionReportCoreBuilder {
             targetUrl,
             strategy,
             evaluatedInputs,
-            stepOutputs
+            stepOutputs,
+            phaseTimings
         );
     }
 
@@ -11,6 +11,7 @@ import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.scenario.TestCase;
 import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
+import java.time.Duration;
 import org.springframework.http.HttpStatusCode;
 
 public interface ChutneyMetrics {
@@ -20,4 +21,16 @@ public interface ChutneyMetrics {
     void onCampaignExecutionEnded(Campaign campaign, CampaignExecution campaignExecution);
 
     void onHttpError(HttpStatusCode status);
+
+    void onCampaignSchedulerQueueUpdated(int queueDepth);
+
+    void onCampaignScenarioDequeued(Campaign campaign, Duration waitTime);
+
+    /**
+     * Called for each timed execution phase when execution instrumentation is enabled.
+     *
+     * @param actionType the step action type, null when the phase is not related to a step
+     * @param strategy   the step strategy type, null when none
+     */
+    void onExecutionPhaseEnded(String phase, String actionType, String strategy, Duration duration);
 }
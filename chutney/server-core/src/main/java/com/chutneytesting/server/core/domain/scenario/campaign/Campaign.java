@@ -18,6 +18,7 @@ public class Campaign {
     public final List<CampaignScenario> scenarios;
     public final boolean parallelRun;
     public final boolean retryAuto;
+    public final boolean longestScenariosFirst;
     public final List<String> tags;
 
     private String environment;
@@ -32,12 +33,26 @@ public class Campaign {
                     boolean retryAuto,
                     String datasetId,
                     List<String> tags) {
+        this(id, title, description, scenarios, environment, parallelRun, retryAuto, false, datasetId, tags);
+    }
+
+    public Campaign(Long id,
+                    String title,
+                    String description,
+                    List<CampaignScenario> scenarios,
+                    String environment,
+                    boolean parallelRun,
+                    boolean retryAuto,
+                    boolean longestScenariosFirst,
+                    String datasetId,
+                    List<String> tags) {
         this.id = id;
         this.title = title;
         this.description = description;
         this.scenarios = initListNullOrEmpty(scenarios);
         this.parallelRun = parallelRun;
         this.retryAuto = retryAuto;
+        this.longestScenariosFirst = longestScenariosFirst;
         this.environment = environment;
         this.datasetId = datasetId;
         this.tags = tags;
@@ -70,6 +85,7 @@ public class Campaign {
             scenarios.equals(campaign.scenarios) &&
             parallelRun == campaign.parallelRun &&
             retryAuto == campaign.retryAuto &&
+            longestScenariosFirst == campaign.longestScenariosFirst &&
             environment.equals(campaign.environment) &&
             datasetId.equals(campaign.datasetId) &&
             tags.equals(campaign.tags);
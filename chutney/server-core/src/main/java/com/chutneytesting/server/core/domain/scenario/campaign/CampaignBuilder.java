@@ -18,6 +18,7 @@ public class CampaignBuilder {
     private String environment;
     private boolean parallelRun;
     private boolean retryAuto;
+    private boolean longestScenariosFirst;
     private String datasetId;
     private List<String> tags;
 
@@ -63,6 +64,11 @@ public class CampaignBuilder {
         return this;
     }
 
+    public CampaignBuilder setLongestScenariosFirst(boolean longestScenariosFirst) {
+        this.longestScenariosFirst = longestScenariosFirst;
+        return this;
+    }
+
     public CampaignBuilder setDatasetId(String datasetId) {
         this.datasetId = datasetId;
         return this;
@@ -81,6 +87,7 @@ public class CampaignBuilder {
         this.environment = campaign.executionEnvironment();
         this.parallelRun = campaign.parallelRun;
         this.retryAuto = campaign.retryAuto;
+        this.longestScenariosFirst = campaign.longestScenariosFirst;
         this.datasetId = campaign.executionDataset() ;
         this.tags = campaign.tags;
 
@@ -88,6 +95,6 @@ public class CampaignBuilder {
     }
 
     public Campaign build() {
-        return new Campaign(id, title, description, campaignScenarios, environment, parallelRun, retryAuto, datasetId, tags);
+        return new Campaign(id, title, description, campaignScenarios, environment, parallelRun, retryAuto, longestScenariosFirst, datasetId, tags);
     }
 }
@@ -27,6 +27,7 @@ public class CampaignExecutionReportBuilder {
     private Long campaignId;
     private LocalDateTime startDate;
     private ServerReportStatus status;
+    private Long predictedDuration;
 
     public static CampaignExecutionReportBuilder builder() {
         return new CampaignExecutionReportBuilder();
@@ -91,6 +92,11 @@ public class CampaignExecutionReportBuilder {
         return this;
     }
 
+    public CampaignExecutionReportBuilder predictedDuration(Long predictedDuration) {
+        this.predictedDuration = predictedDuration;
+        return this;
+    }
+
     public CampaignExecution build() {
         return new CampaignExecution(
             executionId,
@@ -102,7 +108,8 @@ public class CampaignExecutionReportBuilder {
             dataset,
             startDate,
             status,
-            scenarioExecutionReports
+            scenarioExecutionReports,
+            predictedDuration
         );
     }
 }
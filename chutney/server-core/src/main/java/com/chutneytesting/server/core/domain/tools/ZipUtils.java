@@ -13,14 +13,21 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import org.apache.commons.io.IOUtils;
 
 public final class ZipUtils {
 
+    public static final String MANIFEST_ENTRY_NAME = ".manifest";
+
     public static void compressFile(File file, String zipEntityName, ZipOutputStream out) throws IOException {
         ZipEntry entry = new ZipEntry(zipEntityName);
         out.putNextEntry(entry);
@@ -31,13 +38,20 @@ public final class ZipUtils {
     }
 
     public static void compressDirectoryToZipfile(Path rootDir, Path sourceDir, ZipOutputStream out) throws IOException {
+        compressDirectoryToZipfile(rootDir, sourceDir, out, file -> true);
+    }
+
+    /**
+     * @param fileFilter Compress only the files accepted by this filter
+     */
+    public static void compressDirectoryToZipfile(Path rootDir, Path sourceDir, ZipOutputStream out, Predicate<File> fileFilter) throws IOException {
         Path dir = rootDir.resolve(sourceDir);
         if (Files.exists(dir)) {
             for (File file : requireNonNull(dir.toFile().listFiles())) {
                 Path source = sourceDir.resolve(file.getName());
                 if (file.isDirectory()) {
-                    compressDirectoryToZipfile(rootDir, source, out);
-                } else {
+                    compressDirectoryToZipfile(rootDir, source, out, fileFilter);
+                } else if (fileFilter.test(file)) {
                     compressFile(rootDir.resolve(source).toFile(), source.toString(), out);
                 }
             }
@@ -45,4 +59,32 @@ public final class ZipUtils {
             throw new FileNotFoundException(dir.toString());
         }
     }
+
+    /**
+     * Compress only the files modified since the given instant, along with a {@value #MANIFEST_ENTRY_NAME} entry
+     * listing the entries of all the files, one per line.<br>
+     * Files missing from the manifest were deleted since the given instant.
+     *
+     * @param fileFilter Consider only the files accepted by this filter
+     */
+    public static void compressDirectoryChangesToZipfile(Path rootDir, Path sourceDir, ZipOutputStream out, Predicate<File> fileFilter, Instant modifiedSince) throws IOException {
+        compressDirectoryToZipfile(rootDir, sourceDir, out, fileFilter.and(file -> file.lastModified() > modifiedSince.toEpochMilli()));
+
+        List<String> entries = new ArrayList<>();
+        listEntries(rootDir, sourceDir, fileFilter, entries);
+        out.putNextEntry(new ZipEntry(sourceDir.resolve(MANIFEST_ENTRY_NAME).toString()));
+        out.write(String.join("\n", entries).getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+    }
+
+    private static void listEntries(Path rootDir, Path sourceDir, Predicate<File> fileFilter, List<String> entries) {
+        for (File file : requireNonNull(rootDir.resolve(sourceDir).toFile().listFiles())) {
+            Path source = sourceDir.resolve(file.getName());
+            if (file.isDirectory()) {
+                listEntries(rootDir, source, fileFilter, entries);
+            } else if (fileFilter.test(file)) {
+                entries.add(source.toString());
+            }
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.chutneytesting.server.core.domain.execution.report.FollowedReport;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ExecutionFollowRegistryTest {
+
+    private final ExecutionFollowRegistry sut = new ExecutionFollowRegistry();
+
+    @Test
+    public void should_release_persisted_execution_without_follower() {
+        sut.register(1L, 10L, Observable.never());
+        assertThat(sut.engineExecutionId(1L)).hasValue(10L);
+
+        sut.persisted(1L);
+
+        assertThat(sut.size()).isZero();
+        assertThat(sut.follow(1L)).isEmpty();
+        assertThat(sut.engineExecutionId(1L)).isEmpty();
+    }
+
+    @Test
+    public void should_retain_persisted_execution_until_its_last_follower_leaves() {
+        PublishSubject<FollowedReport> reports = PublishSubject.create();
+        sut.register(1L, 10L, reports.replay(1).autoConnect());
+
+        TestObserver<FollowedReport> firstFollower = sut.follow(1L).orElseThrow().test();
+        TestObserver<FollowedReport> secondFollower = sut.follow(1L).orElseThrow().test();
+        sut.persisted(1L);
+        assertThat(sut.size()).isEqualTo(1);
+
+        firstFollower.dispose();
+        assertThat(sut.size()).isEqualTo(1);
+
+        secondFollower.dispose();
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    public void should_share_one_source_between_followers_and_replay_latest_report() {
+        AtomicInteger sourceSubscriptions = new AtomicInteger();
+        PublishSubject<FollowedReport> reports = PublishSubject.create();
+        sut.register(1L, 10L, reports.doOnSubscribe(d -> sourceSubscriptions.incrementAndGet()).replay(1).autoConnect());
+        FollowedReport firstReport = mock(FollowedReport.class);
+        FollowedReport lastReport = mock(FollowedReport.class);
+
+        TestObserver<FollowedReport> firstFollower = sut.follow(1L).orElseThrow().test();
+        reports.onNext(firstReport);
+        reports.onNext(lastReport);
+        TestObserver<FollowedReport> lateFollower = sut.follow(1L).orElseThrow().test();
+        reports.onComplete();
+        sut.persisted(1L);
+
+        assertThat(sourceSubscriptions).hasValue(1);
+        firstFollower.assertValues(firstReport, lastReport).assertComplete();
+        lateFollower.assertValues(lastReport).assertComplete();
+        assertThat(sut.size()).isZero();
+    }
+}
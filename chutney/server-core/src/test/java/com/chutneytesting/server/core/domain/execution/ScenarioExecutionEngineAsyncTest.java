@@ -11,7 +11,9 @@ package com.chutneytesting.server.core.domain.execution;
 import static java.time.LocalDateTime.now;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
@@ -24,6 +26,7 @@ import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProcessors;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
@@ -38,11 +41,14 @@ import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.observers.TestObserver;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
 import io.reactivex.rxjava3.schedulers.TestScheduler;
+import io.reactivex.rxjava3.subjects.PublishSubject;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
@@ -101,7 +107,6 @@ public class ScenarioExecutionEngineAsyncTest {
             metrics,
             testCasePreProcessors,
             om,
-            0,
             0
         );
         CampaignExecution campaignExecution = mock(CampaignExecution.class);
@@ -146,7 +151,6 @@ public class ScenarioExecutionEngineAsyncTest {
             testCasePreProcessors,
             om
         );
-        sut.setRetentionDelaySeconds(1);
         sut.setDebounceMilliSeconds(0);
         DataSet dataset = DataSet.builder().withName("ds").withConstants(Map.of("A", "B")).build();
 
@@ -179,6 +183,40 @@ public class ScenarioExecutionEngineAsyncTest {
         testObserver.dispose();
     }
 
+    @Test
+    public void should_store_reports_binaries_once_as_attachments_before_persisting_them() {
+        // Given
+        final TestCase testCase = emptyTestCase();
+        final long executionId = 6L;
+        String dataUri = "data:image/png;base64," + Base64.getEncoder().encodeToString(new byte[]{1, 2, 3});
+        StepExecutionReportCore screenshotStep = new StepExecutionReportCoreBuilder().setName("screenshot").setStatus(ServerReportStatus.SUCCESS).setInformation(List.of(dataUri)).createStepExecutionReport();
+        StepExecutionReportCore runningReport = stepExecution("root", ServerReportStatus.RUNNING, List.of(screenshotStep), Instant.now());
+        StepExecutionReportCore endedReport = stepExecution("root", ServerReportStatus.SUCCESS, List.of(screenshotStep), Instant.now());
+        AttachmentRepository attachmentRepository = mock(AttachmentRepository.class);
+        when(attachmentRepository.save(executionId, "image/png", new byte[]{1, 2, 3})).thenReturn("attachmentId");
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            testCasePreProcessors,
+            om,
+            0
+        );
+        sut.setAttachmentRepository(attachmentRepository);
+
+        // When
+        TestObserver<ScenarioExecutionReport> testObserver = sut.buildScenarioExecutionReportObservable(new ExecutionRequest(testCase, "", ""), executionId, Pair.of(Observable.just(runningReport, endedReport), 0L)).test();
+
+        // Then
+        testObserver.awaitDone(5, TimeUnit.SECONDS);
+        testObserver.assertComplete();
+        assertThat(testObserver.values()).last()
+            .satisfies(report -> assertThat(report.report.steps.get(0).information).containsExactly("attachment:image/png;attachmentId"));
+        verify(attachmentRepository).save(eq(executionId), eq("image/png"), any());
+    }
+
     @Test
     public void should_observe_reports_when_follow_execution() {
         // Given
@@ -201,7 +239,6 @@ public class ScenarioExecutionEngineAsyncTest {
             metrics,
             testCasePreProcessors,
             om,
-            10,
             0
         );
 
@@ -217,6 +254,189 @@ public class ScenarioExecutionEngineAsyncTest {
         testObserver.dispose();
     }
 
+    @Test
+    public void should_release_execution_once_persisted_and_no_longer_followed() {
+        // Given
+        final String scenarioId = "1";
+        final long executionId = 5L;
+        final TestCase testCase = emptyTestCase();
+
+        when(testCasePreProcessors.apply(any())).thenReturn(testCase);
+
+        stubHistoryExecution(scenarioId, executionId);
+        Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(100);
+        RxJavaPlugins.setIoSchedulerHandler(scheduler -> engineStub.getRight());
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            testCasePreProcessors,
+            om,
+            0
+        );
+
+        // When
+        Long executionIdFromExecute = sut.execute(new ExecutionRequest(testCase, "", ""));
+        TestObserver<ScenarioExecutionReport> firstFollower = sut.followExecution(scenarioId, executionIdFromExecute).test();
+        TestObserver<ScenarioExecutionReport> secondFollower = sut.followExecution(scenarioId, executionIdFromExecute).test();
+        engineStub.getRight().advanceTimeBy(200, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertThat(sut.followedExecutions()).isEqualTo(1);
+        assertThat(firstFollower.values()).hasSize(2);
+        assertThat(secondFollower.values()).hasSize(2);
+
+        firstFollower.dispose();
+        engineStub.getRight().advanceTimeBy(300, TimeUnit.MILLISECONDS);
+        secondFollower.assertComplete();
+        assertThat(sut.followedExecutions()).isZero();
+        verify(executionHistoryRepository, times(4)).update(eq(scenarioId), any());
+    }
+
+    @Test
+    public void should_follow_persisted_last_report_of_released_execution() throws Exception {
+        // Given
+        final String scenarioId = "1";
+        final long executionId = 7L;
+        ScenarioExecutionReport lastReport = new ScenarioExecutionReport(executionId, EMPTY_TESTCASE_NAME, "env", "user", List.of(), null, stubEngineExecution(0).getMiddle().get(3));
+        ExecutionHistory.Execution execution = ImmutableExecutionHistory.Execution.copyOf(stubHistoryExecution(scenarioId, executionId))
+            .withReport("persisted report");
+        when(executionHistoryRepository.getExecution(scenarioId, executionId)).thenReturn(execution);
+        ObjectMapper reportObjectMapper = mock(ObjectMapper.class);
+        when(reportObjectMapper.readValue("persisted report", ScenarioExecutionReport.class)).thenReturn(lastReport);
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            testCasePreProcessors,
+            reportObjectMapper
+        );
+
+        // When
+        TestObserver<ScenarioExecutionReport> testObserver = sut.followExecution(scenarioId, executionId).test();
+
+        // Then
+        testObserver.assertComplete().assertValueCount(1);
+        assertScenarioExecutionReport(testObserver.values().get(0), executionId, lastReport.report, null);
+    }
+
+    @Test
+    public void should_only_process_latest_engine_report_while_previous_one_is_processed() {
+        // Given
+        final TestCase testCase = emptyTestCase();
+        final String scenarioId = testCase.id();
+        final long executionId = 8L;
+
+        stubHistoryExecution(scenarioId, executionId);
+        TestScheduler ioScheduler = new TestScheduler();
+        RxJavaPlugins.setIoSchedulerHandler(scheduler -> ioScheduler);
+        PublishSubject<StepExecutionReportCore> engineReports = PublishSubject.create();
+        List<StepExecutionReportCore> reportsList = stubEngineExecution(0).getMiddle();
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            testCasePreProcessors,
+            om,
+            0
+        );
+        TestObserver<ScenarioExecutionReport> testObserver = sut.buildScenarioExecutionReportObservable(new ExecutionRequest(testCase, "", ""), executionId, Pair.of(engineReports, 0L)).test();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            engineReports.onNext(reportsList.get(i % 3));
+        }
+        engineReports.onNext(reportsList.get(3));
+        engineReports.onComplete();
+        ioScheduler.triggerActions();
+
+        // Then
+        assertTestObserverStateAndValues(testObserver, true, executionId, List.of(reportsList.get(0), reportsList.get(3)), 2, null);
+        verify(executionHistoryRepository, times(2)).update(eq(scenarioId), any());
+    }
+
+    @Test
+    public void should_complete_with_last_report_when_execute_async() {
+        // Given
+        final String scenarioId = "1";
+        final long executionId = 6L;
+        final TestCase testCase = emptyTestCase();
+
+        when(testCasePreProcessors.apply(any())).thenReturn(testCase);
+
+        stubHistoryExecution(scenarioId, executionId);
+        Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(100);
+        RxJavaPlugins.setIoSchedulerHandler(scheduler -> engineStub.getRight());
+        final List<StepExecutionReportCore> reportsList = engineStub.getMiddle();
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            testCasePreProcessors,
+            om,
+            0
+        );
+
+        // When
+        ExecutionRequest request = new ExecutionRequest(testCase, "env", "user");
+        CompletableFuture<ScenarioExecutionReport> lastReport = sut.executeAsync(request);
+
+        // Then
+        assertThat(lastReport).isNotDone();
+        engineStub.getRight().advanceTimeBy(500, TimeUnit.MILLISECONDS);
+        assertThat(lastReport).isCompleted();
+        assertScenarioExecutionReport(lastReport.join(), executionId, reportsList.get(3), null);
+
+        ExecutionHistory.ExecutionSummary summary = ScenarioExecutionEngineAsync.summary(lastReport.join(), request);
+        assertThat(summary.executionId()).isEqualTo(executionId);
+        assertThat(summary.scenarioId()).isEqualTo(scenarioId);
+        assertThat(summary.status()).isEqualTo(ServerReportStatus.SUCCESS);
+        assertThat(summary.environment()).isEqualTo("env");
+        assertThat(summary.user()).isEqualTo("user");
+    }
+
+    @Test
+    public void should_time_reports_persistence_only_when_instrumented() {
+        // Given
+        final String scenarioId = "1";
+        final long executionId = 7L;
+        final TestCase testCase = emptyTestCase();
+
+        when(testCasePreProcessors.apply(any())).thenReturn(testCase);
+
+        stubHistoryExecution(scenarioId, executionId);
+        Triple<Pair<Observable<StepExecutionReportCore>, Long>, List<StepExecutionReportCore>, TestScheduler> engineStub = stubEngineExecution(100);
+        RxJavaPlugins.setIoSchedulerHandler(scheduler -> engineStub.getRight());
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            testCasePreProcessors,
+            om,
+            0
+        );
+
+        // When
+        sut.execute(new ExecutionRequest(testCase, "env", "user"));
+        engineStub.getRight().advanceTimeBy(150, TimeUnit.MILLISECONDS);
+        sut.setInstrumented(true);
+        engineStub.getRight().advanceTimeBy(500, TimeUnit.MILLISECONDS);
+
+        // Then
+        verify(executionHistoryRepository, times(4)).update(eq(scenarioId), any());
+        verify(metrics, times(3)).onExecutionPhaseEnded(eq("PERSISTENCE"), isNull(), isNull(), any());
+    }
+
     @Test
     public void should_save_not_executed_scenario_report() {
         // Given
@@ -278,6 +498,51 @@ public class ScenarioExecutionEngineAsyncTest {
         assertThat(execution).isEqualTo(expected);
     }
 
+    @Test
+    public void should_save_not_executed_scenario_executions_in_one_batch() {
+        // Given
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            testCasePreProcessors,
+            om
+        );
+        List<ExecutionRequest> executionRequests = List.of(
+            new ExecutionRequest(emptyTestCase(), "env", "userId"),
+            new ExecutionRequest(emptyTestCase(), "env", "userId")
+        );
+        List<ExecutionHistory.Execution> stored = List.of(notExecuted(1L), notExecuted(2L));
+        when(executionHistoryRepository.store(anyList())).thenReturn(stored);
+
+        // When
+        List<ExecutionHistory.Execution> executions = sut.saveNotExecutedScenarioExecutions(executionRequests);
+
+        // Then
+        ArgumentCaptor<List<ExecutionHistory.Execution>> updatedExecutions = ArgumentCaptor.forClass(List.class);
+        verify(executionHistoryRepository, times(1)).store(anyList());
+        verify(executionHistoryRepository, times(1)).update(updatedExecutions.capture());
+        verify(executionHistoryRepository, times(0)).store(any(), any());
+        assertThat(executions).isEqualTo(stored);
+        assertThat(updatedExecutions.getValue()).extracting(ExecutionHistory.Execution::executionId).containsExactly(1L, 2L);
+        assertThat(updatedExecutions.getValue()).extracting(ExecutionHistory.Execution::status).containsOnly(ServerReportStatus.NOT_EXECUTED);
+    }
+
+    private ExecutionHistory.Execution notExecuted(long executionId) {
+        return ImmutableExecutionHistory.Execution.builder()
+            .executionId(executionId)
+            .time(now())
+            .duration(0L)
+            .status(ServerReportStatus.NOT_EXECUTED)
+            .testCaseTitle(EMPTY_TESTCASE_NAME)
+            .environment("env")
+            .user("userId")
+            .report("")
+            .scenarioId("1")
+            .build();
+    }
+
     private void assertTestObserverStateAndValues(TestObserver<ScenarioExecutionReport> testObserver, Long executionId, List<StepExecutionReportCore> reportsList, int valuesCount,DataSet dataset) {
         assertTestObserverStateAndValues(testObserver, false, executionId, reportsList, valuesCount, dataset);
     }
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.report;
+
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.NOT_EXECUTED;
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.RUNNING;
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.SUCCESS;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.server.core.domain.execution.report.FollowedReport.StepChange;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class FollowedReportTest {
+
+    private static final Instant START = Instant.now();
+
+    @Test
+    public void should_only_give_step_nodes_changed_since_known_sequence() {
+        FollowedReport first = FollowedReport.first(report(
+            step("root", RUNNING, 0L, step("a", RUNNING, 0L), step("b", NOT_EXECUTED, 0L))
+        ));
+        FollowedReport second = first.next(report(
+            step("root", RUNNING, 0L, step("a", SUCCESS, 10L), step("b", NOT_EXECUTED, 0L))
+        ));
+        FollowedReport third = second.next(report(
+            step("root", RUNNING, 0L, step("a", SUCCESS, 10L), step("b", RUNNING, 0L))
+        ));
+
+        assertThat(third.sequence).isEqualTo(3);
+        assertThat(third.changesSince(2)).hasValueSatisfying(changes -> assertThat(changes)
+            .singleElement()
+            .satisfies(change -> {
+                assertThat(change.path()).containsExactly(1);
+                assertThat(change.step().name).isEqualTo("b");
+                assertThat(change.step().status).isEqualTo(RUNNING);
+                assertThat(change.step().steps).isNull();
+            }));
+        assertThat(third.changesSince(1)).hasValueSatisfying(changes -> assertThat(changes)
+            .extracting(StepChange::path)
+            .containsExactly(List.of(0), List.of(1)));
+        assertThat(third.changesSince(3)).hasValue(emptyList());
+    }
+
+    @Test
+    public void should_give_whole_sub_steps_when_their_number_changed() {
+        FollowedReport first = FollowedReport.first(report(
+            step("root", RUNNING, 0L, step("loop", RUNNING, 0L, step("iteration 1", RUNNING, 0L)))
+        ));
+        FollowedReport second = first.next(report(
+            step("root", RUNNING, 0L, step("loop", RUNNING, 0L, step("iteration 1", SUCCESS, 0L), step("iteration 2", RUNNING, 0L)))
+        ));
+
+        assertThat(second.changesSince(1)).hasValueSatisfying(changes -> assertThat(changes)
+            .singleElement()
+            .satisfies(change -> {
+                assertThat(change.path()).containsExactly(0);
+                assertThat(change.step().steps).extracting(step -> step.name).containsExactly("iteration 1", "iteration 2");
+            }));
+    }
+
+    @Test
+    public void should_require_whole_report_when_known_sequence_is_not_one_of_its_updates() {
+        FollowedReport first = FollowedReport.first(report(step("root", RUNNING, 0L)));
+        FollowedReport persisted = FollowedReport.persisted(report(step("root", SUCCESS, 0L)));
+
+        assertThat(first.changesSince(-1)).isEmpty();
+        assertThat(first.changesSince(2)).isEmpty();
+        assertThat(first.changesSince(0)).hasValueSatisfying(changes -> assertThat(changes)
+            .singleElement()
+            .satisfies(change -> assertThat(change.path()).isEmpty()));
+        assertThat(persisted.changesSince(5)).isEmpty();
+    }
+
+    @Test
+    public void should_track_context_variables_changes() {
+        FollowedReport first = FollowedReport.first(report(step("root", RUNNING, 0L, step("a", RUNNING, 0L, Map.of()))));
+        FollowedReport second = first.next(report(step("root", RUNNING, 0L, step("a", SUCCESS, 0L, Map.of("var", "value")))));
+        FollowedReport third = second.next(report(step("root", SUCCESS, 0L, step("a", SUCCESS, 0L, Map.of("var", "value")))));
+
+        assertThat(third.contextVariablesChangedSince(1)).isTrue();
+        assertThat(third.contextVariablesChangedSince(2)).isFalse();
+    }
+
+    private ScenarioExecutionReport report(StepExecutionReportCore root) {
+        return new ScenarioExecutionReport(1L, "scenario", "env", "user", emptyList(), root);
+    }
+
+    private StepExecutionReportCore step(String name, ServerReportStatus status, Long duration, StepExecutionReportCore... steps) {
+        return new StepExecutionReportCore(name, duration, START, status, emptyList(), emptyList(), List.of(steps), "", null, null, null, null, null);
+    }
+
+    private StepExecutionReportCore step(String name, ServerReportStatus status, Long duration, Map<String, Object> outputs) {
+        return new StepExecutionReportCore(name, duration, START, status, emptyList(), emptyList(), emptyList(), "", null, null, null, null, outputs);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.server.core.domain.execution.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+
+class ReportAttachmentsTest {
+
+    private final InMemoryAttachmentRepository attachmentRepository = new InMemoryAttachmentRepository();
+
+    @Test
+    void should_replace_base64_data_uri_by_attachment_reference() {
+        byte[] content = "png content".getBytes(StandardCharsets.UTF_8);
+        String dataUri = "data:image/png;base64," + Base64.getEncoder().encodeToString(content);
+
+        String reference = ReportAttachments.extract(dataUri, 42L, attachmentRepository);
+
+        assertThat(reference).isEqualTo("attachment:image/png;1");
+        assertThat(attachmentRepository.executionsIds).containsExactly(42L);
+        assertThat(attachmentRepository.attachments.get("1").content()).isEqualTo(content);
+        assertThat(ReportAttachments.referencedId(reference)).hasValue("1");
+        assertThat(ReportAttachments.toDataUri(reference, attachmentRepository)).isEqualTo(dataUri);
+    }
+
+    @Test
+    void should_keep_other_messages() {
+        List<String> messages = List.of("info", "data:text/plain,not base64", "data:image/png;base64,!!not base64!!", "attachment:image/png;unknown");
+
+        List<String> extracted = messages.stream().map(message -> ReportAttachments.extract(message, 42L, attachmentRepository)).toList();
+
+        assertThat(extracted).isEqualTo(messages);
+        assertThat(attachmentRepository.attachments).isEmpty();
+        assertThat(ReportAttachments.toDataUri("attachment:image/png;unknown", attachmentRepository)).isEqualTo("attachment:image/png;unknown");
+        assertThat(ReportAttachments.referencedId("info")).isEmpty();
+    }
+
+    @Test
+    void should_store_data_uris_of_successive_reports_once() {
+        String dataUri = "data:image/png;base64," + Base64.getEncoder().encodeToString(new byte[]{1, 2, 3});
+        StepExecutionReportCore endedStep = step("ended", List.of(dataUri), List.of(), List.of());
+        StepExecutionReportCore runningStep = step("running", List.of("info"), List.of(), List.of());
+        StepExecutionReportCore failedStep = step("running", List.of("info"), List.of(dataUri), List.of());
+        UnaryOperator<StepExecutionReportCore> sut = ReportAttachments.extractor(42L, attachmentRepository);
+
+        StepExecutionReportCore firstReport = sut.apply(step("root", List.of(), List.of(), List.of(endedStep, runningStep)));
+        StepExecutionReportCore secondReport = sut.apply(step("root", List.of(), List.of(), List.of(endedStep, failedStep)));
+
+        assertThat(attachmentRepository.attachments).hasSize(1);
+        assertThat(firstReport.steps.get(0).information).containsExactly("attachment:image/png;1");
+        assertThat(firstReport.steps.get(1)).isSameAs(runningStep);
+        assertThat(secondReport.steps.get(0).information).containsExactly("attachment:image/png;1");
+        assertThat(secondReport.steps.get(1).errors).containsExactly("attachment:image/png;1");
+    }
+
+    @Test
+    void should_keep_report_without_data_uri() {
+        StepExecutionReportCore report = step("root", List.of(), List.of(), List.of(step("step", List.of("info"), List.of("error"), List.of())));
+
+        StepExecutionReportCore extracted = ReportAttachments.extractor(42L, attachmentRepository).apply(report);
+
+        assertThat(extracted).isSameAs(report);
+    }
+
+    private static StepExecutionReportCore step(String name, List<String> information, List<String> errors, List<StepExecutionReportCore> steps) {
+        return new StepExecutionReportCoreBuilder()
+            .setName(name)
+            .setStatus(ServerReportStatus.RUNNING)
+            .setInformation(information)
+            .setErrors(errors)
+            .setSteps(steps)
+            .createStepExecutionReport();
+    }
+
+    private static class InMemoryAttachmentRepository implements AttachmentRepository {
+        private final Map<String, Attachment> attachments = new HashMap<>();
+        private final List<Long> executionsIds = new ArrayList<>();
+
+        @Override
+        public String save(long executionId, String mediaType, byte[] content) {
+            executionsIds.add(executionId);
+            String id = String.valueOf(attachments.size() + 1);
+            attachments.put(id, new Attachment(id, mediaType, content));
+            return id;
+        }
+
+        @Override
+        public Optional<Attachment> findById(String attachmentId) {
+            return Optional.ofNullable(attachments.get(attachmentId));
+        }
+
+        @Override
+        public void deleteByExecutionIds(Set<Long> executionIds) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -7,6 +7,7 @@
 
 package com.chutneytesting;
 
+import com.chutneytesting.admin.domain.BackupNotCompletedException;
 import com.chutneytesting.admin.domain.BackupNotFoundException;
 import com.chutneytesting.campaign.domain.CampaignNotFoundException;
 import com.chutneytesting.environment.domain.exception.AlreadyExistingEnvironmentException;
@@ -24,6 +25,7 @@ import com.chutneytesting.server.core.domain.dataset.DataSetNotFoundException;
 import com.chutneytesting.server.core.domain.execution.FailedExecutionAttempt;
 import com.chutneytesting.server.core.domain.execution.ScenarioConversionException;
 import com.chutneytesting.server.core.domain.execution.ScenarioNotRunningException;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentNotFoundException;
 import com.chutneytesting.server.core.domain.execution.report.ReportNotFoundException;
 import com.chutneytesting.server.core.domain.globalvar.GlobalVarNotFoundException;
 import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
@@ -79,6 +81,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     }
 
     @ExceptionHandler({
+        AttachmentNotFoundException.class,
         BackupNotFoundException.class,
         CampaignExecutionNotFoundException.class,
         CampaignNotFoundException.class,
@@ -100,6 +103,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         AlreadyExistingEnvironmentException.class,
         AlreadyExistingScenarioException.class,
         AlreadyExistingTargetException.class,
+        BackupNotCompletedException.class,
         CampaignAlreadyRunningException.class,
         DataSetAlreadyExistException.class,
         SingleEnvironmentException.class,
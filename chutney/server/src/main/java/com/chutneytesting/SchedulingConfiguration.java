@@ -8,18 +8,17 @@
 package com.chutneytesting;
 
 import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_PURGE_BATCH_SIZE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_PURGE_MAX_SCENARIO_EXECUTIONS_SPRING_VALUE;
 import static com.chutneytesting.execution.domain.purge.PurgeServiceImpl.ONE_DAY_MILLIS;
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
-import com.chutneytesting.campaign.domain.CampaignRepository;
 import com.chutneytesting.execution.api.schedule.ScheduleCampaign;
 import com.chutneytesting.execution.domain.purge.PurgeServiceImpl;
 import com.chutneytesting.execution.domain.schedule.CampaignScheduler;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.PurgeService;
-import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import java.lang.reflect.Method;
 import java.util.concurrent.ExecutorService;
 import org.slf4j.Logger;
@@ -95,22 +94,20 @@ public class SchedulingConfiguration implements AsyncConfigurer {
 
     @Bean
     public PurgeService purgeService(
-        TestCaseRepository testCaseRepository,
         ExecutionHistoryRepository executionRepository,
-        CampaignRepository campaignRepository,
         CampaignExecutionRepository campaignExecutionRepository,
         @Value(SCHEDULED_PURGE_MAX_SCENARIO_EXECUTIONS_SPRING_VALUE) Integer maxScenarioExecutionsConfig,
-        @Value(SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE) Integer maxCampaignExecutionsConfig
+        @Value(SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE) Integer maxCampaignExecutionsConfig,
+        @Value(SCHEDULED_PURGE_BATCH_SIZE_SPRING_VALUE) Integer batchSizeConfig
     ) {
         return new PurgeServiceImpl(
-            testCaseRepository,
             executionRepository,
-            campaignRepository,
             campaignExecutionRepository,
             maxScenarioExecutionsConfig,
             ONE_DAY_MILLIS,
             maxCampaignExecutionsConfig,
-            ONE_DAY_MILLIS
+            ONE_DAY_MILLIS,
+            batchSizeConfig
         );
     }
 }
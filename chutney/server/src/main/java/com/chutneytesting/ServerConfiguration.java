@@ -11,9 +11,9 @@ import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_EXECUTOR_PO
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_DELEGATION_PASSWORD_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_DELEGATION_USER_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_INSTRUMENTATION_ENABLED_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_REPORTER_PUBLISHER_TTL_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE;
-import static com.chutneytesting.ServerConfigurationValues.EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SERVER_PORT_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.TASK_SQL_NB_LOGGED_ROW;
 import static com.chutneytesting.ServerConfigurationValues.TASK_SQL_NB_LOGGED_ROW_SPRING_VALUE;
@@ -27,7 +27,12 @@ import com.chutneytesting.dataset.domain.DataSetRepository;
 import com.chutneytesting.design.domain.editionlock.TestCaseEditions;
 import com.chutneytesting.design.domain.editionlock.TestCaseEditionsService;
 import com.chutneytesting.engine.api.execution.TestEngine;
+import com.chutneytesting.engine.domain.instrument.EngineInstrumentation;
+import com.chutneytesting.engine.infrastructure.instrument.JfrPhaseListener;
 import com.chutneytesting.execution.domain.campaign.CampaignExecutionEngine;
+import com.chutneytesting.execution.domain.campaign.CampaignFailFastProperties;
+import com.chutneytesting.execution.domain.campaign.CampaignFairShareScheduler;
+import com.chutneytesting.execution.domain.campaign.CampaignSchedulingProperties;
 import com.chutneytesting.execution.infra.execution.ExecutionRequestMapper;
 import com.chutneytesting.execution.infra.execution.ServerTestEngineJavaImpl;
 import com.chutneytesting.jira.api.JiraXrayEmbeddedApi;
@@ -38,6 +43,7 @@ import com.chutneytesting.server.core.domain.execution.ServerTestEngine;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProcessor;
 import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProcessors;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
 import com.chutneytesting.server.core.domain.execution.state.ExecutionStateRepository;
 import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -47,6 +53,7 @@ import jakarta.annotation.PostConstruct;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -60,10 +67,10 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jms.activemq.ActiveMQAutoConfiguration;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
 import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.core.task.TaskExecutor;
-import org.springframework.core.task.support.ExecutorServiceAdapter;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @SpringBootApplication(exclude = {LiquibaseAutoConfiguration.class, ActiveMQAutoConfiguration.class, MongoAutoConfiguration.class})
@@ -114,11 +121,24 @@ public class ServerConfiguration {
         @Qualifier("engineExecutor") ThreadPoolTaskExecutor engineExecutor,
         @Value(TASK_SQL_NB_LOGGED_ROW_SPRING_VALUE) String nbLoggedRow,
         @Value(ENGINE_DELEGATION_USER_SPRING_VALUE) String delegateUser,
-        @Value(ENGINE_DELEGATION_PASSWORD_SPRING_VALUE) String delegatePassword
+        @Value(ENGINE_DELEGATION_PASSWORD_SPRING_VALUE) String delegatePassword,
+        @Value(ENGINE_INSTRUMENTATION_ENABLED_SPRING_VALUE) boolean instrumentationEnabled,
+        ChutneyMetrics metrics
     ) {
         Map<String, String> actionsConfiguration = new HashMap<>();
         actionsConfiguration.put(TASK_SQL_NB_LOGGED_ROW, nbLoggedRow);
-        return new ExecutionConfiguration(reporterTTL, engineExecutor.getThreadPoolExecutor(), actionsConfiguration, delegateUser, delegatePassword);
+        return new ExecutionConfiguration(reporterTTL, engineExecutor.getThreadPoolExecutor(), actionsConfiguration, delegateUser, delegatePassword, engineInstrumentation(instrumentationEnabled, metrics));
+    }
+
+    private static EngineInstrumentation engineInstrumentation(boolean enabled, ChutneyMetrics metrics) {
+        if (!enabled) {
+            return EngineInstrumentation.DISABLED;
+        }
+        LOGGER.info("Engine instrumentation enabled");
+        return EngineInstrumentation.enabled(
+            new JfrPhaseListener(),
+            (phase, actionType, strategy, durationNanos) -> metrics.onExecutionPhaseEnded(phase.name(), actionType, strategy, Duration.ofNanos(durationNanos))
+        );
     }
 
     @Bean
@@ -147,17 +167,20 @@ public class ServerConfiguration {
                                                               ChutneyMetrics metrics,
                                                               TestCasePreProcessors testCasePreProcessors,
                                                               @Qualifier("reportObjectMapper") ObjectMapper objectMapper,
-                                                              @Value(EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE) long replayerRetention,
-                                                              @Value(EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE) long debounceMilliSeconds) {
-        return new ScenarioExecutionEngineAsync(
+                                                              AttachmentRepository attachmentRepository,
+                                                              @Value(EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE) long debounceMilliSeconds,
+                                                              @Value(ENGINE_INSTRUMENTATION_ENABLED_SPRING_VALUE) boolean instrumentationEnabled) {
+        ScenarioExecutionEngineAsync scenarioExecutionEngineAsync = new ScenarioExecutionEngineAsync(
             executionHistoryRepository,
             executionEngine,
             executionStateRepository,
             metrics,
             testCasePreProcessors,
             objectMapper,
-            replayerRetention,
             debounceMilliSeconds);
+        scenarioExecutionEngineAsync.setInstrumented(instrumentationEnabled);
+        scenarioExecutionEngineAsync.setAttachmentRepository(attachmentRepository);
+        return scenarioExecutionEngineAsync;
     }
 
     @Bean
@@ -165,30 +188,49 @@ public class ServerConfiguration {
         return new TestCasePreProcessors(processors);
     }
 
+    @Bean
+    @ConfigurationProperties("chutney.server.campaigns.scheduler")
+    CampaignSchedulingProperties campaignSchedulingProperties() {
+        return new CampaignSchedulingProperties();
+    }
+
+    @Bean
+    CampaignFairShareScheduler campaignFairShareScheduler(@Qualifier("campaignExecutor") TaskExecutor campaignExecutor,
+                                                          CampaignSchedulingProperties campaignSchedulingProperties,
+                                                          ChutneyMetrics metrics) {
+        return new CampaignFairShareScheduler(campaignExecutor, campaignSchedulingProperties, metrics);
+    }
+
+    @Bean
+    @ConfigurationProperties("chutney.server.campaigns.fail-fast")
+    CampaignFailFastProperties campaignFailFastProperties() {
+        return new CampaignFailFastProperties();
+    }
+
     @Bean
     CampaignExecutionEngine campaignExecutionEngine(CampaignRepository campaignRepository,
                                                     CampaignExecutionRepository campaignExecutionRepository,
                                                     ScenarioExecutionEngine scenarioExecutionEngine,
                                                     ScenarioExecutionEngineAsync scenarioExecutionEngineAsync,
-                                                    ExecutionHistoryRepository executionHistoryRepository,
                                                     TestCaseRepositoryAggregator testCaseRepository,
                                                     JiraXrayEmbeddedApi jiraXrayEmbeddedApi,
                                                     ChutneyMetrics metrics,
-                                                    @Qualifier("campaignExecutor") TaskExecutor campaignExecutor,
+                                                    CampaignFairShareScheduler campaignFairShareScheduler,
                                                     DataSetRepository datasetRepository,
-                                                    ObjectMapper objectMapper) { // TODO - Choose explicitly which mapper to use
+                                                    ExecutionHistoryRepository executionHistoryRepository,
+                                                    CampaignFailFastProperties campaignFailFastProperties) {
         return new CampaignExecutionEngine(
             campaignRepository,
             campaignExecutionRepository,
             scenarioExecutionEngine,
             scenarioExecutionEngineAsync,
-            executionHistoryRepository,
             testCaseRepository,
             jiraXrayEmbeddedApi,
             metrics,
-            new ExecutorServiceAdapter(campaignExecutor),
+            campaignFairShareScheduler,
             datasetRepository,
-            objectMapper
+            executionHistoryRepository,
+            campaignFailFastProperties
         );
     }
 
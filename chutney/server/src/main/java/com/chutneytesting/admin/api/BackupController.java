@@ -12,6 +12,7 @@ import static com.chutneytesting.admin.api.dto.BackupMapper.toDto;
 import static com.chutneytesting.admin.api.dto.BackupMapper.toDtos;
 
 import com.chutneytesting.admin.api.dto.BackupDto;
+import com.chutneytesting.admin.api.dto.BackupProgressDto;
 import com.chutneytesting.admin.domain.BackupRepository;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
@@ -56,6 +57,12 @@ public class BackupController {
         return toDto(backupRepository.read(backupId));
     }
 
+    @PreAuthorize("hasAuthority('ADMIN_ACCESS')")
+    @GetMapping(path = "/{backupId}/progress", produces = MediaType.APPLICATION_JSON_VALUE)
+    public BackupProgressDto progress(@PathVariable("backupId") String backupId) {
+        return toDto(backupRepository.progress(backupId));
+    }
+
     @PreAuthorize("hasAuthority('ADMIN_ACCESS')")
     @GetMapping(path = "/{backupId}/download", produces = "application/zip")
     public void getBackupData(HttpServletResponse response, @PathVariable("backupId") String backupId) throws IOException {
@@ -18,9 +18,12 @@ public class BackupDto {
 
     private final List<String> Backupables;
 
-    public BackupDto(LocalDateTime time, List<String> backupables) {
+    private final boolean incremental;
+
+    public BackupDto(LocalDateTime time, List<String> backupables, boolean incremental) {
         this.time = time;
         Backupables = backupables;
+        this.incremental = incremental;
     }
 
     public LocalDateTime getTime() {
@@ -31,6 +34,10 @@ public class BackupDto {
         return Backupables;
     }
 
+    public boolean isIncremental() {
+        return incremental;
+    }
+
     public String getId() {
         return this.time.format(backupIdTimeFormatter);
     }
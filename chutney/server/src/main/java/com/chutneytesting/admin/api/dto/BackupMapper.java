@@ -8,17 +8,22 @@
 package com.chutneytesting.admin.api.dto;
 
 import com.chutneytesting.admin.domain.Backup;
+import com.chutneytesting.admin.domain.BackupProgress;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class BackupMapper {
 
     public static Backup fromDto(BackupDto dto) {
-        return new Backup(dto.getBackupables());
+        return new Backup(dto.getBackupables(), dto.isIncremental());
     }
 
     public static BackupDto toDto(Backup backup) {
-        return new BackupDto(backup.time, backup.backupables);
+        return new BackupDto(backup.time, backup.backupables, backup.incremental);
+    }
+
+    public static BackupProgressDto toDto(BackupProgress progress) {
+        return new BackupProgressDto(progress.backupId(), progress.completed(), progress.failed(), progress.pending());
     }
 
     public static List<BackupDto> toDtos(List<Backup> backups) {
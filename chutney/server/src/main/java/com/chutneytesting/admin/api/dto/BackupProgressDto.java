@@ -0,0 +1,13 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.admin.api.dto;
+
+import java.util.List;
+
+public record BackupProgressDto(String backupId, List<String> completed, List<String> failed, List<String> pending) {
+}
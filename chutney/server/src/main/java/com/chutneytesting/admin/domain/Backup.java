@@ -19,19 +19,33 @@ public class Backup {
 
     public final LocalDateTime time;
     public final List<String> backupables;
+    /**
+     * An incremental backup holds only the data modified since the previous backup of each backupable
+     */
+    public final boolean incremental;
 
     public Backup(List<String> backupables) {
+        this(backupables, false);
+    }
+
+    public Backup(List<String> backupables, boolean incremental) {
         if (backupables == null || backupables.isEmpty()) {
             throw new IllegalArgumentException("Nothing to backup !!");
         }
 
         this.time = getLocalDateTime();
         this.backupables = backupables;
+        this.incremental = incremental;
     }
 
     public Backup(String id, List<String> backupables) {
+        this(id, backupables, false);
+    }
+
+    public Backup(String id, List<String> backupables, boolean incremental) {
         this.time = toLocalDate(id);
         this.backupables = backupables;
+        this.incremental = incremental;
     }
 
     private LocalDateTime toLocalDate(String id) {
@@ -0,0 +1,17 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.admin.domain;
+
+@SuppressWarnings("serial")
+public class BackupNotCompletedException extends RuntimeException {
+
+    public BackupNotCompletedException(String backupId) {
+        super("Backup [" + backupId + "] is not completed yet !");
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.admin.domain;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * @param completed The backupables already saved
+ * @param failed    The backupables which could not be saved
+ * @param pending   The backupables being saved
+ */
+public record BackupProgress(String backupId, List<String> completed, List<String> failed, List<String> pending) {
+
+    public boolean isDone() {
+        return pending.isEmpty();
+    }
+
+    public BackupProgress completed(String backupable) {
+        return new BackupProgress(backupId, with(completed, backupable), failed, without(pending, backupable));
+    }
+
+    public BackupProgress failed(String backupable) {
+        return new BackupProgress(backupId, completed, with(failed, backupable), without(pending, backupable));
+    }
+
+    private static List<String> with(List<String> backupables, String backupable) {
+        return Stream.concat(backupables.stream(), Stream.of(backupable)).toList();
+    }
+
+    private static List<String> without(List<String> backupables, String backupable) {
+        return backupables.stream().filter(b -> !b.equals(backupable)).toList();
+    }
+}
@@ -13,7 +13,13 @@ import java.util.List;
 
 public interface BackupRepository {
 
+    /**
+     * Launch the backup in background.
+     *
+     * @return The backup's id, to follow its {@link #progress(String)}
+     */
     String save(Backup backup);
+    BackupProgress progress(String backupId);
     Backup read(String backupId);
     void delete(String backupId);
     List<Backup> list();
@@ -11,44 +11,71 @@ import static com.chutneytesting.ServerConfigurationValues.CONFIGURATION_FOLDER_
 import static com.chutneytesting.tools.file.FileUtils.initFolder;
 
 import com.chutneytesting.admin.domain.Backup;
+import com.chutneytesting.admin.domain.BackupNotCompletedException;
 import com.chutneytesting.admin.domain.BackupNotFoundException;
+import com.chutneytesting.admin.domain.BackupProgress;
 import com.chutneytesting.admin.domain.BackupRepository;
 import com.chutneytesting.server.core.domain.admin.Backupable;
-import com.chutneytesting.server.core.domain.tools.ZipUtils;
 import com.chutneytesting.tools.Try;
 import com.chutneytesting.tools.file.FileUtils;
 import java.io.BufferedOutputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.FileSystemUtils;
 
+/**
+ * Backups stored as one directory per backup, holding one zip file per backupable.<br>
+ * Backupables are saved concurrently in background, each one streamed into its final zip file.
+ * A backupable which cannot be saved leaves a failure marker file instead.
+ * Downloads gather these files in a zip without compressing them again.
+ */
 @Component
-public class FileSystemBackupRepository implements BackupRepository {
+public class FileSystemBackupRepository implements BackupRepository, DisposableBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemBackupRepository.class);
 
     static final Path ROOT_DIRECTORY_NAME = Paths.get("backups", "zip");
     static final String BACKUP_FILE_EXTENSION = ".zip";
+    static final String INCREMENTAL_MARKER_FILE = ".incremental";
+    private static final String PARTIAL_FILE_EXTENSION = ".part";
+    static final String FAILED_FILE_EXTENSION = ".failed";
 
     private final Path backupsRootPath;
 
     private final List<Backupable> backupables;
 
-
-
+    private final ExecutorService executor;
+    /**
+     * Progress of the backups being saved, read from their directory once completed
+     */
+    private final Map<String, BackupProgress> backupsProgress = new ConcurrentHashMap<>();
 
     public FileSystemBackupRepository(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String backupsRootPath,
                                       List<Backupable> backupables) {
@@ -56,16 +83,62 @@ public class FileSystemBackupRepository implements BackupRepository {
         initFolder(this.backupsRootPath);
 
         this.backupables = backupables;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, backupables.size()), runnable -> {
+            Thread thread = new Thread(runnable, "backup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @throws BackupNotCompletedException while some backupables are still being saved
+     */
     @Override
     public void getBackupData(String backupId, OutputStream outputStream) throws IOException {
+        BackupProgress progress = backupsProgress.get(backupId);
+        if (progress != null && !progress.isDone()) {
+            throw new BackupNotCompletedException(backupId);
+        }
         Path backupPath = backupsRootPath.resolve(backupId);
         try (ZipOutputStream zipOutPut = new ZipOutputStream(new BufferedOutputStream(outputStream, 4096))) {
-            ZipUtils.compressDirectoryToZipfile(backupPath.getParent(), Paths.get(backupId), zipOutPut);
-        } catch (FileNotFoundException fnfe) {
-            throw new BackupNotFoundException(backupId);
+            if (!Files.isDirectory(backupPath)) {
+                throw new BackupNotFoundException(backupId);
+            }
+            List<Path> backupFiles = FileUtils.doOnListFiles(backupPath, pathStream ->
+                pathStream
+                    .filter(path -> path.getFileName().toString().endsWith(BACKUP_FILE_EXTENSION))
+                    .sorted()
+                    .toList()
+            );
+            for (Path backupFile : backupFiles) {
+                storeFile(backupFile, Paths.get(backupId).resolve(backupFile.getFileName()).toString(), zipOutPut);
+            }
+        }
+    }
+
+    /**
+     * Add an already compressed file to the zip as is.
+     */
+    private static void storeFile(Path file, String zipEntryName, ZipOutputStream zipOutPut) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
         }
+        long size = Files.size(file);
+        ZipEntry entry = new ZipEntry(zipEntryName);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc.getValue());
+        zipOutPut.putNextEntry(entry);
+        Files.copy(file, zipOutPut);
+        zipOutPut.closeEntry();
     }
 
     @Override
@@ -80,13 +153,36 @@ public class FileSystemBackupRepository implements BackupRepository {
         LOGGER.info("Backup [{}] initiating", backupId);
         Path backupPath = backupsRootPath.resolve(backupId);
         Try.exec(() -> Files.createDirectory(backupPath)).runtime();
+        if (backup.incremental) {
+            Try.exec(() -> Files.createFile(backupPath.resolve(INCREMENTAL_MARKER_FILE))).runtime();
+        }
 
-        backupables.stream()
+        List<Backupable> selectedBackupables = backupables.stream()
             .filter(backupable -> backup.backupables.contains(backupable.name()))
-            .forEach(backupable -> backup(backupPath,backupable));
+            .toList();
+        Map<String, Instant> previousBackupsTime = backup.incremental ? previousBackupsTime(backup, selectedBackupables) : Map.of();
+
+        backupsProgress.put(backupId, new BackupProgress(backupId, List.of(), List.of(), selectedBackupables.stream().map(Backupable::name).toList()));
+        CompletableFuture<?>[] backupsFutures = selectedBackupables.stream()
+            .map(backupable -> CompletableFuture.runAsync(() -> backup(backupId, backupPath, backupable, previousBackupsTime.get(backupable.name())), executor))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(backupsFutures)
+            .whenComplete((v, e) -> completed(backupId));
+
+        return backupId;
+    }
 
-        LOGGER.info("Backup [{}] completed", backupId);
-        return backup.getId();
+    @Override
+    public BackupProgress progress(String backupId) {
+        BackupProgress progress = backupsProgress.get(backupId);
+        if (progress != null) {
+            return progress;
+        }
+        List<String> failedBackupables = backupables.stream()
+            .map(Backupable::name)
+            .filter(backupName -> backupsRootPath.resolve(backupId).resolve(backupName + FAILED_FILE_EXTENSION).toFile().exists())
+            .toList();
+        return new BackupProgress(backupId, read(backupId).backupables, failedBackupables, List.of());
     }
 
     @Override
@@ -98,7 +194,7 @@ public class FileSystemBackupRepository implements BackupRepository {
                     .map(backupable -> backupable.name())
                     .filter(backupName -> backupPath.resolve(backupName + BACKUP_FILE_EXTENSION).toFile().exists())
                     .collect(Collectors.toList());
-                return new Backup(backupId, foundBackupables);
+                return new Backup(backupId, foundBackupables, backupPath.resolve(INCREMENTAL_MARKER_FILE).toFile().exists());
             } catch (RuntimeException re) {
                 throw new BackupNotFoundException(backupId);
             }
@@ -112,6 +208,7 @@ public class FileSystemBackupRepository implements BackupRepository {
         Path backupPath = backupsRootPath.resolve(backupId);
         if (Files.exists(backupPath)) {
             Try.exec(() -> FileSystemUtils.deleteRecursively(backupPath)).runtime();
+            backupsProgress.remove(backupId);
             LOGGER.info("Backup [{}] deleted", backupId);
         } else {
             throw new BackupNotFoundException(backupId);
@@ -135,13 +232,51 @@ public class FileSystemBackupRepository implements BackupRepository {
         return backups;
     }
 
-    private void backup(Path packupPath, Backupable backupable) {
-        try (OutputStream outputStream = Files.newOutputStream(packupPath.resolve(backupable.name() + BACKUP_FILE_EXTENSION))) {
-            backupable.backup(outputStream);
+    /**
+     * @return For each backupable, the time of its latest backup before the given one
+     */
+    private Map<String, Instant> previousBackupsTime(Backup backup, List<Backupable> selectedBackupables) {
+        List<Backup> previousBackups = list().stream()
+            .filter(previousBackup -> previousBackup.time.isBefore(backup.time))
+            .toList();
+        Map<String, Instant> previousBackupsTime = new HashMap<>();
+        selectedBackupables.forEach(backupable ->
+            previousBackups.stream()
+                .filter(previousBackup -> previousBackup.backupables.contains(backupable.name()))
+                .findFirst()
+                .ifPresent(previousBackup -> previousBackupsTime.put(backupable.name(), previousBackup.time.atZone(ZoneId.systemDefault()).toInstant()))
+        );
+        return previousBackupsTime;
+    }
+
+    private void completed(String backupId) {
+        BackupProgress progress = backupsProgress.remove(backupId);
+        if (progress != null && !progress.failed().isEmpty()) {
+            LOGGER.error("Backup [{}] failed for {}", backupId, progress.failed());
+        } else {
+            LOGGER.info("Backup [{}] completed", backupId);
+        }
+    }
+
+    private void backup(String backupId, Path backupPath, Backupable backupable, Instant modifiedSince) {
+        Path backupFile = backupPath.resolve(backupable.name() + BACKUP_FILE_EXTENSION);
+        Path partialBackupFile = backupPath.resolve(backupable.name() + BACKUP_FILE_EXTENSION + PARTIAL_FILE_EXTENSION);
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(partialBackupFile)) {
+                if (modifiedSince == null) {
+                    backupable.backup(outputStream);
+                } else {
+                    backupable.backup(outputStream, modifiedSince);
+                }
+            }
+            Files.move(partialBackupFile, backupFile, StandardCopyOption.ATOMIC_MOVE);
+            backupsProgress.computeIfPresent(backupId, (id, progress) -> progress.completed(backupable.name()));
+            LOGGER.info("Backup [{}] completed", backupable.name());
         } catch (Exception e) {
             LOGGER.error("Cannot backup [{}]", backupable.name(), e);
+            Try.exec(() -> Files.deleteIfExists(partialBackupFile));
+            Try.exec(() -> Files.createFile(backupPath.resolve(backupable.name() + FAILED_FILE_EXTENSION)));
+            backupsProgress.computeIfPresent(backupId, (id, progress) -> progress.failed(backupable.name()));
         }
-        LOGGER.info("Backup [{}] completed", backupable.name());
     }
-
 }
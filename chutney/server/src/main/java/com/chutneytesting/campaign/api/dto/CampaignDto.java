@@ -24,6 +24,7 @@ public class CampaignDto {
     private String environment;
     private boolean parallelRun;
     private boolean retryAuto;
+    private boolean longestScenariosFirst;
     private String datasetId;
     private List<String> tags;
 
@@ -40,6 +41,20 @@ public class CampaignDto {
                        boolean retryAuto,
                        String datasetId,
                        List<String> tags) {
+        this(id, title, description, scenarios, campaignExecutionReports, environment, parallelRun, retryAuto, false, datasetId, tags);
+    }
+
+    public CampaignDto(Long id,
+                       String title,
+                       String description,
+                       List<CampaignScenarioDto> scenarios,
+                       List<CampaignExecutionReportDto> campaignExecutionReports,
+                       String environment,
+                       boolean parallelRun,
+                       boolean retryAuto,
+                       boolean longestScenariosFirst,
+                       String datasetId,
+                       List<String> tags) {
         this.id = id;
         this.title = title;
         this.description = description;
@@ -48,6 +63,7 @@ public class CampaignDto {
         this.environment = environment;
         this.parallelRun = parallelRun;
         this.retryAuto = retryAuto;
+        this.longestScenariosFirst = longestScenariosFirst;
         this.datasetId = datasetId;
         this.tags = ofNullable(tags).orElseGet(ArrayList::new);
     }
@@ -84,6 +100,10 @@ public class CampaignDto {
         return retryAuto;
     }
 
+    public boolean isLongestScenariosFirst() {
+        return longestScenariosFirst;
+    }
+
     public String getDatasetId() {
         return datasetId;
     }
@@ -9,6 +9,7 @@ package com.chutneytesting.campaign.api.dto;
 
 import com.chutneytesting.dataset.api.DataSetDto;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
@@ -28,6 +29,7 @@ public class CampaignExecutionReportDto {
     @JsonProperty("user")
     private final String userId;
     private final Long duration;
+    private final Long predictedDuration;
 
     public CampaignExecutionReportDto(Long executionId,
                                       List<ScenarioExecutionReportOutlineDto> scenarioExecutionReports,
@@ -39,6 +41,21 @@ public class CampaignExecutionReportDto {
                                       DataSetDto dataset,
                                       String userId,
                                       Long duration) {
+        this(executionId, scenarioExecutionReports, campaignName, startDate, status, partialExecution, executionEnvironment, dataset, userId, duration, null);
+    }
+
+    @JsonCreator
+    public CampaignExecutionReportDto(Long executionId,
+                                      List<ScenarioExecutionReportOutlineDto> scenarioExecutionReports,
+                                      String campaignName,
+                                      LocalDateTime startDate,
+                                      ServerReportStatus status,
+                                      boolean partialExecution,
+                                      String executionEnvironment,
+                                      DataSetDto dataset,
+                                      String userId,
+                                      Long duration,
+                                      Long predictedDuration) {
         this.executionId = executionId;
         this.scenarioExecutionReports = scenarioExecutionReports;
         this.campaignName = campaignName;
@@ -49,6 +66,7 @@ public class CampaignExecutionReportDto {
         this.dataset = dataset;
         this.userId = userId;
         this.duration = duration;
+        this.predictedDuration = predictedDuration;
     }
 
     public Long getExecutionId() {
@@ -71,6 +89,10 @@ public class CampaignExecutionReportDto {
         return duration;
     }
 
+    public Long getPredictedDuration() {
+        return predictedDuration;
+    }
+
     @Override
     public String toString() {
         return "CampaignExecutionReport{" +
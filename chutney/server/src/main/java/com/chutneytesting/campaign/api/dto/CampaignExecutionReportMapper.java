@@ -28,7 +28,8 @@ public class CampaignExecutionReportMapper {
             campaignReport.executionEnvironment,
             DataSetMapper.toDto(campaignReport.dataset),
             campaignReport.userId,
-            campaignReport.getDuration());
+            campaignReport.getDuration(),
+            campaignReport.getPredictedDuration().orElse(null));
     }
 
     public static CampaignExecutionFullReportDto fullExecutionToDto(CampaignExecution campaignReport, List<ExecutionHistory.Execution> executions) {
@@ -29,6 +29,7 @@ public class CampaignMapper {
             campaign.executionEnvironment(),
             campaign.parallelRun,
             campaign.retryAuto,
+            campaign.longestScenariosFirst,
             campaign.executionDataset(),
             campaign.tags);
     }
@@ -43,6 +44,7 @@ public class CampaignMapper {
             campaign.executionEnvironment(),
             campaign.parallelRun,
             campaign.retryAuto,
+            campaign.longestScenariosFirst,
             campaign.executionDataset(),
             campaign.tags);
     }
@@ -56,6 +58,7 @@ public class CampaignMapper {
             dto.getEnvironment(),
             dto.isParallelRun(),
             dto.isRetryAuto(),
+            dto.isLongestScenariosFirst(),
             !StringUtils.isBlank(dto.getDatasetId()) ? dto.getDatasetId() : null,
             dto.getTags().stream().map(String::trim).map(String::toUpperCase).collect(toList())
         );
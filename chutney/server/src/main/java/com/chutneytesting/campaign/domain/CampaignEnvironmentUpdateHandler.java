@@ -30,6 +30,7 @@ public class CampaignEnvironmentUpdateHandler implements UpdateEnvironmentHandle
                     newName,
                     existingCampaign.parallelRun,
                     existingCampaign.retryAuto,
+                    existingCampaign.longestScenariosFirst,
                     existingCampaign.executionDataset(),
                     existingCampaign.tags
                 );
@@ -49,6 +50,7 @@ public class CampaignEnvironmentUpdateHandler implements UpdateEnvironmentHandle
                     null,
                     existingCampaign.parallelRun,
                     existingCampaign.retryAuto,
+                    existingCampaign.longestScenariosFirst,
                     existingCampaign.executionDataset(),
                     existingCampaign.tags
                 );
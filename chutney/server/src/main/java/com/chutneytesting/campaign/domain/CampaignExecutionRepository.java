@@ -8,6 +8,7 @@
 package com.chutneytesting.campaign.domain;
 
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
@@ -32,5 +33,31 @@ public interface CampaignExecutionRepository {
 
     List<CampaignExecution> getExecutionHistory(Long campaignId);
 
+    /**
+     * @return the {@code numberOfExecutions} last executions of the campaign with their scenario executions, most recent first
+     */
+    List<CampaignExecution> getExecutionHistory(Long campaignId, int numberOfExecutions);
+
     CampaignExecution getCampaignExecutionById(Long campaignExecutionId);
+
+    /**
+     * Keyset scan of the campaigns having executions.
+     *
+     * @param afterCampaignId the last campaign id of the previous page, null for the first one
+     * @return at most {@code limit} campaign ids, in ascending order
+     */
+    List<Long> getCampaignsWithExecutions(Long afterCampaignId, int limit);
+
+    /**
+     * Select the executions of the given campaigns to purge without loading them.<br>
+     * Empty executions are always selected. Other executions are only considered when started before {@code startedBefore}.
+     * Among them, on each environment, the {@code maxExecutionsToKeep} most recent full executions and the most recent success one are kept,
+     * with the partial executions started after the oldest full execution kept.
+     * Running executions are never selected.
+     *
+     * @param startedBefore    null to consider executions whatever their start
+     * @param afterExecutionId the last execution id of the previous batch, 0 for the first one
+     * @return at most {@code limit} execution ids, in ascending order
+     */
+    List<Long> getExecutionsToPurge(List<Long> campaignIds, int maxExecutionsToKeep, LocalDateTime startedBefore, long afterExecutionId, int limit);
 }
@@ -14,20 +14,21 @@ import static org.apache.commons.lang3.Validate.notNull;
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
 import com.chutneytesting.campaign.domain.CampaignNotFoundException;
-import com.chutneytesting.campaign.infra.jpa.CampaignEntity;
 import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
 import com.chutneytesting.execution.domain.campaign.CampaignExecutionNotFoundException;
 import com.chutneytesting.execution.infra.storage.DatabaseExecutionJpaRepository;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -76,27 +77,30 @@ public class CampaignExecutionDBRepository implements CampaignExecutionRepositor
 
     @Override
     public CampaignExecution getLastExecution(Long campaignId) {
-        return campaignExecutionJpaRepository
-            .findFirstByCampaignIdOrderByIdDesc(campaignId)
-            .map(this::toDomain)
+        return getExecutionHistory(campaignId, 1).stream()
+            .findFirst()
             .orElseThrow(() -> new CampaignExecutionNotFoundException(campaignId));
     }
 
     @Override
     @Transactional
     public void deleteExecutions(Set<Long> executionsIds) {
-        List<CampaignExecutionEntity> executions = campaignExecutionJpaRepository.findAllById(executionsIds);
-        List<ScenarioExecutionEntity> scenarioExecutions = executions.stream().flatMap(cer -> cer.scenarioExecutions().stream()).toList();
-        scenarioExecutions.forEach(ScenarioExecutionEntity::clearCampaignExecution);
-        scenarioExecutionJpaRepository.saveAll(scenarioExecutions);
-        campaignExecutionJpaRepository.deleteAllInBatch(executions);
+        if (executionsIds.isEmpty()) {
+            return;
+        }
+        scenarioExecutionJpaRepository.clearCampaignExecutions(executionsIds);
+        campaignExecutionJpaRepository.deleteAllByIdInBatch(executionsIds);
     }
 
     @Override
     public List<CampaignExecution> getExecutionHistory(Long campaignId) {
-        return campaignExecutionJpaRepository.findByCampaignIdOrderByIdDesc(campaignId).stream()
-            .map(this::toDomain)
-            .collect(Collectors.toCollection(ArrayList::new));
+        return toDomain(campaignExecutionJpaRepository.findWithScenarioExecutionsByCampaignId(campaignId));
+    }
+
+    @Override
+    public List<CampaignExecution> getExecutionHistory(Long campaignId, int numberOfExecutions) {
+        List<Long> executionsIds = campaignExecutionJpaRepository.findIdsByCampaignId(campaignId, PageRequest.of(0, numberOfExecutions));
+        return toDomain(findWithScenarioExecutions(executionsIds));
     }
 
     @Override
@@ -115,16 +119,14 @@ public class CampaignExecutionDBRepository implements CampaignExecutionRepositor
 
     @Override
     public List<CampaignExecution> getLastExecutions(Long numberOfExecution) {
-        return campaignExecutionJpaRepository.findAll(
-                PageRequest.of(0, numberOfExecution.intValue(), Sort.by(Sort.Direction.DESC, "id"))).stream()
-            .map(this::toDomain)
-            .toList();
+        List<Long> executionsIds = campaignExecutionJpaRepository.findIds(PageRequest.of(0, numberOfExecution.intValue()));
+        return toDomain(findWithScenarioExecutions(executionsIds));
     }
 
     @Override
     public CampaignExecution getCampaignExecutionById(Long campaignExecId) {
-        return campaignExecutionJpaRepository.findById(campaignExecId)
-            .map(this::toDomain)
+        return toDomain(findWithScenarioExecutions(List.of(campaignExecId))).stream()
+            .findFirst()
             .orElseThrow(() -> new CampaignExecutionNotFoundException(null, campaignExecId));
     }
 
@@ -149,11 +151,52 @@ public class CampaignExecutionDBRepository implements CampaignExecutionRepositor
         return newExecution.id();
     }
 
-    private CampaignExecution toDomain(CampaignExecutionEntity campaignExecution) {
-        CampaignEntity campaign = campaignJpaRepository.findById(campaignExecution.campaignId())
-            .orElseThrow(() -> new CampaignNotFoundException(campaignExecution.campaignId()));
+    @Override
+    public List<Long> getCampaignsWithExecutions(Long afterCampaignId, int limit) {
+        return campaignExecutionJpaRepository.findCampaignIdsAfter(ofNullable(afterCampaignId).orElse(0L), PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Long> getExecutionsToPurge(List<Long> campaignIds, int maxExecutionsToKeep, LocalDateTime startedBefore, long afterExecutionId, int limit) {
+        if (campaignIds.isEmpty()) {
+            return emptyList();
+        }
+        long startedBeforeMillis = ofNullable(startedBefore)
+            .map(date -> date.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+            .orElse(Long.MAX_VALUE);
+        Set<Long> runningExecutionsIds = campaignIds.stream()
+            .flatMap(campaignId -> currentExecutions(campaignId).stream())
+            .map(campaignExecution -> campaignExecution.executionId)
+            .collect(Collectors.toCollection(HashSet::new));
+        runningExecutionsIds.add(-1L); // Executions ids are positive, keeps the exclusion list of the query from being empty
+        return campaignExecutionJpaRepository.findExecutionIdsToPurge(campaignIds, maxExecutionsToKeep, startedBeforeMillis, afterExecutionId, runningExecutionsIds, limit).stream()
+            .map(Number::longValue)
+            .toList();
+    }
+
+    private List<CampaignExecutionEntity> findWithScenarioExecutions(List<Long> executionsIds) {
+        if (executionsIds.isEmpty()) {
+            return emptyList();
+        }
+        return campaignExecutionJpaRepository.findWithScenarioExecutionsByIdIn(executionsIds);
+    }
+
+    /**
+     * Map executions loaded with their scenario executions, fetching all their campaigns' titles in one query.
+     */
+    private List<CampaignExecution> toDomain(List<CampaignExecutionEntity> campaignExecutions) {
+        Set<Long> campaignsIds = campaignExecutions.stream().map(CampaignExecutionEntity::campaignId).collect(Collectors.toSet());
+        Map<Long, String> campaignsTitles = campaignsIds.isEmpty() ? Map.of() : campaignJpaRepository.findTitlesByIds(campaignsIds).stream()
+            .collect(Collectors.toMap(t -> t.get(0, Long.class), t -> t.get(1, String.class)));
+        return campaignExecutions.stream()
+            .map(campaignExecution -> toDomain(campaignExecution, ofNullable(campaignsTitles.get(campaignExecution.campaignId()))
+                .orElseThrow(() -> new CampaignNotFoundException(campaignExecution.campaignId()))))
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private CampaignExecution toDomain(CampaignExecutionEntity campaignExecution, String campaignTitle) {
         return ofNullable(runningCampaignExecution(campaignExecution)).orElseGet(() ->
-            campaignExecution.toDomain(campaign.title())
+            campaignExecution.toDomain(campaignTitle)
         );
     }
 
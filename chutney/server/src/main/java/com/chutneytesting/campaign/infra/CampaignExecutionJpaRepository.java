@@ -8,16 +8,103 @@
 package com.chutneytesting.campaign.infra;
 
 import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CampaignExecutionJpaRepository extends JpaRepository<CampaignExecutionEntity, Long>, JpaSpecificationExecutor<CampaignExecutionEntity> {
 
-    List<CampaignExecutionEntity> findByCampaignIdOrderByIdDesc(Long campaignId);
-
     List<CampaignExecutionEntity> findAllByCampaignId(Long campaignId);
 
-    Optional<CampaignExecutionEntity> findFirstByCampaignIdOrderByIdDesc(Long campaignId);
+    @Query("SELECT ce.id FROM CAMPAIGN_EXECUTIONS ce WHERE ce.campaignId = :campaignId ORDER BY ce.id DESC")
+    List<Long> findIdsByCampaignId(@Param("campaignId") Long campaignId, Pageable pageable);
+
+    @Query("SELECT ce.id FROM CAMPAIGN_EXECUTIONS ce ORDER BY ce.id DESC")
+    List<Long> findIds(Pageable pageable);
+
+    /**
+     * Load campaign executions with their scenario executions in one query.
+     */
+    @EntityGraph(attributePaths = "scenarioExecutions")
+    @Query("SELECT ce FROM CAMPAIGN_EXECUTIONS ce WHERE ce.id IN :ids ORDER BY ce.id DESC")
+    List<CampaignExecutionEntity> findWithScenarioExecutionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "scenarioExecutions")
+    @Query("SELECT ce FROM CAMPAIGN_EXECUTIONS ce WHERE ce.campaignId = :campaignId ORDER BY ce.id DESC")
+    List<CampaignExecutionEntity> findWithScenarioExecutionsByCampaignId(@Param("campaignId") Long campaignId);
+
+    @Query("""
+            SELECT DISTINCT ce.campaignId
+            FROM CAMPAIGN_EXECUTIONS ce
+            WHERE ce.campaignId > :afterCampaignId
+            ORDER BY ce.campaignId
+            """)
+    List<Long> findCampaignIdsAfter(@Param("afterCampaignId") Long afterCampaignId, Pageable pageable);
+
+    /**
+     * Aggregate the scenario executions of each campaign execution to get its start time and whether it succeeded, ignoring retried scenario executions.
+     * Then rank full campaign executions started before the limit on each environment, most recent first, to select :
+     * <ul>
+     *     <li>Empty campaign executions,</li>
+     *     <li>Full campaign executions beyond the executions to keep which are not the most recent success,</li>
+     *     <li>Partial campaign executions started before the oldest full campaign execution kept, all of them when less full executions are kept.</li>
+     * </ul>
+     *
+     * @return A list of the campaign execution ids to purge, in ascending order.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT ranked.ID
+            FROM (
+                SELECT stats.ID, stats.PARTIAL, stats.START_TIME, stats.EXECUTIONS_COUNT, stats.NOT_SUCCESS, stats.ELIGIBLE_FULL, stats.RANK_IN_ENVIRONMENT, stats.RANK_IN_STATUS,
+                    MAX(CASE WHEN stats.ELIGIBLE_FULL = 1 AND stats.RANK_IN_ENVIRONMENT = :maxExecutionsToKeep THEN stats.START_TIME END)
+                        OVER (PARTITION BY stats.CAMPAIGN_ID, stats.ENVIRONMENT) AS OLDEST_KEPT_START_TIME
+                FROM (
+                    SELECT aggregated.*,
+                        ROW_NUMBER() OVER (PARTITION BY aggregated.CAMPAIGN_ID, aggregated.ENVIRONMENT, aggregated.ELIGIBLE_FULL ORDER BY aggregated.START_TIME DESC, aggregated.ID DESC) AS RANK_IN_ENVIRONMENT,
+                        ROW_NUMBER() OVER (PARTITION BY aggregated.CAMPAIGN_ID, aggregated.ENVIRONMENT, aggregated.ELIGIBLE_FULL, CASE WHEN aggregated.NOT_SUCCESS = 0 THEN 1 ELSE 0 END ORDER BY aggregated.START_TIME DESC, aggregated.ID DESC) AS RANK_IN_STATUS
+                    FROM (
+                        SELECT ce.ID, ce.CAMPAIGN_ID, COALESCE(ce.ENVIRONMENT, '') AS ENVIRONMENT,
+                            CASE WHEN ce.PARTIAL THEN 1 ELSE 0 END AS PARTIAL,
+                            MIN(se.EXECUTION_TIME) AS START_TIME,
+                            COUNT(se.ID) AS EXECUTIONS_COUNT,
+                            SUM(CASE WHEN se.ID IS NOT NULL AND COALESCE(se.STATUS, '') <> 'SUCCESS' AND NOT EXISTS (
+                                SELECT 1 FROM SCENARIO_EXECUTIONS retry
+                                WHERE retry.CAMPAIGN_EXECUTION_ID = ce.ID
+                                  AND retry.SCENARIO_ID = se.SCENARIO_ID
+                                  AND COALESCE(retry.DATASET_ID, '') = COALESCE(se.DATASET_ID, '')
+                                  AND (retry.EXECUTION_TIME > se.EXECUTION_TIME OR (retry.EXECUTION_TIME = se.EXECUTION_TIME AND retry.ID > se.ID))
+                            ) THEN 1 ELSE 0 END) AS NOT_SUCCESS,
+                            CASE WHEN COUNT(se.ID) > 0 AND NOT ce.PARTIAL AND MIN(se.EXECUTION_TIME) < :startedBefore THEN 1 ELSE 0 END AS ELIGIBLE_FULL
+                        FROM CAMPAIGN_EXECUTIONS ce
+                        LEFT JOIN SCENARIO_EXECUTIONS se ON se.CAMPAIGN_EXECUTION_ID = ce.ID
+                        WHERE ce.CAMPAIGN_ID IN (:campaignIds)
+                        GROUP BY ce.ID, ce.CAMPAIGN_ID, ce.ENVIRONMENT, ce.PARTIAL
+                    ) aggregated
+                ) stats
+            ) ranked
+            WHERE ranked.ID > :afterExecutionId
+              AND ranked.ID NOT IN (:excludedExecutionIds)
+              AND (
+                ranked.EXECUTIONS_COUNT = 0
+                OR (ranked.ELIGIBLE_FULL = 1 AND ranked.RANK_IN_ENVIRONMENT > :maxExecutionsToKeep AND NOT (ranked.NOT_SUCCESS = 0 AND ranked.RANK_IN_STATUS = 1))
+                OR (ranked.EXECUTIONS_COUNT > 0 AND ranked.PARTIAL = 1 AND ranked.START_TIME < :startedBefore
+                    AND (ranked.OLDEST_KEPT_START_TIME IS NULL OR ranked.START_TIME < ranked.OLDEST_KEPT_START_TIME))
+              )
+            ORDER BY ranked.ID
+            LIMIT :limit
+            """)
+    List<Number> findExecutionIdsToPurge(
+        @Param("campaignIds") List<Long> campaignIds,
+        @Param("maxExecutionsToKeep") int maxExecutionsToKeep,
+        @Param("startedBefore") long startedBefore,
+        @Param("afterExecutionId") long afterExecutionId,
+        @Param("excludedExecutionIds") Set<Long> excludedExecutionIds,
+        @Param("limit") int limit
+    );
 }
@@ -47,6 +47,9 @@ public class CampaignEntity implements Serializable {
     @Column(name = "RETRY_AUTO")
     private Boolean retryAuto;
 
+    @Column(name = "LONGEST_SCENARIOS_FIRST")
+    private Boolean longestScenariosFirst;
+
     @Column(name = "DATASET_ID")
     private String datasetId;
 
@@ -73,12 +76,17 @@ public class CampaignEntity implements Serializable {
     }
 
     public CampaignEntity(Long id, String title, String description, String environment, boolean parallelRun, boolean retryAuto, String datasetId, List<String> tags, Integer version, List<CampaignScenarioEntity> campaignScenarios) {
+        this(id, title, description, environment, parallelRun, retryAuto, false, datasetId, tags, version, campaignScenarios);
+    }
+
+    public CampaignEntity(Long id, String title, String description, String environment, boolean parallelRun, boolean retryAuto, boolean longestScenariosFirst, String datasetId, List<String> tags, Integer version, List<CampaignScenarioEntity> campaignScenarios) {
         this.id = id;
         this.title = title;
         this.description = description;
         this.environment = environment;
         this.parallelRun = parallelRun;
         this.retryAuto = retryAuto;
+        this.longestScenariosFirst = longestScenariosFirst;
         this.datasetId = datasetId;
         this.tags = TagListMapper.tagsToString(tags);
         this.version = ofNullable(version).orElse(1);
@@ -93,6 +101,7 @@ public class CampaignEntity implements Serializable {
             campaign.executionEnvironment(),
             campaign.parallelRun,
             campaign.retryAuto,
+            campaign.longestScenariosFirst,
             campaign.executionDataset(),
             campaign.tags,
             version,
@@ -118,6 +127,7 @@ public class CampaignEntity implements Serializable {
             environment,
             parallelRun,
             retryAuto,
+            ofNullable(longestScenariosFirst).orElse(false),
             datasetId,
             TagListMapper.tagsStringToList(tags)
         );
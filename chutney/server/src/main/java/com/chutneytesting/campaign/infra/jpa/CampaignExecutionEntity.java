@@ -24,6 +24,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -41,6 +42,7 @@ public class CampaignExecutionEntity {
     private Long campaignId;
 
     @OneToMany(mappedBy = "campaignExecution")
+    @OrderBy("id")
     private List<ScenarioExecutionEntity> scenarioExecutions;
 
     @Column(name = "PARTIAL")
@@ -61,6 +63,9 @@ public class CampaignExecutionEntity {
     @Column(name = "DATASET_DATATABLE")
     private String datasetDatatable;
 
+    @Column(name = "PREDICTED_DURATION")
+    private Long predictedDuration;
+
     @Column(name = "VERSION")
     @Version
     private Integer version;
@@ -105,6 +110,7 @@ public class CampaignExecutionEntity {
         partial = report.partialExecution;
         environment = report.executionEnvironment;
         userId = report.userId;
+        predictedDuration = report.getPredictedDuration().orElse(null);
         if (report.dataset != null) {
             datasetId = report.dataset.id;
             datasetConstants = datasetConstantsToString(report.dataset.constants);
@@ -129,7 +135,8 @@ public class CampaignExecutionEntity {
             .partialExecution(ofNullable(partial).orElse(false))
             .environment(environment)
             .dataset(getDataset(datasetId, datasetConstants, datasetDatatable))
-            .userId(userId);
+            .userId(userId)
+            .predictedDuration(predictedDuration);
 
         if (scenarioExecutionReports.isEmpty()) {
             campaignExecutionReportBuilder.status(ServerReportStatus.SUCCESS).startDate(LocalDateTime.MIN);
@@ -33,4 +33,14 @@ public class DatasetMapper {
             .withDatatable(dto.datatable)
             .build();
     }
+
+    public static DataSet fromMetadataDto(DatasetMetadataDto dto, Instant creationDate) {
+        return DataSet.builder()
+            .withId(dto.id)
+            .withName(dto.name)
+            .withDescription(dto.description)
+            .withCreationDate(creationDate)
+            .withTags(dto.tags)
+            .build();
+    }
 }
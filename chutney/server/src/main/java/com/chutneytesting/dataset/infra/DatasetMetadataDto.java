@@ -0,0 +1,31 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.dataset.infra;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+
+/**
+ * Dataset file read without its constants and datatable.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+class DatasetMetadataDto {
+
+    @JsonIgnore public final String id;
+    public final String name;
+    public final String description;
+    public final List<String> tags;
+
+    DatasetMetadataDto(String name, String description, List<String> tags) {
+        this.id = name.replaceAll(" ", "_");
+        this.name = name;
+        this.description = description;
+        this.tags = tags;
+    }
+}
@@ -8,7 +8,9 @@
 package com.chutneytesting.dataset.infra;
 
 import static com.chutneytesting.ServerConfigurationValues.CONFIGURATION_FOLDER_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.DATASET_CACHE_MAX_SIZE_SPRING_VALUE;
 import static com.chutneytesting.dataset.infra.DatasetMapper.fromDto;
+import static com.chutneytesting.dataset.infra.DatasetMapper.fromMetadataDto;
 import static com.chutneytesting.dataset.infra.DatasetMapper.toDto;
 import static com.chutneytesting.tools.file.FileUtils.createFile;
 import static com.chutneytesting.tools.file.FileUtils.initFolder;
@@ -18,6 +20,7 @@ import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.dataset.DataSetAlreadyExistException;
 import com.chutneytesting.server.core.domain.dataset.DataSetNotFoundException;
 import com.chutneytesting.tools.file.FileUtils;
+import com.chutneytesting.tools.file.FolderChanges;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import java.io.IOException;
@@ -26,14 +29,29 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Datasets stored as json files, one per dataset.<br>
+ * A catalogue of all datasets' metadata is kept in memory and refreshed only for the files changed since,
+ * either through this repository or externally, as counted by {@link FolderChanges}.
+ * Full datasets are read on demand and kept in a bounded cache, least recently used first evicted.
+ */
 @Component
-public class FileDatasetRepository implements DataSetRepository {
+public class FileDatasetRepository implements DataSetRepository, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileDatasetRepository.class);
 
     private static final String FILE_EXTENSION = ".json";
 
@@ -45,9 +63,28 @@ public class FileDatasetRepository implements DataSetRepository {
         .findAndRegisterModules()
         .enable(SerializationFeature.INDENT_OUTPUT);
 
-    FileDatasetRepository(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath) throws UncheckedIOException {
+    private final FolderChanges folderChanges;
+    private volatile DatasetCatalogue catalogue = new DatasetCatalogue(-1, Map.of());
+    private final Map<String, CatalogueEntry> datasetsCache;
+
+    FileDatasetRepository(
+        @Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath,
+        @Value(DATASET_CACHE_MAX_SIZE_SPRING_VALUE) int cacheMaxSize
+    ) throws UncheckedIOException {
         this.storeFolderPath = Paths.get(storeFolderPath).resolve(ROOT_DIRECTORY_NAME);
         initFolder(this.storeFolderPath);
+        this.folderChanges = new FolderChanges(this.storeFolderPath);
+        this.datasetsCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CatalogueEntry> eldest) {
+                return size() > cacheMaxSize;
+            }
+        };
+    }
+
+    @Override
+    public void destroy() {
+        folderChanges.close();
     }
 
     @Override
@@ -63,6 +100,8 @@ public class FileDatasetRepository implements DataSetRepository {
             FileUtils.writeContent(file, jsonContent);
         } catch (IOException e) {
             throw new UncheckedIOException("Cannot save " + file.toUri(), e);
+        } finally {
+            changed(dto.id);
         }
         return dto.id;
     }
@@ -86,32 +125,151 @@ public class FileDatasetRepository implements DataSetRepository {
             return DataSet.NO_DATASET;
         }
 
-        Path file = this.storeFolderPath.resolve(fileName + FILE_EXTENSION);
-        try {
-            String content = FileUtils.readContent(file);
-            BasicFileAttributes attr = Files.readAttributes(file, BasicFileAttributes.class);
-            return fromDto(objectMapper.readValue(content, DatasetDto.class), attr.creationTime().toInstant());
-        } catch (IOException | UncheckedIOException e) {
-            throw new DataSetNotFoundException("Cannot read " + file.toUri(), e);
+        if (folderChanges.isWatched()) {
+            CatalogueEntry entry = catalogue().entries().get(fileName);
+            if (entry != null) {
+                synchronized (datasetsCache) {
+                    CatalogueEntry cached = datasetsCache.get(fileName);
+                    if (cached != null && cached.lastModifiedTime().equals(entry.lastModifiedTime())) {
+                        return cached.dataset();
+                    }
+                }
+                CatalogueEntry read = readDataset(fileName);
+                synchronized (datasetsCache) {
+                    datasetsCache.put(fileName, read);
+                }
+                return read.dataset();
+            }
         }
+        return readDataset(fileName).dataset();
     }
 
     @Override
     public void removeById(String fileName) {
         Path filePath = this.storeFolderPath.resolve(fileName + FILE_EXTENSION);
-        FileUtils.delete(filePath);
+        try {
+            FileUtils.delete(filePath);
+        } finally {
+            changed(fileName);
+        }
+    }
+
+    /**
+     * Forget what is known of a dataset written by this repository, even if its file's last modified time did not move.
+     */
+    private void changed(String fileName) {
+        synchronized (this) {
+            if (catalogue.entries().containsKey(fileName)) {
+                Map<String, CatalogueEntry> entries = new LinkedHashMap<>(catalogue.entries());
+                entries.remove(fileName);
+                catalogue = new DatasetCatalogue(catalogue.changes(), entries);
+            }
+        }
+        synchronized (datasetsCache) {
+            datasetsCache.remove(fileName);
+        }
+        folderChanges.changed();
     }
 
+    /**
+     * @return All datasets without their constants and datatable, sorted by id.
+     */
     @Override
     public List<DataSet> findAll() {
-        return FileUtils.doOnListFiles(storeFolderPath, (pathStream) ->
+        if (!folderChanges.isWatched()) {
+            return readCatalogue(Map.of()).values().stream()
+                .map(CatalogueEntry::dataset)
+                .collect(Collectors.toList());
+        }
+        return catalogue().entries().values().stream()
+            .map(CatalogueEntry::dataset)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The current catalogue, refreshed if files changed since it was built.
+     */
+    private DatasetCatalogue catalogue() {
+        DatasetCatalogue currentCatalogue = catalogue;
+        if (currentCatalogue.changes() == folderChanges.count()) {
+            return currentCatalogue;
+        }
+        synchronized (this) {
+            currentCatalogue = catalogue;
+            long currentChanges = folderChanges.count();
+            if (currentCatalogue.changes() != currentChanges) {
+                currentCatalogue = new DatasetCatalogue(currentChanges, readCatalogue(currentCatalogue.entries()));
+                catalogue = currentCatalogue;
+            }
+            return currentCatalogue;
+        }
+    }
+
+    /**
+     * Read the metadata of the datasets files, reusing the previous entries of unchanged files.
+     */
+    private Map<String, CatalogueEntry> readCatalogue(Map<String, CatalogueEntry> previousEntries) {
+        Map<String, BasicFileAttributes> filesAttributes = FileUtils.doOnListFiles(storeFolderPath, (pathStream) ->
             pathStream
                 .filter(Files::isRegularFile)
-                .map(FileUtils::getNameWithoutExtension)
-                .sorted(Comparator.naturalOrder())
-                .map(this::findById)
-                .collect(Collectors.toList())
+                .collect(Collectors.toMap(FileUtils::getNameWithoutExtension, this::readAttributes, (a, b) -> a, HashMap::new))
         );
+        Map<String, CatalogueEntry> entries = new LinkedHashMap<>();
+        filesAttributes.keySet().stream()
+            .sorted(Comparator.naturalOrder())
+            .forEach(id -> {
+                BasicFileAttributes attributes = filesAttributes.get(id);
+                CatalogueEntry previousEntry = previousEntries.get(id);
+                if (previousEntry != null && previousEntry.lastModifiedTime().equals(attributes.lastModifiedTime())) {
+                    entries.put(id, previousEntry);
+                } else {
+                    try {
+                        entries.put(id, readMetadata(id, attributes));
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Cannot read dataset {} metadata", id, e);
+                    }
+                }
+            });
+        return entries;
     }
 
+    private BasicFileAttributes readAttributes(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + file.toUri(), e);
+        }
+    }
+
+    private CatalogueEntry readMetadata(String fileName, BasicFileAttributes attributes) {
+        Path file = this.storeFolderPath.resolve(fileName + FILE_EXTENSION);
+        try {
+            String content = FileUtils.readContent(file);
+            DataSet metadata = fromMetadataDto(objectMapper.readValue(content, DatasetMetadataDto.class), attributes.creationTime().toInstant());
+            return new CatalogueEntry(metadata, attributes.lastModifiedTime());
+        } catch (IOException | UncheckedIOException e) {
+            throw new DataSetNotFoundException("Cannot read " + file.toUri(), e);
+        }
+    }
+
+    private CatalogueEntry readDataset(String fileName) {
+        Path file = this.storeFolderPath.resolve(fileName + FILE_EXTENSION);
+        try {
+            BasicFileAttributes attr = Files.readAttributes(file, BasicFileAttributes.class);
+            String content = FileUtils.readContent(file);
+            return new CatalogueEntry(fromDto(objectMapper.readValue(content, DatasetDto.class), attr.creationTime().toInstant()), attr.lastModifiedTime());
+        } catch (IOException | UncheckedIOException e) {
+            throw new DataSetNotFoundException("Cannot read " + file.toUri(), e);
+        }
+    }
+
+    /**
+     * @param dataset          A dataset, with or without its constants and datatable
+     * @param lastModifiedTime The last modified time of the dataset's file when it was read
+     */
+    private record CatalogueEntry(DataSet dataset, FileTime lastModifiedTime) {
+    }
+
+    private record DatasetCatalogue(long changes, Map<String, CatalogueEntry> entries) {
+    }
 }
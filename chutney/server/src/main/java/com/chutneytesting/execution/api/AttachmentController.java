@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.api;
+
+import com.chutneytesting.server.core.domain.execution.report.Attachment;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentNotFoundException;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin(origins = "*")
+class AttachmentController {
+
+    /**
+     * Raster images cannot hold scripts, any other attachment could run as a page of the application if displayed
+     */
+    private static final Set<String> INLINE_MEDIA_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp", "image/bmp");
+
+    private final AttachmentRepository attachmentRepository;
+
+    AttachmentController(AttachmentRepository attachmentRepository) {
+        this.attachmentRepository = attachmentRepository;
+    }
+
+    /**
+     * Attachments are identified by their content, so they can be cached as long as wanted.<br>
+     * Only raster images are served inline with their media type, other attachments are downloaded as binaries.
+     */
+    @PreAuthorize("hasAuthority('SCENARIO_READ')")
+    @GetMapping(path = "/api/ui/scenario/execution/attachment/{attachmentId}/v1")
+    public ResponseEntity<byte[]> getAttachment(@PathVariable("attachmentId") String attachmentId) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+            .orElseThrow(() -> new AttachmentNotFoundException(attachmentId));
+        String mediaType = attachment.mediaType().split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        boolean inline = INLINE_MEDIA_TYPES.contains(mediaType);
+        return ResponseEntity.ok()
+            .contentType(inline ? MediaType.parseMediaType(mediaType) : MediaType.APPLICATION_OCTET_STREAM)
+            .header(HttpHeaders.CONTENT_DISPOSITION, (inline ? ContentDisposition.inline() : ContentDisposition.attachment().filename(attachment.id())).build().toString())
+            .header("X-Content-Type-Options", "nosniff")
+            .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable())
+            .body(attachment.content());
+    }
+}
@@ -22,6 +22,7 @@ import com.chutneytesting.security.infra.SpringUserService;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -92,11 +93,12 @@ public class CampaignExecutionUiController {
 
     @PreAuthorize("hasAuthority('CAMPAIGN_EXECUTE')")
     @GetMapping(path = {"/{campaignPattern}/surefire", "/{campaignPattern}/surefire/{env}"}, produces = "application/zip")
-    public byte[] executeCampaignsByPatternWithSurefireReport(HttpServletResponse response, @PathVariable("campaignPattern") String campaignPattern, @PathVariable("env") Optional<String> environment) {
+    public void executeCampaignsByPatternWithSurefireReport(HttpServletResponse response, @PathVariable("campaignPattern") String campaignPattern, @PathVariable("env") Optional<String> environment) throws IOException {
         String userId = userService.currentUser().getId();
-        response.addHeader("Content-Disposition", "attachment; filename=\"surefire-report.zip\"");
         List<CampaignExecution> reports = campaignExecutionEngine.executeByName(campaignPattern, environment.orElse(null), userId);
-        return surefireCampaignExecutionReportBuilder.createReport(reports);
+        response.setContentType("application/zip");
+        response.addHeader("Content-Disposition", "attachment; filename=\"surefire-report.zip\"");
+        surefireCampaignExecutionReportBuilder.writeReport(reports, response.getOutputStream());
     }
 
     @PreAuthorize("hasAuthority('CAMPAIGN_EXECUTE')")
@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.api;
+
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes of a followed execution report since the previous event.
+ *
+ * @param sequence         sequence number of the report update
+ * @param contextVariables context variables, only when changed
+ * @param steps            changed step nodes
+ */
+public record ScenarioExecutionReportDeltaDto(
+    long sequence,
+    Map<String, Object> contextVariables,
+    List<StepDeltaDto> steps
+) {
+
+    /**
+     * @param path indexes of the step node from the report root step, empty for the root step
+     * @param step the step node, which sub steps are only present when to be replaced as a whole
+     */
+    public record StepDeltaDto(List<Integer> path, StepExecutionReportCore step) {
+    }
+}
@@ -13,6 +13,7 @@ import com.chutneytesting.dataset.api.ExecutionDatasetDto;
 import com.chutneytesting.dataset.api.KeyValue;
 import com.chutneytesting.dataset.domain.DataSetRepository;
 import com.chutneytesting.environment.api.environment.EmbeddedEnvironmentApi;
+import com.chutneytesting.execution.api.ScenarioExecutionReportDeltaDto.StepDeltaDto;
 import com.chutneytesting.execution.domain.GwtScenarioMarshaller;
 import com.chutneytesting.scenario.api.raw.mapper.GwtScenarioMapper;
 import com.chutneytesting.scenario.domain.gwt.GwtScenario;
@@ -22,18 +23,24 @@ import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
 import com.chutneytesting.server.core.domain.execution.ScenarioExecutionEngine;
 import com.chutneytesting.server.core.domain.execution.ScenarioExecutionEngineAsync;
+import com.chutneytesting.server.core.domain.execution.report.FollowedReport;
+import com.chutneytesting.server.core.domain.execution.report.FollowedReport.StepChange;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.scenario.ScenarioNotFoundException;
 import com.chutneytesting.server.core.domain.scenario.TestCase;
 import com.chutneytesting.server.core.domain.scenario.TestCaseMetadataImpl;
 import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.Observable;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -45,6 +52,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
@@ -143,6 +151,31 @@ public class ScenarioExecutionUiController {
         );
     }
 
+    /**
+     * Follow an execution sending its whole report once, as a <i>snapshot</i> event, then only its changed step nodes, as <i>delta</i> events.<br>
+     * Each event id is the sequence number of the report update, so a reconnecting client sending it as <i>Last-Event-ID</i>
+     * only receives the changes it missed. An <i>end</i> event closes the stream.
+     */
+    @PreAuthorize("hasAuthority('SCENARIO_READ')")
+    @GetMapping(path = "/api/ui/scenario/executionasync/v1/{scenarioId}/execution/{executionId}/delta")
+    public Flux<ServerSentEvent<String>> followScenarioExecutionDelta(@PathVariable("scenarioId") String scenarioId,
+                                                                      @PathVariable("executionId") Long executionId,
+                                                                      @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        LOGGER.debug("followScenarioExecutionDelta for scenarioId='{}', executionID='{}' and lastEventId='{}'", scenarioId, executionId, lastEventId);
+        Observable<FollowedReport> followedReports = executionEngineAsync.followExecutionUpdates(scenarioId, executionId);
+        return Flux.from(Observable.defer(() -> {
+                AtomicLong knownSequence = new AtomicLong(ofNullable(lastEventId).orElse(-1L));
+                return followedReports
+                    .concatMapMaybe(followedReport -> Maybe.fromOptional(followedReportEvent(followedReport, knownSequence.getAndSet(followedReport.sequence))))
+                    .concatWith(Observable.fromCallable(() -> ServerSentEvent.<String>builder()
+                        .id(String.valueOf(knownSequence.get()))
+                        .event("end")
+                        .data(String.valueOf(executionId))
+                        .build()));
+            }).toFlowable(BackpressureStrategy.BUFFER)
+        );
+    }
+
     @PreAuthorize("hasAuthority('SCENARIO_EXECUTE')")
     @PostMapping(path = "/api/ui/scenario/executionasync/v1/{scenarioId}/execution/{executionId}/stop")
     @ResponseStatus(value = HttpStatus.NO_CONTENT)
@@ -177,6 +210,31 @@ public class ScenarioExecutionUiController {
         ).toFlowable(BackpressureStrategy.BUFFER));
     }
 
+    private Optional<ServerSentEvent<String>> followedReportEvent(FollowedReport followedReport, long knownSequence) throws JsonProcessingException {
+        Optional<List<StepChange>> changes = followedReport.changesSince(knownSequence);
+        if (changes.isEmpty()) {
+            return Optional.of(ServerSentEvent.<String>builder()
+                .id(String.valueOf(followedReport.sequence))
+                .event("snapshot")
+                .data(reportObjectMapper.writeValueAsString(followedReport.report))
+                .build());
+        }
+        boolean contextVariablesChanged = followedReport.contextVariablesChangedSince(knownSequence);
+        if (changes.get().isEmpty() && !contextVariablesChanged) {
+            return Optional.empty();
+        }
+        ScenarioExecutionReportDeltaDto delta = new ScenarioExecutionReportDeltaDto(
+            followedReport.sequence,
+            contextVariablesChanged ? followedReport.report.contextVariables : null,
+            changes.get().stream().map(change -> new StepDeltaDto(change.path(), change.step())).toList()
+        );
+        return Optional.of(ServerSentEvent.<String>builder()
+            .id(String.valueOf(followedReport.sequence))
+            .event("delta")
+            .data(reportObjectMapper.writeValueAsString(delta))
+            .build());
+    }
+
     private DataSet getDataSetFromTestCase(TestCase testCase) {
         String defaultDatasetId = testCase.metadata().defaultDataset();
         if (!defaultDatasetId.isEmpty()) {
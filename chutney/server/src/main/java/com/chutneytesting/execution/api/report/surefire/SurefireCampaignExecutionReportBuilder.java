@@ -14,10 +14,8 @@ import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import javax.xml.stream.XMLOutputFactory;
@@ -27,9 +25,28 @@ import javax.xml.stream.XMLStreamWriter;
 /**
  * Surefire reports consists of a ZIP archive containing a folder by campaign.<br>
  * Each campaign folder contains one testsuite file per scenario.
+ * <p>
+ * Testsuites are built and marshalled one at a time straight into the archive, so that the report is never held in memory.
+ * </p>
  */
 public class SurefireCampaignExecutionReportBuilder {
 
+    /**
+     * Thread-safe, costly to create, shared by all builders
+     */
+    private static final JAXBContext JAXB_CONTEXT = createJaxbContext();
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+    /**
+     * Marshallers are not thread-safe
+     */
+    private static final ThreadLocal<Marshaller> MARSHALLER = ThreadLocal.withInitial(() -> {
+        try {
+            return JAXB_CONTEXT.createMarshaller();
+        } catch (JAXBException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    });
+
     private final SurefireScenarioExecutionReportBuilder surefireScenarioExecutionReportBuilder;
 
     public SurefireCampaignExecutionReportBuilder(SurefireScenarioExecutionReportBuilder surefireScenarioExecutionReportBuilder) {
@@ -37,61 +54,50 @@ public class SurefireCampaignExecutionReportBuilder {
     }
 
     public byte[] createReport(List<CampaignExecution> campaignExecutions) {
-        List<CampaignReportFolder> campaignReportFolders = campaignExecutions.stream()
-            .map(this::createReport)
-            .collect(Collectors.toList());
-        return marshall(campaignReportFolders);
-    }
-
-    private byte[] marshall(List<CampaignReportFolder> campaignReportFolders) {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (ZipOutputStream zos = new ZipOutputStream(baos)) {
+        writeReport(campaignExecutions, baos);
+        return baos.toByteArray();
+    }
 
-            campaignReportFolders.forEach(campaignReportFolder -> {
-                try {
-                    zos.putNextEntry(new ZipEntry(campaignReportFolder.name + "/"));
-                    campaignReportFolder.scenariosReport.forEach(testsuite -> {
-                        try {
-                            zos.putNextEntry(new ZipEntry(campaignReportFolder.name + "/" + testsuite.name + ".xml"));
-                            zos.write(zipEntry(testsuite));
-                            zos.closeEntry();
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e.getMessage(), e);
-                        }
-                    });
+    /**
+     * Write the ZIP archive to the given output stream, which is left open.
+     */
+    public void writeReport(List<CampaignExecution> campaignExecutions, OutputStream outputStream) {
+        try {
+            ZipOutputStream zos = new ZipOutputStream(outputStream);
+            for (CampaignExecution campaignExecution : campaignExecutions) {
+                String folderName = campaignExecution.campaignName + "/";
+                zos.putNextEntry(new ZipEntry(folderName));
+                zos.closeEntry();
+                for (ScenarioExecutionCampaign scenarioExecution : campaignExecution.scenarioExecutionReports()) {
+                    Testsuite testsuite = surefireScenarioExecutionReportBuilder.create(scenarioExecution);
+                    zos.putNextEntry(new ZipEntry(folderName + testsuite.getName() + ".xml"));
+                    marshall(testsuite, zos);
                     zos.closeEntry();
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e.getMessage(), e);
                 }
-            });
+            }
+            zos.finish();
         } catch (IOException | RuntimeException e) {
             throw new RuntimeException("Cannot serialize test suite.", e);
         }
-        return baos.toByteArray();
     }
 
-    private byte[] zipEntry(Testsuite testsuite) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter(output);
-            JAXBContext jc = JAXBContext.newInstance(Testsuite.class);
-            Marshaller m = jc.createMarshaller();
-            m.marshal(testsuite, writer);
-            return output.toByteArray();
-        } catch (IOException e) {
-            throw new UncheckedIOException(e.getMessage(), e);
+    private void marshall(Testsuite testsuite, OutputStream output) {
+        try {
+            XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(output);
+            MARSHALLER.get().marshal(testsuite, writer);
+            // Closing the writer does not close the underlying stream
+            writer.close();
         } catch (XMLStreamException | JAXBException e) {
             throw new RuntimeException(e.getMessage(), e);
         }
     }
 
-    private CampaignReportFolder createReport(CampaignExecution campaignExecution) {
-        return new CampaignReportFolder(campaignExecution.campaignName, testsuite(campaignExecution.scenarioExecutionReports()));
-    }
-
-    private Set<Testsuite> testsuite(List<ScenarioExecutionCampaign> scenarioExecutionHistory) {
-        return scenarioExecutionHistory
-            .stream()
-            .map(surefireScenarioExecutionReportBuilder::create)
-            .collect(Collectors.toSet());
+    private static JAXBContext createJaxbContext() {
+        try {
+            return JAXBContext.newInstance(Testsuite.class);
+        } catch (JAXBException e) {
+            throw new IllegalStateException("Cannot create surefire testsuite JAXB context", e);
+        }
     }
 }
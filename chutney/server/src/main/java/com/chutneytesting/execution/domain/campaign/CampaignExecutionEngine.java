@@ -10,14 +10,16 @@ package com.chutneytesting.execution.domain.campaign;
 
 import static com.chutneytesting.server.core.domain.dataset.DataSet.NO_DATASET;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.singleton;
+import static java.util.Collections.emptySet;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
 import com.chutneytesting.campaign.domain.CampaignNotFoundException;
 import com.chutneytesting.campaign.domain.CampaignRepository;
 import com.chutneytesting.dataset.domain.DataSetRepository;
 import com.chutneytesting.jira.api.JiraXrayEmbeddedApi;
+import com.chutneytesting.jira.api.ReportForJira;
 import com.chutneytesting.jira.domain.exception.NoJiraConfigurationException;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
@@ -26,7 +28,7 @@ import com.chutneytesting.server.core.domain.execution.ScenarioExecutionEngine;
 import com.chutneytesting.server.core.domain.execution.ScenarioExecutionEngineAsync;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
-import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
+import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.chutneytesting.server.core.domain.scenario.ScenarioNotFoundException;
@@ -38,65 +40,67 @@ import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution
 import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
 import com.chutneytesting.server.core.domain.scenario.campaign.TestCaseDataset;
 import com.chutneytesting.tools.Try;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Lists;
-import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Callable;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Load campaigns with {@link CampaignRepository}
- * Run each scenario with @{@link ScenarioExecutionEngine}
+ * Run each scenario with @{@link ScenarioExecutionEngine}, sharing scenario executions between running campaigns with {@link CampaignFairShareScheduler}
+ * Give up remaining scenarios according to {@link CampaignFailFastProperties}
  */
 public class CampaignExecutionEngine {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Campaign.class);
 
-    private final ExecutorService executor;
+    private final CampaignFairShareScheduler scheduler;
     private final CampaignRepository campaignRepository;
     private final CampaignExecutionRepository campaignExecutionRepository;
     private final ScenarioExecutionEngine scenarioExecutionEngine;
     private final ScenarioExecutionEngineAsync scenarioExecutionEngineAsync;
-    private final ExecutionHistoryRepository executionHistoryRepository;
     private final TestCaseRepository testCaseRepository;
     private final JiraXrayEmbeddedApi jiraXrayEmbeddedApi;
     private final ChutneyMetrics metrics;
     private final DataSetRepository datasetRepository;
+    private final ExecutionHistoryRepository executionHistoryRepository;
+    private final CampaignFailFastProperties failFastProperties;
 
     private final Map<Long, Boolean> currentCampaignExecutionsStopRequests = new ConcurrentHashMap<>();
-    private final ObjectMapper objectMapper;
 
     public CampaignExecutionEngine(CampaignRepository campaignRepository,
                                    CampaignExecutionRepository campaignExecutionRepository,
                                    ScenarioExecutionEngine scenarioExecutionEngine,
                                    ScenarioExecutionEngineAsync scenarioExecutionEngineAsync,
-                                   ExecutionHistoryRepository executionHistoryRepository,
                                    TestCaseRepository testCaseRepository,
                                    JiraXrayEmbeddedApi jiraXrayEmbeddedApi,
                                    ChutneyMetrics metrics,
-                                   ExecutorService executorService,
+                                   CampaignFairShareScheduler scheduler,
                                    DataSetRepository datasetRepository,
-                                   ObjectMapper objectMapper) {
+                                   ExecutionHistoryRepository executionHistoryRepository,
+                                   CampaignFailFastProperties failFastProperties) {
         this.campaignRepository = campaignRepository;
         this.campaignExecutionRepository = campaignExecutionRepository;
         this.scenarioExecutionEngine = scenarioExecutionEngine;
         this.scenarioExecutionEngineAsync = scenarioExecutionEngineAsync;
-        this.executionHistoryRepository = executionHistoryRepository;
         this.testCaseRepository = testCaseRepository;
         this.jiraXrayEmbeddedApi = jiraXrayEmbeddedApi;
         this.metrics = metrics;
-        this.executor = executorService;
+        this.scheduler = scheduler;
         this.datasetRepository = datasetRepository;
-        this.objectMapper = objectMapper;
+        this.executionHistoryRepository = executionHistoryRepository;
+        this.failFastProperties = failFastProperties;
     }
 
     public CampaignExecution getLastCampaignExecution(Long campaignId) {
@@ -220,6 +224,9 @@ public class CampaignExecutionEngine {
         } finally {
             campaignExecution.endCampaignExecution();
             LOGGER.info("Save campaign {} execution {} with status {}", campaign.id, campaignExecution.executionId, campaignExecution.status());
+            campaignExecution.getPredictedDuration().ifPresent(predictedDuration ->
+                LOGGER.info("Campaign {} execution {} lasted {} ms for {} ms predicted", campaign.id, campaignExecution.executionId, campaignExecution.getDuration(), predictedDuration)
+            );
             currentCampaignExecutionsStopRequests.remove(executionId);
             campaignExecutionRepository.stopExecution(campaign.id, campaign.executionEnvironment());
 
@@ -235,6 +242,10 @@ public class CampaignExecutionEngine {
         }
     }
 
+    /**
+     * Wait for the campaign execution end on purpose, since callers answer with the final campaign report.<br>
+     * Only the calling thread waits, scenario executions are started and ended by the {@link CampaignExecutionPipeline}.
+     */
     private CampaignExecution execute(Campaign campaign, CampaignExecution campaignExecution, List<Campaign.CampaignScenario> scenariosToExecute) {
         LOGGER.trace("Execute campaign {} : {}", campaign.id, campaign.title);
         List<TestCaseDataset> testCaseDatasets = scenariosToExecute.stream()
@@ -248,97 +259,266 @@ public class CampaignExecutionEngine {
 
         campaignExecution.addScenarioExecution(testCaseDatasets, campaign.executionEnvironment());
         try {
-            if (campaign.parallelRun) {
-                Collection<Callable<Object>> toExecute = Lists.newArrayList();
-                for (TestCaseDataset t : testCaseDatasets) {
-                    toExecute.add(Executors.callable(() -> executeScenarioInCampaign(campaign, campaignExecution).accept(t)));
-                }
-                executor.invokeAll(toExecute);
-            } else {
-                for (TestCaseDataset t : testCaseDatasets) {
-                    executor.invokeAll(singleton(Executors.callable(() -> executeScenarioInCampaign(campaign, campaignExecution).accept(t))));
-                }
-            }
+            new CampaignExecutionPipeline(campaign, campaignExecution, testCaseDatasets).start().get();
         } catch (InterruptedException e) {
             LOGGER.error("Error ", e);
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             LOGGER.error("Unexpected error ", e);
         }
         return campaignExecution;
     }
 
-    private Consumer<TestCaseDataset> executeScenarioInCampaign(Campaign campaign, CampaignExecution campaignExecution) {
-        return testCaseDataset -> {
+    /**
+     * Order scenarios longest first for parallel campaigns asking for it, predicting the campaign execution duration from the executions history.
+     */
+    private CampaignExecutionPlan plan(Campaign campaign, List<TestCaseDataset> testCaseDatasets, int slots) {
+        if (!campaign.longestScenariosFirst || testCaseDatasets.isEmpty()) {
+            return CampaignExecutionPlan.declaredOrder(testCaseDatasets);
+        }
+        try {
+            List<String> scenarioIds = testCaseDatasets.stream().map(testCaseDataset -> testCaseDataset.testcase().id()).toList();
+            Map<String, Long> meanDurations = executionHistoryRepository.getMeanDurations(scenarioIds, campaign.executionEnvironment());
+            if (campaign.parallelRun) {
+                return CampaignExecutionPlan.longestFirst(testCaseDatasets, meanDurations, slots);
+            }
+            return CampaignExecutionPlan.declaredOrder(testCaseDatasets, meanDurations, slots);
+        } catch (Exception e) {
+            LOGGER.warn("Cannot plan campaign {} execution from history, keep declared scenarios order", campaign.id, e);
+            return CampaignExecutionPlan.declaredOrder(testCaseDatasets);
+        }
+    }
+
+    /**
+     * Queue all scenario executions of one campaign execution in its {@link CampaignFairShareScheduler.Lane}.<br>
+     * Each scenario end, notified by {@link ScenarioExecutionEngine#executeAsync(ExecutionRequest)}, releases its slot,
+     * so no thread waits for a scenario execution to finish.<br>
+     * On stop request or when the {@link CampaignFailFast} policy aborts the campaign execution, all scenarios not launched yet
+     * are claimed at once and saved as not executed together.
+     */
+    private class CampaignExecutionPipeline {
+        private final Campaign campaign;
+        private final CampaignExecution campaignExecution;
+        private final List<PlannedScenario> plannedScenarios;
+        private final AtomicInteger remainingScenarios;
+        private final CompletableFuture<Void> campaignEnd = new CompletableFuture<>();
+        private final CampaignFairShareScheduler.Lane lane;
+        private final CampaignFailFast failFast;
+
+        private CampaignExecutionPipeline(Campaign campaign, CampaignExecution campaignExecution, List<TestCaseDataset> testCaseDatasets) {
+            this.campaign = campaign;
+            this.campaignExecution = campaignExecution;
+            this.remainingScenarios = new AtomicInteger(testCaseDatasets.size());
+            this.failFast = new CampaignFailFast(failFastProperties.policyFor(campaign));
+            this.lane = scheduler.register(campaign, campaignExecution.executionId);
+            CampaignExecutionPlan plan = plan(campaign, testCaseDatasets, lane.slots());
+            plan.predictedDuration().ifPresent(campaignExecution::predictDuration);
+            this.plannedScenarios = plan.scenarios().stream().map(PlannedScenario::new).toList();
+        }
+
+        private CompletableFuture<Void> start() {
+            if (plannedScenarios.isEmpty()) {
+                lane.close();
+                campaignEnd.complete(null);
+            }
+            plannedScenarios.forEach(plannedScenario -> lane.submit(() -> launchScenario(plannedScenario)));
+            return campaignEnd;
+        }
+
+        private void launchScenario(PlannedScenario plannedScenario) {
+            if (!plannedScenario.claim()) {
+                // Already saved as not executed
+                lane.release();
+                return;
+            }
+            TestCaseDataset testCaseDataset = plannedScenario.testCaseDataset;
             try {
-                ScenarioExecutionCampaign scenarioExecution;
                 // Is stop requested ?
-                if (!currentCampaignExecutionsStopRequests.get(campaignExecution.executionId)) {
-                    // Init scenario execution in campaign report
-                    campaignExecution.startScenarioExecution(testCaseDataset, campaign.executionEnvironment());
-                    // Execute scenario
-                    scenarioExecution = executeScenario(campaign, testCaseDataset, campaignExecution);
+                if (currentCampaignExecutionsStopRequests.get(campaignExecution.executionId)) {
+                    skipRemainingScenarios(testCaseDataset);
+                    lane.release();
+                    return;
+                }
+                // Does it use a target which already failed ?
+                Optional<String> failingTarget = failFast.failingTarget(testCaseDataset.testcase());
+                if (failingTarget.isPresent()) {
+                    LOGGER.info("Skip scenario {} for campaign execution {} : target {} failed", testCaseDataset.testcase().id(), campaignExecution.executionId, failingTarget.get());
+                    skipScenarios(List.of(testCaseDataset));
+                    lane.release();
+                    return;
+                }
+                // Init scenario execution in campaign report
+                campaignExecution.startScenarioExecution(testCaseDataset, campaign.executionEnvironment());
+                // Execute scenario
+                executeScenario(campaign, testCaseDataset, campaignExecution)
                     // Retry one time if failed
-                    if (campaign.retryAuto && ServerReportStatus.FAILURE.equals(scenarioExecution.status())) {
-                        scenarioExecution = executeScenario(campaign, testCaseDataset, campaignExecution);
-                    }
-                } else {
-                    scenarioExecution = generateNotExecutedScenarioExecutionAndReport(campaign, testCaseDataset, campaignExecution);
+                    .thenCompose(scenarioExecution -> {
+                        if (campaign.retryAuto && scenarioExecution != null && ServerReportStatus.FAILURE.equals(scenarioExecution.execution().status())) {
+                            return executeScenario(campaign, testCaseDataset, campaignExecution);
+                        }
+                        return completedFuture(scenarioExecution);
+                    })
+                    .whenCompleteAsync((scenarioExecution, throwable) -> {
+                        if (throwable != null) {
+                            LOGGER.error("Error in scenario execution for campaign execution {}", campaignExecution.executionId, throwable);
+                        }
+                        endScenario(scenarioExecution);
+                    }, scheduler.executor());
+            } catch (Exception e) {
+                LOGGER.error("Error in scenario execution for campaign execution {}", campaignExecution.executionId, e);
+                endScenario(null);
+            }
+        }
+
+        private void endScenario(ScenarioExecutionOutcome scenarioExecution) {
+            try {
+                if (scenarioExecution != null) {
+                    recordOutcome(scenarioExecution);
+                    failFast.onScenarioEnd(scenarioExecution.execution().status(), scenarioExecution.failingTargets())
+                        .ifPresent(reason -> {
+                            LOGGER.warn("Abort campaign {} execution {} : {}", campaign.id, campaignExecution.executionId, reason);
+                            // Claim remaining scenarios before releasing the slot, so none of them is launched meanwhile
+                            skipRemainingScenarios(null);
+                        });
                 }
-                // Add scenario report to campaign's one
-                ofNullable(scenarioExecution)
-                    .ifPresent(serc -> {
-                        campaignExecution.endScenarioExecution(serc);
-                        // update xray test
-                        ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(serc.scenarioId(), serc.execution().executionId());
-                        updateJira(campaign, campaignExecution, serc, execution);
-                    });
             } catch (Exception e) {
                 LOGGER.error("Error in scenario execution for campaign execution {}", campaignExecution.executionId, e);
+            } finally {
+                lane.release();
+                scenariosEnded(1);
+            }
+        }
+
+        private void recordOutcome(ScenarioExecutionOutcome outcome) {
+            // Add scenario report to campaign's one
+            campaignExecution.endScenarioExecution(outcome.execution());
+            // update xray test
+            updateJira(campaign, campaignExecution, outcome);
+        }
+
+        /**
+         * Claim all scenarios not launched yet, the given already claimed one first
+         */
+        private void skipRemainingScenarios(TestCaseDataset claimedScenario) {
+            lane.close();
+            List<TestCaseDataset> skippedScenarios = new ArrayList<>();
+            ofNullable(claimedScenario).ifPresent(skippedScenarios::add);
+            plannedScenarios.stream()
+                .filter(PlannedScenario::claim)
+                .map(plannedScenario -> plannedScenario.testCaseDataset)
+                .forEach(skippedScenarios::add);
+            skipScenarios(skippedScenarios);
+        }
+
+        private void skipScenarios(List<TestCaseDataset> skippedScenarios) {
+            if (skippedScenarios.isEmpty()) {
+                return;
+            }
+            try {
+                generateNotExecutedScenarioExecutionsAndReports(campaign, skippedScenarios, campaignExecution)
+                    .forEach(this::recordOutcome);
+            } catch (Exception e) {
+                LOGGER.error("Error saving not executed scenarios for campaign execution {}", campaignExecution.executionId, e);
+            } finally {
+                scenariosEnded(skippedScenarios.size());
             }
-        };
+        }
+
+        private void scenariosEnded(int count) {
+            if (remainingScenarios.addAndGet(-count) == 0) {
+                lane.close();
+                campaignEnd.complete(null);
+            }
+        }
     }
 
-    private void updateJira(Campaign campaign, CampaignExecution campaignExecution, ScenarioExecutionCampaign serc, ExecutionHistory.Execution execution) {
+    /**
+     * A scenario to launch once, either executed or skipped
+     */
+    private static class PlannedScenario {
+        private final TestCaseDataset testCaseDataset;
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+        private PlannedScenario(TestCaseDataset testCaseDataset) {
+            this.testCaseDataset = testCaseDataset;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    private record ScenarioExecutionOutcome(ScenarioExecutionCampaign execution, ReportForJira jiraReport, Set<String> failingTargets) {
+    }
+
+    private void updateJira(Campaign campaign, CampaignExecution campaignExecution, ScenarioExecutionOutcome outcome) {
         try {
+            ScenarioExecutionCampaign serc = outcome.execution();
             String datasetId = serc.execution()
                 .dataset()
                 .map(dataset -> ofNullable(dataset.id).orElse(""))
                 .orElse("");
-            jiraXrayEmbeddedApi.updateTestExecution(campaign.id, campaignExecution.executionId, serc.scenarioId(), datasetId, JiraReportMapper.from(execution.report(), objectMapper));
+            jiraXrayEmbeddedApi.updateTestExecution(campaign.id, campaignExecution.executionId, serc.scenarioId(), datasetId, outcome.jiraReport());
         } catch (NoJiraConfigurationException e) { // Silent
         } catch (Exception e) {
             LOGGER.warn("Update JIRA failed", e);
         }
     }
 
-    private ScenarioExecutionCampaign generateNotExecutedScenarioExecutionAndReport(Campaign campaign, TestCaseDataset testCaseDataset, CampaignExecution campaignExecution) {
-        ExecutionRequest executionRequest = buildExecutionRequest(campaign, testCaseDataset, campaignExecution);
-        ExecutionHistory.Execution execution = scenarioExecutionEngine.saveNotExecutedScenarioExecution(executionRequest);
-        return new ScenarioExecutionCampaign(testCaseDataset.testcase().id(), testCaseDataset.testcase().metadata().title(), execution.summary());
+    private List<ScenarioExecutionOutcome> generateNotExecutedScenarioExecutionsAndReports(Campaign campaign, List<TestCaseDataset> testCaseDatasets, CampaignExecution campaignExecution) {
+        List<ExecutionRequest> executionRequests = testCaseDatasets.stream()
+            .map(testCaseDataset -> buildExecutionRequest(campaign, testCaseDataset, campaignExecution))
+            .toList();
+        List<ExecutionHistory.Execution> executions = scenarioExecutionEngine.saveNotExecutedScenarioExecutions(executionRequests);
+        return IntStream.range(0, Math.min(testCaseDatasets.size(), executions.size()))
+            .mapToObj(i -> {
+                TestCaseDataset testCaseDataset = testCaseDatasets.get(i);
+                ExecutionHistory.ExecutionSummary summary = executions.get(i).summary();
+                return new ScenarioExecutionOutcome(
+                    new ScenarioExecutionCampaign(testCaseDataset.testcase().id(), testCaseDataset.testcase().metadata().title(), summary),
+                    JiraReportMapper.from(summary),
+                    emptySet()
+                );
+            })
+            .toList();
     }
 
-
-    private ScenarioExecutionCampaign executeScenario(Campaign campaign, TestCaseDataset testCaseDataset, CampaignExecution campaignExecution) {
-        Long executionId;
-        String scenarioName;
+    private CompletableFuture<ScenarioExecutionOutcome> executeScenario(Campaign campaign, TestCaseDataset testCaseDataset, CampaignExecution campaignExecution) {
+        String scenarioId = testCaseDataset.testcase().id();
+        ExecutionRequest executionRequest = buildExecutionRequest(campaign, testCaseDataset, campaignExecution);
         try {
-            LOGGER.trace("Execute scenario {} for campaign {}", testCaseDataset.testcase().id(), campaign.id);
-            ExecutionRequest executionRequest = buildExecutionRequest(campaign, testCaseDataset, campaignExecution);
-            ScenarioExecutionReport scenarioExecutionReport = scenarioExecutionEngine.execute(executionRequest);
-            executionId = scenarioExecutionReport.executionId;
-            scenarioName = scenarioExecutionReport.scenarioName;
+            LOGGER.trace("Execute scenario {} for campaign {}", scenarioId, campaign.id);
+            return scenarioExecutionEngine.executeAsync(executionRequest)
+                .thenApply(scenarioExecutionReport -> new ScenarioExecutionOutcome(
+                    new ScenarioExecutionCampaign(scenarioId, scenarioExecutionReport.scenarioName, ScenarioExecutionEngineAsync.summary(scenarioExecutionReport, executionRequest)),
+                    JiraReportMapper.from(scenarioExecutionReport),
+                    CampaignFailFast.failingTargets(scenarioExecutionReport.report)
+                ));
         } catch (FailedExecutionAttempt e) {
-            LOGGER.warn("Failed execution attempt for scenario {} for campaign {}", testCaseDataset.testcase().id(), campaign.id);
-            executionId = e.executionId;
-            scenarioName = e.title;
+            LOGGER.warn("Failed execution attempt for scenario {} for campaign {}", scenarioId, campaign.id);
+            ExecutionHistory.ExecutionSummary summary = failedExecutionAttemptSummary(e, executionRequest);
+            return completedFuture(new ScenarioExecutionOutcome(new ScenarioExecutionCampaign(scenarioId, e.title, summary), JiraReportMapper.from(summary), emptySet()));
         } catch (ScenarioNotFoundException | ScenarioNotParsableException se) {
-            LOGGER.error("Scenario error for scenario {} for campaign {}", testCaseDataset.testcase().id(), campaign.id, se);
+            LOGGER.error("Scenario error for scenario {} for campaign {}", scenarioId, campaign.id, se);
             // TODO - Do not hide scenario problem
-            return null;
+            return completedFuture(null);
         }
-        // TODO - why an extra DB request when we already have the report above ?
-        ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(testCaseDataset.testcase().id(), executionId);
-        return new ScenarioExecutionCampaign(testCaseDataset.testcase().id(), scenarioName, execution.summary());
+    }
+
+    private ExecutionHistory.ExecutionSummary failedExecutionAttemptSummary(FailedExecutionAttempt e, ExecutionRequest executionRequest) {
+        return ImmutableExecutionHistory.ExecutionSummary.builder()
+            .executionId(e.executionId)
+            .scenarioId(executionRequest.testCase.id())
+            .time(LocalDateTime.now())
+            .duration(0L)
+            .status(ServerReportStatus.FAILURE)
+            .error(ofNullable(e.getCause()).map(Throwable::getMessage).orElse(e.toString()))
+            .testCaseTitle(e.title)
+            .environment(executionRequest.environment)
+            .user(executionRequest.userId)
+            .dataset(ofNullable(executionRequest.dataset))
+            .tags(new HashSet<>(executionRequest.tags))
+            .build();
     }
 
     private DataSet resolveScenarioDataset(Campaign.CampaignScenario campaignScenario, CampaignExecution campaignExecution) {
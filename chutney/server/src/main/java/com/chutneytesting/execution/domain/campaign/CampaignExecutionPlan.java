@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static java.util.Comparator.comparingLong;
+
+import com.chutneytesting.server.core.domain.scenario.campaign.TestCaseDataset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Order of the scenarios of a campaign execution, with the wall-clock time predicted from their past durations.<br>
+ * A scenario without history is expected to last the mean duration of the others.
+ * Without any history at all, the declared order is kept and nothing is predicted.
+ */
+record CampaignExecutionPlan(List<TestCaseDataset> scenarios, Optional<Long> predictedDuration) {
+
+    static CampaignExecutionPlan declaredOrder(List<TestCaseDataset> scenarios) {
+        return new CampaignExecutionPlan(scenarios, Optional.empty());
+    }
+
+    /**
+     * Keep the declared order, predicting its wall-clock time on the given number of slots.
+     */
+    static CampaignExecutionPlan declaredOrder(List<TestCaseDataset> scenarios, Map<String, Long> meanDurations, int slots) {
+        if (meanDurations.isEmpty()) {
+            return declaredOrder(scenarios);
+        }
+        List<Long> durations = estimatedDurations(scenarios, meanDurations);
+        return new CampaignExecutionPlan(scenarios, Optional.of(makespan(durations, slots)));
+    }
+
+    /**
+     * Start the longest scenarios first, so that no long scenario is left to run alone at the end of the campaign.<br>
+     * Scenarios with the same expected duration keep their declared order.
+     */
+    static CampaignExecutionPlan longestFirst(List<TestCaseDataset> scenarios, Map<String, Long> meanDurations, int slots) {
+        if (meanDurations.isEmpty()) {
+            return declaredOrder(scenarios);
+        }
+        List<Long> durations = estimatedDurations(scenarios, meanDurations);
+        List<Integer> longestFirst = IntStream.range(0, scenarios.size()).boxed()
+            .sorted(comparingLong(durations::get).reversed())
+            .toList();
+        return new CampaignExecutionPlan(
+            longestFirst.stream().map(scenarios::get).toList(),
+            Optional.of(makespan(longestFirst.stream().map(durations::get).toList(), slots))
+        );
+    }
+
+    private static List<Long> estimatedDurations(List<TestCaseDataset> scenarios, Map<String, Long> meanDurations) {
+        long unknownDuration = Math.round(meanDurations.values().stream().mapToLong(Long::longValue).average().orElse(0));
+        return scenarios.stream()
+            .map(scenario -> meanDurations.getOrDefault(scenario.testcase().id(), unknownDuration))
+            .toList();
+    }
+
+    /**
+     * Simulate scenarios, in order, each one starting on the first freed slot.
+     */
+    private static long makespan(List<Long> durations, int slots) {
+        PriorityQueue<Long> slotsEnd = new PriorityQueue<>();
+        IntStream.range(0, Math.max(1, slots)).forEach(i -> slotsEnd.add(0L));
+        long makespan = 0;
+        for (Long duration : durations) {
+            long end = slotsEnd.poll() + duration;
+            slotsEnd.add(end);
+            makespan = Math.max(makespan, end);
+        }
+        return makespan;
+    }
+}
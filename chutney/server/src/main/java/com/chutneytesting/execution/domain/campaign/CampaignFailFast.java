@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static java.util.Collections.emptySet;
+import static java.util.Optional.ofNullable;
+
+import com.chutneytesting.scenario.domain.gwt.GwtStep;
+import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
+import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
+import com.chutneytesting.server.core.domain.scenario.TestCase;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Follow the scenario outcomes of one campaign execution and tell when, following its {@link CampaignFailFastProperties.CampaignFailFastPolicy},
+ * the remaining scenarios should not be executed.
+ */
+class CampaignFailFast {
+
+    private final CampaignFailFastProperties.CampaignFailFastPolicy policy;
+    private final Set<String> failingTargets = new HashSet<>();
+    private int endedScenarios = 0;
+    private int failedScenarios = 0;
+    private int consecutiveFailures = 0;
+    private String abortReason;
+
+    CampaignFailFast(CampaignFailFastProperties.CampaignFailFastPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * @return the reason to abort the campaign execution, if this scenario outcome is the first to cross a threshold of the policy
+     */
+    synchronized Optional<String> onScenarioEnd(ServerReportStatus status, Set<String> scenarioFailingTargets) {
+        if (ServerReportStatus.NOT_EXECUTED.equals(status)) {
+            return Optional.empty();
+        }
+        endedScenarios++;
+        if (ServerReportStatus.FAILURE.equals(status)) {
+            failedScenarios++;
+            consecutiveFailures++;
+            if (policy.skipFailingTargets()) {
+                failingTargets.addAll(scenarioFailingTargets);
+            }
+        } else {
+            consecutiveFailures = 0;
+        }
+
+        if (abortReason != null) {
+            return Optional.empty();
+        }
+        if (policy.maxConsecutiveFailures() != null && consecutiveFailures >= policy.maxConsecutiveFailures()) {
+            abortReason = consecutiveFailures + " consecutive scenarios failed";
+        } else if (policy.maxFailureRate() != null && endedScenarios >= policy.failureRateMinScenarios()
+            && failedScenarios * 100 > policy.maxFailureRate() * endedScenarios) {
+            abortReason = failedScenarios + " scenarios failed on " + endedScenarios + " executed, exceeding " + policy.maxFailureRate() + "%";
+        }
+        return ofNullable(abortReason);
+    }
+
+    /**
+     * @return a target used by the scenario on which a step of a previous scenario failed
+     */
+    synchronized Optional<String> failingTarget(TestCase testCase) {
+        if (!policy.skipFailingTargets() || failingTargets.isEmpty()) {
+            return Optional.empty();
+        }
+        return targets(testCase).stream().filter(failingTargets::contains).findFirst();
+    }
+
+    /**
+     * Targets declared by the steps of a scenario, ignoring the ones resolved at execution.
+     * Raw scenarios are not parsed and use no known target.
+     */
+    static Set<String> targets(TestCase testCase) {
+        if (!(testCase instanceof GwtTestCase gwtTestCase) || gwtTestCase.scenario == null) {
+            return emptySet();
+        }
+        Set<String> targets = new HashSet<>();
+        gwtTestCase.scenario.steps().stream()
+            .flatMap(CampaignFailFast::flatten)
+            .forEach(step -> step.implementation
+                .map(implementation -> implementation.target)
+                .filter(target -> !target.isBlank() && !target.contains("${") && !target.contains("**"))
+                .ifPresent(targets::add));
+        return targets;
+    }
+
+    /**
+     * Targets of the failed leaf steps of a scenario execution report.
+     */
+    static Set<String> failingTargets(StepExecutionReportCore report) {
+        Set<String> targets = new HashSet<>();
+        collectFailingTargets(report, targets);
+        return targets;
+    }
+
+    private static void collectFailingTargets(StepExecutionReportCore report, Set<String> targets) {
+        if (report == null) {
+            return;
+        }
+        if (report.steps == null || report.steps.isEmpty()) {
+            if (ServerReportStatus.FAILURE.equals(report.status) && report.targetName != null && !report.targetName.isBlank()) {
+                targets.add(report.targetName);
+            }
+            return;
+        }
+        report.steps.forEach(step -> collectFailingTargets(step, targets));
+    }
+
+    private static Stream<GwtStep> flatten(GwtStep step) {
+        return Stream.concat(Stream.of(step), step.subSteps.stream().flatMap(CampaignFailFast::flatten));
+    }
+}
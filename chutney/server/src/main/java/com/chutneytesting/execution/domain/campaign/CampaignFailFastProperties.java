@@ -0,0 +1,158 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static java.util.Optional.ofNullable;
+
+import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Conditions under which a campaign execution gives up its remaining scenarios, see {@link CampaignFailFast}.<br>
+ * Policies are disabled by default and can be enabled for all campaigns or for campaigns having a given tag.
+ */
+public class CampaignFailFastProperties {
+
+    private Integer maxConsecutiveFailures;
+    private Integer maxFailureRate;
+    private int failureRateMinScenarios = 10;
+    private boolean skipFailingTargets = false;
+    private Map<String, TagPolicy> tags = new HashMap<>();
+
+    public CampaignFailFastProperties() {
+    }
+
+    public CampaignFailFastProperties(Integer maxConsecutiveFailures, Integer maxFailureRate, int failureRateMinScenarios, boolean skipFailingTargets) {
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+        this.maxFailureRate = maxFailureRate;
+        this.failureRateMinScenarios = failureRateMinScenarios;
+        this.skipFailingTargets = skipFailingTargets;
+    }
+
+    /**
+     * Strictest values among defaults and matching tags win.
+     */
+    public CampaignFailFastPolicy policyFor(Campaign campaign) {
+        List<TagPolicy> matchingTags = ofNullable(campaign.tags).orElse(List.of()).stream()
+            .map(tags::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        Integer consecutiveFailures = strictest(maxConsecutiveFailures, matchingTags, TagPolicy::getMaxConsecutiveFailures).orElse(null);
+        Integer failureRate = strictest(maxFailureRate, matchingTags, TagPolicy::getMaxFailureRate).orElse(null);
+        int minScenarios = strictest(failureRateMinScenarios, matchingTags, TagPolicy::getFailureRateMinScenarios).orElse(failureRateMinScenarios);
+        boolean skipTargets = skipFailingTargets || matchingTags.stream().map(TagPolicy::getSkipFailingTargets).anyMatch(Boolean.TRUE::equals);
+
+        return new CampaignFailFastPolicy(
+            ofNullable(consecutiveFailures).map(max -> Math.max(1, max)).orElse(null),
+            ofNullable(failureRate).map(max -> Math.min(100, Math.max(0, max))).orElse(null),
+            Math.max(1, minScenarios),
+            skipTargets
+        );
+    }
+
+    private static Optional<Integer> strictest(Integer defaultValue, List<TagPolicy> matchingTags, Function<TagPolicy, Integer> tagValue) {
+        return Stream.concat(Stream.of(defaultValue), matchingTags.stream().map(tagValue))
+            .filter(Objects::nonNull)
+            .min(Integer::compare);
+    }
+
+    public Integer getMaxConsecutiveFailures() {
+        return maxConsecutiveFailures;
+    }
+
+    public void setMaxConsecutiveFailures(Integer maxConsecutiveFailures) {
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+    }
+
+    public Integer getMaxFailureRate() {
+        return maxFailureRate;
+    }
+
+    public void setMaxFailureRate(Integer maxFailureRate) {
+        this.maxFailureRate = maxFailureRate;
+    }
+
+    public int getFailureRateMinScenarios() {
+        return failureRateMinScenarios;
+    }
+
+    public void setFailureRateMinScenarios(int failureRateMinScenarios) {
+        this.failureRateMinScenarios = failureRateMinScenarios;
+    }
+
+    public boolean isSkipFailingTargets() {
+        return skipFailingTargets;
+    }
+
+    public void setSkipFailingTargets(boolean skipFailingTargets) {
+        this.skipFailingTargets = skipFailingTargets;
+    }
+
+    public Map<String, TagPolicy> getTags() {
+        return tags;
+    }
+
+    public void setTags(Map<String, TagPolicy> tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * @param maxConsecutiveFailures  abort after this number of failed scenarios in a row, null to disable
+     * @param maxFailureRate          abort when the percentage of failed scenarios exceeds this value, null to disable
+     * @param failureRateMinScenarios number of ended scenarios before evaluating the failure rate
+     * @param skipFailingTargets      do not execute scenarios using a target on which a step already failed
+     */
+    public record CampaignFailFastPolicy(Integer maxConsecutiveFailures, Integer maxFailureRate, int failureRateMinScenarios, boolean skipFailingTargets) {
+    }
+
+    public static class TagPolicy {
+        private Integer maxConsecutiveFailures;
+        private Integer maxFailureRate;
+        private Integer failureRateMinScenarios;
+        private Boolean skipFailingTargets;
+
+        public Integer getMaxConsecutiveFailures() {
+            return maxConsecutiveFailures;
+        }
+
+        public void setMaxConsecutiveFailures(Integer maxConsecutiveFailures) {
+            this.maxConsecutiveFailures = maxConsecutiveFailures;
+        }
+
+        public Integer getMaxFailureRate() {
+            return maxFailureRate;
+        }
+
+        public void setMaxFailureRate(Integer maxFailureRate) {
+            this.maxFailureRate = maxFailureRate;
+        }
+
+        public Integer getFailureRateMinScenarios() {
+            return failureRateMinScenarios;
+        }
+
+        public void setFailureRateMinScenarios(Integer failureRateMinScenarios) {
+            this.failureRateMinScenarios = failureRateMinScenarios;
+        }
+
+        public Boolean getSkipFailingTargets() {
+            return skipFailingTargets;
+        }
+
+        public void setSkipFailingTargets(Boolean skipFailingTargets) {
+            this.skipFailingTargets = skipFailingTargets;
+        }
+    }
+}
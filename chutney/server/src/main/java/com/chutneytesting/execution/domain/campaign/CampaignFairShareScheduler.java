@@ -0,0 +1,175 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static java.util.Comparator.comparingDouble;
+
+import com.chutneytesting.execution.domain.campaign.CampaignSchedulingProperties.CampaignSchedulingPolicy;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Share scenario executions between all running campaign executions with weighted fair queuing.<br>
+ * Each campaign execution registers a {@link Lane} weighted by its priority and capped in concurrent scenario executions.
+ * When a global execution slot is free, the eligible lane with the smallest virtual finish time is served,
+ * so a large campaign cannot starve campaigns started after it.<br>
+ * The queue depth gauge is updated under the scheduler lock, so it is published in queue changes order.
+ */
+public class CampaignFairShareScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CampaignFairShareScheduler.class);
+
+    private final Executor executor;
+    private final CampaignSchedulingProperties properties;
+    private final ChutneyMetrics metrics;
+
+    private final List<Lane> lanes = new ArrayList<>();
+    private double virtualTime = 0;
+    private int runningScenarios = 0;
+    private int queuedScenarios = 0;
+
+    public CampaignFairShareScheduler(Executor executor, CampaignSchedulingProperties properties, ChutneyMetrics metrics) {
+        this.executor = executor;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    public Lane register(Campaign campaign, Long campaignExecutionId) {
+        CampaignSchedulingPolicy policy = properties.policyFor(campaign);
+        Lane lane = new Lane(campaign, campaignExecutionId, policy);
+        synchronized (this) {
+            lane.virtualTime = virtualTime;
+            lanes.add(lane);
+        }
+        LOGGER.debug("Register campaign {} execution {} with priority {} and max in flight {}", campaign.id, campaignExecutionId, policy.priority(), policy.maxInFlight());
+        return lane;
+    }
+
+    /**
+     * Executor used to process scenario ends
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    public synchronized int queueDepth() {
+        return queuedScenarios;
+    }
+
+    public synchronized int runningScenarios() {
+        return runningScenarios;
+    }
+
+    private void dispatch() {
+        List<Runnable> toRun = new ArrayList<>();
+        synchronized (this) {
+            while (runningScenarios < properties.getMaxConcurrentScenarios()) {
+                Lane next = lanes.stream()
+                    .filter(Lane::eligible)
+                    .min(comparingDouble(Lane::virtualFinishTime))
+                    .orElse(null);
+                if (next == null) {
+                    break;
+                }
+                QueuedScenario queued = next.queue.poll();
+                virtualTime = Math.max(virtualTime, next.virtualTime);
+                next.virtualTime = next.virtualFinishTime();
+                next.inFlight++;
+                runningScenarios++;
+                queuedScenarios--;
+                toRun.add(() -> {
+                    metrics.onCampaignScenarioDequeued(next.campaign, Duration.ofNanos(System.nanoTime() - queued.queuedAt()));
+                    queued.task().run();
+                });
+            }
+            if (!toRun.isEmpty()) {
+                metrics.onCampaignSchedulerQueueUpdated(queuedScenarios);
+            }
+        }
+        toRun.forEach(executor::execute);
+    }
+
+    private record QueuedScenario(Runnable task, long queuedAt) {
+    }
+
+    public class Lane {
+        private final Campaign campaign;
+        private final Long campaignExecutionId;
+        private final CampaignSchedulingPolicy policy;
+        private final Queue<QueuedScenario> queue = new ArrayDeque<>();
+        private int inFlight = 0;
+        private double virtualTime;
+
+        private Lane(Campaign campaign, Long campaignExecutionId, CampaignSchedulingPolicy policy) {
+            this.campaign = campaign;
+            this.campaignExecutionId = campaignExecutionId;
+            this.policy = policy;
+        }
+
+        /**
+         * Queue a scenario execution, to be run when this lane is served
+         */
+        public void submit(Runnable scenarioExecution) {
+            synchronized (CampaignFairShareScheduler.this) {
+                queue.add(new QueuedScenario(scenarioExecution, System.nanoTime()));
+                metrics.onCampaignSchedulerQueueUpdated(++queuedScenarios);
+            }
+            dispatch();
+        }
+
+        /**
+         * Must be called once for each ended scenario execution
+         */
+        public void release() {
+            synchronized (CampaignFairShareScheduler.this) {
+                inFlight--;
+                runningScenarios--;
+            }
+            dispatch();
+        }
+
+        public void close() {
+            synchronized (CampaignFairShareScheduler.this) {
+                if (!queue.isEmpty()) {
+                    queuedScenarios -= queue.size();
+                    queue.clear();
+                    metrics.onCampaignSchedulerQueueUpdated(queuedScenarios);
+                }
+                lanes.remove(this);
+            }
+            LOGGER.debug("Unregister campaign {} execution {}", campaign.id, campaignExecutionId);
+        }
+
+        public CampaignSchedulingPolicy policy() {
+            return policy;
+        }
+
+        /**
+         * @return the number of scenario executions this lane may run at once when no other campaign is running
+         */
+        public int slots() {
+            return Math.min(policy.maxInFlight(), properties.getMaxConcurrentScenarios());
+        }
+
+        private boolean eligible() {
+            return !queue.isEmpty() && inFlight < policy.maxInFlight();
+        }
+
+        private double virtualFinishTime() {
+            return virtualTime + 1.0 / policy.priority();
+        }
+    }
+}
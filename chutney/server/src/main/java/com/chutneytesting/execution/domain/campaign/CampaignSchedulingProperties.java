@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static java.util.Optional.ofNullable;
+
+import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Share of scenario executions given to campaigns by {@link CampaignFairShareScheduler}.<br>
+ * Priorities and concurrency caps can be overridden for campaigns having a given tag.
+ */
+public class CampaignSchedulingProperties {
+
+    private int maxConcurrentScenarios = 20;
+    private int defaultPriority = 1;
+    private int defaultMaxInFlight = 20;
+    private Map<String, TagPolicy> tags = new HashMap<>();
+
+    public CampaignSchedulingProperties() {
+    }
+
+    public CampaignSchedulingProperties(int maxConcurrentScenarios, int defaultMaxInFlight) {
+        this.maxConcurrentScenarios = maxConcurrentScenarios;
+        this.defaultMaxInFlight = defaultMaxInFlight;
+    }
+
+    /**
+     * Highest priority and lowest concurrency cap among matching tags win.
+     * Sequential campaigns are always capped to one scenario execution.
+     */
+    public CampaignSchedulingPolicy policyFor(Campaign campaign) {
+        List<TagPolicy> matchingTags = ofNullable(campaign.tags).orElse(List.of()).stream()
+            .map(tags::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        int priority = matchingTags.stream()
+            .map(TagPolicy::getPriority)
+            .filter(Objects::nonNull)
+            .max(Integer::compare)
+            .orElse(defaultPriority);
+        int maxInFlight = matchingTags.stream()
+            .map(TagPolicy::getMaxInFlight)
+            .filter(Objects::nonNull)
+            .min(Integer::compare)
+            .orElse(defaultMaxInFlight);
+
+        return new CampaignSchedulingPolicy(Math.max(1, priority), campaign.parallelRun ? Math.max(1, maxInFlight) : 1);
+    }
+
+    public int getMaxConcurrentScenarios() {
+        return maxConcurrentScenarios;
+    }
+
+    public void setMaxConcurrentScenarios(int maxConcurrentScenarios) {
+        this.maxConcurrentScenarios = maxConcurrentScenarios;
+    }
+
+    public int getDefaultPriority() {
+        return defaultPriority;
+    }
+
+    public void setDefaultPriority(int defaultPriority) {
+        this.defaultPriority = defaultPriority;
+    }
+
+    public int getDefaultMaxInFlight() {
+        return defaultMaxInFlight;
+    }
+
+    public void setDefaultMaxInFlight(int defaultMaxInFlight) {
+        this.defaultMaxInFlight = defaultMaxInFlight;
+    }
+
+    public Map<String, TagPolicy> getTags() {
+        return tags;
+    }
+
+    public void setTags(Map<String, TagPolicy> tags) {
+        this.tags = tags;
+    }
+
+    public record CampaignSchedulingPolicy(int priority, int maxInFlight) {
+    }
+
+    public static class TagPolicy {
+        private Integer priority;
+        private Integer maxInFlight;
+
+        public Integer getPriority() {
+            return priority;
+        }
+
+        public void setPriority(Integer priority) {
+            this.priority = priority;
+        }
+
+        public Integer getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(Integer maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+    }
+}
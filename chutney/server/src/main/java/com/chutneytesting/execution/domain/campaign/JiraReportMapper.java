@@ -7,11 +7,15 @@
 
 package com.chutneytesting.execution.domain.campaign;
 
+import static java.util.Collections.emptyList;
+
 import com.chutneytesting.jira.api.ReportForJira;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.time.ZoneId;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,20 +27,34 @@ public class JiraReportMapper {
     public static ReportForJira from(String stringReport, ObjectMapper objectMapper) {
         try {
             ScenarioExecutionReport scenarioReport = objectMapper.readValue(stringReport, ScenarioExecutionReport.class);
-
-            return new ReportForJira(
-                scenarioReport.report.startDate,
-                scenarioReport.report.duration,
-                scenarioReport.report.status.name(),
-                createStep(scenarioReport.report),
-                scenarioReport.environment);
-
+            return from(scenarioReport);
         } catch (IOException e) {
             LOGGER.error("Cannot deserialize scenarioReport", e);
             return null;
         }
     }
 
+    public static ReportForJira from(ScenarioExecutionReport scenarioReport) {
+        return new ReportForJira(
+            scenarioReport.report.startDate,
+            scenarioReport.report.duration,
+            scenarioReport.report.status.name(),
+            createStep(scenarioReport.report),
+            scenarioReport.environment);
+    }
+
+    /**
+     * For executions without any step report (i.e. not executed or failed to start)
+     */
+    public static ReportForJira from(ExecutionHistory.ExecutionSummary execution) {
+        return new ReportForJira(
+            execution.time().atZone(ZoneId.systemDefault()).toInstant(),
+            execution.duration(),
+            execution.status().name(),
+            new ReportForJira.Step(execution.testCaseTitle(), execution.error().stream().toList(), emptyList()),
+            execution.environment());
+    }
+
     private static ReportForJira.Step createStep(StepExecutionReportCore coreStep) {
         return new ReportForJira.Step(coreStep.name, coreStep.errors, coreStep.steps.stream().map(JiraReportMapper::createStep).collect(Collectors.toList()));
     }
@@ -7,83 +7,75 @@
 
 package com.chutneytesting.execution.domain.purge;
 
-import static com.chutneytesting.execution.domain.purge.PurgeExecutionsFilters.isExecutionDateBeforeNowMinusOffset;
-import static com.chutneytesting.execution.domain.purge.PurgeExecutionsFilters.isScenarioExecutionLinkedWithCampaignExecution;
-import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.SUCCESS;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.emptySet;
-import static java.util.Comparator.comparing;
-import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toSet;
-
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
-import com.chutneytesting.campaign.domain.CampaignRepository;
-import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.PurgeService;
-import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
-import com.chutneytesting.server.core.domain.scenario.TestCaseMetadata;
-import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
-import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
-import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Collection;
-import java.util.Collections;
+import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class PurgeServiceImpl implements PurgeService {
     private static final Logger LOGGER = LoggerFactory.getLogger(PurgeServiceImpl.class);
     public static final int ONE_DAY_MILLIS = Long.valueOf(Duration.ofDays(1).toMillis()).intValue();
-    private final PurgeExecutionService<Campaign, Long, CampaignExecution> campaignPurgeService;
-    private final PurgeExecutionService<TestCaseMetadata, String, ExecutionSummary> scenarioPurgeService;
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    static final int BASE_OBJECTS_PAGE_SIZE = 100;
+    private final PurgeExecutionService<Long> campaignPurgeService;
+    private final PurgeExecutionService<String> scenarioPurgeService;
 
     PurgeServiceImpl(
-        TestCaseRepository testCaseRepository,
         ExecutionHistoryRepository executionsRepository,
-        CampaignRepository campaignRepository,
         CampaignExecutionRepository campaignExecutionRepository,
         int maxScenarioExecutionsConfiguration,
-        int maxCampaignExecutionsConfiguration
+        int maxCampaignExecutionsConfiguration,
+        int batchSizeConfiguration
     ) {
-        this(testCaseRepository,
-            executionsRepository,
-            campaignRepository,
+        this(executionsRepository,
             campaignExecutionRepository,
             maxScenarioExecutionsConfiguration,
             0,
             maxCampaignExecutionsConfiguration,
-            0);
+            0,
+            batchSizeConfiguration);
     }
 
     public PurgeServiceImpl(
-        TestCaseRepository testCaseRepository,
         ExecutionHistoryRepository executionsRepository,
-        CampaignRepository campaignRepository,
         CampaignExecutionRepository campaignExecutionRepository,
         int maxScenarioExecutionsConfiguration,
         int beforeNowMinusOffsetScenarioExecutionsConfiguration,
         int maxCampaignExecutionsConfiguration,
-        int beforeNowMinusOffsetCampaignExecutionsConfiguration
+        int beforeNowMinusOffsetCampaignExecutionsConfiguration,
+        int batchSizeConfiguration
     ) {
         int maxScenarioExecutions = checkPositiveOrDefault(maxScenarioExecutionsConfiguration, "maxScenarioExecutions", 10);
         int maxCampaignExecutions = checkPositiveOrDefault(maxCampaignExecutionsConfiguration, "maxCampaignExecutions", 10);
         int scenarioBeforeHoursTimeExecutions = checkPositiveOrDefault(beforeNowMinusOffsetScenarioExecutionsConfiguration, "beforeNowMinusOffsetScenarioExecutions", ONE_DAY_MILLIS);
         int campaignsBeforeHoursTimeExecutions = checkPositiveOrDefault(beforeNowMinusOffsetCampaignExecutionsConfiguration, "beforeNowMinusOffsetCampaignExecutions", ONE_DAY_MILLIS);
+        int batchSize = batchSizeConfiguration > 0 ? batchSizeConfiguration : DEFAULT_BATCH_SIZE;
 
-        this.scenarioPurgeService = buildScenarioService(testCaseRepository, executionsRepository, maxScenarioExecutions, scenarioBeforeHoursTimeExecutions);
-        this.campaignPurgeService = buildCampaignService(campaignRepository, campaignExecutionRepository, maxCampaignExecutions, campaignsBeforeHoursTimeExecutions);
+        this.scenarioPurgeService = new PurgeExecutionService<>(
+            maxScenarioExecutions,
+            scenarioBeforeHoursTimeExecutions,
+            batchSize,
+            executionsRepository::getScenariosWithExecutions,
+            executionsRepository::getExecutionsToPurge,
+            executionsRepository::deleteExecutions
+        );
+        this.campaignPurgeService = new PurgeExecutionService<>(
+            maxCampaignExecutions,
+            campaignsBeforeHoursTimeExecutions,
+            batchSize,
+            campaignExecutionRepository::getCampaignsWithExecutions,
+            campaignExecutionRepository::getExecutionsToPurge,
+            campaignExecutionRepository::deleteExecutions
+        );
     }
 
     private static int checkPositiveOrDefault(
@@ -98,141 +90,46 @@ public class PurgeServiceImpl implements PurgeService {
         return configurationLimit;
     }
 
-    private static PurgeExecutionService<TestCaseMetadata, String, ExecutionSummary> buildScenarioService(
-        TestCaseRepository testCaseRepository,
-        ExecutionHistoryRepository executionsRepository,
-        int maxScenarioExecutions,
-        int beforeHoursTimeExecutions
-    ) {
-        return new PurgeExecutionService<>(
-            maxScenarioExecutions,
-            testCaseRepository::findAll,
-            TestCaseMetadata::id,
-            executionsRepository::getExecutions,
-            isScenarioExecutionLinkedWithCampaignExecution.and(isExecutionDateBeforeNowMinusOffset(ExecutionSummary::time, beforeHoursTimeExecutions)),
-            ExecutionSummary::executionId,
-            ExecutionSummary::time,
-            ExecutionSummary::status,
-            ExecutionSummary::environment,
-            executionsRepository::deleteExecutions
-        );
-    }
-
-    private PurgeExecutionService<Campaign, Long, CampaignExecution> buildCampaignService(
-        CampaignRepository campaignRepository,
-        CampaignExecutionRepository campaignExecutionRepository,
-        int maxCampaignExecutions,
-        int beforeHoursTimeExecutions
-    ) {
-        return new PurgeExecutionService<>(
-            maxCampaignExecutions,
-            campaignRepository::findAll,
-            campaign -> campaign.id,
-            campaignExecutionRepository::getExecutionHistory,
-            isExecutionDateBeforeNowMinusOffset(cer -> cer.startDate, beforeHoursTimeExecutions),
-            cer -> cer.executionId,
-            cer -> cer.startDate,
-            CampaignExecution::status,
-            cer -> cer.executionEnvironment,
-            campaignExecutionRepository::deleteExecutions
-        ) {
-            // Not thread safe
-            private Map<Boolean, List<CampaignExecution>> campaignExecutionsByPartialExecution;
-            private List<CampaignExecution> emptyCampaignExecutions;
-
-            /**
-             * Transform executions to filter only those that are not manual replays and not empty.
-             */
-            @Override
-            public List<CampaignExecution> handleExecutionsForOneEnvironment(List<CampaignExecution> executionsFromOneEnvironment) {
-                Map<Boolean, List<CampaignExecution>> campaignExecutionsByEmpty = executionsFromOneEnvironment.stream()
-                    .collect(groupingBy(cer -> cer.scenarioExecutionReports().isEmpty()));
-                emptyCampaignExecutions = ofNullable(campaignExecutionsByEmpty.get(true)).orElse(emptyList());
-
-                campaignExecutionsByPartialExecution = ofNullable(campaignExecutionsByEmpty.get(false)).orElse(emptyList()).stream()
-                    .collect(groupingBy(cer -> cer.partialExecution));
-                return ofNullable(campaignExecutionsByPartialExecution.get(false)).orElse(emptyList());
-            }
-
-            /**
-             * Select all manual replays (for deletion) that are older than the oldest campaign execution kept and empty executions.
-             */
-            @Override
-            public Collection<Long> findExtraExecutionsIdsToDelete(List<CampaignExecution> timeSortedExecutionsForOneEnvironment) {
-                return Stream.concat(
-                    manualReplaysOlderThanOldestCampaignExecution(timeSortedExecutionsForOneEnvironment),
-                    emptyCampaignExecutions.stream().map(ce -> ce.executionId)
-                ).toList();
-            }
-
-            private Stream<Long> manualReplaysOlderThanOldestCampaignExecution(List<CampaignExecution> timeSortedExecutionsForOneEnvironment) {
-                LocalDateTime oldestCampaignExecutionToKeptStartDate;
-                if (!timeSortedExecutionsForOneEnvironment.isEmpty() && maxCampaignExecutions > 0 && maxCampaignExecutions < timeSortedExecutionsForOneEnvironment.size()) {
-                    oldestCampaignExecutionToKeptStartDate = timeSortedExecutionsForOneEnvironment.get(maxCampaignExecutions - 1).startDate;
-                } else {
-                    oldestCampaignExecutionToKeptStartDate = LocalDateTime.MAX;
-                }
-
-                return ofNullable(campaignExecutionsByPartialExecution.get(true)).orElse(emptyList()).stream()
-                    .filter(cer -> cer.startDate.isBefore(oldestCampaignExecutionToKeptStartDate))
-                    .map(cer -> cer.executionId);
-            }
-        };
-    }
-
     @Override
     public PurgeReport purge() {
-        Set<Long> purgedCampaignsExecutionsIds = campaignPurgeService.purgeExecutions();
-        Set<Long> purgedScenariosExecutionsIds = scenarioPurgeService.purgeExecutions();
-        LOGGER.info("Purge report : {} scenarios' executions deleted - {} campaigns' executions deleted", purgedScenariosExecutionsIds.size(), purgedCampaignsExecutionsIds.size());
-        return new PurgeReport(purgedScenariosExecutionsIds, purgedCampaignsExecutionsIds);
+        long purgedCampaignsExecutions = campaignPurgeService.purgeExecutions();
+        long purgedScenariosExecutions = scenarioPurgeService.purgeExecutions();
+        LOGGER.info("Purge report : {} scenarios' executions deleted - {} campaigns' executions deleted", purgedScenariosExecutions, purgedCampaignsExecutions);
+        return new PurgeReport(purgedScenariosExecutions, purgedCampaignsExecutions);
+    }
+
+    @FunctionalInterface
+    interface ExecutionsToPurgeFunction<BaseId> {
+        List<Long> find(List<BaseId> baseIds, int maxExecutionsToKeep, LocalDateTime executedBefore, long afterExecutionId, int limit);
     }
 
     /**
-     * Core logic to purge executions.
+     * Core logic to purge executions.<br>
+     * Executions to delete are selected by the storage, so that neither the base objects nor their executions are loaded in memory.
      *
      * @see #purgeExecutions()
      */
-    private static class PurgeExecutionService<Base, BaseId, Execution> {
+    private static class PurgeExecutionService<BaseId> {
         /**
          * The configuration defining the number of executions to keep
          */
         private final int maxExecutionsToKeep;
         /**
-         * A supplier of a domain object related to executions.
-         *
-         * @see TestCaseMetadata
-         * @see Campaign
-         */
-        private final Supplier<List<Base>> baseObject;
-        /**
-         * A mapper function extracting the domain object id
-         */
-        private final Function<Base, BaseId> idFunction;
-        /**
-         * A function returning all executions given an ObjectTypeId
-         */
-        private final Function<BaseId, List<Execution>> executionsFunction;
-        /**
-         * An optional executions filter used in {@link #purgeExecutions()} before grouping by environment
+         * The configuration defining the age in milliseconds under which executions are kept, none when not positive
          */
-        private final Predicate<Execution> executionsFilter;
+        private final int beforeNowMinusOffset;
         /**
-         * A mapper function extracting the execution id
+         * The maximum number of executions deleted in one transaction
          */
-        private final Function<Execution, Long> executionIdFunction;
+        private final int batchSize;
         /**
-         * A mapper function extracting the execution date for sorting
+         * A function returning a page of base objects ids having executions, given the last id of the previous page
          */
-        private final Function<Execution, LocalDateTime> executionDateFunction;
+        private final BiFunction<BaseId, Integer, List<BaseId>> baseIdsFunction;
         /**
-         * A mapper function extracting the execution status for keeping the last success one
+         * A function returning a batch of executions ids to delete
          */
-        private final Function<Execution, ServerReportStatus> statusFunction;
-        /**
-         * A mapper function extracting the execution environment
-         */
-        private final Function<Execution, String> environmentFunction;
+        private final ExecutionsToPurgeFunction<BaseId> executionsToPurgeFunction;
         /**
          * A function deleting executions by ids
          */
@@ -240,146 +137,59 @@ public class PurgeServiceImpl implements PurgeService {
 
         private PurgeExecutionService(
             int maxExecutionsToKeep,
-            Supplier<List<Base>> baseObjectSupplier,
-            Function<Base, BaseId> idFunction,
-            Function<BaseId, List<Execution>> executionsFunction,
-            Predicate<Execution> executionsFilter,
-            Function<Execution, Long> executionIdFunction,
-            Function<Execution, LocalDateTime> executionDateFunction,
-            Function<Execution, ServerReportStatus> statusFunction,
-            Function<Execution, String> environmentFunction,
+            int beforeNowMinusOffset,
+            int batchSize,
+            BiFunction<BaseId, Integer, List<BaseId>> baseIdsFunction,
+            ExecutionsToPurgeFunction<BaseId> executionsToPurgeFunction,
             Consumer<Set<Long>> deleteFunction
         ) {
             this.maxExecutionsToKeep = maxExecutionsToKeep;
-            this.baseObject = baseObjectSupplier;
-            this.idFunction = idFunction;
-            this.executionsFunction = executionsFunction;
-            this.executionsFilter = executionsFilter;
-            this.executionIdFunction = executionIdFunction;
-            this.executionDateFunction = executionDateFunction;
-            this.statusFunction = statusFunction;
-            this.environmentFunction = environmentFunction;
+            this.beforeNowMinusOffset = beforeNowMinusOffset;
+            this.batchSize = batchSize;
+            this.baseIdsFunction = baseIdsFunction;
+            this.executionsToPurgeFunction = executionsToPurgeFunction;
             this.deleteFunction = deleteFunction;
         }
 
         /**
          * Purge executions.
-         * <p> Find all base objects ids and map them to executions.</p>
-         * <p> Keep only executions before last 24 hours.</p>
-         * <p>For each group of executions, filter then group them by environment.</p>
-         * <p>For each group of executions by environment,</p>
-         * <p>permits a specific handle via {@link #handleExecutionsForOneEnvironment(List)}</p>
-         * <p>then call {@link #purgeOldestExecutionsFromOneEnvironment(List)}</p>
+         * <p>Scan base objects ids by pages.</p>
+         * <p>For each page, select executions to delete by batches and delete each batch in its own transaction.</p>
          *
-         * @return The list of deleted executions ids.
+         * @return The number of deleted executions.
          */
-        Set<Long> purgeExecutions() {
-            Set<Long> deletedExecutionsIds = new HashSet<>();
-            baseObject.get().stream()
-                .map(idFunction)
-                .map(executionsFunction)
-                .forEach(executionsReports -> {
-                    var executionsByEnvironment = executionsReports.stream()
-                        .filter(executionsFilter)
-                        .collect(groupingBy(t -> {
-                            var env = environmentFunction.apply(t);
-                            return env != null ? env : "";
-                        }));
-                    for (List<Execution> executionsOneEnvironment : executionsByEnvironment.values()) {
-                        purgeOneBaseObjectExecutionsForOneEnvironment(executionsOneEnvironment, deletedExecutionsIds);
-                    }
-                });
-            return deletedExecutionsIds;
+        long purgeExecutions() {
+            LocalDateTime executedBefore = beforeNowMinusOffset > 0 ? LocalDateTime.now().minus(beforeNowMinusOffset, ChronoUnit.MILLIS) : null;
+            long deletedExecutions = 0;
+            BaseId lastBaseId = null;
+            List<BaseId> baseIds;
+            do {
+                baseIds = baseIdsFunction.apply(lastBaseId, BASE_OBJECTS_PAGE_SIZE);
+                if (!baseIds.isEmpty()) {
+                    deletedExecutions += purgeExecutions(baseIds, executedBefore);
+                    lastBaseId = baseIds.get(baseIds.size() - 1);
+                }
+            } while (baseIds.size() >= BASE_OBJECTS_PAGE_SIZE);
+            return deletedExecutions;
         }
 
-        private void purgeOneBaseObjectExecutionsForOneEnvironment(List<Execution> executionsOneEnvironment, Set<Long> deletedExecutionsIds) {
+        private long purgeExecutions(List<BaseId> baseIds, LocalDateTime executedBefore) {
+            long deletedExecutions = 0;
             try {
-                List<Execution> executionsToDelete = handleExecutionsForOneEnvironment(executionsOneEnvironment);
-                Set<Long> deleteExecutionsIds = purgeOldestExecutionsFromOneEnvironment(executionsToDelete);
-                deletedExecutionsIds.addAll(deleteExecutionsIds);
+                long lastExecutionId = 0;
+                List<Long> executionsIds;
+                do {
+                    executionsIds = executionsToPurgeFunction.find(baseIds, maxExecutionsToKeep, executedBefore, lastExecutionId, batchSize);
+                    if (!executionsIds.isEmpty()) {
+                        deleteFunction.accept(new HashSet<>(executionsIds));
+                        deletedExecutions += executionsIds.size();
+                        lastExecutionId = executionsIds.get(executionsIds.size() - 1);
+                    }
+                } while (executionsIds.size() >= batchSize);
             } catch (Exception e) {
-                LOGGER.error("Cannot purge executions {}", executionsOneEnvironment, e);
-            }
-        }
-
-        /**
-         * Purge the oldest executions according to {@link #maxExecutionsToKeep} configuration
-         * by keeping the last success execution no matter what. <br/>
-         * Check for existence.
-         * Sort by date.
-         * Call {@link #findOldestExecutionsIdsWhileKeepingTheLastSuccess(List)}.
-         * Permits to add other executions ids via {@link #findExtraExecutionsIdsToDelete(List)}.
-         * Delete executions.
-         *
-         * @return The list of deleted executions ids.
-         */
-        private Set<Long> purgeOldestExecutionsFromOneEnvironment(List<Execution> executionsFromOneEnvironment) {
-            List<Execution> timeSortedExecutionsForOneEnvironment = executionsFromOneEnvironment.stream()
-                .sorted(comparing(executionDateFunction).reversed())
-                .toList();
-
-            Set<Long> deletedExecutionsIdsTmp = new HashSet<>();
-
-            deletedExecutionsIdsTmp.addAll(
-                findOldestExecutionsIdsWhileKeepingTheLastSuccess(timeSortedExecutionsForOneEnvironment)
-            );
-
-            deletedExecutionsIdsTmp.addAll(
-                findExtraExecutionsIdsToDelete(timeSortedExecutionsForOneEnvironment)
-            );
-
-            if (!deletedExecutionsIdsTmp.isEmpty()) {
-                deleteFunction.accept(deletedExecutionsIdsTmp);
+                LOGGER.error("Cannot purge executions of {}", baseIds, e);
             }
-            return deletedExecutionsIdsTmp;
-        }
-
-        private Collection<Long> findOldestExecutionsIdsWhileKeepingTheLastSuccess(List<Execution> timeSortedExecutions) {
-            Long youngestSuccessExecutionIdToDelete = youngestSuccessExecutionIdToDelete(timeSortedExecutions);
-            return timeSortedExecutions.stream()
-                .skip(maxExecutionsToKeep)
-                .map(executionIdFunction)
-                .filter(id -> !youngestSuccessExecutionIdToDelete.equals(id))
-                .collect(toSet());
-        }
-
-        // The list parameter must be sorted from younger to oldest
-        private Long youngestSuccessExecutionIdToDelete(List<Execution> timeSortedExecutions) {
-            boolean isSuccessExecutionKept = timeSortedExecutions.stream()
-                .limit(maxExecutionsToKeep)
-                .map(statusFunction)
-                .anyMatch(SUCCESS::equals);
-
-            if (!isSuccessExecutionKept) {
-                return timeSortedExecutions.stream()
-                    .skip(maxExecutionsToKeep)
-                    .filter(es -> SUCCESS.equals(statusFunction.apply(es)))
-                    .findFirst()
-                    .map(executionIdFunction)
-                    .orElse(-1L);
-            }
-            return -1L;
-        }
-
-        /**
-         * To implement in order to control the list of executions of one {@link #baseObject} for one environment
-         * to be passed down to {@link #purgeOldestExecutionsFromOneEnvironment(List)}. <br/>
-         * This list is not sorted.
-         *
-         * @return Default implementation returns the same list.
-         */
-        protected List<Execution> handleExecutionsForOneEnvironment(List<Execution> executionsFromOneEnvironment) {
-            return executionsFromOneEnvironment;
-        }
-
-        /**
-         * To implement to find extra executions' ids to delete.
-         *
-         * @param timeSortedExecutionsForOneEnvironment The current list of executions processed by {@link #purgeOldestExecutionsFromOneEnvironment(List)}, sorted by {@link #executionDateFunction}
-         * @return Default implementation returns a {@link Collections#emptySet()}
-         */
-        protected Collection<Long> findExtraExecutionsIdsToDelete(List<Execution> timeSortedExecutionsForOneEnvironment) {
-            return emptySet();
+            return deletedExecutions;
         }
     }
 }
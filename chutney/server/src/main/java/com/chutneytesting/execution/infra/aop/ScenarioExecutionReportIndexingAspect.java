@@ -15,6 +15,7 @@ import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.aspectj.lang.annotation.After;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
@@ -37,6 +38,16 @@ public class ScenarioExecutionReportIndexingAspect {
         }
     }
 
+    @After("execution(* com.chutneytesting.execution.infra.storage.ScenarioExecutionReportJpaRepository.saveAll(..)) && args(reportEntities)")
+    public void indexAll(Iterable<ScenarioExecutionReportEntity> reportEntities) {
+        List<ScenarioExecutionReportEntity> finalReports = StreamSupport.stream(reportEntities.spliterator(), false)
+            .filter(reportEntity -> reportEntity.status().isFinal())
+            .toList();
+        if (!finalReports.isEmpty()) {
+            reportIndexRepository.saveAll(finalReports);
+        }
+    }
+
     @After("execution(* com.chutneytesting.scenario.infra.raw.ScenarioJpaRepository.save(..)) && args(scenario)")
     public void deleteDeactivatedScenarioExecutions(ScenarioEntity scenario) {
         if (!scenario.isActivated()){
@@ -50,4 +61,9 @@ public class ScenarioExecutionReportIndexingAspect {
     public void deleteById(Set<Long> scenarioExecutionIds) {
         reportIndexRepository.deleteAllById(scenarioExecutionIds);
     }
+
+    @After("execution(* com.chutneytesting.execution.infra.storage.ScenarioExecutionReportJpaRepository.deleteAllByIdInBatch(..)) && args(scenarioExecutionIds)")
+    public void deleteInBatchById(Set<Long> scenarioExecutionIds) {
+        reportIndexRepository.deleteAllById(scenarioExecutionIds);
+    }
 }
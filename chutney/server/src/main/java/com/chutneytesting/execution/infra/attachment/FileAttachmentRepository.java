@@ -0,0 +1,172 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.infra.attachment;
+
+import static com.chutneytesting.ServerConfigurationValues.ATTACHMENTS_FOLDER_SPRING_VALUE;
+import static com.chutneytesting.tools.file.FileUtils.initFolder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.chutneytesting.server.core.domain.admin.Backupable;
+import com.chutneytesting.server.core.domain.execution.report.Attachment;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
+import com.chutneytesting.server.core.domain.tools.ZipUtils;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Attachments stored in one folder per execution, as one file per content named by the SHA-256 of the content.<br>
+ * A file holds the attachment's media type on its first line, followed by the content.
+ * An attachment id is made of its execution id and its file name, i.e. {@code 42-<SHA-256>}.
+ */
+@Repository
+public class FileAttachmentRepository implements AttachmentRepository, Backupable {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("([0-9]+)-([0-9a-f]{64})");
+    private static final byte MEDIA_TYPE_SEPARATOR = '\n';
+    private static final String TMP_FILE_EXTENSION = ".tmp";
+
+    private final Path storeFolderPath;
+
+    public FileAttachmentRepository(@Value(ATTACHMENTS_FOLDER_SPRING_VALUE) String storeFolderPath) {
+        this.storeFolderPath = Paths.get(storeFolderPath).toAbsolutePath();
+        initFolder(this.storeFolderPath);
+    }
+
+    @Override
+    public String save(long executionId, String mediaType, byte[] content) {
+        String fileName = sha256(content);
+        String id = executionId + "-" + fileName;
+        Path executionFolder = storeFolderPath.resolve(String.valueOf(executionId));
+        Path file = executionFolder.resolve(fileName);
+        if (Files.exists(file)) {
+            return id;
+        }
+        try {
+            Files.createDirectories(executionFolder);
+            Path tmpFile = Files.createTempFile(executionFolder, fileName, TMP_FILE_EXTENSION);
+            try {
+                byte[] header = (mediaType + (char) MEDIA_TYPE_SEPARATOR).getBytes(UTF_8);
+                Files.write(tmpFile, header);
+                Files.write(tmpFile, content, StandardOpenOption.APPEND);
+                Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Saved concurrently
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save attachment " + id, e);
+        }
+        return id;
+    }
+
+    @Override
+    public Optional<Attachment> findById(String attachmentId) {
+        if (attachmentId == null) {
+            return Optional.empty();
+        }
+        Matcher idMatcher = ID_PATTERN.matcher(attachmentId);
+        if (!idMatcher.matches()) {
+            return Optional.empty();
+        }
+        Path file = storeFolderPath.resolve(idMatcher.group(1)).resolve(idMatcher.group(2));
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            int separatorIndex = indexOf(bytes, MEDIA_TYPE_SEPARATOR);
+            String mediaType = new String(bytes, 0, separatorIndex, UTF_8);
+            byte[] content = Arrays.copyOfRange(bytes, separatorIndex + 1, bytes.length);
+            return Optional.of(new Attachment(attachmentId, mediaType, content));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read attachment " + attachmentId, e);
+        }
+    }
+
+    @Override
+    public void deleteByExecutionIds(Set<Long> executionIds) {
+        executionIds.forEach(executionId -> {
+            try {
+                FileSystemUtils.deleteRecursively(storeFolderPath.resolve(String.valueOf(executionId)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot delete attachments of execution " + executionId, e);
+            }
+        });
+    }
+
+    @Override
+    public void backup(OutputStream outputStream) {
+        try (ZipOutputStream zipOutPut = new ZipOutputStream(new BufferedOutputStream(outputStream, 4096))) {
+            ZipUtils.compressDirectoryToZipfile(storeFolderPath.getParent(), storeFolderPath.getFileName(), zipOutPut, FileAttachmentRepository::isStored);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Attachments are never modified, so only the ones created since the given instant are saved,
+     * along with the manifest of all attachments, so that purged ones can be told.
+     */
+    @Override
+    public void backup(OutputStream outputStream, Instant modifiedSince) {
+        try (ZipOutputStream zipOutPut = new ZipOutputStream(new BufferedOutputStream(outputStream, 4096))) {
+            ZipUtils.compressDirectoryChangesToZipfile(storeFolderPath.getParent(), storeFolderPath.getFileName(), zipOutPut, FileAttachmentRepository::isStored, modifiedSince);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isStored(File file) {
+        return !file.getName().endsWith(TMP_FILE_EXTENSION);
+    }
+
+    @Override
+    public String name() {
+        return "attachments";
+    }
+
+    private static int indexOf(byte[] bytes, byte b) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Attachment without media type");
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -36,6 +36,7 @@ class StepExecutionReportMapperCore {
             .setTargetName(reportDto.targetName)
             .setTargetUrl(reportDto.targetUrl)
             .setStrategy(reportDto.strategy)
+            .setPhaseTimings(reportDto.phaseTimings)
             .createStepExecutionReport();
     }
 
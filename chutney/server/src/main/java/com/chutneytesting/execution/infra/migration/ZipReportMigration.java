@@ -7,8 +7,8 @@
 
 package com.chutneytesting.execution.infra.migration;
 
+import static com.chutneytesting.index.infra.IndexRepository.WHAT;
 import static com.chutneytesting.index.infra.ScenarioExecutionReportIndexRepository.SCENARIO_EXECUTION_REPORT;
-import static com.chutneytesting.index.infra.ScenarioExecutionReportIndexRepository.WHAT;
 
 import com.chutneytesting.execution.infra.storage.ScenarioExecutionReportJpaRepository;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
@@ -9,20 +9,25 @@ package com.chutneytesting.execution.infra.storage;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
 
+import com.chutneytesting.campaign.domain.CampaignNotFoundException;
 import com.chutneytesting.campaign.infra.CampaignExecutionJpaRepository;
 import com.chutneytesting.campaign.infra.CampaignJpaRepository;
 import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ReportConverter;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
 import com.chutneytesting.index.infra.ScenarioExecutionReportIndexRepository;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.DetachedExecution;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.DetachedScenarioExecution;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.Execution;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
 import com.chutneytesting.server.core.domain.execution.report.ReportNotFoundException;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
@@ -31,29 +36,55 @@ import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 @Transactional(readOnly = true)
 class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
 
+    private static final String INSERT_SCENARIO_EXECUTION = """
+        INSERT INTO SCENARIO_EXECUTIONS (SCENARIO_ID, CAMPAIGN_EXECUTION_ID, EXECUTION_TIME, DURATION, STATUS, INFORMATION, ERROR, SCENARIO_TITLE, ENVIRONMENT, USER_ID, TAGS, DATASET_ID, VERSION)
+        VALUES (:scenarioId, :campaignExecutionId, :executionTime, :duration, :status, :information, :error, :scenarioTitle, :environment, :userId, :tags, :datasetId, 0)""";
+    private static final String INSERT_SCENARIO_EXECUTION_REPORT = """
+        INSERT INTO SCENARIO_EXECUTIONS_REPORTS (SCENARIO_EXECUTION_ID, REPORT, VERSION)
+        VALUES (:scenarioExecutionId, :report, 0)""";
+
     private final DatabaseExecutionJpaRepository scenarioExecutionsJpaRepository;
     private final ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository;
     private final CampaignJpaRepository campaignJpaRepository;
     private final CampaignExecutionJpaRepository campaignExecutionJpaRepository;
     private final TestCaseRepository testCaseRepository;
     private final ScenarioExecutionReportIndexRepository scenarioExecutionReportIndexRepository;
+    private final AttachmentRepository attachmentRepository;
     private final ObjectMapper objectMapper;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean sqlite;
+    private final ReportConverter reportConverter = new ReportConverter();
     private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseExecutionHistoryRepository.class);
 
 
@@ -63,14 +94,20 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         CampaignJpaRepository campaignJpaRepository, TestCaseRepository testCaseRepository,
         CampaignExecutionJpaRepository campaignExecutionJpaRepository,
         ScenarioExecutionReportIndexRepository scenarioExecutionReportIndexRepository,
-        @Qualifier("reportObjectMapper") ObjectMapper objectMapper) {
+        AttachmentRepository attachmentRepository,
+        @Qualifier("reportObjectMapper") ObjectMapper objectMapper,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        DataSourceProperties dsProperties) {
         this.scenarioExecutionsJpaRepository = scenarioExecutionsJpaRepository;
         this.scenarioExecutionReportJpaRepository = scenarioExecutionReportJpaRepository;
         this.campaignJpaRepository = campaignJpaRepository;
         this.testCaseRepository = testCaseRepository;
         this.campaignExecutionJpaRepository = campaignExecutionJpaRepository;
         this.scenarioExecutionReportIndexRepository = scenarioExecutionReportIndexRepository;
+        this.attachmentRepository = attachmentRepository;
         this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlite = dsProperties.determineUrl().startsWith("jdbc:sqlite");
     }
 
     @Override
@@ -83,41 +120,68 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
             .collect(Collectors.toMap(ScenarioExecutionEntity::scenarioId, ScenarioExecutionEntity::toDomain));
     }
 
+    @Override
+    public Map<String, Long> getMeanDurations(List<String> scenariosIds, String environment) {
+        List<String> validScenariosIds = scenariosIds.stream().filter(id -> !invalidScenarioId(id)).distinct().toList();
+        if (validScenariosIds.isEmpty()) {
+            return emptyMap();
+        }
+        return scenarioExecutionsJpaRepository.findMeanDurationByScenariosIds(validScenariosIds, environment, List.of(ServerReportStatus.SUCCESS, ServerReportStatus.FAILURE))
+            .stream()
+            .collect(Collectors.toMap(t -> t.get(0, String.class), t -> Math.round(t.get(1, Number.class).doubleValue())));
+    }
+
     @Override
     public List<ExecutionSummary> getExecutions(String scenarioId) {
         if (invalidScenarioId(scenarioId)) {
             return emptyList();
         }
-        List<ScenarioExecutionEntity> scenarioExecutions = scenarioExecutionsJpaRepository.findByScenarioIdOrderByIdDesc(scenarioId);
-        return scenarioExecutions.stream()
-            .map(this::scenarioExecutionToExecutionSummary)
-            .toList();
+        return toExecutionSummaries(scenarioExecutionsJpaRepository.findByScenarioIdOrderByIdDesc(scenarioId));
     }
 
     @Override
     public List<ExecutionSummary> getExecutions() {
-        return scenarioExecutionsJpaRepository.findAll().stream()
-            .map(this::scenarioExecutionToExecutionSummary)
-            .toList();
+        return toExecutionSummaries(scenarioExecutionsJpaRepository.findAllWithCampaignExecution());
     }
 
     @Override
     public ExecutionSummary getExecutionSummary(Long executionId) {
         return scenarioExecutionsJpaRepository.findById(executionId)
-            .map(this::scenarioExecutionToExecutionSummary)
+            .map(scenarioExecution -> toExecutionSummaries(List.of(scenarioExecution)).get(0))
             .orElseThrow(
                 () -> new ReportNotFoundException(executionId)
             );
     }
 
-    private ExecutionSummary scenarioExecutionToExecutionSummary(ScenarioExecutionEntity scenarioExecution) {
-        CampaignExecution campaignExecution = ofNullable(scenarioExecution.campaignExecution())
-            .map(ce -> ce.toDomain(campaignJpaRepository.findById(ce.campaignId()).get().title()))
-            .orElse(null);
-        ScenarioExecutionReportEntity scenarioExecutionReportEntity = scenarioExecutionReportJpaRepository.findByScenarioExecutionId(scenarioExecution.id());
-        DataSet dataset = ofNullable(scenarioExecutionReportEntity).flatMap(scenarioExecutionReport -> scenarioExecutionReport.toDomain().dataset())
-            .orElse(null);
-        return scenarioExecution.toDomain(campaignExecution, dataset);
+    /**
+     * Map executions loaded with their campaign execution, fetching all their campaigns' titles in one query,
+     * and the reports of the executions without dataset id in another one, to get their dataset.
+     */
+    private List<ExecutionSummary> toExecutionSummaries(List<ScenarioExecutionEntity> scenarioExecutions) {
+        Set<Long> campaignsIds = scenarioExecutions.stream()
+            .map(ScenarioExecutionEntity::campaignExecution)
+            .filter(Objects::nonNull)
+            .map(CampaignExecutionEntity::campaignId)
+            .collect(Collectors.toSet());
+        Map<Long, String> campaignsTitles = campaignsIds.isEmpty() ? emptyMap() : campaignJpaRepository.findTitlesByIds(campaignsIds).stream()
+            .collect(Collectors.toMap(t -> t.get(0, Long.class), t -> t.get(1, String.class)));
+
+        List<Long> executionsIdsWithoutDatasetId = scenarioExecutions.stream()
+            .filter(scenarioExecution -> scenarioExecution.datasetId() == null)
+            .map(ScenarioExecutionEntity::id)
+            .toList();
+        Map<Long, DataSet> reportsDatasets = executionsIdsWithoutDatasetId.isEmpty() ? emptyMap() : scenarioExecutionReportJpaRepository.findAllById(executionsIdsWithoutDatasetId).stream()
+            .flatMap(report -> report.toDomain().dataset().map(dataset -> Map.entry(report.scenarioExecutionId(), dataset)).stream())
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        return scenarioExecutions.stream()
+            .map(scenarioExecution -> {
+                CampaignExecution campaignExecution = ofNullable(scenarioExecution.campaignExecution())
+                    .map(ce -> ce.toDomain(ofNullable(campaignsTitles.get(ce.campaignId())).orElseThrow(() -> new CampaignNotFoundException(ce.campaignId()))))
+                    .orElse(null);
+                return scenarioExecution.toDomain(campaignExecution, reportsDatasets.get(scenarioExecution.id()));
+            })
+            .toList();
     }
 
     @Override
@@ -138,6 +202,91 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         return ImmutableExecutionHistory.Execution.builder().from(execution).build();
     }
 
+    /**
+     * Insert executions and their reports with two JDBC batches, since the identity generated ids prevent Hibernate from batching inserts.<br>
+     * Final reports are indexed as the ones saved with {@link ScenarioExecutionReportJpaRepository}.
+     */
+    @Override
+    @Transactional
+    public List<Execution> store(List<DetachedScenarioExecution> detachedExecutions) throws IllegalStateException {
+        if (detachedExecutions.stream().map(DetachedScenarioExecution::scenarioId).anyMatch(this::invalidScenarioId)) {
+            throw new IllegalStateException("Scenario id is null or empty");
+        }
+        if (detachedExecutions.isEmpty()) {
+            return emptyList();
+        }
+        Set<Long> campaignExecutionsIds = campaignExecutionJpaRepository.findAllById(
+                detachedExecutions.stream()
+                    .flatMap(de -> de.detachedExecution().campaignReport().stream())
+                    .map(campaignExecution -> campaignExecution.executionId)
+                    .collect(Collectors.toSet()))
+            .stream()
+            .map(CampaignExecutionEntity::id)
+            .collect(Collectors.toSet());
+
+        SqlParameterSource[] scenarioExecutionsParameters = detachedExecutions.stream()
+            .map(de -> scenarioExecutionParameters(
+                ScenarioExecutionEntity.fromDomain(de.scenarioId(), de.detachedExecution()),
+                de.detachedExecution().campaignReport().map(campaignExecution -> campaignExecution.executionId).filter(campaignExecutionsIds::contains).orElse(null)
+            ))
+            .toArray(SqlParameterSource[]::new);
+        List<Long> executionsIds = insertScenarioExecutions(scenarioExecutionsParameters);
+
+        List<ScenarioExecutionReportEntity> reports = new ArrayList<>(detachedExecutions.size());
+        List<Execution> executions = new ArrayList<>(detachedExecutions.size());
+        for (int i = 0; i < detachedExecutions.size(); i++) {
+            DetachedScenarioExecution detachedScenarioExecution = detachedExecutions.get(i);
+            DetachedExecution detachedExecution = detachedScenarioExecution.detachedExecution();
+            Long executionId = executionsIds.get(i);
+            ScenarioExecutionEntity scenarioExecution = ScenarioExecutionEntity.fromDomain(detachedScenarioExecution.scenarioId(), executionId, 0, detachedExecution);
+            reports.add(new ScenarioExecutionReportEntity(scenarioExecution, detachedExecution.report()));
+            executions.add(ImmutableExecutionHistory.Execution.builder().from(detachedExecution.attach(executionId, detachedScenarioExecution.scenarioId())).build());
+        }
+        jdbcTemplate.batchUpdate(INSERT_SCENARIO_EXECUTION_REPORT, reports.stream()
+            .map(report -> new MapSqlParameterSource()
+                .addValue("scenarioExecutionId", report.scenarioExecutionId())
+                .addValue("report", reportConverter.convertToDatabaseColumn(report.getReport())))
+            .toArray(SqlParameterSource[]::new));
+
+        List<ScenarioExecutionReportEntity> finalReports = reports.stream().filter(report -> report.status().isFinal()).toList();
+        if (!finalReports.isEmpty()) {
+            scenarioExecutionReportIndexRepository.saveAll(finalReports);
+        }
+        return executions;
+    }
+
+    /**
+     * SQLite driver cannot return generated keys, executions are inserted one by one on this embedded database, returning their id.
+     */
+    private List<Long> insertScenarioExecutions(SqlParameterSource[] scenarioExecutionsParameters) {
+        if (sqlite) {
+            return Arrays.stream(scenarioExecutionsParameters)
+                .map(parameters -> jdbcTemplate.queryForObject(INSERT_SCENARIO_EXECUTION + " RETURNING ID", parameters, Long.class))
+                .toList();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SCENARIO_EXECUTION, scenarioExecutionsParameters, keyHolder, new String[]{"id"});
+        return keyHolder.getKeyList().stream()
+            .map(keys -> ((Number) keys.get("id")).longValue())
+            .toList();
+    }
+
+    private static SqlParameterSource scenarioExecutionParameters(ScenarioExecutionEntity scenarioExecution, Long campaignExecutionId) {
+        return new MapSqlParameterSource()
+            .addValue("scenarioId", scenarioExecution.scenarioId())
+            .addValue("campaignExecutionId", campaignExecutionId)
+            .addValue("executionTime", scenarioExecution.executionTime())
+            .addValue("duration", scenarioExecution.duration())
+            .addValue("status", scenarioExecution.status().name())
+            .addValue("information", scenarioExecution.information())
+            .addValue("error", scenarioExecution.error())
+            .addValue("scenarioTitle", scenarioExecution.scenarioTitle())
+            .addValue("environment", scenarioExecution.environment())
+            .addValue("userId", scenarioExecution.userId())
+            .addValue("tags", scenarioExecution.tags())
+            .addValue("datasetId", scenarioExecution.datasetId());
+    }
+
     @Override
     // TODO remove scenarioId params
     public Execution getExecution(String scenarioId, Long reportId) throws ReportNotFoundException {
@@ -153,11 +302,7 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
     @Override
     public List<ExecutionSummary> getExecutionReportMatchKeyword(String keyword) {
         List<Long> matchedReportsIds = scenarioExecutionReportIndexRepository.idsByKeywordInReport(keyword);
-        return scenarioExecutionsJpaRepository
-            .getExecutionReportByIds(matchedReportsIds)
-            .stream()
-            .map(this::scenarioExecutionToExecutionSummary)
-            .toList();
+        return toExecutionSummaries(scenarioExecutionsJpaRepository.getExecutionReportByIds(matchedReportsIds));
     }
 
     @Override
@@ -169,6 +314,28 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         update(updatedExecution);
     }
 
+    @Override
+    @Transactional
+    public void update(List<Execution> updatedExecutions) throws ReportNotFoundException {
+        List<Long> executionsIds = updatedExecutions.stream().map(Execution::executionId).toList();
+        Map<Long, ScenarioExecutionEntity> scenarioExecutions = scenarioExecutionsJpaRepository.findAllById(executionsIds).stream()
+            .collect(Collectors.toMap(ScenarioExecutionEntity::id, Function.identity()));
+        Map<Long, ScenarioExecutionReportEntity> reports = scenarioExecutionReportJpaRepository.findAllById(executionsIds).stream()
+            .collect(Collectors.toMap(ScenarioExecutionReportEntity::scenarioExecutionId, Function.identity()));
+
+        updatedExecutions.forEach(updatedExecution -> {
+            ScenarioExecutionEntity scenarioExecution = scenarioExecutions.get(updatedExecution.executionId());
+            ScenarioExecutionReportEntity report = reports.get(updatedExecution.executionId());
+            if (scenarioExecution == null || report == null) {
+                throw new ReportNotFoundException(updatedExecution.scenarioId(), updatedExecution.executionId());
+            }
+            scenarioExecution.updateFromExecution(updatedExecution);
+            report.updateReport(updatedExecution);
+        });
+        scenarioExecutionsJpaRepository.saveAll(scenarioExecutions.values());
+        scenarioExecutionReportJpaRepository.saveAll(reports.values());
+    }
+
     private void update(Execution updatedExecution) throws ReportNotFoundException {
         ScenarioExecutionEntity execution = scenarioExecutionsJpaRepository.findById(updatedExecution.executionId()).orElseThrow(
             () -> new ReportNotFoundException(updatedExecution.executionId())
@@ -207,21 +374,45 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
     @Override
     @Transactional
     public void deleteExecutions(Set<Long> executionsIds) {
-        Set<Long> campaignExecutionsIds = getCampaignExecutionsWithOnlyOneScenarioExecution(executionsIds);
+        if (executionsIds.isEmpty()) {
+            return;
+        }
+        Set<Long> campaignExecutionsIds = scenarioExecutionsJpaRepository.findCampaignExecutionIdsWithOnlyOneExecution(executionsIds);
 
         campaignExecutionJpaRepository.deleteAllByIdInBatch(campaignExecutionsIds);
-        scenarioExecutionReportJpaRepository.deleteAllById(executionsIds);
+        scenarioExecutionReportJpaRepository.deleteAllByIdInBatch(executionsIds);
         scenarioExecutionsJpaRepository.deleteAllByIdInBatch(executionsIds);
+        deleteAttachmentsAfterCommit(executionsIds);
     }
 
-    private Set<Long> getCampaignExecutionsWithOnlyOneScenarioExecution(Set<Long> executionsIds) {
-        return executionsIds.stream()
-            .map(this::getExecutionSummary)
-            .map(ExecutionSummary::campaignReport)
-            .flatMap(Optional::stream)
-            .filter(campaignExecution -> campaignExecution.scenarioExecutionReports().size() == 1)
-            .map(campaignExecution -> campaignExecution.executionId)
-            .collect(Collectors.toSet());
+    /**
+     * Attachments are files, delete them only once their reports are deleted for good
+     */
+    private void deleteAttachmentsAfterCommit(Set<Long> executionsIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                attachmentRepository.deleteByExecutionIds(executionsIds);
+            }
+        });
+    }
+
+    @Override
+    public List<String> getScenariosWithExecutions(String afterScenarioId, int limit) {
+        return scenarioExecutionsJpaRepository.findScenarioIdsAfter(ofNullable(afterScenarioId).orElse(""), PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Long> getExecutionsToPurge(List<String> scenarioIds, int maxExecutionsToKeep, LocalDateTime executedBefore, long afterExecutionId, int limit) {
+        if (scenarioIds.isEmpty()) {
+            return emptyList();
+        }
+        long executedBeforeMillis = ofNullable(executedBefore)
+            .map(date -> date.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+            .orElse(Long.MAX_VALUE);
+        return scenarioExecutionsJpaRepository.findExecutionIdsToPurge(scenarioIds, maxExecutionsToKeep, executedBeforeMillis, afterExecutionId, limit).stream()
+            .map(Number::longValue)
+            .toList();
     }
 
     private void updateExecutionsToKO(List<ExecutionSummary> executions) {
@@ -306,7 +497,8 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
             step.targetUrl,
             step.strategy,
             step.evaluatedInputs,
-            step.stepOutputs
+            step.stepOutputs,
+            step.phaseTimings
         );
     }
 
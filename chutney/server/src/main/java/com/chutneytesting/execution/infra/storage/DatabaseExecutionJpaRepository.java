@@ -11,8 +11,12 @@ import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import jakarta.persistence.Tuple;
 import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,8 +24,16 @@ public interface DatabaseExecutionJpaRepository extends JpaRepository<ScenarioEx
 
     List<ScenarioExecutionEntity> findByStatus(ServerReportStatus status);
 
+    /**
+     * Load the executions of a scenario with their campaign execution and its scenario executions in one query.
+     */
+    @EntityGraph(attributePaths = {"campaignExecution", "campaignExecution.scenarioExecutions"})
     List<ScenarioExecutionEntity> findByScenarioIdOrderByIdDesc(String scenarioId);
 
+    @EntityGraph(attributePaths = {"campaignExecution", "campaignExecution.scenarioExecutions"})
+    @Query("SELECT se FROM SCENARIO_EXECUTIONS se")
+    List<ScenarioExecutionEntity> findAllWithCampaignExecution();
+
     /**
      * Finds the last executions with the specified status <b>if available</b>, otherwise the last executions.
      *
@@ -46,15 +58,87 @@ public interface DatabaseExecutionJpaRepository extends JpaRepository<ScenarioEx
             """)
         List<Tuple> findLastByStatusAndScenariosIds(@Param("scenarioIds") List<String> scenarioIds, @Param("status")  ServerReportStatus status);
 
+    /**
+     * @return A list of tuples representing the scenario id and the mean duration of its executions with the specified statuses on the environment.
+     */
+    @Query("""
+            SELECT se.scenarioId, AVG(se.duration)
+            FROM SCENARIO_EXECUTIONS se
+            WHERE se.scenarioId IN :scenarioIds
+              AND se.environment = :environment
+              AND se.status IN :statuses
+            GROUP BY se.scenarioId
+            """)
+    List<Tuple> findMeanDurationByScenariosIds(@Param("scenarioIds") List<String> scenarioIds, @Param("environment") String environment, @Param("statuses") List<ServerReportStatus> statuses);
+
     List<ScenarioExecutionEntity> findAllByScenarioId(String scenarioId);
 
+    @EntityGraph(attributePaths = {"campaignExecution", "campaignExecution.scenarioExecutions"})
     @Query(value = """
-                select se from SCENARIO s, SCENARIO_EXECUTIONS_REPORTS ser
-                  inner join ser.scenarioExecution se
-                where s.activated = true
+                select se from SCENARIO_EXECUTIONS se, SCENARIO s, SCENARIO_EXECUTIONS_REPORTS ser
+                where ser.scenarioExecution = se
+                  and s.activated = true
                   and cast(s.id as string) = se.scenarioId
                   and ser.scenarioExecutionId in (:executionsIds)
                 order by se.id desc
         """)
     List<ScenarioExecutionEntity> getExecutionReportByIds(@Param("executionsIds") List<Long> executionsIds);
+
+    @Query("""
+            SELECT DISTINCT se.scenarioId
+            FROM SCENARIO_EXECUTIONS se
+            WHERE se.scenarioId > :afterScenarioId
+            ORDER BY se.scenarioId
+            """)
+    List<String> findScenarioIdsAfter(@Param("afterScenarioId") String afterScenarioId, Pageable pageable);
+
+    /**
+     * Rank the executions outside campaign executions of each scenario on each environment, most recent first,
+     * to select the ones beyond the executions to keep which are not the most recent success.
+     *
+     * @return A list of the execution ids to purge, in ascending order.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT ranked.ID
+            FROM (
+                SELECT se.ID, se.STATUS,
+                    ROW_NUMBER() OVER (PARTITION BY se.SCENARIO_ID, COALESCE(se.ENVIRONMENT, '') ORDER BY se.EXECUTION_TIME DESC, se.ID DESC) AS RANK_IN_ENVIRONMENT,
+                    ROW_NUMBER() OVER (PARTITION BY se.SCENARIO_ID, COALESCE(se.ENVIRONMENT, ''), COALESCE(se.STATUS, '') ORDER BY se.EXECUTION_TIME DESC, se.ID DESC) AS RANK_IN_STATUS
+                FROM SCENARIO_EXECUTIONS se
+                WHERE se.SCENARIO_ID IN (:scenarioIds)
+                  AND se.CAMPAIGN_EXECUTION_ID IS NULL
+                  AND se.EXECUTION_TIME < :executedBefore
+            ) ranked
+            WHERE ranked.RANK_IN_ENVIRONMENT > :maxExecutionsToKeep
+              AND NOT (COALESCE(ranked.STATUS, '') = 'SUCCESS' AND ranked.RANK_IN_STATUS = 1)
+              AND ranked.ID > :afterExecutionId
+            ORDER BY ranked.ID
+            LIMIT :limit
+            """)
+    List<Number> findExecutionIdsToPurge(
+        @Param("scenarioIds") List<String> scenarioIds,
+        @Param("maxExecutionsToKeep") int maxExecutionsToKeep,
+        @Param("executedBefore") long executedBefore,
+        @Param("afterExecutionId") long afterExecutionId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * @return Ids of the campaign executions whose only scenario execution is one of the given executions.
+     */
+    @Query("""
+            SELECT se.campaignExecution.id
+            FROM SCENARIO_EXECUTIONS se
+            WHERE se.id IN :executionsIds
+              AND (SELECT COUNT(other.id) FROM SCENARIO_EXECUTIONS other WHERE other.campaignExecution = se.campaignExecution) = 1
+            """)
+    Set<Long> findCampaignExecutionIdsWithOnlyOneExecution(@Param("executionsIds") Set<Long> executionsIds);
+
+    @Modifying
+    @Query("""
+            UPDATE SCENARIO_EXECUTIONS se
+            SET se.campaignExecution = null, se.version = se.version + 1
+            WHERE se.campaignExecution.id IN :campaignExecutionsIds
+            """)
+    int clearCampaignExecutions(@Param("campaignExecutionsIds") Set<Long> campaignExecutionsIds);
 }
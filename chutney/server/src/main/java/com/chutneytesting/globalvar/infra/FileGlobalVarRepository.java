@@ -14,6 +14,7 @@ import com.chutneytesting.server.core.domain.globalvar.GlobalVarNotFoundExceptio
 import com.chutneytesting.server.core.domain.globalvar.GlobalvarRepository;
 import com.chutneytesting.server.core.domain.tools.ZipUtils;
 import com.chutneytesting.tools.file.FileUtils;
+import com.chutneytesting.tools.file.FolderChanges;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +30,8 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -38,11 +41,17 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.zip.ZipOutputStream;
 import org.hjson.JsonValue;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Global variables stored as hjson files.<br>
+ * The flattened map of all files is kept in memory and rebuilt only when a file of the folder changed,
+ * either through this repository or externally, as counted by {@link FolderChanges}.
+ */
 @Component
-public class FileGlobalVarRepository implements GlobalvarRepository {
+public class FileGlobalVarRepository implements GlobalvarRepository, DisposableBean {
 
     private static final String FILE_EXTENSION = ".hjson";
 
@@ -55,9 +64,18 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
         .enable(SerializationFeature.INDENT_OUTPUT)
         .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
 
+    private final FolderChanges folderChanges;
+    private volatile FlatMapSnapshot flatMapSnapshot = new FlatMapSnapshot(-1, Map.of());
+
     FileGlobalVarRepository(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath) throws UncheckedIOException {
         this.storeFolderPath = Paths.get(storeFolderPath).resolve(ROOT_DIRECTORY_NAME);
         initFolder(this.storeFolderPath);
+        this.folderChanges = new FolderChanges(this.storeFolderPath);
+    }
+
+    @Override
+    public void destroy() {
+        folderChanges.close();
     }
 
     @Override
@@ -90,6 +108,8 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
             Files.write(filePath, hjsonContent.getBytes());
         } catch (IOException e) {
             throw new UncheckedIOException("Cannot save " + filePath.toUri(), e);
+        } finally {
+            folderChanges.changed();
         }
     }
 
@@ -112,11 +132,32 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
             throw new GlobalVarNotFoundException(fileName);
         } catch (IOException e) {
             throw new UncheckedIOException("Cannot delete " + filePath.toUri().toString(), e);
+        } finally {
+            folderChanges.changed();
         }
     }
 
+    /**
+     * @return An unmodifiable snapshot of the flattened global variables, rebuilt only if files changed since the last call.
+     */
     @Override
     public Map<String, String> getFlatMap() {
+        FlatMapSnapshot snapshot = flatMapSnapshot;
+        if (folderChanges.isWatched() && snapshot.modifications() == folderChanges.count()) {
+            return snapshot.flatMap();
+        }
+        synchronized (this) {
+            snapshot = flatMapSnapshot;
+            long currentModifications = folderChanges.count();
+            if (!folderChanges.isWatched() || snapshot.modifications() != currentModifications) {
+                snapshot = new FlatMapSnapshot(currentModifications, readFlatMap());
+                flatMapSnapshot = snapshot;
+            }
+            return snapshot.flatMap();
+        }
+    }
+
+    private Map<String, String> readFlatMap() {
         final Map<String, String> map = new HashMap<>();
 
         Map<Path, String> fileContents = get();
@@ -128,7 +169,7 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
             }
         });
 
-        return map;
+        return Collections.unmodifiableMap(map);
     }
 
     // TODO any - if needed, manage duplicate keys between files
@@ -153,6 +194,19 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
         }
     }
 
+    /**
+     * Save the files modified since the given instant, and the manifest of all files, so that deleted ones can be told.
+     */
+    @Override
+    public void backup(OutputStream outputStream, Instant modifiedSince) throws UncheckedIOException {
+        try (ZipOutputStream zipOutPut = new ZipOutputStream(new BufferedOutputStream(outputStream, 4096))) {
+            Path globalVarDirectoryPath = this.storeFolderPath;
+            ZipUtils.compressDirectoryChangesToZipfile(globalVarDirectoryPath.getParent(), globalVarDirectoryPath.getFileName(), zipOutPut, file -> true, modifiedSince);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public String name() {
         return "globalvars";
@@ -190,4 +244,7 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
         }
         return currentPath.isEmpty() ? "" : currentPath + ".";
     }
+
+    private record FlatMapSnapshot(long modifications, Map<String, String> flatMap) {
+    }
 }
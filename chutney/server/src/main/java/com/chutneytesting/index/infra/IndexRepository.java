@@ -11,31 +11,64 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.Sort;
-import org.apache.lucene.store.Directory;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class IndexRepository {
 
+    /**
+     * Field holding the kind of indexed object
+     */
+    public static final String WHAT = "what";
+
     private final IndexWriter indexWriter;
-    private final Directory indexDirectory;
+    /**
+     * Shares searchers between searches, refreshed after each commit
+     */
+    private final SearcherManager searcherManager;
 
     public IndexRepository(IndexConfig config) {
-        this.indexDirectory = config.directory();
         this.indexWriter = config.indexWriter();
+        try {
+            this.searcherManager = new SearcherManager(indexWriter, null);
+        } catch (IOException e) {
+            throw new RuntimeException("Couldn't open index searcher", e);
+        }
     }
 
     public void index(Document document) {
         try {
             this.indexWriter.addDocument(document);
-            this.indexWriter.commit();
+            commit();
+        } catch (IOException e) {
+            throw new RuntimeException("Couldn't index data", e);
+        }
+    }
+
+    public void indexAll(List<Document> documents) {
+        try {
+            this.indexWriter.addDocuments(documents);
+            commit();
+        } catch (IOException e) {
+            throw new RuntimeException("Couldn't index data", e);
+        }
+    }
+
+    /**
+     * Replace the documents containing the given term by the given document.
+     */
+    public void update(Term term, Document document) {
+        try {
+            this.indexWriter.updateDocument(term, document);
+            commit();
         } catch (IOException e) {
             throw new RuntimeException("Couldn't index data", e);
         }
@@ -43,12 +76,16 @@ public class IndexRepository {
 
     public List<Document> search(Query query, int limit, Sort sort) {
         List<Document> result = new ArrayList<>();
-        try (DirectoryReader reader = DirectoryReader.open(indexDirectory)) {
-            IndexSearcher searcher = new IndexSearcher(reader);
-            ScoreDoc[] hits = searcher.search(query, limit, sort).scoreDocs;
-            StoredFields storedFields = searcher.storedFields();
-            for (ScoreDoc hit : hits){
-                result.add(storedFields.document(hit.doc));
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(query, limit, sort).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                for (ScoreDoc hit : hits) {
+                    result.add(storedFields.document(hit.doc));
+                }
+            } finally {
+                searcherManager.release(searcher);
             }
         } catch (IOException ignored) {
         }
@@ -56,21 +93,22 @@ public class IndexRepository {
     }
 
     public int count(Query query) {
-        int count = 0;
-        try (DirectoryReader reader = DirectoryReader.open(indexDirectory)) {
-            IndexSearcher searcher = new IndexSearcher(reader);
-            count  = searcher.count(query);
-
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.count(query);
+            } finally {
+                searcherManager.release(searcher);
+            }
         } catch (IOException e) {
             throw new RuntimeException("Couldn't count elements in index", e);
         }
-        return count;
     }
 
     public void delete(Query query) {
         try {
             indexWriter.deleteDocuments(query);
-            indexWriter.commit();
+            commit();
         } catch (IOException e) {
             throw new RuntimeException("Couldn't delete index using query " + query, e);
         }
@@ -79,10 +117,15 @@ public class IndexRepository {
     public void deleteAll() {
         try {
             indexWriter.deleteAll();
-            indexWriter.commit();
+            commit();
         } catch (IOException e) {
             throw new RuntimeException("Couldn't delete all indexes", e);
         }
     }
+
+    private void commit() throws IOException {
+        indexWriter.commit();
+        searcherManager.maybeRefreshBlocking();
+    }
 }
 
@@ -7,6 +7,7 @@
 
 package com.chutneytesting.index.infra;
 
+import static com.chutneytesting.index.infra.IndexRepository.WHAT;
 import static org.apache.lucene.document.Field.Store;
 
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
@@ -31,7 +32,6 @@ import org.springframework.stereotype.Repository;
 public class ScenarioExecutionReportIndexRepository {
 
     public static final String SCENARIO_EXECUTION_REPORT = "scenario_execution_report";
-    public static final String WHAT = "what";
     private static final String SCENARIO_EXECUTION_ID = "scenarioExecutionId";
     private static final String REPORT = "report";
     private final IndexRepository indexRepository;
@@ -0,0 +1,190 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.index.infra;
+
+import static com.chutneytesting.index.infra.IndexRepository.WHAT;
+import static java.util.Optional.ofNullable;
+import static org.apache.lucene.document.Field.Store;
+
+import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ScenarioIndexRepository {
+
+    public static final String SCENARIO = "scenario";
+    private static final String SCENARIO_ID = "scenarioId";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String TAGS = "tags";
+    private static final String CONTENT = "content";
+    /**
+     * Parts of the words of all searched fields, so that searching part of a word is a term lookup instead of a leading wildcard scan
+     */
+    private static final String WORDS_PARTS = "wordsParts";
+    private static final List<String> SEARCHED_FIELDS = List.of(TITLE, DESCRIPTION, TAGS, CONTENT);
+    private static final int MIN_WORD_PART = 3;
+    private static final int MAX_WORD_PART = 15;
+
+    private final IndexRepository indexRepository;
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    public ScenarioIndexRepository(IndexRepository indexRepository) {
+        this.indexRepository = indexRepository;
+    }
+
+    /**
+     * Index an activated scenario, replacing its previous indexation, or remove a deactivated one from the index.
+     */
+    public void save(ScenarioEntity scenario) {
+        if (scenario.isActivated()) {
+            indexRepository.update(idTerm(scenario.getId()), toDocument(scenario));
+        } else {
+            delete(scenario.getId());
+        }
+    }
+
+    public void saveAll(List<ScenarioEntity> scenarios) {
+        indexRepository.indexAll(
+            scenarios.stream()
+                .filter(ScenarioEntity::isActivated)
+                .map(this::toDocument)
+                .toList()
+        );
+    }
+
+    public void delete(Long scenarioId) {
+        indexRepository.delete(new TermQuery(idTerm(scenarioId)));
+    }
+
+    /**
+     * Find the scenarios having one of the given words or phrases in their title, description, tags or content.<br>
+     * A single word matches any part of an indexed word, a phrase matches its successive words.
+     *
+     * @return The matching scenarios' ids, most relevant first
+     */
+    public List<Long> idsByKeywords(List<String> keywords) {
+        BooleanQuery.Builder keywordsQuery = new BooleanQuery.Builder();
+        keywords.stream()
+            .flatMap(this::keywordQueries)
+            .forEach(query -> keywordsQuery.add(query, BooleanClause.Occur.SHOULD));
+
+        BooleanQuery query = new BooleanQuery.Builder()
+            .add(new TermQuery(new Term(WHAT, SCENARIO)), BooleanClause.Occur.MUST)
+            .add(keywordsQuery.build(), BooleanClause.Occur.MUST)
+            .build();
+
+        return indexRepository.search(query, Integer.MAX_VALUE, Sort.RELEVANCE)
+            .stream()
+            .map(doc -> doc.get(SCENARIO_ID))
+            .map(Long::parseLong)
+            .toList();
+    }
+
+    private Stream<Query> keywordQueries(String keyword) {
+        List<String> tokens = tokens(keyword);
+        if (tokens.isEmpty()) {
+            return Stream.empty();
+        }
+        if (tokens.size() == 1) {
+            return Stream.of(wordPartQuery(tokens.get(0)));
+        }
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        return SEARCHED_FIELDS.stream()
+            .map(field -> queryBuilder.createPhraseQuery(field, keyword));
+    }
+
+    /**
+     * Short parts are looked up as prefixes of indexed parts.<br>
+     * Long parts must contain all their indexed parts, thus may also match words holding them in another order.
+     */
+    private Query wordPartQuery(String token) {
+        if (token.length() < MIN_WORD_PART) {
+            return new PrefixQuery(new Term(WORDS_PARTS, token));
+        }
+        if (token.length() <= MAX_WORD_PART) {
+            return new TermQuery(new Term(WORDS_PARTS, token));
+        }
+        BooleanQuery.Builder allPartsQuery = new BooleanQuery.Builder();
+        for (int start = 0; start < token.length(); start += MAX_WORD_PART) {
+            int partStart = Math.min(start, token.length() - MAX_WORD_PART);
+            allPartsQuery.add(new TermQuery(new Term(WORDS_PARTS, token.substring(partStart, partStart + MAX_WORD_PART))), BooleanClause.Occur.MUST);
+        }
+        return allPartsQuery.build();
+    }
+
+    private List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(CONTENT, text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private Document toDocument(ScenarioEntity scenario) {
+        Document document = new Document();
+        document.add(new StringField(WHAT, SCENARIO, Store.NO));
+        document.add(new StringField(SCENARIO_ID, scenario.getId().toString(), Store.YES));
+        document.add(new TextField(TITLE, ofNullable(scenario.getTitle()).orElse(""), Store.NO));
+        document.add(new TextField(DESCRIPTION, ofNullable(scenario.getDescription()).orElse(""), Store.NO));
+        document.add(new TextField(TAGS, ofNullable(scenario.getTags()).orElse(""), Store.NO));
+        document.add(new TextField(CONTENT, ofNullable(scenario.getContent()).orElse(""), Store.NO));
+        String searchedText = Stream.of(scenario.getTitle(), scenario.getDescription(), scenario.getTags(), scenario.getContent())
+            .filter(Objects::nonNull)
+            .collect(Collectors.joining("\n"));
+        document.add(new TextField(WORDS_PARTS, wordsParts(searchedText)));
+        return document;
+    }
+
+    /**
+     * Lower cased words and all their parts from {@value #MIN_WORD_PART} to {@value #MAX_WORD_PART} characters
+     */
+    private static TokenStream wordsParts(String text) {
+        Tokenizer tokenizer = new StandardTokenizer();
+        tokenizer.setReader(new StringReader(text));
+        return new NGramTokenFilter(new LowerCaseFilter(tokenizer), MIN_WORD_PART, MAX_WORD_PART, true);
+    }
+
+    private static Term idTerm(Long scenarioId) {
+        return new Term(SCENARIO_ID, scenarioId.toString());
+    }
+}
@@ -23,12 +23,14 @@ import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecution
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpStatusCode;
@@ -39,9 +41,11 @@ class MicrometerMetrics implements ChutneyMetrics {
 
     private final MeterRegistry meterRegistry;
     private final Map<String, Map<ServerReportStatus, AtomicLong>> statusCountCache = new HashMap<>();
+    private final AtomicInteger campaignSchedulerQueueDepth;
 
     MicrometerMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
+        this.campaignSchedulerQueueDepth = meterRegistry.gauge("campaign_scheduler_queue_depth", new AtomicInteger(0));
     }
 
     @Override
@@ -82,6 +86,23 @@ class MicrometerMetrics implements ChutneyMetrics {
         httpErrorCount.increment();
     }
 
+    @Override
+    public void onCampaignSchedulerQueueUpdated(int queueDepth) {
+        campaignSchedulerQueueDepth.set(queueDepth);
+    }
+
+    @Override
+    public void onCampaignScenarioDequeued(Campaign campaign, Duration waitTime) {
+        final Timer campaignSchedulerWaitTimer = this.meterRegistry.timer("campaign_scheduler_wait_timer", singleton(of("campaignId", campaign.id.toString())));
+        campaignSchedulerWaitTimer.record(waitTime);
+    }
+
+    @Override
+    public void onExecutionPhaseEnded(String phase, String actionType, String strategy, Duration duration) {
+        final Timer executionPhaseTimer = this.meterRegistry.timer("execution_phase_timer", asList(of("phase", phase), of("actionType", StringUtils.defaultIfBlank(actionType, "none")), of("strategy", StringUtils.defaultIfBlank(strategy, "none"))));
+        executionPhaseTimer.record(duration);
+    }
+
     private void updateMetrics(Map<ServerReportStatus, Long> scenarioCountByStatus, Map<ServerReportStatus, AtomicLong> cachedMetrics) {
         cachedMetrics.forEach((key, value) -> {
             final Long valueInCache = scenarioCountByStatus.get(key);
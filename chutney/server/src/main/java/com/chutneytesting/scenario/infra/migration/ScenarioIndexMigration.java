@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.scenario.infra.migration;
+
+import static com.chutneytesting.index.infra.IndexRepository.WHAT;
+import static com.chutneytesting.index.infra.ScenarioIndexRepository.SCENARIO;
+
+import com.chutneytesting.index.infra.IndexRepository;
+import com.chutneytesting.index.infra.ScenarioIndexRepository;
+import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
+import com.chutneytesting.scenario.infra.raw.ScenarioJpaRepository;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ScenarioIndexMigration implements CommandLineRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScenarioIndexMigration.class);
+    private static final int PAGE_SIZE = 100;
+
+    private final ScenarioJpaRepository scenarioJpaRepository;
+    private final ScenarioIndexRepository scenarioIndexRepository;
+    private final IndexRepository indexRepository;
+
+    public ScenarioIndexMigration(ScenarioJpaRepository scenarioJpaRepository, ScenarioIndexRepository scenarioIndexRepository, IndexRepository indexRepository) {
+        this.scenarioJpaRepository = scenarioJpaRepository;
+        this.scenarioIndexRepository = scenarioIndexRepository;
+        this.indexRepository = indexRepository;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (isMigrationDone()) {
+            LOGGER.info("Scenarios indexing already done, skipping...");
+            return;
+        }
+        int count = 0;
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        Slice<ScenarioEntity> slice;
+        do {
+            slice = scenarioJpaRepository.findByActivatedTrue(pageable);
+            scenarioIndexRepository.saveAll(slice.getContent());
+            count += slice.getNumberOfElements();
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+        LOGGER.info("{} scenario(s) successfully indexed", count);
+    }
+
+    private boolean isMigrationDone() {
+        Query whatQuery = new TermQuery(new Term(WHAT, SCENARIO));
+        int indexedScenarios = indexRepository.count(whatQuery);
+        return indexedScenarios > 0;
+    }
+}
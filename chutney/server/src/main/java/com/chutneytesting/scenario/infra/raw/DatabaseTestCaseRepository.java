@@ -10,13 +10,13 @@ package com.chutneytesting.scenario.infra.raw;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.lang.Long.valueOf;
 import static java.util.Optional.empty;
-import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isNumeric;
 
 import com.chutneytesting.campaign.infra.CampaignScenarioJpaRepository;
 import com.chutneytesting.campaign.infra.jpa.CampaignScenarioEntity;
 import com.chutneytesting.execution.infra.storage.DatabaseExecutionJpaRepository;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
+import com.chutneytesting.index.infra.ScenarioIndexRepository;
 import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
 import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
 import com.chutneytesting.server.core.domain.scenario.AggregatedRepository;
@@ -24,21 +24,22 @@ import com.chutneytesting.server.core.domain.scenario.ScenarioNotFoundException;
 import com.chutneytesting.server.core.domain.scenario.ScenarioNotParsableException;
 import com.chutneytesting.server.core.domain.scenario.TestCase;
 import com.chutneytesting.server.core.domain.scenario.TestCaseMetadata;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Root;
+import com.google.common.collect.Lists;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Repository
 @Transactional(readOnly = true)
@@ -47,18 +48,20 @@ public class DatabaseTestCaseRepository implements AggregatedRepository<GwtTestC
     private final ScenarioJpaRepository scenarioJpaRepository;
     private final DatabaseExecutionJpaRepository scenarioExecutionsJpaRepository;
     private final CampaignScenarioJpaRepository campaignScenarioJpaRepository;
-    private final EntityManager entityManager;
+    private final ScenarioIndexRepository scenarioIndexRepository;
     private final Pattern pattern = Pattern.compile("\"([^\"]*)\"");
+    private static final int SEARCH_RESULTS_BATCH_SIZE = 500;
 
 
     public DatabaseTestCaseRepository(
         ScenarioJpaRepository jpa,
         DatabaseExecutionJpaRepository scenarioExecutionsJpaRepository,
-        CampaignScenarioJpaRepository campaignScenarioJpaRepository, EntityManager entityManager) {
+        CampaignScenarioJpaRepository campaignScenarioJpaRepository,
+        ScenarioIndexRepository scenarioIndexRepository) {
         this.scenarioJpaRepository = jpa;
         this.scenarioExecutionsJpaRepository = scenarioExecutionsJpaRepository;
         this.campaignScenarioJpaRepository = campaignScenarioJpaRepository;
-        this.entityManager = entityManager;
+        this.scenarioIndexRepository = scenarioIndexRepository;
     }
 
     @Override
@@ -69,7 +72,9 @@ public class DatabaseTestCaseRepository implements AggregatedRepository<GwtTestC
             return testCase.id();
         }
         try {
-            return scenarioJpaRepository.save(ScenarioEntity.fromGwtTestCase(testCase)).getId().toString();
+            ScenarioEntity scenario = scenarioJpaRepository.save(ScenarioEntity.fromGwtTestCase(testCase));
+            indexAfterCommit(scenario);
+            return scenario.getId().toString();
         } catch (ObjectOptimisticLockingFailureException e) {
             throw new ScenarioNotFoundException(testCase.id(), testCase.metadata().version());
         }
@@ -131,6 +136,7 @@ public class DatabaseTestCaseRepository implements AggregatedRepository<GwtTestC
 
                 scenarioJpa.deactivate();
                 scenarioJpaRepository.save(scenarioJpa);
+                indexAfterCommit(scenarioJpa);
             });
     }
 
@@ -146,20 +152,24 @@ public class DatabaseTestCaseRepository implements AggregatedRepository<GwtTestC
         }
     }
 
+    /**
+     * Search activated scenarios having one of the words of the filter in their title, description, tags or content.<br>
+     * Matching ids are given by the index, metadata are then read from database and returned in the index relevance order.
+     */
     @Override
     public List<TestCaseMetadata> search(String textFilter) {
         if (!textFilter.isEmpty()) {
-            List<String> words = getWordsToSearchWithQuotes(escapeSql(textFilter));
-            Specification<ScenarioEntity> scenarioDaoSpecification = buildLikeSpecificationOnContent(words)
-                .and(ScenarioJpaRepository.activatedScenarioSpecification());
-
-            CriteriaBuilder builder = entityManager.getCriteriaBuilder();
-            CriteriaQuery<ScenarioEntity> query = builder.createQuery(ScenarioEntity.class);
-            Root<ScenarioEntity> root = query.from(ScenarioEntity.class);
-            query.select(builder.construct(ScenarioEntity.class, root.get("id"), root.get("title"), root.get("description"), root.get("tags"), root.get("creationDate"), root.get("activated"), root.get("userId"), root.get("updateDate"), root.get("version"), root.get("defaultDataset")));
-            query = query.where(scenarioDaoSpecification.toPredicate(root, query, builder));
-
-            return entityManager.createQuery(query).getResultList().stream().map(ScenarioEntity::toTestCaseMetadata).toList();
+            List<String> words = getWordsToSearchWithQuotes(textFilter);
+            List<Long> ids = scenarioIndexRepository.idsByKeywords(words);
+            Map<Long, Integer> relevanceRanks = new HashMap<>(ids.size());
+            for (int rank = 0; rank < ids.size(); rank++) {
+                relevanceRanks.put(ids.get(rank), rank);
+            }
+            return Lists.partition(ids, SEARCH_RESULTS_BATCH_SIZE).stream()
+                .flatMap(idsBatch -> scenarioJpaRepository.findMetaDataByIdInAndActivatedTrue(idsBatch).stream())
+                .sorted(Comparator.comparing(scenario -> relevanceRanks.get(scenario.getId())))
+                .map(ScenarioEntity::toTestCaseMetadata)
+                .toList();
         } else {
             return findAll();
         }
@@ -202,24 +212,19 @@ public class DatabaseTestCaseRepository implements AggregatedRepository<GwtTestC
             scenarioEntity.getVersion(),
             scenarioEntity.getDefaultDataset()
         );
+        indexAfterCommit(scenarioEntity);
     }
 
-    private static String escapeSql(String str) {
-        if (str == null) {
-            return null;
-        }
-        return str.replace("'", "''");
-    }
-
-    private Specification<ScenarioEntity> buildLikeSpecificationOnContent(List<String> words) {
-        Specification<ScenarioEntity> scenarioDaoSpecification = null;
-        for (String word : words) {
-            Specification<ScenarioEntity> wordSpecification = ScenarioJpaRepository.contentContains(word);
-            scenarioDaoSpecification = ofNullable(scenarioDaoSpecification)
-                .map(s -> s.or(wordSpecification))
-                .orElse(wordSpecification);
-        }
-        return scenarioDaoSpecification;
+    /**
+     * Index the saved scenario once the transaction is committed, so the index never holds uncommitted or rolled back changes
+     */
+    private void indexAfterCommit(ScenarioEntity scenario) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scenarioIndexRepository.save(scenario);
+            }
+        });
     }
 
     private boolean checkIdInput(String scenarioId) {
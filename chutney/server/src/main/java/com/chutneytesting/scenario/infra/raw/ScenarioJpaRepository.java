@@ -8,10 +8,10 @@
 package com.chutneytesting.scenario.infra.raw;
 
 import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
-import jakarta.persistence.criteria.Expression;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -40,18 +40,17 @@ public interface ScenarioJpaRepository extends CrudRepository<ScenarioEntity, Lo
         """)
     List<ScenarioEntity> findMetaDataByActivatedTrue();
 
-    List<ScenarioEntity> findByActivatedTrueAndDefaultDataset(String defaultDataset);
+    @Query("""
+        SELECT new com.chutneytesting.scenario.infra.jpa.ScenarioEntity(s.id, s.title, s.description, s.tags, s.creationDate, s.activated, s.userId, s.updateDate, s.version, s.defaultDataset)
+        FROM SCENARIO s
+        WHERE s.id IN :ids
+          AND s.activated = true
+        """)
+    List<ScenarioEntity> findMetaDataByIdInAndActivatedTrue(@Param("ids") List<Long> ids);
 
-    static Specification<ScenarioEntity> contentContains(String searchWord) {
-        return (root, query, builder) -> {
-            Expression<String> content = builder.lower(root.get("content"));
-            return builder.like(content, "%" + searchWord.toLowerCase() + "%");
-        };
-    }
+    Slice<ScenarioEntity> findByActivatedTrue(Pageable pageable);
 
-    static Specification<ScenarioEntity> activatedScenarioSpecification() {
-        return (root, query, builder) -> builder.equal(root.get("activated"), true);
-    }
+    List<ScenarioEntity> findByActivatedTrueAndDefaultDataset(String defaultDataset);
 
     @Modifying
     @Query(nativeQuery = true, value = "INSERT INTO SCENARIO (ID, TITLE, DESCRIPTION, CONTENT, TAGS, CREATION_DATE, ACTIVATED, USER_ID, UPDATE_DATE, VERSION, DEFAULT_DATASET_ID) VALUES (:id, :title, :description, :content, :tags, :creationDate, :activated, :userId, :updateDate, :version, :defaultDataset)")
@@ -93,6 +93,7 @@ public class SecuredControllerSpringBootIntegrationTest {
             {GET, "/api/v1/backups/backupId", "ADMIN_ACCESS", null, NOT_FOUND},
             {DELETE, "/api/v1/backups/backupId", "ADMIN_ACCESS", null, NOT_FOUND},
             {GET, "/api/v1/backups/id/download", "ADMIN_ACCESS", null, OK},
+            {GET, "/api/v1/backups/backupId/progress", "ADMIN_ACCESS", null, NOT_FOUND},
             {GET, "/api/v1/backups/backupables", "ADMIN_ACCESS", null, OK},
 
             {GET, "/api/v1/admin/database/execution?query=abc", "ADMIN_ACCESS", null, OK},
@@ -170,6 +171,7 @@ public class SecuredControllerSpringBootIntegrationTest {
             {POST, "/api/scenario/execution/v1", "SCENARIO_EXECUTE", "{\"scenario\":{},\"environment\": {\"name\":\"env\"}}", OK},
 
             {GET, "/api/ui/scenario/123/execution/v1", "SCENARIO_READ", null, OK},
+            {GET, "/api/ui/scenario/execution/attachment/unknown/v1", "SCENARIO_READ", null, NOT_FOUND},
             {GET, "/api/ui/scenario/123/execution/666/v1", "SCENARIO_READ", null, NOT_FOUND},
             {GET, "/api/ui/scenario/execution/666/summary/v1", "SCENARIO_READ", null, NOT_FOUND},
             {POST, "/api/ui/scenario/execution/v1/scenarioId/secuenv", "SCENARIO_EXECUTE", null, NOT_FOUND},
@@ -177,6 +179,7 @@ public class SecuredControllerSpringBootIntegrationTest {
             {POST, "/api/ui/scenario/executionasync/v1/scenarioId/DEFAULT", "SCENARIO_EXECUTE", null, NOT_FOUND},
             {POST, "/api/ui/scenario/executionasync/v1/scenarioId/DEFAULT/DATASET", "SCENARIO_EXECUTE", "[]", NOT_FOUND},
             {GET, "/api/ui/scenario/executionasync/v1/scenarioId/execution/666", "SCENARIO_READ", null, NOT_FOUND},
+            {GET, "/api/ui/scenario/executionasync/v1/scenarioId/execution/666/delta", "SCENARIO_READ", null, NOT_FOUND},
             {POST, "/api/ui/scenario/executionasync/v1/scenarioId/execution/666/stop", "SCENARIO_EXECUTE", null, NOT_FOUND},
             {POST, "/api/ui/scenario/executionasync/v1/scenarioId/execution/666/pause", "SCENARIO_EXECUTE", null, NOT_FOUND},
             {POST, "/api/ui/scenario/executionasync/v1/scenarioId/execution/666/resume", "SCENARIO_EXECUTE", null, NOT_FOUND},
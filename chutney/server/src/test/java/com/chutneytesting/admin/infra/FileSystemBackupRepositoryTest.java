@@ -8,10 +8,16 @@
 package com.chutneytesting.admin.infra;
 
 import static com.chutneytesting.admin.infra.FileSystemBackupRepository.BACKUP_FILE_EXTENSION;
+import static com.chutneytesting.admin.infra.FileSystemBackupRepository.FAILED_FILE_EXTENSION;
 import static com.chutneytesting.admin.infra.FileSystemBackupRepository.ROOT_DIRECTORY_NAME;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -19,21 +25,30 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.chutneytesting.admin.domain.Backup;
+import com.chutneytesting.admin.domain.BackupNotCompletedException;
 import com.chutneytesting.admin.domain.BackupNotFoundException;
+import com.chutneytesting.admin.domain.BackupProgress;
 import com.chutneytesting.admin.domain.BackupRepository;
 import com.chutneytesting.server.core.domain.admin.Backupable;
 import com.chutneytesting.tools.Try;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
 import org.springframework.util.FileSystemUtils;
 
 public class FileSystemBackupRepositoryTest {
@@ -130,13 +145,126 @@ public class FileSystemBackupRepositoryTest {
         when(otherBackupable.name()).thenReturn("anOtherBackup");
 
         // When
-        sut.save(new Backup(List.of(aBackupable.name())));
+        String backupId = sut.save(new Backup(List.of(aBackupable.name())));
 
         // Then
+        await().atMost(5, SECONDS).until(() -> sut.progress(backupId).isDone());
         verify(aBackupable, times(1)).backup(any());
         verify(otherBackupable, never()).backup(any());
     }
 
+    @Test
+    public void should_run_backupables_concurrently() {
+        // Given
+        when(aBackupable.name()).thenReturn("aBackup");
+        when(otherBackupable.name()).thenReturn("anOtherBackup");
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Answer<Void> waitForEachOther = invocation -> {
+            bothStarted.countDown();
+            bothStarted.await(5, SECONDS);
+            return null;
+        };
+        doAnswer(waitForEachOther).when(aBackupable).backup(any());
+        doAnswer(waitForEachOther).when(otherBackupable).backup(any());
+
+        // When
+        String backupId = sut.save(new Backup(List.of("aBackup", "anOtherBackup")));
+
+        // Then
+        await().atMost(5, SECONDS).until(() -> sut.progress(backupId).isDone());
+        assertThat(bothStarted.getCount()).isZero();
+        assertThat(sut.progress(backupId).completed()).containsExactlyInAnyOrder("aBackup", "anOtherBackup");
+        assertThat(sut.read(backupId).backupables).containsExactly("aBackup", "anOtherBackup");
+    }
+
+    @Test
+    public void should_report_failed_backupable_in_progress() {
+        // Given
+        when(aBackupable.name()).thenReturn("aBackup");
+        when(otherBackupable.name()).thenReturn("anOtherBackup");
+        doThrow(new RuntimeException("backup failure")).when(otherBackupable).backup(any());
+
+        // When
+        String backupId = sut.save(new Backup(List.of("aBackup", "anOtherBackup")));
+
+        // Then
+        await().atMost(5, SECONDS).until(() -> sut.progress(backupId).isDone());
+        BackupProgress progress = sut.progress(backupId);
+        assertThat(progress.completed()).containsExactly("aBackup");
+        assertThat(progress.failed()).containsExactly("anOtherBackup");
+        assertThat(backupsRootPath.resolve(ROOT_DIRECTORY_NAME).resolve(backupId).toFile().list())
+            .containsExactlyInAnyOrder("aBackup" + BACKUP_FILE_EXTENSION, "anOtherBackup" + FAILED_FILE_EXTENSION);
+    }
+
+    @Test
+    public void should_backup_only_modifications_since_previous_backup_when_incremental() throws IOException {
+        // Given
+        when(aBackupable.name()).thenReturn("aBackup");
+        when(otherBackupable.name()).thenReturn("anOtherBackup");
+        LocalDateTime previousBackupTime = LocalDateTime.now().minus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        stubBackup(Backup.backupIdTimeFormatter.format(previousBackupTime), List.of(aBackupable));
+
+        // When
+        String backupId = sut.save(new Backup(List.of("aBackup", "anOtherBackup"), true));
+
+        // Then
+        await().atMost(5, SECONDS).until(() -> sut.progress(backupId).isDone());
+        verify(aBackupable).backup(any(), eq(previousBackupTime.atZone(ZoneId.systemDefault()).toInstant()));
+        verify(aBackupable, never()).backup(any());
+        verify(otherBackupable).backup(any());
+        assertThat(sut.read(backupId).incremental).isTrue();
+    }
+
+    @Test
+    public void should_download_backup_files_without_compressing_them_again() throws IOException {
+        // Given
+        when(aBackupable.name()).thenReturn("aBackup");
+        Path backupPath = stubBackup(Backup.backupIdTimeFormatter.format(LocalDateTime.now().minus(2, ChronoUnit.DAYS)), List.of(aBackupable));
+        byte[] backupContent = "aBackup content".getBytes();
+        Files.write(backupPath.resolve("aBackup" + BACKUP_FILE_EXTENSION), backupContent);
+        String backupId = backupPath.getFileName().toString();
+
+        // When
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sut.getBackupData(backupId, outputStream);
+
+        // Then
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry = zipInputStream.getNextEntry();
+            assertThat(entry.getName()).isEqualTo(backupId + "/aBackup" + BACKUP_FILE_EXTENSION);
+            assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+            assertThat(zipInputStream.readAllBytes()).isEqualTo(backupContent);
+            assertThat(zipInputStream.getNextEntry()).isNull();
+        }
+    }
+
+    @Test
+    public void should_refuse_to_download_backup_being_saved() throws IOException {
+        // Given
+        when(aBackupable.name()).thenReturn("aBackup");
+        when(otherBackupable.name()).thenReturn("anOtherBackup");
+        CountDownLatch backupReleased = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            backupReleased.await(5, SECONDS);
+            return null;
+        }).when(aBackupable).backup(any());
+        String backupId = sut.save(new Backup(List.of("aBackup")));
+
+        // When
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThatThrownBy(() -> sut.getBackupData(backupId, outputStream))
+            .isInstanceOf(BackupNotCompletedException.class);
+
+        // Then
+        assertThat(outputStream.size()).isZero();
+        backupReleased.countDown();
+        await().atMost(5, SECONDS).until(() -> sut.progress(backupId).isDone());
+        sut.getBackupData(backupId, outputStream);
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertThat(zipInputStream.getNextEntry().getName()).isEqualTo(backupId + "/aBackup" + BACKUP_FILE_EXTENSION);
+        }
+    }
+
     @Test
     public void should_delete_existing_backup() throws IOException {
         // Given
@@ -13,6 +13,7 @@ import static org.junit.jupiter.params.provider.Arguments.of;
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
 import com.chutneytesting.campaign.infra.jpa.CampaignEntity;
+import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
@@ -20,8 +21,14 @@ import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecutionReportBuilder;
 import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -349,6 +356,154 @@ public class CampaignExecutionDBRepositoryTest {
                 .hasFieldOrPropertyWithValue("status", scenarioExecutionThree.status())
             ;
         }
+
+        @Test
+        public void should_delete_campaign_executions_and_keep_their_scenario_executions() {
+            ScenarioEntity scenarioEntity = givenScenario();
+            CampaignEntity campaign = givenCampaign(scenarioEntity);
+            LocalDateTime now = LocalDateTime.now();
+            Long campaignExecutionId = givenCampaignExecution(campaign.id(), false, "env", scenarioExecution(scenarioEntity, ServerReportStatus.SUCCESS, now));
+
+            sut.deleteExecutions(Set.of(campaignExecutionId));
+
+            assertThat(sut.getExecutionHistory(campaign.id())).isEmpty();
+            List<?> scenarioExecutions =
+                entityManager.createNativeQuery("select * from scenario_executions where campaign_execution_id is null", ScenarioExecutionEntity.class)
+                    .getResultList();
+            assertThat(scenarioExecutions).hasSize(1);
+        }
+
+        @Test
+        public void should_scan_campaigns_having_executions_by_pages() {
+            ScenarioEntity scenarioEntity = givenScenario();
+            List<Long> campaignsIds = IntStream.range(0, 3)
+                .mapToObj(i -> givenCampaign(scenarioEntity).id())
+                .toList();
+            campaignsIds.forEach(campaignId -> sut.generateCampaignExecutionId(campaignId, "env"));
+            givenCampaign(scenarioEntity);
+
+            List<Long> firstPage = sut.getCampaignsWithExecutions(campaignsIds.get(0) - 1, 2);
+            List<Long> secondPage = sut.getCampaignsWithExecutions(firstPage.get(1), 2);
+
+            assertThat(firstPage).containsExactlyElementsOf(campaignsIds.subList(0, 2));
+            assertThat(secondPage).containsExactly(campaignsIds.get(2));
+        }
+
+        @Test
+        public void should_select_empty_and_oldest_executions_to_purge_keeping_last_success_and_recent_partial_ones() {
+            ScenarioEntity scenarioEntity = givenScenario();
+            CampaignEntity campaign = givenCampaign(scenarioEntity);
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime old = now.minusDays(2);
+
+            Long empty = sut.generateCampaignExecutionId(campaign.id(), "env");
+            givenCampaignExecution(campaign.id(), false, "env", scenarioExecution(scenarioEntity, ServerReportStatus.SUCCESS, old.plusHours(1)));
+            Long oldestFailure = givenCampaignExecution(campaign.id(), false, "env", scenarioExecution(scenarioEntity, ServerReportStatus.FAILURE, old.plusHours(2)));
+            Long oldPartial = givenCampaignExecution(campaign.id(), true, "env", scenarioExecution(scenarioEntity, ServerReportStatus.SUCCESS, old.plusMinutes(150)));
+            givenCampaignExecution(campaign.id(), false, "env", scenarioExecution(scenarioEntity, ServerReportStatus.FAILURE, old.plusHours(3)));
+            givenCampaignExecution(campaign.id(), true, "env", scenarioExecution(scenarioEntity, ServerReportStatus.SUCCESS, old.plusMinutes(210)));
+            givenCampaignExecution(campaign.id(), false, "env", scenarioExecution(scenarioEntity, ServerReportStatus.FAILURE, old.plusHours(4)));
+            givenCampaignExecution(campaign.id(), false, "env", scenarioExecution(scenarioEntity, ServerReportStatus.FAILURE, now));
+            givenCampaignExecution(campaign.id(), false, "other_env", scenarioExecution(scenarioEntity, ServerReportStatus.FAILURE, old));
+
+            List<Long> executionsToPurge = sut.getExecutionsToPurge(List.of(campaign.id()), 2, now.minusDays(1), 0, 10);
+
+            assertThat(executionsToPurge).containsExactly(empty, oldestFailure, oldPartial);
+        }
+
+        @Test
+        public void should_select_executions_to_purge_considering_retried_scenario_executions() {
+            ScenarioEntity scenarioEntity = givenScenario();
+            CampaignEntity campaign = givenCampaign(scenarioEntity);
+            LocalDateTime old = LocalDateTime.now().minusDays(2);
+
+            Long oldestSuccess = givenCampaignExecution(campaign.id(), false, "env", scenarioExecution(scenarioEntity, ServerReportStatus.SUCCESS, old));
+            givenCampaignExecution(campaign.id(), false, "env",
+                scenarioExecution(scenarioEntity, ServerReportStatus.FAILURE, old.plusHours(1)),
+                scenarioExecution(scenarioEntity, ServerReportStatus.SUCCESS, old.plusHours(1).plusMinutes(5))
+            );
+            givenCampaignExecution(campaign.id(), false, "env", scenarioExecution(scenarioEntity, ServerReportStatus.FAILURE, old.plusHours(2)));
+
+            List<Long> executionsToPurge = sut.getExecutionsToPurge(List.of(campaign.id()), 1, null, 0, 10);
+
+            assertThat(executionsToPurge).containsExactly(oldestSuccess);
+        }
+
+        @Test
+        public void should_never_select_running_executions_to_purge() {
+            ScenarioEntity scenarioEntity = givenScenario();
+            CampaignEntity campaign = givenCampaign(scenarioEntity);
+            Long runningExecutionId = sut.generateCampaignExecutionId(campaign.id(), "env");
+            Long emptyExecutionId = sut.generateCampaignExecutionId(campaign.id(), "env");
+            sut.startExecution(campaign.id(), CampaignExecutionReportBuilder.builder()
+                .executionId(runningExecutionId)
+                .campaignId(campaign.id())
+                .campaignName(campaign.title())
+                .environment("env")
+                .userId("user")
+                .build());
+
+            try {
+                List<Long> executionsToPurge = sut.getExecutionsToPurge(List.of(campaign.id()), 0, null, 0, 10);
+
+                assertThat(executionsToPurge).containsExactly(emptyExecutionId);
+            } finally {
+                sut.stopExecution(campaign.id(), "env");
+            }
+        }
+
+        @Test
+        public void should_load_last_campaign_executions_with_their_scenario_executions_in_constant_number_of_queries() {
+            ScenarioEntity scenarioEntity = givenScenario();
+            CampaignEntity campaign = givenCampaign(scenarioEntity);
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> campaignExecutionsIds = IntStream.range(0, 20)
+                .mapToObj(i -> givenCampaignExecution(campaign.id(), false, "env",
+                    scenarioExecution(scenarioEntity, ServerReportStatus.SUCCESS, now.plusMinutes(i)),
+                    scenarioExecution(scenarioEntity, ServerReportStatus.FAILURE, now.plusMinutes(i)),
+                    scenarioExecution(scenarioEntity, ServerReportStatus.SUCCESS, now.plusMinutes(i))))
+                .toList();
+            Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+
+            try {
+                statistics.clear();
+                List<CampaignExecution> lastExecutions = sut.getExecutionHistory(campaign.id(), 10);
+                long lastExecutionsQueries = statistics.getPrepareStatementCount();
+
+                statistics.clear();
+                List<CampaignExecution> executionHistory = sut.getExecutionHistory(campaign.id());
+                long executionHistoryQueries = statistics.getPrepareStatementCount();
+
+                assertThat(lastExecutions).extracting(execution -> execution.executionId)
+                    .containsExactlyElementsOf(IntStream.range(0, 10).mapToObj(i -> campaignExecutionsIds.get(19 - i)).toList());
+                assertThat(lastExecutions).allSatisfy(execution -> {
+                    assertThat(execution.campaignName).isEqualTo(campaign.title());
+                    assertThat(execution.scenarioExecutionReports()).hasSize(3);
+                });
+                assertThat(lastExecutionsQueries).isEqualTo(3);
+                assertThat(executionHistory).hasSize(20);
+                assertThat(executionHistory).allSatisfy(execution -> assertThat(execution.scenarioExecutionReports()).hasSize(3));
+                assertThat(executionHistoryQueries).isEqualTo(2);
+            } finally {
+                statistics.setStatisticsEnabled(false);
+            }
+        }
+
+        private Long givenCampaignExecution(Long campaignId, boolean partial, String environment, ScenarioExecutionEntity... scenarioExecutions) {
+            return transactionTemplate.execute(ts -> {
+                CampaignExecutionEntity campaignExecution = new CampaignExecutionEntity(null, campaignId, new ArrayList<>(), partial, environment, "user", null, null);
+                entityManager.persist(campaignExecution);
+                for (ScenarioExecutionEntity scenarioExecution : scenarioExecutions) {
+                    entityManager.persist(new ScenarioExecutionEntity(null, scenarioExecution.scenarioId(), campaignExecution, scenarioExecution.executionTime(), 0L, scenarioExecution.status(), null, null, "", environment, "user", null, null, null));
+                }
+                return campaignExecution.id();
+            });
+        }
+
+        private ScenarioExecutionEntity scenarioExecution(ScenarioEntity scenarioEntity, ServerReportStatus status, LocalDateTime time) {
+            return new ScenarioExecutionEntity(null, scenarioEntity.getId().toString(), null, time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), 0L, status, null, null, "", "", "", null, null, null);
+        }
     }
 
     @ParameterizedTest
@@ -18,6 +18,7 @@ import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -93,6 +94,14 @@ public class FakeCampaignRepository implements CampaignRepository, CampaignExecu
         return ofNullable(campaignsExecutionById.get(campaignId)).orElse(newArrayList());
     }
 
+    @Override
+    public List<CampaignExecution> getExecutionHistory(Long campaignId, int numberOfExecutions) {
+        return getExecutionHistory(campaignId).stream()
+            .sorted(executionComparatorReportByExecutionId())
+            .limit(numberOfExecutions)
+            .toList();
+    }
+
     @Override
     public List<CampaignExecution> getLastExecutions(Long numberOfExecution) {
         List<CampaignExecution> allExecutions = campaignsExecutionById.entrySet().stream()
@@ -173,6 +182,18 @@ public class FakeCampaignRepository implements CampaignRepository, CampaignExecu
         // not needed in tests
     }
 
+    @Override
+    public List<Long> getCampaignsWithExecutions(Long afterCampaignId, int limit) {
+        // not needed in tests
+        return emptyList();
+    }
+
+    @Override
+    public List<Long> getExecutionsToPurge(List<Long> campaignIds, int maxExecutionsToKeep, LocalDateTime startedBefore, long afterExecutionId, int limit) {
+        // not needed in tests
+        return emptyList();
+    }
+
     // Duplicate of com.chutneytesting.design.api.campaign.CampaignController#executionComparatorReportByExecutionId
     private static Comparator<CampaignExecution> executionComparatorReportByExecutionId() {
         return Comparator.<CampaignExecution>comparingLong(value -> value.executionId).reversed();
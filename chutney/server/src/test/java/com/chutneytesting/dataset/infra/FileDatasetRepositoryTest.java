@@ -9,8 +9,8 @@ package com.chutneytesting.dataset.infra;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
-import com.chutneytesting.dataset.domain.DataSetRepository;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.dataset.DataSetAlreadyExistException;
 import com.chutneytesting.server.core.domain.dataset.DataSetNotFoundException;
@@ -19,6 +19,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
@@ -26,10 +29,11 @@ public class FileDatasetRepositoryTest {
 
     private static final String TMP_PATH = org.assertj.core.util.Files.temporaryFolderPath();
     private static final String STORE_PATH = TMP_PATH + File.separator + FileDatasetRepository.ROOT_DIRECTORY_NAME;
-    private final DataSetRepository sut = new FileDatasetRepository(TMP_PATH);
+    private final FileDatasetRepository sut = new FileDatasetRepository(TMP_PATH, 2);
 
     @AfterEach
     public void tearDown() throws IOException {
+        sut.destroy();
         FileUtils.cleanFolder(Paths.get(STORE_PATH));
     }
 
@@ -67,4 +71,71 @@ public class FileDatasetRepositoryTest {
         }).isInstanceOf(DataSetAlreadyExistException.class);
 
     }
+
+    @Test
+    void should_list_datasets_without_their_values() {
+        sut.save(DataSet.builder().withName("second").withTags(List.of("TAG")).withConstants(Map.of("key", "value")).build());
+        sut.save(DataSet.builder().withName("first").withDescription("desc").withDatatable(List.of(Map.of("col", "value"))).build());
+
+        List<DataSet> datasets = sut.findAll();
+
+        assertThat(datasets).extracting(ds -> ds.id).containsExactly("first", "second");
+        assertThat(datasets.get(0).description).isEqualTo("desc");
+        assertThat(datasets.get(0).creationDate).isNotNull();
+        assertThat(datasets.get(1).tags).containsExactly("TAG");
+        assertThat(datasets).allSatisfy(ds -> {
+            assertThat(ds.constants).isEmpty();
+            assertThat(ds.datatable).isEmpty();
+        });
+    }
+
+    @Test
+    void should_keep_read_dataset_in_memory_until_its_file_is_modified() throws IOException {
+        String id = sut.save(DataSet.builder().withName("name").withConstants(Map.of("key", "value")).build());
+
+        DataSet dataset = sut.findById(id);
+        assertThat(dataset.constants).containsEntry("key", "value");
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() ->
+            assertThat(sut.findById(id)).isSameAs(sut.findById(id))
+        );
+
+        Files.writeString(Paths.get(STORE_PATH, id + ".json"), """
+            {
+              "name" : "name",
+              "constants" : { "key" : "modified" }
+            }
+            """);
+
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() ->
+            assertThat(sut.findById(id).constants).containsEntry("key", "modified")
+        );
+    }
+
+    @Test
+    void should_read_again_datasets_evicted_from_memory() {
+        String first = sut.save(DataSet.builder().withName("first").build());
+        String second = sut.save(DataSet.builder().withName("second").build());
+        String third = sut.save(DataSet.builder().withName("third").build());
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() ->
+            assertThat(sut.findById(first)).isSameAs(sut.findById(first))
+        );
+
+        DataSet firstRead = sut.findById(first);
+        sut.findById(second);
+        sut.findById(third);
+
+        assertThat(sut.findById(first)).isNotSameAs(firstRead).isEqualTo(firstRead);
+    }
+
+    @Test
+    void should_forget_removed_dataset() {
+        String id = sut.save(DataSet.builder().withName("name").build());
+        sut.findById(id);
+
+        sut.removeById(id);
+
+        assertThat(sut.findAll()).isEmpty();
+        assertThatThrownBy(() -> sut.findById(id))
+            .isInstanceOf(DataSetNotFoundException.class);
+    }
 }
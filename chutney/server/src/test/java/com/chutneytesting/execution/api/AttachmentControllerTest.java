@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.server.core.domain.execution.report.Attachment;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+public class AttachmentControllerTest {
+
+    private final AttachmentRepository attachmentRepository = mock(AttachmentRepository.class);
+    private final AttachmentController sut = new AttachmentController(attachmentRepository);
+
+    @Test
+    public void should_serve_raster_image_inline() {
+        when(attachmentRepository.findById("1")).thenReturn(Optional.of(new Attachment("1", "image/png", new byte[]{1})));
+
+        ResponseEntity<byte[]> response = sut.getAttachment("1");
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).isEqualTo("inline");
+        assertThat(response.getHeaders().getFirst("X-Content-Type-Options")).isEqualTo("nosniff");
+        assertThat(response.getBody()).containsExactly(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"text/html", "image/svg+xml", "application/xhtml+xml", "text/plain", "not a media type"})
+    public void should_serve_other_attachments_as_binary_download(String mediaType) {
+        when(attachmentRepository.findById("1")).thenReturn(Optional.of(new Attachment("1", mediaType, new byte[]{1})));
+
+        ResponseEntity<byte[]> response = sut.getAttachment("1");
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).isEqualTo("attachment; filename=\"1\"");
+        assertThat(response.getHeaders().getFirst("X-Content-Type-Options")).isEqualTo("nosniff");
+    }
+}
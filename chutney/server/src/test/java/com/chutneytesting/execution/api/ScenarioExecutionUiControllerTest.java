@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.api;
+
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.NOT_EXECUTED;
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.RUNNING;
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.SUCCESS;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.chutneytesting.server.core.domain.execution.ScenarioExecutionEngineAsync;
+import com.chutneytesting.server.core.domain.execution.report.FollowedReport;
+import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
+import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.rxjava3.core.Observable;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+public class ScenarioExecutionUiControllerTest {
+
+    private final ScenarioExecutionEngineAsync executionEngineAsync = mock(ScenarioExecutionEngineAsync.class);
+    private final ScenarioExecutionUiController sut = new ScenarioExecutionUiController(null, executionEngineAsync, null, null, null, null, null, null);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final FollowedReport first = FollowedReport.first(report(RUNNING, step("a", RUNNING), step("b", NOT_EXECUTED)));
+    private final FollowedReport second = first.next(report(RUNNING, step("a", SUCCESS), step("b", RUNNING)));
+    private final FollowedReport third = second.next(report(SUCCESS, step("a", SUCCESS), step("b", SUCCESS)));
+
+    @Test
+    public void should_send_snapshot_then_changed_steps_only() throws Exception {
+        when(executionEngineAsync.followExecutionUpdates("1", 2L)).thenReturn(Observable.just(first, second, third));
+
+        List<ServerSentEvent<String>> events = sut.followScenarioExecutionDelta("1", 2L, null).collectList().block();
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("snapshot", "delta", "delta", "end");
+        assertThat(events).extracting(ServerSentEvent::id).containsExactly("1", "2", "3", "3");
+        assertThat(objectMapper.readTree(events.get(0).data()).at("/report/steps")).hasSize(2);
+
+        JsonNode secondDelta = objectMapper.readTree(events.get(1).data());
+        assertThat(secondDelta.get("sequence").asLong()).isEqualTo(2);
+        assertThat(secondDelta.get("steps")).extracting(step -> step.get("path").toString()).containsExactly("[0]", "[1]");
+        assertThat(secondDelta.at("/steps/1/step/status").asText()).isEqualTo("RUNNING");
+        assertThat(secondDelta.at("/steps/1/step").has("steps")).isFalse();
+
+        JsonNode thirdDelta = objectMapper.readTree(events.get(2).data());
+        assertThat(thirdDelta.get("steps")).extracting(step -> step.get("path").toString()).containsExactly("[]", "[1]");
+    }
+
+    @Test
+    public void should_only_send_missed_changes_when_resuming() throws Exception {
+        when(executionEngineAsync.followExecutionUpdates("1", 2L)).thenReturn(Observable.just(third));
+
+        List<ServerSentEvent<String>> events = sut.followScenarioExecutionDelta("1", 2L, 1L).collectList().block();
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("delta", "end");
+        assertThat(objectMapper.readTree(events.get(0).data()).get("steps"))
+            .extracting(step -> step.get("path").toString())
+            .containsExactly("[]", "[0]", "[1]");
+    }
+
+    @Test
+    public void should_send_snapshot_when_resuming_from_unknown_sequence() {
+        when(executionEngineAsync.followExecutionUpdates("1", 2L)).thenReturn(Observable.just(FollowedReport.persisted(third.report)));
+
+        List<ServerSentEvent<String>> events = sut.followScenarioExecutionDelta("1", 2L, 3L).collectList().block();
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("snapshot", "end");
+        assertThat(events.get(0).id()).isEqualTo("0");
+    }
+
+    private ScenarioExecutionReport report(ServerReportStatus status, StepExecutionReportCore... steps) {
+        return new ScenarioExecutionReport(2L, "scenario", "env", "user", emptyList(),
+            new StepExecutionReportCore("root", 0L, Instant.EPOCH, status, emptyList(), emptyList(), List.of(steps), "", null, null, null, null, null));
+    }
+
+    private StepExecutionReportCore step(String name, ServerReportStatus status) {
+        return new StepExecutionReportCore(name, 0L, Instant.EPOCH, status, emptyList(), emptyList(), emptyList(), "", null, null, null, null, null);
+    }
+}
@@ -11,6 +11,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.when;
 
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
@@ -33,8 +34,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import org.assertj.core.util.Lists;
@@ -133,6 +136,59 @@ public class SurefireCampaignExecutionReportBuilderTest {
         }
     }
 
+    @Test
+    public void stream_report_while_building_test_suites() throws IOException {
+        // Given a campaign execution with many scenario executions
+        StepExecutionReportCore stepReport = stepReport("root step Title", -1L, ServerReportStatus.SUCCESS,
+            stepReport("step 1", 24L, ServerReportStatus.SUCCESS));
+        CampaignExecutionReportBuilder campaignExecutionBuilder = CampaignExecutionReportBuilder.builder()
+            .campaignName("big campaign");
+        int scenarioExecutionsNumber = 1000;
+        for (long executionId = 1; executionId <= scenarioExecutionsNumber; executionId++) {
+            ScenarioExecutionReport report = new ScenarioExecutionReport(executionId, "scenario " + executionId, "", "", null, stepReport);
+            ExecutionHistory.Execution execution = ImmutableExecutionHistory.Execution
+                .builder()
+                .executionId(executionId)
+                .duration(10L)
+                .status(ServerReportStatus.SUCCESS)
+                .time(LocalDateTime.now())
+                .report(objectMapper.writeValueAsString(report))
+                .testCaseTitle("scenario " + executionId)
+                .environment("")
+                .user("")
+                .scenarioId(String.valueOf(executionId))
+                .build();
+            when(executionHistoryRepository.getExecution(String.valueOf(executionId), executionId)).thenReturn(execution);
+            campaignExecutionBuilder.addScenarioExecutionReport(new ScenarioExecutionCampaign(String.valueOf(executionId), "scenario " + executionId, execution.summary()));
+        }
+
+        // When we stream it
+        Set<Integer> builtTestSuitesAtWrites = new HashSet<>();
+        ByteArrayOutputStream zip = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                builtTestSuitesAtWrites.add(mockingDetails(executionHistoryRepository).getInvocations().size());
+                super.write(b, off, len);
+            }
+        };
+        surefireCampaignExecutionReportBuilder.writeReport(List.of(campaignExecutionBuilder.build()), zip);
+
+        // Then the archive is written as test suites are built
+        assertThat(builtTestSuitesAtWrites).hasSizeGreaterThan(scenarioExecutionsNumber / 2);
+        // And it contains all test suites
+        int entries = 0;
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip.toByteArray()))) {
+            ZipEntry nextEntry;
+            while ((nextEntry = zipInputStream.getNextEntry()) != null) {
+                if (!nextEntry.isDirectory()) {
+                    assertThat(readContent(zipInputStream)).startsWith("<?xml version=\"1.0\" ?><testsuite");
+                    entries++;
+                }
+            }
+        }
+        assertThat(entries).isEqualTo(scenarioExecutionsNumber);
+    }
+
     private String readContent(ZipInputStream zis) {
         byte[] buffer = new byte[1024];
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
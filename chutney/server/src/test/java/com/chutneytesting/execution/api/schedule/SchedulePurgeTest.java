@@ -8,7 +8,6 @@
 package com.chutneytesting.execution.api.schedule;
 
 import static java.lang.Thread.sleep;
-import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -17,7 +16,6 @@ import static org.mockito.Mockito.when;
 
 import com.chutneytesting.server.core.domain.execution.history.PurgeService;
 import com.chutneytesting.server.core.domain.execution.history.PurgeService.PurgeReport;
-import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -27,9 +25,9 @@ class SchedulePurgeTest {
     @Test
     void return_purge_report() {
         PurgeService mockPurge = mock(PurgeService.class);
-        when(mockPurge.purge()).thenReturn(new PurgeReport(Set.of(1L, 2L), Set.of(3L, 4L)));
+        when(mockPurge.purge()).thenReturn(new PurgeReport(2, 2));
         SchedulePurge sut = new SchedulePurge(mockPurge, 2, 0);
-        assertThat(sut.launchPurge()).hasValue(new PurgeReport(Set.of(1L, 2L), Set.of(3L, 4L)));
+        assertThat(sut.launchPurge()).hasValue(new PurgeReport(2, 2));
         verify(mockPurge).purge();
     }
 
@@ -47,7 +45,7 @@ class SchedulePurgeTest {
         PurgeService mockPurge = mock(PurgeService.class);
         when(mockPurge.purge()).thenAnswer(invocation -> {
             sleep(18000);
-            return new PurgeReport(emptySet(), emptySet());
+            return new PurgeReport(0, 0);
         });
         SchedulePurge sut = new SchedulePurge(mockPurge, 2, 0);
         assertThat(sut.launchPurge()).isEmpty();
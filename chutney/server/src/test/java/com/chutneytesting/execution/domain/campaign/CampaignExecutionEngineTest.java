@@ -10,17 +10,19 @@ package com.chutneytesting.execution.domain.campaign;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.of;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.mockito.AdditionalMatchers.or;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -43,23 +45,27 @@ import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryR
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
 import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.chutneytesting.server.core.domain.scenario.TestCase;
 import com.chutneytesting.server.core.domain.scenario.TestCaseMetadataImpl;
 import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
+import com.chutneytesting.server.core.domain.scenario.campaign.CampaignBuilder;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecutionReportBuilder;
 import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -82,12 +88,11 @@ public class CampaignExecutionEngineTest {
     private final CampaignExecutionRepository campaignExecutionRepository = mock(CampaignExecutionRepository.class);
     private final ScenarioExecutionEngine scenarioExecutionEngine = mock(ScenarioExecutionEngine.class);
     private final ScenarioExecutionEngineAsync scenarioExecutionEngineAsync = mock(ScenarioExecutionEngineAsync.class);
-    private final ExecutionHistoryRepository executionHistoryRepository = mock(ExecutionHistoryRepository.class);
     private final TestCaseRepository testCaseRepository = mock(TestCaseRepository.class);
     private final JiraXrayEmbeddedApi jiraXrayPlugin = mock(JiraXrayEmbeddedApi.class);
     private final ChutneyMetrics metrics = mock(ChutneyMetrics.class);
     private final DataSetRepository datasetRepository = mock(DataSetRepository.class);
-    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ExecutionHistoryRepository executionHistoryRepository = mock(ExecutionHistoryRepository.class);
 
 
     private GwtTestCase firstTestCase;
@@ -106,22 +111,18 @@ public class CampaignExecutionEngineTest {
 
     @BeforeEach
     public void setUp() {
-        sut = new CampaignExecutionEngine(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, scenarioExecutionEngineAsync, executionHistoryRepository, testCaseRepository, jiraXrayPlugin, metrics, executorService, datasetRepository, objectMapper);
+        sut = campaignExecutionEngine(executorService, new CampaignSchedulingProperties(10, 10));
         firstTestCase = createGwtTestCase("1");
         secondTestCase = createGwtTestCase("2");
         when(testCaseRepository.findExecutableById(firstTestCase.id())).thenReturn(of(firstTestCase));
         when(testCaseRepository.findExecutableById(secondTestCase.id())).thenReturn(of(secondTestCase));
-        when(executionHistoryRepository.getExecution(eq(firstTestCase.id()), or(eq(0L), eq(10L))))
-            .thenReturn(executionWithId(firstTestCase.id(), firstScenarioExecutionId));
-        when(executionHistoryRepository.getExecution(eq(secondTestCase.id()), or(eq(0L), eq(20L))))
-            .thenReturn(executionWithId(secondTestCase.id(), secondScenarioExecutionId));
+        when(scenarioExecutionEngine.executeAsync(any(ExecutionRequest.class))).then(scenarioExecutionReport(ServerReportStatus.SUCCESS));
     }
 
     @Test
     public void should_update_jira_xray() {
         // Given
         Campaign campaign = createCampaign(firstTestCase, secondTestCase);
-        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenReturn(mock(ScenarioExecutionReport.class));
 
         // When
         CampaignExecution cer = sut.executeScenarioInCampaign(campaign, "user", null);
@@ -138,15 +139,12 @@ public class CampaignExecutionEngineTest {
         // Given
         Campaign campaign = createCampaign(firstTestCase, secondTestCase);
 
-        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenReturn(mock(ScenarioExecutionReport.class));
-
         // When
         CampaignExecution campaignExecution = sut.executeScenarioInCampaign(campaign, "user", null);
 
         // Then
         verify(testCaseRepository, times(2)).findExecutableById(anyString());
-        verify(scenarioExecutionEngine, times(2)).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(4)).getExecution(anyString(), anyLong());
+        verify(scenarioExecutionEngine, times(2)).executeAsync(any(ExecutionRequest.class));
 
         assertThat(campaignExecution.scenarioExecutionReports()).hasSize(campaign.scenarios.size());
         assertThat(campaignExecution.scenarioExecutionReports().get(0).execution().executionId()).isEqualTo(firstScenarioExecutionId);
@@ -164,15 +162,12 @@ public class CampaignExecutionEngineTest {
         // Given
         Campaign campaign = createCampaign(createGwtTestCase("not executed test case"), secondTestCase);
 
-        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenReturn(mock(ScenarioExecutionReport.class));
-
         // When
         CampaignExecution campaignExecution = sut.executeScenarioInCampaign(singletonList(new ScenarioExecutionCampaign("2", secondTestCase.metadata.title, executionWithId("2", 2L).summary())), campaign, "user", null);
 
         // Then
         verify(testCaseRepository).findExecutableById(anyString());
-        verify(scenarioExecutionEngine).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(2)).getExecution(anyString(), anyLong());
+        verify(scenarioExecutionEngine).executeAsync(any(ExecutionRequest.class));
 
         assertThat(campaignExecution.scenarioExecutionReports()).hasSize(1);
         assertThat(campaignExecution.scenarioExecutionReports().get(0).execution().executionId()).isEqualTo(secondScenarioExecutionId);
@@ -180,20 +175,48 @@ public class CampaignExecutionEngineTest {
         verify(campaignExecutionRepository).saveCampaignExecution(campaign.id, campaignExecution);
     }
 
+    @Test
+    public void should_save_remaining_scenarios_as_not_executed_at_once_when_fail_fast_policy_aborts() {
+        // Given
+        CampaignFailFastProperties failFastProperties = new CampaignFailFastProperties();
+        failFastProperties.setTags(Map.of("TAG", failFastTagPolicy(1)));
+        sut = new CampaignExecutionEngine(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, scenarioExecutionEngineAsync, testCaseRepository, jiraXrayPlugin, metrics,
+            new CampaignFairShareScheduler(executorService, new CampaignSchedulingProperties(10, 10), metrics), datasetRepository, executionHistoryRepository, failFastProperties);
+        GwtTestCase thirdTestCase = createGwtTestCase("3");
+        when(testCaseRepository.findExecutableById(thirdTestCase.id())).thenReturn(of(thirdTestCase));
+        var scenarios = Stream.of(firstTestCase, secondTestCase, thirdTestCase).map(tc -> new Campaign.CampaignScenario(tc.id(), null)).toList();
+        Campaign campaign = new Campaign(1L, "campaign1", null, scenarios, "env", false, false, null, List.of("TAG"));
+
+        when(scenarioExecutionEngine.executeAsync(any(ExecutionRequest.class))).then(scenarioExecutionReport(ServerReportStatus.FAILURE));
+        when(scenarioExecutionEngine.saveNotExecutedScenarioExecutions(anyList())).thenReturn(List.of(
+            executionWithId(secondTestCase.id(), secondScenarioExecutionId, ServerReportStatus.NOT_EXECUTED),
+            executionWithId(thirdTestCase.id(), 30L, ServerReportStatus.NOT_EXECUTED)
+        ));
+
+        // When
+        CampaignExecution campaignExecution = sut.executeScenarioInCampaign(campaign, "user");
+
+        // Then
+        verify(scenarioExecutionEngine).executeAsync(any(ExecutionRequest.class));
+        ArgumentCaptor<List<ExecutionRequest>> notExecutedRequests = ArgumentCaptor.forClass(List.class);
+        verify(scenarioExecutionEngine).saveNotExecutedScenarioExecutions(notExecutedRequests.capture());
+        verify(scenarioExecutionEngine, times(0)).saveNotExecutedScenarioExecution(any());
+        assertThat(notExecutedRequests.getValue()).extracting(request -> request.testCase.id()).containsExactly(secondTestCase.id(), thirdTestCase.id());
+
+        assertThat(campaignExecution.scenarioExecutionReports()).extracting(ScenarioExecutionCampaign::status)
+            .containsExactly(ServerReportStatus.FAILURE, ServerReportStatus.NOT_EXECUTED, ServerReportStatus.NOT_EXECUTED);
+        assertThat(campaignExecution.scenarioExecutionReports().get(2).execution().executionId()).isEqualTo(30L);
+    }
+
     @Test
     public void should_stop_execution_of_scenarios_when_requested() {
         // Given
         Campaign campaign = createCampaign(firstTestCase, secondTestCase);
 
-        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).then((Answer<ScenarioExecutionReport>) invocationOnMock -> {
-            awaitDuring(1, SECONDS);
-            return mock(ScenarioExecutionReport.class);
-        });
+        when(scenarioExecutionEngine.executeAsync(any(ExecutionRequest.class))).then(scenarioExecutionReport(ServerReportStatus.SUCCESS, 1));
 
         Long firstScenarioExecutionId = 10L;
         var firstScenarioExecution = executionWithId(firstTestCase.id(), firstScenarioExecutionId);
-        when(executionHistoryRepository.getExecution(eq(firstTestCase.id()), or(eq(0L), eq(10L))))
-            .thenReturn(firstScenarioExecution);
 
         CampaignExecution campaignExecution = mock(CampaignExecution.class);
         when(campaignExecution.scenarioExecutionReports())
@@ -213,8 +236,7 @@ public class CampaignExecutionEngineTest {
         awaitDuring(1, SECONDS);
 
         // Then
-        verify(scenarioExecutionEngine).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(2)).getExecution(anyString(), anyLong());
+        verify(scenarioExecutionEngine).executeAsync(any(ExecutionRequest.class));
         verify(campaignExecutionRepository).getCampaignExecutionById(0L);
         verify(scenarioExecutionEngineAsync).stop(firstTestCase.id(), firstScenarioExecutionId);
 
@@ -232,15 +254,13 @@ public class CampaignExecutionEngineTest {
         // Given
         Campaign campaign = createCampaign(firstTestCase, secondTestCase, true);
 
-        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenReturn(mock(ScenarioExecutionReport.class));
-        when(executionHistoryRepository.getExecution(eq(firstTestCase.id()), or(eq(0L), eq(10L)))).thenReturn(failedExecutionWithId(firstTestCase.id(), 10L));
-        when(executionHistoryRepository.getExecution(eq(secondTestCase.id()), or(eq(0L), eq(20L)))).thenReturn(failedExecutionWithId(secondTestCase.id(), 20L));
+        when(scenarioExecutionEngine.executeAsync(any(ExecutionRequest.class))).then(scenarioExecutionReport(ServerReportStatus.FAILURE));
 
         // When
         sut.executeScenarioInCampaign(campaign, "user");
 
         // Then
-        verify(scenarioExecutionEngine, times(4)).execute(any(ExecutionRequest.class));
+        verify(scenarioExecutionEngine, times(4)).executeAsync(any(ExecutionRequest.class));
     }
 
     @Test
@@ -248,12 +268,7 @@ public class CampaignExecutionEngineTest {
         // Given
         Campaign campaign = createCampaign(firstTestCase, secondTestCase, true, false);
 
-        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).then((Answer<ScenarioExecutionReport>) invocationOnMock -> {
-            awaitDuring(1, SECONDS);
-            return mock(ScenarioExecutionReport.class);
-        });
-        when(executionHistoryRepository.getExecution(eq(firstTestCase.id()), or(eq(0L), eq(10L)))).thenReturn(failedExecutionWithId(firstTestCase.id(), 10L));
-        when(executionHistoryRepository.getExecution(eq(secondTestCase.id()), or(eq(0L), eq(20L)))).thenReturn(failedExecutionWithId(secondTestCase.id(), 20L));
+        when(scenarioExecutionEngine.executeAsync(any(ExecutionRequest.class))).then(scenarioExecutionReport(ServerReportStatus.FAILURE, 1));
 
         // When
         StopWatch watch = new StopWatch();
@@ -262,10 +277,108 @@ public class CampaignExecutionEngineTest {
         watch.stop();
 
         // Then
-        verify(scenarioExecutionEngine, times(2)).execute(any(ExecutionRequest.class));
+        verify(scenarioExecutionEngine, times(2)).executeAsync(any(ExecutionRequest.class));
         assertThat(watch.getTotalTimeSeconds()).isLessThan(1.9);
     }
 
+    @Test
+    public void should_keep_at_most_max_in_flight_scenario_executions_when_executed_in_parallel() {
+        // Given
+        sut = campaignExecutionEngine(executorService, new CampaignSchedulingProperties(1, 1));
+        Campaign campaign = createCampaign(firstTestCase, secondTestCase, true, false);
+
+        when(scenarioExecutionEngine.executeAsync(any(ExecutionRequest.class))).then(scenarioExecutionReport(ServerReportStatus.SUCCESS, 1));
+
+        // When
+        StopWatch watch = new StopWatch();
+        watch.start();
+        CampaignExecution campaignExecution = sut.executeScenarioInCampaign(campaign, "user");
+        watch.stop();
+
+        // Then
+        verify(scenarioExecutionEngine, times(2)).executeAsync(any(ExecutionRequest.class));
+        assertThat(watch.getTotalTimeSeconds()).isGreaterThanOrEqualTo(2);
+        assertThat(campaignExecution.scenarioExecutionReports())
+            .extracting(ScenarioExecutionCampaign::status)
+            .containsOnly(ServerReportStatus.SUCCESS);
+    }
+
+    @Test
+    public void should_start_longest_scenarios_first_and_predict_campaign_duration() {
+        // Given
+        sut = campaignExecutionEngine(executorService, new CampaignSchedulingProperties(1, 1));
+        Campaign campaign = CampaignBuilder.builder().from(createCampaign(firstTestCase, secondTestCase, true, false)).setLongestScenariosFirst(true).build();
+        when(executionHistoryRepository.getMeanDurations(List.of(firstTestCase.id(), secondTestCase.id()), "env"))
+            .thenReturn(Map.of(firstTestCase.id(), 1000L, secondTestCase.id(), 5000L));
+
+        // When
+        CampaignExecution campaignExecution = sut.executeScenarioInCampaign(campaign, "user");
+
+        // Then
+        ArgumentCaptor<ExecutionRequest> executionRequests = ArgumentCaptor.forClass(ExecutionRequest.class);
+        verify(scenarioExecutionEngine, times(2)).executeAsync(executionRequests.capture());
+        assertThat(executionRequests.getAllValues())
+            .extracting(executionRequest -> executionRequest.testCase.id())
+            .containsExactly(secondTestCase.id(), firstTestCase.id());
+        assertThat(campaignExecution.getPredictedDuration()).hasValue(6000L);
+    }
+
+    @Test
+    public void should_keep_declared_scenarios_order_without_executions_history() {
+        // Given
+        sut = campaignExecutionEngine(executorService, new CampaignSchedulingProperties(1, 1));
+        Campaign campaign = CampaignBuilder.builder().from(createCampaign(firstTestCase, secondTestCase, true, false)).setLongestScenariosFirst(true).build();
+        when(executionHistoryRepository.getMeanDurations(any(), any())).thenReturn(Map.of());
+
+        // When
+        CampaignExecution campaignExecution = sut.executeScenarioInCampaign(campaign, "user");
+
+        // Then
+        ArgumentCaptor<ExecutionRequest> executionRequests = ArgumentCaptor.forClass(ExecutionRequest.class);
+        verify(scenarioExecutionEngine, times(2)).executeAsync(executionRequests.capture());
+        assertThat(executionRequests.getAllValues())
+            .extracting(executionRequest -> executionRequest.testCase.id())
+            .containsExactly(firstTestCase.id(), secondTestCase.id());
+        assertThat(campaignExecution.getPredictedDuration()).isEmpty();
+    }
+
+    @Test
+    public void should_not_query_executions_history_when_longest_scenarios_first_is_off() {
+        // Given
+        Campaign campaign = createCampaign(firstTestCase, secondTestCase, true, false);
+
+        // When
+        CampaignExecution campaignExecution = sut.executeScenarioInCampaign(campaign, "user");
+
+        // Then
+        verify(executionHistoryRepository, never()).getMeanDurations(any(), any());
+        assertThat(campaignExecution.getPredictedDuration()).isEmpty();
+    }
+
+    @Test
+    public void should_not_occupy_executor_threads_while_scenarios_are_running() {
+        // Given
+        ThreadPoolTaskExecutor singleThreadExecutor = new ThreadPoolTaskExecutor();
+        singleThreadExecutor.setCorePoolSize(1);
+        singleThreadExecutor.setMaxPoolSize(1);
+        singleThreadExecutor.initialize();
+        sut = campaignExecutionEngine(new ExecutorServiceAdapter(singleThreadExecutor), new CampaignSchedulingProperties(10, 10));
+        Campaign campaign = createCampaign(firstTestCase, secondTestCase, true, false);
+
+        when(scenarioExecutionEngine.executeAsync(any(ExecutionRequest.class))).then(scenarioExecutionReport(ServerReportStatus.SUCCESS, 1));
+
+        // When
+        StopWatch watch = new StopWatch();
+        watch.start();
+        sut.executeScenarioInCampaign(campaign, "user");
+        watch.stop();
+
+        // Then
+        verify(scenarioExecutionEngine, times(2)).executeAsync(any(ExecutionRequest.class));
+        assertThat(watch.getTotalTimeSeconds()).isLessThan(1.9);
+        singleThreadExecutor.shutdown();
+    }
+
     @Test
     public void should_throw_when_no_campaign_found_on_execute_by_id() {
         when(campaignRepository.findById(anyLong())).thenReturn(null);
@@ -507,8 +620,6 @@ public class CampaignExecutionEngineTest {
 
         when(campaignRepository.findById(campaign.id)).thenReturn(campaign);
         when(testCaseRepository.findExecutableById(gwtTestCase.id())).thenReturn(of(gwtTestCase));
-        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenReturn(mock(ScenarioExecutionReport.class));
-        when(executionHistoryRepository.getExecution(any(), any())).thenReturn(executionWithId(gwtTestCase.id(), 42L));
 
         when(datasetRepository.findById(eq("campaignDataSet"))).thenReturn(DataSet.builder().withName("campaignDataSet").build());
 
@@ -517,7 +628,7 @@ public class CampaignExecutionEngineTest {
 
         // Then
         ArgumentCaptor<ExecutionRequest> argumentCaptor = ArgumentCaptor.forClass(ExecutionRequest.class);
-        verify(scenarioExecutionEngine).execute(argumentCaptor.capture());
+        verify(scenarioExecutionEngine).executeAsync(argumentCaptor.capture());
         ExecutionRequest executionRequest = argumentCaptor.getValue();
         assertThat(executionRequest.dataset).isNotNull();
         assertThat(executionRequest.dataset.name).isEqualTo("campaignDataSet");
@@ -541,8 +652,6 @@ public class CampaignExecutionEngineTest {
 
         when(campaignRepository.findById(campaign.id)).thenReturn(campaign);
         when(testCaseRepository.findExecutableById(gwtTestCase.id())).thenReturn(of(gwtTestCase));
-        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenReturn(mock(ScenarioExecutionReport.class));
-        when(executionHistoryRepository.getExecution(any(), any())).thenReturn(executionWithId(gwtTestCase.id(), 42L));
 
         when(datasetRepository.findById(eq("scenarioInCampaignDataset"))).thenReturn(DataSet.builder().withName("scenarioInCampaignDataset").build());
 
@@ -551,7 +660,7 @@ public class CampaignExecutionEngineTest {
 
         // Then
         ArgumentCaptor<ExecutionRequest> argumentCaptor = ArgumentCaptor.forClass(ExecutionRequest.class);
-        verify(scenarioExecutionEngine).execute(argumentCaptor.capture());
+        verify(scenarioExecutionEngine).executeAsync(argumentCaptor.capture());
         ExecutionRequest executionRequest = argumentCaptor.getValue();
         assertThat(executionRequest.dataset).isNotNull();
         assertThat(executionRequest.dataset.name).isEqualTo("scenarioInCampaignDataset");
@@ -575,15 +684,13 @@ public class CampaignExecutionEngineTest {
 
         when(campaignRepository.findById(campaign.id)).thenReturn(campaign);
         when(testCaseRepository.findExecutableById(gwtTestCase.id())).thenReturn(of(gwtTestCase));
-        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenReturn(mock(ScenarioExecutionReport.class));
-        when(executionHistoryRepository.getExecution(any(), any())).thenReturn(executionWithId(gwtTestCase.id(), 42L));
 
         // When
         sut.executeById(campaign.id, "user");
 
         // Then
         ArgumentCaptor<ExecutionRequest> argumentCaptor = ArgumentCaptor.forClass(ExecutionRequest.class);
-        verify(scenarioExecutionEngine).execute(argumentCaptor.capture());
+        verify(scenarioExecutionEngine).executeAsync(argumentCaptor.capture());
         ExecutionRequest executionRequest = argumentCaptor.getValue();
         assertThat(executionRequest.dataset).isEqualTo(DataSet.NO_DATASET);
         assertThat(executionRequest.tags).containsExactly("TAG");
@@ -710,12 +817,26 @@ public class CampaignExecutionEngineTest {
         return (long) campaignIdGenerator.nextInt(1000);
     }
 
-    private ExecutionHistory.Execution executionWithId(String scenarioId, Long executionId) {
-        return executionWithId(scenarioId, executionId, ServerReportStatus.SUCCESS);
+    private Answer<CompletableFuture<ScenarioExecutionReport>> scenarioExecutionReport(ServerReportStatus status) {
+        return invocationOnMock -> completedFuture(scenarioExecutionReport(invocationOnMock.getArgument(0), status));
     }
 
-    private ExecutionHistory.Execution failedExecutionWithId(String scenarioId, Long executionId) {
-        return executionWithId(scenarioId, executionId, ServerReportStatus.FAILURE);
+    private Answer<CompletableFuture<ScenarioExecutionReport>> scenarioExecutionReport(ServerReportStatus status, long delayInSeconds) {
+        return invocationOnMock -> CompletableFuture.supplyAsync(
+            () -> scenarioExecutionReport(invocationOnMock.getArgument(0), status),
+            CompletableFuture.delayedExecutor(delayInSeconds, SECONDS)
+        );
+    }
+
+    private ScenarioExecutionReport scenarioExecutionReport(ExecutionRequest executionRequest, ServerReportStatus status) {
+        String scenarioId = executionRequest.testCase.id();
+        long executionId = firstTestCase.id().equals(scenarioId) ? firstScenarioExecutionId : secondTestCase.id().equals(scenarioId) ? secondScenarioExecutionId : 42L;
+        StepExecutionReportCore report = new StepExecutionReportCore("...", 3L, Instant.now(), status, emptyList(), emptyList(), emptyList(), null, null, null, null);
+        return new ScenarioExecutionReport(executionId, "...", executionRequest.environment, executionRequest.userId, executionRequest.tags, executionRequest.dataset, report);
+    }
+
+    private ExecutionHistory.Execution executionWithId(String scenarioId, Long executionId) {
+        return executionWithId(scenarioId, executionId, ServerReportStatus.SUCCESS);
     }
 
     private ExecutionHistory.Execution executionWithId(String scenarioId, Long executionId, ServerReportStatus status) {
@@ -732,6 +853,17 @@ public class CampaignExecutionEngineTest {
             .build();
     }
 
+    private static CampaignFailFastProperties.TagPolicy failFastTagPolicy(int maxConsecutiveFailures) {
+        CampaignFailFastProperties.TagPolicy tagPolicy = new CampaignFailFastProperties.TagPolicy();
+        tagPolicy.setMaxConsecutiveFailures(maxConsecutiveFailures);
+        return tagPolicy;
+    }
+
+    private CampaignExecutionEngine campaignExecutionEngine(ExecutorService executor, CampaignSchedulingProperties schedulingProperties) {
+        return new CampaignExecutionEngine(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, scenarioExecutionEngineAsync, testCaseRepository, jiraXrayPlugin, metrics,
+            new CampaignFairShareScheduler(executor, schedulingProperties, metrics), datasetRepository, executionHistoryRepository, new CampaignFailFastProperties());
+    }
+
     private GwtTestCase createGwtTestCase(String id) {
         return GwtTestCase.builder().withMetadata(TestCaseMetadataImpl.builder().withId(id).build()).build();
     }
@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
+import com.chutneytesting.server.core.domain.scenario.TestCaseMetadataImpl;
+import com.chutneytesting.server.core.domain.scenario.campaign.TestCaseDataset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CampaignExecutionPlanTest {
+
+    @Test
+    public void should_order_scenarios_longest_first() {
+        // Given
+        List<TestCaseDataset> scenarios = scenarios("short", "long", "medium");
+        Map<String, Long> meanDurations = Map.of("short", 10L, "long", 40L, "medium", 20L);
+
+        // When
+        CampaignExecutionPlan plan = CampaignExecutionPlan.longestFirst(scenarios, meanDurations, 2);
+
+        // Then
+        assertThat(scenarioIds(plan)).containsExactly("long", "medium", "short");
+        assertThat(plan.predictedDuration()).hasValue(40L);
+    }
+
+    @Test
+    public void should_predict_shorter_duration_than_declared_order() {
+        // Given
+        List<TestCaseDataset> scenarios = scenarios("a", "b", "c", "long");
+        Map<String, Long> meanDurations = Map.of("a", 10L, "b", 10L, "c", 10L, "long", 30L);
+
+        // When
+        CampaignExecutionPlan declaredOrder = CampaignExecutionPlan.declaredOrder(scenarios, meanDurations, 2);
+        CampaignExecutionPlan longestFirst = CampaignExecutionPlan.longestFirst(scenarios, meanDurations, 2);
+
+        // Then
+        assertThat(scenarioIds(declaredOrder)).containsExactly("a", "b", "c", "long");
+        assertThat(declaredOrder.predictedDuration()).hasValue(40L);
+        assertThat(longestFirst.predictedDuration()).hasValue(30L);
+    }
+
+    @Test
+    public void should_expect_mean_known_duration_for_scenarios_without_history() {
+        // Given
+        List<TestCaseDataset> scenarios = scenarios("short", "unknown", "long");
+        Map<String, Long> meanDurations = Map.of("short", 10L, "long", 50L);
+
+        // When
+        CampaignExecutionPlan plan = CampaignExecutionPlan.longestFirst(scenarios, meanDurations, 1);
+
+        // Then
+        assertThat(scenarioIds(plan)).containsExactly("long", "unknown", "short");
+        assertThat(plan.predictedDuration()).hasValue(90L);
+    }
+
+    @Test
+    public void should_keep_declared_order_for_same_durations() {
+        // Given
+        List<TestCaseDataset> scenarios = scenarios("first", "second", "third");
+        Map<String, Long> meanDurations = Map.of("first", 10L, "second", 10L, "third", 10L);
+
+        // When
+        CampaignExecutionPlan plan = CampaignExecutionPlan.longestFirst(scenarios, meanDurations, 3);
+
+        // Then
+        assertThat(scenarioIds(plan)).containsExactly("first", "second", "third");
+        assertThat(plan.predictedDuration()).hasValue(10L);
+    }
+
+    @Test
+    public void should_keep_declared_order_without_any_history() {
+        // Given
+        List<TestCaseDataset> scenarios = scenarios("first", "second");
+
+        // When
+        CampaignExecutionPlan plan = CampaignExecutionPlan.longestFirst(scenarios, Map.of(), 2);
+
+        // Then
+        assertThat(scenarioIds(plan)).containsExactly("first", "second");
+        assertThat(plan.predictedDuration()).isEmpty();
+    }
+
+    private static List<TestCaseDataset> scenarios(String... ids) {
+        return List.of(ids).stream()
+            .map(id -> new TestCaseDataset(GwtTestCase.builder().withMetadata(TestCaseMetadataImpl.builder().withId(id).build()).build(), null))
+            .toList();
+    }
+
+    private static List<String> scenarioIds(CampaignExecutionPlan plan) {
+        return plan.scenarios().stream().map(scenario -> scenario.testcase().id()).toList();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.scenario.domain.gwt.GwtScenario;
+import com.chutneytesting.scenario.domain.gwt.GwtStep;
+import com.chutneytesting.scenario.domain.gwt.GwtStepImplementation;
+import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
+import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
+import com.chutneytesting.server.core.domain.scenario.TestCaseMetadataImpl;
+import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
+import com.chutneytesting.server.core.domain.scenario.campaign.CampaignBuilder;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CampaignFailFastTest {
+
+    @Test
+    public void should_abort_after_consecutive_failures() {
+        // Given
+        CampaignFailFast sut = new CampaignFailFast(new CampaignFailFastProperties.CampaignFailFastPolicy(2, null, 10, false));
+
+        // When
+        var first = sut.onScenarioEnd(ServerReportStatus.FAILURE, emptySet());
+        var second = sut.onScenarioEnd(ServerReportStatus.SUCCESS, emptySet());
+        var third = sut.onScenarioEnd(ServerReportStatus.FAILURE, emptySet());
+        var fourth = sut.onScenarioEnd(ServerReportStatus.FAILURE, emptySet());
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(third).isEmpty();
+        assertThat(fourth).hasValue("2 consecutive scenarios failed");
+    }
+
+    @Test
+    public void should_abort_when_failure_rate_is_exceeded_after_minimum_scenarios() {
+        // Given
+        CampaignFailFast sut = new CampaignFailFast(new CampaignFailFastProperties.CampaignFailFastPolicy(null, 50, 4, false));
+
+        // When
+        var beforeMinimum = List.of(
+            sut.onScenarioEnd(ServerReportStatus.FAILURE, emptySet()),
+            sut.onScenarioEnd(ServerReportStatus.FAILURE, emptySet()),
+            sut.onScenarioEnd(ServerReportStatus.SUCCESS, emptySet())
+        );
+        var ignored = sut.onScenarioEnd(ServerReportStatus.NOT_EXECUTED, emptySet());
+        var afterMinimum = sut.onScenarioEnd(ServerReportStatus.FAILURE, emptySet());
+
+        // Then
+        assertThat(beforeMinimum).allMatch(Optional::isEmpty);
+        assertThat(ignored).isEmpty();
+        assertThat(afterMinimum).hasValue("3 scenarios failed on 4 executed, exceeding 50%");
+    }
+
+    @Test
+    public void should_give_abort_reason_only_once() {
+        // Given
+        CampaignFailFast sut = new CampaignFailFast(new CampaignFailFastProperties.CampaignFailFastPolicy(1, null, 10, false));
+
+        // When
+        var first = sut.onScenarioEnd(ServerReportStatus.FAILURE, emptySet());
+        var second = sut.onScenarioEnd(ServerReportStatus.FAILURE, emptySet());
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    public void should_find_scenarios_sharing_a_failing_target() {
+        // Given
+        CampaignFailFast sut = new CampaignFailFast(new CampaignFailFastProperties.CampaignFailFastPolicy(null, null, 10, true));
+        StepExecutionReportCore report = step(ServerReportStatus.FAILURE, null, List.of(
+            step(ServerReportStatus.SUCCESS, "DB", emptyList()),
+            step(ServerReportStatus.FAILURE, "API", emptyList())
+        ));
+
+        // When
+        sut.onScenarioEnd(ServerReportStatus.FAILURE, CampaignFailFast.failingTargets(report));
+
+        // Then
+        assertThat(CampaignFailFast.failingTargets(report)).containsExactly("API");
+        assertThat(sut.failingTarget(testCase("API", "OTHER"))).hasValue("API");
+        assertThat(sut.failingTarget(testCase("DB", "${#target}"))).isEmpty();
+    }
+
+    @Test
+    public void should_not_skip_scenarios_when_policy_does_not_ask_for_it() {
+        // Given
+        CampaignFailFast sut = new CampaignFailFast(new CampaignFailFastProperties.CampaignFailFastPolicy(null, null, 10, false));
+
+        // When
+        sut.onScenarioEnd(ServerReportStatus.FAILURE, Set.of("API"));
+
+        // Then
+        assertThat(sut.failingTarget(testCase("API"))).isEmpty();
+    }
+
+    @Test
+    public void should_extract_targets_of_scenario_steps() {
+        GwtTestCase testCase = testCase("API", "**target**", "");
+
+        assertThat(CampaignFailFast.targets(testCase)).containsExactly("API");
+    }
+
+    @Test
+    public void should_apply_strictest_values_of_defaults_and_campaign_tags() {
+        // Given
+        CampaignFailFastProperties properties = new CampaignFailFastProperties(10, null, 20, false);
+        properties.setTags(Map.of(
+            "FRAGILE", tagPolicy(3, 30, null),
+            "SMOKE", tagPolicy(5, null, true)
+        ));
+        Campaign campaign = CampaignBuilder.builder().setId(1L).setTitle("campaign").setTags(List.of("FRAGILE", "SMOKE")).build();
+        Campaign untagged = CampaignBuilder.builder().setId(2L).setTitle("other").build();
+
+        // When
+        var policy = properties.policyFor(campaign);
+        var defaultPolicy = properties.policyFor(untagged);
+
+        // Then
+        assertThat(policy).isEqualTo(new CampaignFailFastProperties.CampaignFailFastPolicy(3, 30, 20, true));
+        assertThat(defaultPolicy).isEqualTo(new CampaignFailFastProperties.CampaignFailFastPolicy(10, null, 20, false));
+    }
+
+    private static CampaignFailFastProperties.TagPolicy tagPolicy(Integer maxConsecutiveFailures, Integer maxFailureRate, Boolean skipFailingTargets) {
+        CampaignFailFastProperties.TagPolicy tagPolicy = new CampaignFailFastProperties.TagPolicy();
+        tagPolicy.setMaxConsecutiveFailures(maxConsecutiveFailures);
+        tagPolicy.setMaxFailureRate(maxFailureRate);
+        tagPolicy.setSkipFailingTargets(skipFailingTargets);
+        return tagPolicy;
+    }
+
+    private static StepExecutionReportCore step(ServerReportStatus status, String targetName, List<StepExecutionReportCore> steps) {
+        return new StepExecutionReportCore("step", 1L, Instant.now(), status, emptyList(), emptyList(), steps, "", targetName, "", "");
+    }
+
+    private static GwtTestCase testCase(String whenTarget, String... thenTargets) {
+        return GwtTestCase.builder()
+            .withMetadata(TestCaseMetadataImpl.builder().withId("1").build())
+            .withScenario(GwtScenario.builder()
+                .withWhen(GwtStep.builder().withDescription("when").withImplementation(implementation(whenTarget)).build())
+                .withThens(Arrays.stream(thenTargets)
+                    .map(target -> GwtStep.builder().withDescription("then")
+                        .withSubSteps(GwtStep.builder().withDescription("sub step").withImplementation(implementation(target)).build())
+                        .build())
+                    .toList())
+                .build())
+            .build();
+    }
+
+    private static GwtStepImplementation implementation(String target) {
+        return new GwtStepImplementation("http-get", target, null, null, null, null);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.campaign;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
+import com.chutneytesting.server.core.domain.scenario.campaign.CampaignBuilder;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CampaignFairShareSchedulerTest {
+
+    private final Queue<Runnable> startedScenarios = new ArrayDeque<>();
+    private final List<String> executedScenarios = new ArrayList<>();
+    private final ChutneyMetrics metrics = mock(ChutneyMetrics.class);
+    private CampaignSchedulingProperties properties;
+    private CampaignFairShareScheduler sut;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new CampaignSchedulingProperties(1, 10);
+        properties.setTags(Map.of(
+            "URGENT", tagPolicy(2, null),
+            "SLOW", tagPolicy(null, 2),
+            "CRITICAL", tagPolicy(3, 5)
+        ));
+        sut = new CampaignFairShareScheduler(startedScenarios::add, properties, metrics);
+    }
+
+    @Test
+    public void should_interleave_scenarios_of_campaigns_with_same_priority() {
+        // Given
+        CampaignFairShareScheduler.Lane first = sut.register(campaign(1L), 1L);
+        CampaignFairShareScheduler.Lane second = sut.register(campaign(2L), 2L);
+
+        // When
+        submit(first, "A1", "A2", "A3");
+        submit(second, "B1", "B2", "B3");
+        runAll(first, second);
+
+        // Then
+        assertThat(executedScenarios).containsExactly("A1", "B1", "A2", "B2", "A3", "B3");
+    }
+
+    @Test
+    public void should_serve_campaign_with_higher_priority_more_often() {
+        // Given
+        CampaignFairShareScheduler.Lane normal = sut.register(campaign(1L), 1L);
+        CampaignFairShareScheduler.Lane urgent = sut.register(campaign(2L, "URGENT"), 2L);
+
+        // When
+        submit(normal, "A1", "A2", "A3");
+        submit(urgent, "B1", "B2", "B3", "B4");
+        runAll(normal, urgent);
+
+        // Then
+        assertThat(executedScenarios).containsExactly("A1", "B1", "B2", "B3", "A2", "B4", "A3");
+    }
+
+    @Test
+    public void should_not_starve_campaign_registered_after_a_large_one() {
+        // Given
+        CampaignFairShareScheduler.Lane large = sut.register(campaign(1L), 1L);
+        submit(large, "A1", "A2", "A3", "A4", "A5");
+        runNext(large);
+        runNext(large);
+
+        // When
+        CampaignFairShareScheduler.Lane small = sut.register(campaign(2L), 2L);
+        submit(small, "B1");
+        runAll(large, small);
+
+        // Then
+        assertThat(executedScenarios.indexOf("B1")).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void should_cap_scenario_executions_in_flight_per_campaign() {
+        // Given
+        properties.setMaxConcurrentScenarios(10);
+        CampaignFairShareScheduler.Lane slow = sut.register(campaign(1L, "SLOW"), 1L);
+        CampaignFairShareScheduler.Lane other = sut.register(campaign(2L), 2L);
+
+        // When
+        submit(slow, "A1", "A2", "A3", "A4");
+        submit(other, "B1", "B2", "B3");
+
+        // Then
+        assertThat(startedScenarios).hasSize(5);
+        assertThat(sut.runningScenarios()).isEqualTo(5);
+        assertThat(sut.queueDepth()).isEqualTo(2);
+
+        // When
+        startedScenarios.poll().run();
+        slow.release();
+
+        // Then
+        assertThat(startedScenarios).hasSize(5);
+        assertThat(sut.queueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_cap_scenario_executions_in_flight_for_all_campaigns() {
+        // Given
+        properties.setMaxConcurrentScenarios(3);
+        CampaignFairShareScheduler.Lane first = sut.register(campaign(1L), 1L);
+        CampaignFairShareScheduler.Lane second = sut.register(campaign(2L), 2L);
+
+        // When
+        submit(first, "A1", "A2", "A3");
+        submit(second, "B1", "B2", "B3");
+
+        // Then
+        assertThat(startedScenarios).hasSize(3);
+        assertThat(sut.queueDepth()).isEqualTo(3);
+    }
+
+    @Test
+    public void should_run_one_scenario_at_a_time_for_sequential_campaign() {
+        // Given
+        properties.setMaxConcurrentScenarios(10);
+        Campaign sequential = CampaignBuilder.builder().setId(1L).setTitle("sequential").setParallelRun(false).build();
+        CampaignFairShareScheduler.Lane lane = sut.register(sequential, 1L);
+
+        // When
+        submit(lane, "A1", "A2");
+
+        // Then
+        assertThat(lane.policy().maxInFlight()).isEqualTo(1);
+        assertThat(startedScenarios).hasSize(1);
+    }
+
+    @Test
+    public void should_apply_highest_priority_and_lowest_cap_of_campaign_tags() {
+        CampaignSchedulingProperties.CampaignSchedulingPolicy policy = properties.policyFor(campaign(1L, "URGENT", "SLOW", "CRITICAL"));
+
+        assertThat(policy.priority()).isEqualTo(3);
+        assertThat(policy.maxInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_drop_queued_scenarios_when_lane_is_closed() {
+        // Given
+        CampaignFairShareScheduler.Lane lane = sut.register(campaign(1L), 1L);
+        submit(lane, "A1", "A2", "A3");
+
+        // When
+        lane.close();
+
+        // Then
+        assertThat(sut.queueDepth()).isZero();
+        verify(metrics, times(2)).onCampaignSchedulerQueueUpdated(0);
+    }
+
+    @Test
+    public void should_report_queue_depth_and_wait_time_metrics() {
+        // Given
+        Campaign campaign = campaign(1L);
+        CampaignFairShareScheduler.Lane lane = sut.register(campaign, 1L);
+
+        // When
+        submit(lane, "A1", "A2");
+        runAll(lane);
+
+        // Then
+        verify(metrics, times(2)).onCampaignSchedulerQueueUpdated(1);
+        verify(metrics, times(2)).onCampaignSchedulerQueueUpdated(0);
+        verify(metrics, times(2)).onCampaignScenarioDequeued(eq(campaign), any(Duration.class));
+    }
+
+    private void submit(CampaignFairShareScheduler.Lane lane, String... scenarios) {
+        for (String scenario : scenarios) {
+            lane.submit(() -> executedScenarios.add(scenario));
+        }
+    }
+
+    private void runNext(CampaignFairShareScheduler.Lane lane) {
+        startedScenarios.poll().run();
+        lane.release();
+    }
+
+    /**
+     * Run started scenarios one after the other, releasing the lane of each executed one
+     */
+    private void runAll(CampaignFairShareScheduler.Lane... lanes) {
+        while (!startedScenarios.isEmpty()) {
+            startedScenarios.poll().run();
+            String executed = executedScenarios.get(executedScenarios.size() - 1);
+            lanes[executed.charAt(0) - 'A'].release();
+        }
+    }
+
+    private static Campaign campaign(Long id, String... tags) {
+        return CampaignBuilder.builder()
+            .setId(id)
+            .setTitle("campaign " + id)
+            .setParallelRun(true)
+            .setTags(List.of(tags))
+            .build();
+    }
+
+    private static CampaignSchedulingProperties.TagPolicy tagPolicy(Integer priority, Integer maxInFlight) {
+        CampaignSchedulingProperties.TagPolicy tagPolicy = new CampaignSchedulingProperties.TagPolicy();
+        tagPolicy.setPriority(priority);
+        tagPolicy.setMaxInFlight(maxInFlight);
+        return tagPolicy;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.domain.purge;
+
+import static com.chutneytesting.execution.domain.purge.PurgeServiceImpl.ONE_DAY_MILLIS;
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.FAILURE;
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
+import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
+import com.chutneytesting.scenario.infra.raw.DatabaseTestCaseRepository;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
+import com.chutneytesting.server.core.domain.execution.history.PurgeService.PurgeReport;
+import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import util.infra.AbstractLocalDatabaseTest;
+import util.infra.EnableH2MemTestInfra;
+import util.infra.EnablePostgreSQLTestInfra;
+import util.infra.EnableSQLiteTestInfra;
+
+public class DatabasePurgeServiceTest {
+
+    @Nested
+    @EnableH2MemTestInfra
+    class H2 extends AllTests {
+    }
+
+    @Nested
+    @EnableSQLiteTestInfra
+    class SQLite extends AllTests {
+    }
+
+    @Nested
+    @EnablePostgreSQLTestInfra
+    class PostgreSQL extends AllTests {
+    }
+
+    abstract class AllTests extends AbstractLocalDatabaseTest {
+
+        private static final int BATCH_SIZE = 2;
+
+        @Autowired
+        private ExecutionHistoryRepository executionHistoryRepository;
+        @Autowired
+        private CampaignExecutionRepository campaignExecutionRepository;
+        @Autowired
+        private DatabaseTestCaseRepository databaseTestCaseRepository;
+
+        private final LocalDateTime now = LocalDateTime.now();
+        private final LocalDateTime old = now.minusDays(2);
+
+        @BeforeEach
+        @AfterEach
+        void cleanDatabase() {
+            clearTables();
+        }
+
+        @Test
+        void purge_all_executions_when_zero_configuration() {
+            String scenarioId = givenScenario().getId().toString();
+            Long campaignId = givenCampaign().id();
+            givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, old));
+            givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, old.plusHours(1)));
+            givenScenarioExecution(scenarioId, FAILURE, old.plusHours(2), "env");
+            givenScenarioExecution(scenarioId, FAILURE, old.plusHours(3), "env");
+
+            PurgeReport report = purge(0, 0, 0);
+
+            // Scenario executions of purged campaign executions are then purged as manual executions
+            assertThat(report).isEqualTo(new PurgeReport(4, 2));
+            assertThat(campaignExecutionsIds()).isEmpty();
+            assertThat(scenarioExecutionsIds()).isEmpty();
+        }
+
+        @Test
+        void purge_scenario_executions_without_environment_as_one_environment() {
+            String scenarioId = givenScenario().getId().toString();
+            givenScenarioExecution(scenarioId, FAILURE, old, null);
+            Long withoutEnvironment = givenScenarioExecution(scenarioId, FAILURE, old.plusHours(1), null);
+            Long withEnvironment = givenScenarioExecution(scenarioId, FAILURE, old.minusHours(1), "env");
+
+            PurgeReport report = purge(1, 10, 0);
+
+            assertThat(report).isEqualTo(new PurgeReport(1, 0));
+            assertThat(scenarioExecutionsIds()).containsExactlyInAnyOrder(withoutEnvironment, withEnvironment);
+        }
+
+        @Test
+        void purge_campaign_executions_without_environment_as_one_environment() {
+            String scenarioId = givenScenario().getId().toString();
+            Long campaignId = givenCampaign().id();
+            givenCampaignExecution(campaignId, false, null, scenarioExecution(scenarioId, FAILURE, old));
+            Long withoutEnvironment = givenCampaignExecution(campaignId, false, null, scenarioExecution(scenarioId, FAILURE, old.plusHours(1)));
+            Long withEnvironment = givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, old.minusHours(1)));
+
+            PurgeReport report = purge(10, 1, 0);
+
+            assertThat(report).isEqualTo(new PurgeReport(0, 1));
+            assertThat(campaignExecutionsIds()).containsExactlyInAnyOrder(withoutEnvironment, withEnvironment);
+            assertThat(scenarioExecutionsIds()).hasSize(3);
+        }
+
+        @Test
+        void purge_only_manual_scenario_executions_with_scenario_configuration() {
+            String scenarioId = givenScenario().getId().toString();
+            Long campaignId = givenCampaign().id();
+            givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, old.minusHours(2)));
+            givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, old.minusHours(1)));
+            Long oldestManual = givenScenarioExecution(scenarioId, FAILURE, old, "env");
+            Long olderManual = givenScenarioExecution(scenarioId, FAILURE, old.plusHours(1), "env");
+            Long lastManual = givenScenarioExecution(scenarioId, FAILURE, old.plusHours(2), "env");
+
+            PurgeReport report = purge(1, 10, 0);
+
+            assertThat(report).isEqualTo(new PurgeReport(2, 0));
+            assertThat(scenarioExecutionsIds()).hasSize(3)
+                .contains(lastManual)
+                .doesNotContain(oldestManual, olderManual);
+            assertThat(campaignExecutionsIds()).hasSize(2);
+        }
+
+        @Test
+        void keep_scenario_executions_of_purged_campaign_executions_within_scenario_configuration() {
+            String scenarioId = givenScenario().getId().toString();
+            Long campaignId = givenCampaign().id();
+            givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, old));
+            givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, old.plusHours(1)));
+            Long lastCampaignExecution = givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, old.plusHours(2)));
+
+            PurgeReport report = purge(10, 1, 0);
+
+            assertThat(report).isEqualTo(new PurgeReport(0, 2));
+            assertThat(campaignExecutionsIds()).containsExactly(lastCampaignExecution);
+            assertThat(scenarioExecutionsIds()).hasSize(3);
+        }
+
+        @Test
+        void purge_scenario_executions_of_deleted_scenarios() {
+            String scenarioId = givenScenario().getId().toString();
+            givenScenarioExecution(scenarioId, FAILURE, old, "env");
+            Long last = givenScenarioExecution(scenarioId, FAILURE, old.plusHours(1), "env");
+            databaseTestCaseRepository.removeById(scenarioId);
+
+            PurgeReport report = purge(1, 10, 0);
+
+            assertThat(report).isEqualTo(new PurgeReport(1, 0));
+            assertThat(scenarioExecutionsIds()).containsExactly(last);
+        }
+
+        @Test
+        void no_purge_when_only_scenario_executions_newer_than_max_date() {
+            String scenarioId = givenScenario().getId().toString();
+            givenScenarioExecution(scenarioId, SUCCESS, now.minusHours(23), "env");
+            givenScenarioExecution(scenarioId, SUCCESS, now.minusMinutes(50), "env");
+            givenScenarioExecution(scenarioId, SUCCESS, now.minusSeconds(10), "env");
+            givenScenarioExecution(scenarioId, SUCCESS, now, "env");
+
+            PurgeReport report = purge(2, 10, ONE_DAY_MILLIS);
+
+            assertThat(report).isEqualTo(new PurgeReport(0, 0));
+            assertThat(scenarioExecutionsIds()).hasSize(4);
+        }
+
+        @Test
+        void purge_only_scenario_executions_older_than_max_date() {
+            String scenarioId = givenScenario().getId().toString();
+            Long oldest = givenScenarioExecution(scenarioId, SUCCESS, old.minusSeconds(30), "env");
+            givenScenarioExecution(scenarioId, SUCCESS, old, "env");
+            givenScenarioExecution(scenarioId, SUCCESS, now.minusSeconds(10), "env");
+            givenScenarioExecution(scenarioId, SUCCESS, now, "env");
+
+            PurgeReport report = purge(1, 10, ONE_DAY_MILLIS);
+
+            assertThat(report).isEqualTo(new PurgeReport(1, 0));
+            assertThat(scenarioExecutionsIds()).hasSize(3)
+                .doesNotContain(oldest);
+        }
+
+        @Test
+        void purge_only_campaign_executions_older_than_max_date() {
+            String scenarioId = givenScenario().getId().toString();
+            Long campaignId = givenCampaign().id();
+            Long oldest = givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, old));
+            givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, old.plusHours(1)));
+            givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, now.minusHours(1)));
+            givenCampaignExecution(campaignId, false, "env", scenarioExecution(scenarioId, FAILURE, now));
+
+            PurgeReport report = purge(10, 1, ONE_DAY_MILLIS);
+
+            assertThat(report).isEqualTo(new PurgeReport(0, 1));
+            assertThat(campaignExecutionsIds()).hasSize(3)
+                .doesNotContain(oldest);
+        }
+
+        private PurgeReport purge(int maxScenarioExecutions, int maxCampaignExecutions, int beforeNowMinusOffset) {
+            return new PurgeServiceImpl(
+                executionHistoryRepository,
+                campaignExecutionRepository,
+                maxScenarioExecutions,
+                beforeNowMinusOffset,
+                maxCampaignExecutions,
+                beforeNowMinusOffset,
+                BATCH_SIZE
+            ).purge();
+        }
+
+        private Long givenScenarioExecution(String scenarioId, ServerReportStatus status, LocalDateTime time, String environment) {
+            return transactionTemplate.execute(ts -> {
+                ScenarioExecutionEntity scenarioExecution = new ScenarioExecutionEntity(null, scenarioId, null, toMillis(time), 0L, status, null, null, "", environment, "user", null, null, null);
+                entityManager.persist(scenarioExecution);
+                return scenarioExecution.id();
+            });
+        }
+
+        private Long givenCampaignExecution(Long campaignId, boolean partial, String environment, ScenarioExecutionEntity... scenarioExecutions) {
+            return transactionTemplate.execute(ts -> {
+                CampaignExecutionEntity campaignExecution = new CampaignExecutionEntity(null, campaignId, new ArrayList<>(), partial, environment, "user", null, null);
+                entityManager.persist(campaignExecution);
+                for (ScenarioExecutionEntity scenarioExecution : scenarioExecutions) {
+                    entityManager.persist(new ScenarioExecutionEntity(null, scenarioExecution.scenarioId(), campaignExecution, scenarioExecution.executionTime(), 0L, scenarioExecution.status(), null, null, "", environment, "user", null, null, null));
+                }
+                return campaignExecution.id();
+            });
+        }
+
+        private ScenarioExecutionEntity scenarioExecution(String scenarioId, ServerReportStatus status, LocalDateTime time) {
+            return new ScenarioExecutionEntity(null, scenarioId, null, toMillis(time), 0L, status, null, null, "", "", "", null, null, null);
+        }
+
+        private List<Long> scenarioExecutionsIds() {
+            return namedParameterJdbcTemplate.getJdbcTemplate().queryForList("SELECT ID FROM SCENARIO_EXECUTIONS", Long.class);
+        }
+
+        private List<Long> campaignExecutionsIds() {
+            return namedParameterJdbcTemplate.getJdbcTemplate().queryForList("SELECT ID FROM CAMPAIGN_EXECUTIONS", Long.class);
+        }
+
+        private long toMillis(LocalDateTime time) {
+            return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.execution.infra.attachment;
+
+import static com.chutneytesting.server.core.domain.tools.ZipUtils.MANIFEST_ENTRY_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.server.core.domain.execution.report.Attachment;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileAttachmentRepositoryTest {
+
+    @TempDir
+    private Path storeFolder;
+
+    @Test
+    void should_find_saved_attachment() {
+        FileAttachmentRepository sut = new FileAttachmentRepository(storeFolder.toString());
+        byte[] content = {(byte) 0x89, 'P', 'N', 'G', '\n', 0, 1};
+
+        String id = sut.save(42L, "image/png", content);
+
+        assertThat(sut.findById(id)).hasValueSatisfying(attachment -> {
+            assertThat(attachment.id()).isEqualTo(id);
+            assertThat(attachment.mediaType()).isEqualTo("image/png");
+            assertThat(attachment.content()).isEqualTo(content);
+        });
+    }
+
+    @Test
+    void should_store_same_content_once_per_execution() throws IOException {
+        FileAttachmentRepository sut = new FileAttachmentRepository(storeFolder.toString());
+        byte[] content = {1, 2, 3};
+
+        String firstId = sut.save(42L, "image/png", content);
+        String secondId = sut.save(42L, "image/png", content.clone());
+        String otherExecutionId = sut.save(43L, "image/png", content.clone());
+
+        assertThat(secondId).isEqualTo(firstId);
+        assertThat(otherExecutionId).isNotEqualTo(firstId);
+        try (Stream<Path> files = Files.list(storeFolder.resolve("42"))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void should_not_find_unknown_or_invalid_attachment() {
+        FileAttachmentRepository sut = new FileAttachmentRepository(storeFolder.toString());
+
+        assertThat(sut.findById("42-" + "0".repeat(64))).isEmpty();
+        assertThat(sut.findById("0".repeat(64))).isEmpty();
+        assertThat(sut.findById("../attachments")).isEmpty();
+        assertThat(sut.findById(null)).map(Attachment::id).isEmpty();
+    }
+
+    @Test
+    void should_delete_attachments_of_executions() {
+        FileAttachmentRepository sut = new FileAttachmentRepository(storeFolder.toString());
+        String deletedId = sut.save(42L, "image/png", new byte[]{1, 2, 3});
+        String keptId = sut.save(43L, "image/png", new byte[]{1, 2, 3});
+
+        sut.deleteByExecutionIds(Set.of(42L, 44L));
+
+        assertThat(sut.findById(deletedId)).isEmpty();
+        assertThat(sut.findById(keptId)).isPresent();
+        assertThat(storeFolder.resolve("42")).doesNotExist();
+    }
+
+    @Test
+    void should_backup_attachments_created_since_given_instant() throws IOException {
+        FileAttachmentRepository sut = new FileAttachmentRepository(storeFolder.toString());
+        String oldId = sut.save(42L, "image/png", new byte[]{1, 2, 3});
+        Files.setLastModifiedTime(storeFolder.resolve("42").resolve(oldId.substring(3)), FileTime.from(Instant.parse("2024-01-01T00:00:00Z")));
+        String newId = sut.save(43L, "image/png", new byte[]{4, 5, 6});
+
+        ByteArrayOutputStream fullBackup = new ByteArrayOutputStream();
+        sut.backup(fullBackup);
+        ByteArrayOutputStream incrementalBackup = new ByteArrayOutputStream();
+        sut.backup(incrementalBackup, Instant.parse("2024-06-01T00:00:00Z"));
+
+        String folder = storeFolder.getFileName().toString();
+        assertThat(zipEntries(fullBackup)).containsExactlyInAnyOrder(
+            Path.of(folder, "42", oldId.substring(3)).toString(),
+            Path.of(folder, "43", newId.substring(3)).toString()
+        );
+        assertThat(zipEntries(incrementalBackup)).containsExactly(
+            Path.of(folder, "43", newId.substring(3)).toString(),
+            Path.of(folder, MANIFEST_ENTRY_NAME).toString()
+        );
+    }
+
+    private static List<String> zipEntries(ByteArrayOutputStream zip) throws IOException {
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.add(entry.getName());
+            }
+        }
+        return entries;
+    }
+}
@@ -25,6 +25,7 @@ import com.chutneytesting.campaign.infra.jpa.CampaignEntity;
 import com.chutneytesting.execution.domain.campaign.CampaignExecutionNotFoundException;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import com.chutneytesting.index.infra.ScenarioExecutionReportIndexRepository;
 import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
 import com.chutneytesting.scenario.infra.raw.DatabaseTestCaseRepository;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
@@ -33,6 +34,7 @@ import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.Execution;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
+import com.chutneytesting.server.core.domain.execution.report.AttachmentRepository;
 import com.chutneytesting.server.core.domain.execution.report.ReportNotFoundException;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
@@ -104,6 +106,12 @@ public class DatabaseExecutionHistoryRepositoryTest {
         @Autowired
         private DatabaseTestCaseRepository databaseTestCaseRepository;
 
+        @Autowired
+        private ScenarioExecutionReportIndexRepository scenarioExecutionReportIndexRepository;
+
+        @Autowired
+        private AttachmentRepository attachmentRepository;
+
         @AfterEach
         void afterEach() {
             clearTables();
@@ -194,6 +202,20 @@ public class DatabaseExecutionHistoryRepositoryTest {
         }
 
 
+        @Test
+        public void mean_durations_only_consider_ended_executions_on_environment() {
+            String scenarioIdOne = givenScenarioId();
+            sut.store(scenarioIdOne, buildDetachedExecution(SUCCESS, 100L, "env"));
+            sut.store(scenarioIdOne, buildDetachedExecution(FAILURE, 200L, "env"));
+            sut.store(scenarioIdOne, buildDetachedExecution(RUNNING, 1000L, "env"));
+            sut.store(scenarioIdOne, buildDetachedExecution(SUCCESS, 1000L, "other env"));
+            String scenarioIdTwo = givenScenarioId();
+            sut.store(scenarioIdTwo, buildDetachedExecution(NOT_EXECUTED, 0L, "env"));
+
+            Map<String, Long> meanDurations = sut.getMeanDurations(List.of(scenarioIdOne, scenarioIdTwo), "env");
+            assertThat(meanDurations).containsExactly(Map.entry(scenarioIdOne, 150L));
+        }
+
         @Test
         public void last_execution_return_last_running_even_if_it_is_not_the_last_exec() {
             String scenarioIdOne = givenScenarioId();
@@ -261,6 +283,28 @@ public class DatabaseExecutionHistoryRepositoryTest {
             ).containsExactly("updated", "exec2", "exec1");
         }
 
+        @Test
+        public void batch_store_and_update_executions_of_several_scenarios() {
+            String scenarioIdOne = givenScenario().getId().toString();
+            String scenarioIdTwo = givenScenario().getId().toString();
+
+            List<Execution> stored = sut.store(List.of(
+                ImmutableExecutionHistory.DetachedScenarioExecution.builder().scenarioId(scenarioIdOne).detachedExecution(buildDetachedExecution(NOT_EXECUTED, "exec1", "")).build(),
+                ImmutableExecutionHistory.DetachedScenarioExecution.builder().scenarioId(scenarioIdTwo).detachedExecution(buildDetachedExecution(NOT_EXECUTED, "exec2", "")).build()
+            ));
+
+            assertThat(stored).extracting(Execution::scenarioId).containsExactly(scenarioIdOne, scenarioIdTwo);
+            assertThat(stored).extracting(Execution::executionId).doesNotContainNull().doesNotHaveDuplicates();
+
+            sut.update(List.of(
+                buildDetachedExecution(NOT_EXECUTED, "updated1", "").attach(stored.get(0).executionId(), scenarioIdOne),
+                buildDetachedExecution(NOT_EXECUTED, "updated2", "").attach(stored.get(1).executionId(), scenarioIdTwo)
+            ));
+
+            assertThat(sut.getExecution(scenarioIdOne, stored.get(0).executionId()).info()).hasValue("updated1");
+            assertThat(sut.getExecution(scenarioIdTwo, stored.get(1).executionId()).info()).hasValue("updated2");
+        }
+
         @Test
         public void update_on_empty_history_throws() {
             String scenarioId = givenScenarioId();
@@ -465,6 +509,32 @@ public class DatabaseExecutionHistoryRepositoryTest {
             ).isInstanceOf(ReportNotFoundException.class));
         }
 
+        @Test
+        void deleted_executions_are_removed_from_reports_index() {
+            String scenarioId = givenScenarioId();
+            Execution exec1 = sut.store(scenarioId, buildDetachedExecution(SUCCESS, "exec1", ""));
+            Execution exec2 = sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec2", ""));
+            assertThat(scenarioExecutionReportIndexRepository.idsByKeywordInReport("scenario")).containsExactlyInAnyOrder(exec1.executionId(), exec2.executionId());
+
+            sut.deleteExecutions(Set.of(exec1.executionId(), exec2.executionId()));
+
+            assertThat(scenarioExecutionReportIndexRepository.idsByKeywordInReport("scenario")).isEmpty();
+        }
+
+        @Test
+        void deleted_executions_attachments_are_removed() {
+            String scenarioId = givenScenarioId();
+            Execution deletedExecution = sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec1", ""));
+            Execution keptExecution = sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec2", ""));
+            String deletedAttachmentId = attachmentRepository.save(deletedExecution.executionId(), "image/png", new byte[]{1, 2, 3});
+            String keptAttachmentId = attachmentRepository.save(keptExecution.executionId(), "image/png", new byte[]{1, 2, 3});
+
+            sut.deleteExecutions(Set.of(deletedExecution.executionId()));
+
+            assertThat(attachmentRepository.findById(deletedAttachmentId)).isEmpty();
+            assertThat(attachmentRepository.findById(keptAttachmentId)).isPresent();
+        }
+
         @Nested
         @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
         @DisplayName("Delete associated campaign execution when scenario execution is the only one left")
@@ -535,6 +605,107 @@ public class DatabaseExecutionHistoryRepositoryTest {
 
         }
 
+        @Nested
+        @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+        @DisplayName("Select executions to purge")
+        class ExecutionsToPurge {
+
+            private final LocalDateTime now = LocalDateTime.now();
+
+            @Test
+            void scan_scenarios_having_executions_by_pages() {
+                // GIVEN
+                List<String> scenariosIds = IntStream.range(0, 3)
+                    .mapToObj(i -> givenScenario().getId().toString())
+                    .sorted()
+                    .toList();
+                scenariosIds.forEach(scenarioId -> sut.store(scenarioId, buildDetachedExecution(SUCCESS, now, "env")));
+                givenScenario();
+
+                // WHEN
+                List<String> firstPage = sut.getScenariosWithExecutions(null, 2);
+                List<String> secondPage = sut.getScenariosWithExecutions(firstPage.get(1), 2);
+
+                // THEN
+                assertThat(firstPage).containsExactlyElementsOf(scenariosIds.subList(0, 2));
+                assertThat(secondPage).containsExactly(scenariosIds.get(2));
+            }
+
+            @Test
+            void select_oldest_executions_by_environment_keeping_the_last_success() {
+                // GIVEN
+                String scenarioId = givenScenario().getId().toString();
+                Long oldestFailure = sut.store(scenarioId, buildDetachedExecution(FAILURE, now.minusHours(50), "env")).executionId();
+                sut.store(scenarioId, buildDetachedExecution(SUCCESS, now.minusHours(40), "env"));
+                Long olderFailure = sut.store(scenarioId, buildDetachedExecution(FAILURE, now.minusHours(30), "env")).executionId();
+                sut.store(scenarioId, buildDetachedExecution(FAILURE, now.minusHours(20), "env"));
+                sut.store(scenarioId, buildDetachedExecution(FAILURE, now.minusHours(10), "env"));
+                sut.store(scenarioId, buildDetachedExecution(FAILURE, now, "env"));
+                sut.store(scenarioId, buildDetachedExecution(FAILURE, now.minusHours(60), "other_env"));
+                sut.store(scenarioId, buildDetachedExecution(FAILURE, now.minusHours(55), "other_env"));
+                sut.store(scenarioId, buildDetachedExecution(FAILURE, now.minusHours(70), "")); // alone in its environment
+
+                // WHEN
+                List<Long> executionsToPurge = sut.getExecutionsToPurge(List.of(scenarioId), 2, now.minusHours(1), 0, 10);
+
+                // THEN
+                assertThat(executionsToPurge).containsExactly(oldestFailure, olderFailure);
+            }
+
+            @Test
+            void ignore_executions_of_campaign_executions() {
+                // GIVEN
+                ScenarioEntity scenario = givenScenario();
+                CampaignEntity campaign = givenCampaign(scenario);
+                Long campaignExecutionId = campaignExecutionDBRepository.generateCampaignExecutionId(campaign.id(), "env");
+                CampaignExecution campaignExecution = CampaignExecutionReportBuilder.builder()
+                    .executionId(campaignExecutionId)
+                    .campaignId(campaign.id())
+                    .campaignName(campaign.title())
+                    .environment("env")
+                    .userId("user")
+                    .build();
+                String scenarioId = scenario.getId().toString();
+                sut.store(scenarioId, ImmutableExecutionHistory.DetachedExecution.builder()
+                    .from(buildDetachedExecution(FAILURE, now.minusHours(30), "env"))
+                    .campaignReport(campaignExecution)
+                    .build());
+                Long outsideCampaign = sut.store(scenarioId, buildDetachedExecution(FAILURE, now.minusHours(20), "env")).executionId();
+
+                // WHEN
+                List<Long> executionsToPurge = sut.getExecutionsToPurge(List.of(scenarioId), 0, null, 0, 10);
+
+                // THEN
+                assertThat(executionsToPurge).containsExactly(outsideCampaign);
+            }
+
+            @Test
+            void select_executions_by_batches() {
+                // GIVEN
+                String scenarioId = givenScenario().getId().toString();
+                List<Long> executionsIds = IntStream.range(0, 3)
+                    .mapToObj(i -> sut.store(scenarioId, buildDetachedExecution(FAILURE, now.minusHours(i), "env")).executionId())
+                    .sorted()
+                    .toList();
+
+                // WHEN
+                List<Long> firstBatch = sut.getExecutionsToPurge(List.of(scenarioId), 0, null, 0, 2);
+                List<Long> secondBatch = sut.getExecutionsToPurge(List.of(scenarioId), 0, null, firstBatch.get(1), 2);
+
+                // THEN
+                assertThat(firstBatch).containsExactlyElementsOf(executionsIds.subList(0, 2));
+                assertThat(secondBatch).containsExactly(executionsIds.get(2));
+            }
+
+            private DetachedExecution buildDetachedExecution(ServerReportStatus status, LocalDateTime time, String environment) {
+                return ImmutableExecutionHistory.DetachedExecution.builder()
+                    .from(AllTests.this.buildDetachedExecution(status, "", ""))
+                    .time(time)
+                    .environment(environment)
+                    .build();
+            }
+        }
+
         @Nested
         @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
         @DisplayName("Find scenario execution with report match")
@@ -558,6 +729,23 @@ public class DatabaseExecutionHistoryRepositoryTest {
                 assertThat(executionSummaryList.get(0).scenarioId()).isEqualTo(exec1.scenarioId());
             }
 
+            @Test
+            void batch_stored_reports_are_searchable() {
+                var scenarioId1 = givenScenario().getId().toString();
+                var scenarioId2 = givenScenario().getId().toString();
+                List<Execution> stored = sut.store(List.of(
+                    ImmutableExecutionHistory.DetachedScenarioExecution.builder().scenarioId(scenarioId1).detachedExecution(buildDetachedExecution("toto")).build(),
+                    ImmutableExecutionHistory.DetachedScenarioExecution.builder().scenarioId(scenarioId2).detachedExecution(buildDetachedExecution("tutu")).build(),
+                    ImmutableExecutionHistory.DetachedScenarioExecution.builder().scenarioId(scenarioId2).detachedExecution(buildNotExecutedDetachedExecution("titi")).build()
+                ));
+
+                var executionSummaryList = sut.getExecutionReportMatchKeyword("t");
+
+                assertThat(executionSummaryList)
+                    .map(ExecutionSummary::executionId)
+                    .containsExactlyInAnyOrder(stored.get(0).executionId(), stored.get(1).executionId());
+            }
+
             @Test
             void filter_unactivated_scenario_execution() {
                 var scenarioId1 = givenScenario().getId().toString();
@@ -602,6 +790,13 @@ public class DatabaseExecutionHistoryRepositoryTest {
                     .containsExactlyElementsOf(expectedOrder);
             }
 
+            private DetachedExecution buildNotExecutedDetachedExecution(String report) {
+                return ImmutableExecutionHistory.DetachedExecution.builder()
+                    .from(buildDetachedExecution(report))
+                    .status(NOT_EXECUTED)
+                    .build();
+            }
+
             private DetachedExecution buildDetachedExecution(String report) {
                 return ImmutableExecutionHistory.DetachedExecution.builder()
                     .time(LocalDateTime.now())
@@ -632,6 +827,14 @@ public class DatabaseExecutionHistoryRepositoryTest {
                 .build();
         }
 
+        private DetachedExecution buildDetachedExecution(ServerReportStatus status, long duration, String environment) {
+            return ImmutableExecutionHistory.DetachedExecution.builder()
+                .from(buildDetachedExecution(status, "", ""))
+                .duration(duration)
+                .environment(environment)
+                .build();
+        }
+
         private String buildReport() {
             StepExecutionReportCore successStepReport =
                 stepReport("root step Title", -1L, SUCCESS,
@@ -8,8 +8,10 @@
 package com.chutneytesting.globalvar.infra;
 
 import static com.chutneytesting.globalvar.infra.FileGlobalVarRepository.ROOT_DIRECTORY_NAME;
+import static com.chutneytesting.server.core.domain.tools.ZipUtils.MANIFEST_ENTRY_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.awaitility.Awaitility.await;
 
 import com.chutneytesting.tools.ThrowingConsumer;
 import java.io.IOException;
@@ -17,8 +19,11 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -33,6 +38,7 @@ public class FileGlobalVarRepositoryTest {
 
     @AfterEach
     public void tearDown() throws IOException {
+        sut.destroy();
         Files.walk(Paths.get(STORE_PATH + "/" + ROOT_DIRECTORY_NAME))
             .filter(Files::isRegularFile)
             .forEach(ThrowingConsumer.toUnchecked(Files::delete));
@@ -135,6 +141,41 @@ public class FileGlobalVarRepositoryTest {
         );
     }
 
+    @Test
+    public void should_keep_flat_map_in_memory_until_a_file_is_modified() {
+        // G
+        sut.saveFile(FILE_NAME, "{key1: \"value1\"}");
+
+        // W
+        // Once the folder watcher has notified the save
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() ->
+            assertThat(sut.getFlatMap()).isSameAs(sut.getFlatMap())
+        );
+        sut.saveFile("another_file", "{key2: \"value2\"}");
+        Map<String, String> resultAfterSave = sut.getFlatMap();
+        sut.deleteFile(FILE_NAME);
+        Map<String, String> resultAfterDelete = sut.getFlatMap();
+
+        // T
+        assertThat(resultAfterSave).containsOnly(entry("key1", "value1"), entry("key2", "value2"));
+        assertThat(resultAfterDelete).containsOnly(entry("key2", "value2"));
+    }
+
+    @Test
+    public void should_rebuild_flat_map_when_a_file_is_modified_outside_repository() throws IOException {
+        // G
+        sut.saveFile(FILE_NAME, "{key1: \"value1\"}");
+        assertThat(sut.getFlatMap()).containsOnly(entry("key1", "value1"));
+
+        // W
+        Files.writeString(Paths.get(STORE_PATH).resolve(ROOT_DIRECTORY_NAME).resolve(FILE_NAME + ".hjson"), "{key1: \"value2\"}");
+
+        // T
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() ->
+            assertThat(sut.getFlatMap()).containsOnly(entry("key1", "value2"))
+        );
+    }
+
     @Test
     public void aliasShouldOverrideKeyPath() {
         // G
@@ -182,4 +223,35 @@ public class FileGlobalVarRepositoryTest {
             ROOT_DIRECTORY_NAME.resolve("another_file.hjson").toString()
         );
     }
+
+    @Test
+    public void should_backup_files_modified_since_given_instant() throws IOException {
+        // Given
+        Path backup = Paths.get("./target/backup", "grv-incremental");
+        Files.createDirectories(backup.getParent());
+        Files.deleteIfExists(backup);
+
+        sut.saveFile("a_file", "{\"keyA\": \"valueA\"}");
+        sut.saveFile("another_file", "{\"keyB\": \"valueB\"}");
+        Files.setLastModifiedTime(Paths.get(STORE_PATH).resolve(ROOT_DIRECTORY_NAME).resolve("a_file.hjson"), FileTime.from(Instant.parse("2024-01-01T00:00:00Z")));
+
+        try (OutputStream outputStream = Files.newOutputStream(Files.createFile(backup))) {
+            // When
+            sut.backup(outputStream, Instant.parse("2024-06-01T00:00:00Z"));
+        }
+
+        // Then
+        try (ZipFile zipFile = new ZipFile(backup.toString())) {
+            List<String> entriesNames = zipFile.stream().map(ZipEntry::getName).collect(Collectors.toList());
+            assertThat(entriesNames).containsExactly(
+                ROOT_DIRECTORY_NAME.resolve("another_file.hjson").toString(),
+                ROOT_DIRECTORY_NAME.resolve(MANIFEST_ENTRY_NAME).toString()
+            );
+            String manifest = new String(zipFile.getInputStream(zipFile.getEntry(ROOT_DIRECTORY_NAME.resolve(MANIFEST_ENTRY_NAME).toString())).readAllBytes());
+            assertThat(manifest.lines()).containsExactlyInAnyOrder(
+                ROOT_DIRECTORY_NAME.resolve("a_file.hjson").toString(),
+                ROOT_DIRECTORY_NAME.resolve("another_file.hjson").toString()
+            );
+        }
+    }
 }
@@ -85,6 +85,27 @@ class IndexRepositoryTest {
         assertThat(results.get(0).getField("id").stringValue()).isEqualTo("1");
     }
 
+    @Test
+    void should_replace_documents_having_term() {
+        // Given
+        Document doc = new Document();
+        doc.add(new StringField("id", "1", Field.Store.YES));
+        doc.add(new StringField("title", "Document to be replaced", Field.Store.YES));
+        indexRepository.index(doc);
+
+        Document replacement = new Document();
+        replacement.add(new StringField("id", "1", Field.Store.YES));
+        replacement.add(new StringField("title", "Replacement", Field.Store.YES));
+
+        // When
+        indexRepository.update(new Term("id", "1"), replacement);
+
+        // Then
+        List<Document> results = indexRepository.search(new TermQuery(new Term("id", "1")), 10, Sort.RELEVANCE);
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getField("title").stringValue()).isEqualTo("Replacement");
+    }
+
     @Test
     void should_delete_document_from_index() {
         // Given
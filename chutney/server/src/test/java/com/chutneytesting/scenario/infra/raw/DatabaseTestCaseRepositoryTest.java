@@ -460,6 +460,133 @@ public class DatabaseTestCaseRepositoryTest {
             assertThat(raw2).isEmpty();
         }
 
+        @Test
+        public void should_search_scenario_by_title_description_tags_and_part_of_words() {
+            // Given
+            String titleMatch = sut.save(GwtTestCase.builder()
+                .withMetadata(TestCaseMetadataImpl.builder().withTitle("Order of momos").build())
+                .withScenario(GwtScenario.builder().withWhen(GwtStep.NONE).build())
+                .build());
+            String descriptionMatch = sut.save(GwtTestCase.builder()
+                .withMetadata(TestCaseMetadataImpl.builder().withDescription("vegetarian momos").build())
+                .withScenario(GwtScenario.builder().withWhen(GwtStep.NONE).build())
+                .build());
+            String tagMatch = sut.save(GwtTestCase.builder()
+                .withMetadata(TestCaseMetadataImpl.builder().withTags(List.of("KATHMANDU")).build())
+                .withScenario(GwtScenario.builder().withWhen(GwtStep.NONE).build())
+                .build());
+
+            // When
+            List<TestCaseMetadata> byTitleOrDescription = sut.search("MOMOS");
+            List<TestCaseMetadata> byTag = sut.search("kathmandu");
+            List<TestCaseMetadata> byPartOfWord = sut.search("getari");
+
+            // Then
+            assertThat(byTitleOrDescription).extracting("id").containsExactlyInAnyOrder(titleMatch, descriptionMatch);
+            assertThat(byTag).extracting("id").containsExactly(tagMatch);
+            assertThat(byPartOfWord).extracting("id").containsExactly(descriptionMatch);
+        }
+
+        @Test
+        public void should_search_scenario_by_quoted_phrase() {
+            // Given
+            String scenarioID = sut.save(GwtTestCase.builder()
+                .withMetadata(TestCaseMetadataImpl.builder().build())
+                .withScenario(
+                    GwtScenario.builder()
+                        .withGivens(List.of(GwtStep.builder().withDescription("chutney of momos").build()))
+                        .withWhen(GwtStep.NONE).build()
+                ).build());
+
+            // When
+            List<TestCaseMetadata> phraseMatch = sut.search("\"chutney of momos\"");
+            List<TestCaseMetadata> noPhraseMatch = sut.search("\"momos of chutney\"");
+
+            // Then
+            assertThat(phraseMatch).extracting("id").containsExactly(scenarioID);
+            assertThat(noPhraseMatch).isEmpty();
+        }
+
+        @Test
+        public void should_search_updated_scenario_content() {
+            // Given
+            GwtTestCase testCase = GwtTestCase.builder()
+                .withMetadata(TestCaseMetadataImpl.builder().build())
+                .withScenario(
+                    GwtScenario.builder()
+                        .withGivens(List.of(GwtStep.builder().withDescription("chutney of momos").build()))
+                        .withWhen(GwtStep.NONE).build()
+                ).build();
+            String scenarioID = sut.save(testCase);
+            GwtTestCase savedTestCase = sut.findById(scenarioID).orElseThrow();
+
+            // When
+            sut.save(GwtTestCase.builder()
+                .from(savedTestCase)
+                .withScenario(
+                    GwtScenario.builder()
+                        .withGivens(List.of(GwtStep.builder().withDescription("chutney of curry").build()))
+                        .withWhen(GwtStep.NONE).build()
+                ).build());
+
+            // Then
+            assertThat(sut.search("momos")).isEmpty();
+            assertThat(sut.search("curry")).extracting("id").containsExactly(scenarioID);
+        }
+
+        @Test
+        public void should_search_part_of_long_words() {
+            // Given
+            String scenarioID = sut.save(GwtTestCase.builder()
+                .withMetadata(TestCaseMetadataImpl.builder().withTitle("Momos delivery to Kathmandumountainsvillages").build())
+                .withScenario(GwtScenario.builder().withWhen(GwtStep.NONE).build())
+                .build());
+
+            // When
+            List<TestCaseMetadata> byLongPart = sut.search("thmandumountainsvill");
+            List<TestCaseMetadata> byShortPart = sut.search("mo");
+            List<TestCaseMetadata> byUnknownLongPart = sut.search("thmandumountainsvalleys");
+
+            // Then
+            assertThat(byLongPart).extracting("id").containsExactly(scenarioID);
+            assertThat(byShortPart).extracting("id").containsExactly(scenarioID);
+            assertThat(byUnknownLongPart).isEmpty();
+        }
+
+        @Test
+        public void should_return_search_results_most_relevant_first() {
+            // Given
+            String lessRelevant = sut.save(GwtTestCase.builder()
+                .withMetadata(TestCaseMetadataImpl.builder().withDescription("Order of vegetarian dishes, steamed momos, rice and dal, with a drink").build())
+                .withScenario(GwtScenario.builder().withWhen(GwtStep.NONE).build())
+                .build());
+            String mostRelevant = sut.save(GwtTestCase.builder()
+                .withMetadata(TestCaseMetadataImpl.builder().withTitle("Momos").withDescription("momos").build())
+                .withScenario(GwtScenario.builder().withWhen(GwtStep.NONE).build())
+                .build());
+
+            // When
+            List<TestCaseMetadata> results = sut.search("momos");
+
+            // Then
+            assertThat(results).extracting("id").containsExactly(mostRelevant, lessRelevant);
+        }
+
+        @Test
+        public void should_not_index_scenario_of_rolled_back_transaction() {
+            // When
+            transactionTemplate.executeWithoutResult(status -> {
+                sut.save(GwtTestCase.builder()
+                    .withMetadata(TestCaseMetadataImpl.builder().withTitle("Order of momos").build())
+                    .withScenario(GwtScenario.builder().withWhen(GwtStep.NONE).build())
+                    .build());
+                status.setRollbackOnly();
+            });
+
+            // Then
+            assertThat(sut.search("momos")).isEmpty();
+        }
+
         @Test
         public void should_split_in_3_words_when_search_without_nested_quote() {
             // When
@@ -11,11 +11,13 @@ import static util.infra.AbstractLocalDatabaseTest.DB_CHANGELOG_DB_CHANGELOG_MAS
 
 import com.chutneytesting.ServerConfiguration;
 import com.chutneytesting.execution.infra.aop.ScenarioExecutionReportIndexingAspect;
+import com.chutneytesting.execution.infra.attachment.FileAttachmentRepository;
 import com.chutneytesting.execution.infra.storage.DatabaseExecutionJpaRepository;
 import com.chutneytesting.index.infra.IndexConfig;
 import com.chutneytesting.index.infra.IndexRepository;
 import com.chutneytesting.index.infra.OnDiskIndexConfig;
 import com.chutneytesting.index.infra.ScenarioExecutionReportIndexRepository;
+import com.chutneytesting.index.infra.ScenarioIndexRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
@@ -207,6 +209,16 @@ class TestInfraConfiguration {
         return new ScenarioExecutionReportIndexRepository(indexRepository);
     }
 
+    @Bean
+    public ScenarioIndexRepository scenarioIndexRepository(IndexRepository indexRepository) {
+        return new ScenarioIndexRepository(indexRepository);
+    }
+
+    @Bean
+    public FileAttachmentRepository attachmentRepository() throws IOException {
+        return new FileAttachmentRepository(Files.createTempDirectory("test-infra-attachments").toString());
+    }
+
     @Bean
     public ScenarioExecutionReportIndexingAspect indexingAspect(ScenarioExecutionReportIndexRepository indexRepository, DatabaseExecutionJpaRepository scenarioExecutionsJpaRepository) {
         return new ScenarioExecutionReportIndexingAspect(indexRepository, scenarioExecutionsJpaRepository);
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.tools;
+
+import java.util.Optional;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Concurrency and rate limits enforced by the engine on executions touching an environment or a target.<br>
+ * They are declared as environment variables or target properties.
+ */
+public record ExecutionLimits(Integer maxConcurrentExecutions, Double maxExecutionsPerSecond) {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionLimits.class);
+
+    public static final String MAX_CONCURRENT_EXECUTIONS = "maxConcurrentExecutions";
+    public static final String MAX_EXECUTIONS_PER_SECOND = "maxExecutionsPerSecond";
+
+    /**
+     * Invalid declared values are ignored with a warning.
+     */
+    public static Optional<ExecutionLimits> from(Function<String, Optional<String>> declaredValues) {
+        Integer maxConcurrentExecutions = declaredValues.apply(MAX_CONCURRENT_EXECUTIONS)
+            .flatMap(value -> parse(MAX_CONCURRENT_EXECUTIONS, value, Integer::valueOf))
+            .orElse(null);
+        Double maxExecutionsPerSecond = declaredValues.apply(MAX_EXECUTIONS_PER_SECOND)
+            .flatMap(value -> parse(MAX_EXECUTIONS_PER_SECOND, value, Double::valueOf))
+            .orElse(null);
+
+        if (maxConcurrentExecutions == null && maxExecutionsPerSecond == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ExecutionLimits(maxConcurrentExecutions, maxExecutionsPerSecond));
+    }
+
+    /**
+     * @return false if the key declares a limit and its value is not a strictly positive number
+     */
+    public static boolean isValid(String key, String value) {
+        if (MAX_CONCURRENT_EXECUTIONS.equals(key)) {
+            return value != null && parse(value, Integer::valueOf).isPresent();
+        }
+        if (MAX_EXECUTIONS_PER_SECOND.equals(key)) {
+            return value != null && parse(value, Double::valueOf).isPresent();
+        }
+        return true;
+    }
+
+    private static <T extends Number> Optional<T> parse(String key, String value, Function<String, T> parser) {
+        Optional<T> limit = parse(value, parser);
+        if (limit.isEmpty()) {
+            LOGGER.warn("Ignore invalid execution limit {} : {}", key, value);
+        }
+        return limit;
+    }
+
+    private static <T extends Number> Optional<T> parse(String value, Function<String, T> parser) {
+        try {
+            T limit = parser.apply(value.trim());
+            if (limit.doubleValue() > 0) {
+                return Optional.of(limit);
+            }
+        } catch (NumberFormatException e) {
+            // Invalid
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.tools.file;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counter of the changes of a folder's files.<br>
+ * External changes are notified by a {@link WatchService}, the folder's owner notifies its own writes with {@link #changed()}.
+ * <p>
+ * The owner can keep in-memory state built from the folder's files as long as the {@link #count()} did not move.
+ * When the folder is not {@link #isWatched() watched}, external changes are not counted and files should be read on each access.
+ * </p>
+ */
+public class FolderChanges implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FolderChanges.class);
+
+    private final Path folder;
+    private final AtomicLong count = new AtomicLong();
+    private final WatchService watchService;
+    private volatile boolean watched;
+
+    public FolderChanges(Path folder) {
+        this.folder = folder;
+        this.watchService = watch();
+    }
+
+    public boolean isWatched() {
+        return watched;
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    public void changed() {
+        count.incrementAndGet();
+    }
+
+    @Override
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private WatchService watch() {
+        try {
+            WatchService folderWatchService = folder.getFileSystem().newWatchService();
+            folder.register(folderWatchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            Thread watcher = new Thread(() -> countChanges(folderWatchService), "folder-watcher-" + folder.getFileName());
+            watcher.setDaemon(true);
+            watched = true;
+            watcher.start();
+            return folderWatchService;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Cannot watch folder {}. Files will be read on each access", folder, e);
+            return null;
+        }
+    }
+
+    private void countChanges(WatchService folderWatchService) {
+        try {
+            boolean valid = true;
+            while (valid) {
+                WatchKey key = folderWatchService.take();
+                key.pollEvents();
+                count.incrementAndGet();
+                valid = key.reset();
+            }
+            LOGGER.warn("Folder {} is no longer watched. Files will be read on each access", folder);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Closed by owner
+        } finally {
+            watched = false;
+        }
+    }
+}
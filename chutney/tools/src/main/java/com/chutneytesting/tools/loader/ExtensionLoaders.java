@@ -43,6 +43,16 @@ public abstract class ExtensionLoaders {
             .withMapper(splitByLine().andThen(instantiate()));
     }
 
+    /**
+     * @param path to config files to read
+     * @return an extension loader reading class names, leaving to the caller when and how to load them
+     */
+    public static ExtensionLoader<String> classpathToClassName(String path) {
+        return ExtensionLoader.Builder
+            .<String, String>withSource(classpath(path))
+            .withMapper(splitByLine());
+    }
+
     /**
      * Reference common {@link ExtensionLoaderSource ExtensionLoaderSources}.
      */
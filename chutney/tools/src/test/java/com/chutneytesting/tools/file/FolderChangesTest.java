@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.tools.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FolderChangesTest {
+
+    @Test
+    void should_count_owner_changes(@TempDir Path tmpDir) {
+        try (FolderChanges sut = new FolderChanges(tmpDir)) {
+            long count = sut.count();
+
+            sut.changed();
+
+            assertThat(sut.count()).isEqualTo(count + 1);
+        }
+    }
+
+    @Test
+    void should_count_external_changes_of_watched_folder(@TempDir Path tmpDir) throws IOException {
+        try (FolderChanges sut = new FolderChanges(tmpDir)) {
+            assertThat(sut.isWatched()).isTrue();
+            long count = sut.count();
+
+            Files.writeString(tmpDir.resolve("file.json"), "{}");
+
+            await().atMost(15, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(sut.count()).isGreaterThan(count)
+            );
+        }
+    }
+
+    @Test
+    void should_stop_watching_when_closed(@TempDir Path tmpDir) {
+        FolderChanges sut = new FolderChanges(tmpDir);
+
+        sut.close();
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+            assertThat(sut.isWatched()).isFalse()
+        );
+    }
+}
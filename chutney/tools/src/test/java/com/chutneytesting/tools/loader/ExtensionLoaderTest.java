@@ -19,4 +19,11 @@ public class ExtensionLoaderTest {
 
         assertThat(classExtensionLoader.load()).containsOnly(String.class, Integer.class);
     }
+
+    @Test
+    public void loading_from_classpath_to_class_name_returns_a_set_of_class_names() {
+        ExtensionLoader<String> classNameExtensionLoader = ExtensionLoaders.classpathToClassName("META-INF-TEST/class_line");
+
+        assertThat(classNameExtensionLoader.load()).containsOnly("java.lang.String", "java.lang.Integer");
+    }
 }
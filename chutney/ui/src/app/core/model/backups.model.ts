@@ -9,6 +9,16 @@ export class Backup {
     constructor(
         public backupables: string[],
         public time?: Date,
-        public id?: string) {
+        public id?: string,
+        public incremental?: boolean) {
+    }
+}
+
+export class BackupProgress {
+    constructor(
+        public backupId: string,
+        public completed: string[],
+        public failed: string[],
+        public pending: string[]) {
     }
 }
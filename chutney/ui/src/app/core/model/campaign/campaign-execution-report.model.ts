@@ -15,6 +15,7 @@ export interface CampaignExecutionReport {
     scenarioExecutionReports: Array<ScenarioExecutionReportOutline>,
     status?: string,
     duration?: string,
+    predictedDuration?: number,
     startDate?: string,
     campaignName?: string,
     partialExecution?: boolean,
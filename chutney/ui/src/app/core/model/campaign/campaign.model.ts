@@ -17,6 +17,7 @@ export class Campaign {
         public environment: string = '',
         public parallelRun?: false,
         public retryAuto?: false,
+        public longestScenariosFirst?: false,
         public datasetId?: string,
         public tags: Array<string> = []) {
     }
@@ -10,7 +10,7 @@ import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
 
 import { environment } from '@env/environment';
-import { Backup } from '@core/model/backups.model';
+import { Backup, BackupProgress } from '@core/model/backups.model';
 
 @Injectable({
     providedIn: 'root'
@@ -35,6 +35,10 @@ export class BackupsService {
         return this.http.delete<void>(environment.backend + this.url + `/${id}`);
     }
 
+    progress(id: string): Observable<BackupProgress> {
+        return this.http.get<BackupProgress>(environment.backend + this.url + `/${id}` + '/progress');
+    }
+
     download(id: string): Observable<any> {
         const options: any = {
             responseType: 'arraybuffer'
@@ -10,7 +10,7 @@ import { AbstractControl, FormArray, FormBuilder, FormGroup } from '@angular/for
 
 import { BackupsService } from '@core/services/backups.service';
 import { Backup } from '@core/model/backups.model';
-import { timer } from 'rxjs';
+import { filter, switchMap, take, timer } from 'rxjs';
 import { FileSaverService } from 'ngx-filesaver';
 
 @Component({
@@ -23,6 +23,7 @@ export class BackupsAdminComponent implements OnInit {
     backups: Backup[] = [];
     backupForm: FormArray;
     backupables: string[];
+    incremental = false;
 
     ngOnInit(): void {
         this.loadBackups();
@@ -43,9 +44,17 @@ export class BackupsAdminComponent implements OnInit {
     launchBackup() {
         const backupFormValue = this.getBackupFormValue();
         const backup = new Backup(backupFormValue.filter(backupable => backupable.selected)
-            .map(backupable => backupable.backupable));
+            .map(backupable => backupable.backupable), null, null, this.incremental);
         this.backupsService.save(backup)
-            .subscribe(() => this.reloadAfter(0));
+            .subscribe(backupId => this.reloadWhenDone(backupId as string));
+    }
+
+    private reloadWhenDone(backupId: string) {
+        timer(0, 1000).pipe(
+            switchMap(() => this.backupsService.progress(backupId)),
+            filter(progress => !progress.pending.length),
+            take(1)
+        ).subscribe(() => this.loadBackups());
     }
 
     private getBackupFormValue(): { backupable: string, selected: boolean } [] {
@@ -88,6 +88,7 @@ export class CampaignEditionComponent implements OnInit, OnDestroy {
             scenariosFilter: '',
             parallelRun: false,
             retryAuto: false,
+            longestScenariosFirst: false,
             jiraId: '',
             onlyLinkedScenarios: false
         });
@@ -152,6 +153,7 @@ export class CampaignEditionComponent implements OnInit, OnDestroy {
                     this.campaignForm.controls['description'].setValue(this.campaign.description);
                     this.campaignForm.controls['parallelRun'].setValue(this.campaign.parallelRun);
                     this.campaignForm.controls['retryAuto'].setValue(this.campaign.retryAuto);
+                    this.campaignForm.controls['longestScenariosFirst'].setValue(this.campaign.longestScenariosFirst);
                     this.campaignForm.controls['campaignTags'].setValue(this.campaign.tags);
                     this.selectedEnvironment = this.campaign.environment;
                     this.setCampaignScenarios();
@@ -324,6 +326,7 @@ export class CampaignEditionComponent implements OnInit, OnDestroy {
         this.campaign.environment = this.selectedEnvironment;
         this.campaign.parallelRun = formValue['parallelRun'];
         this.campaign.retryAuto = formValue['retryAuto'];
+        this.campaign.longestScenariosFirst = formValue['longestScenariosFirst'];
         this.campaign.datasetId = (!this.datasetId || this.datasetId.trim() === "") ? null : this.datasetId
         const tags = formValue['campaignTags'] + '';
         this.campaign.tags = tags.length !== 0 ? tags.split(',') : [];
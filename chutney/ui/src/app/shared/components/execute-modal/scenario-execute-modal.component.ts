@@ -150,9 +150,10 @@ export class ScenarioExecuteModalComponent implements OnInit {
         const mkv = this.datasetForm.controls['multiKeyValues'] as FormArray;
         const multiKeyValues = mkv.value ? mkv.value.map(a => a.map((p) => new KeyValue(p.key, p.value))) : [];
 
+        const selectedDatasetValues = this.datasetValues(this.selectedDataset);
         if (this.selectedDataset && this.selectedDataset.id
-            && this.compareDatatable(multiKeyValues, this.selectedDataset.multipleValues)
-            && this.compareKeyValueArraysUnordered(keyValues, this.selectedDataset.uniqueValues)) {
+            && this.compareDatatable(multiKeyValues, selectedDatasetValues.multipleValues)
+            && this.compareKeyValueArraysUnordered(keyValues, selectedDatasetValues.uniqueValues)) {
             return this.selectedDataset // The dataset is in edition mode but has not been edited, return the original dataset
         }
 
@@ -187,6 +188,14 @@ export class ScenarioExecuteModalComponent implements OnInit {
         }
     }
 
+    private datasetValues(dataset: Dataset): Dataset {
+        // Listed datasets come without their values, which are fetched on selection
+        if (dataset?.id && this.datasetDetails?.id === dataset.id) {
+            return this.datasetDetails;
+        }
+        return dataset;
+    }
+
     showHideDataset(event: any) {
         event.stopPropagation();
         this.isCollapsed = !this.isCollapsed;
@@ -199,7 +208,7 @@ export class ScenarioExecuteModalComponent implements OnInit {
         this.editionDataset = forceEditionDataset || !this.editionDataset
         if (this.editionDataset) {
             this.changeModalSize("xl")
-            this.editionDatasetValues = dataset;
+            this.editionDatasetValues = this.datasetValues(dataset);
             this.datasetForm.controls['keyValues'].patchValue(this.editionDatasetValues.uniqueValues);
             this.datasetForm.controls['multiKeyValues'].patchValue(this.editionDatasetValues.multipleValues);
         } else {
@@ -7,6 +7,7 @@
 
 import { Pipe, PipeTransform } from '@angular/core';
 import { escapeHtml } from '@shared/tools/string-utils';
+import { environment } from '@env/environment';
 
 @Pipe({ name: 'prettyPrint' })
 export class PrettyPrintPipe implements PipeTransform {
@@ -48,6 +49,14 @@ export class PrettyPrintPipe implements PipeTransform {
                     '<a href="' + content + '" >download information data</a>'
                 );
             }
+            if (/^attachment:image\/(png|jpeg|gif|webp|bmp);/.test(content)) {
+                return '<img src="' + this.attachmentUrl(content) + '" />';
+            }
+            if (content.startsWith('attachment:')) {
+                return (
+                    '<a href="' + this.attachmentUrl(content) + '" >download information data</a>'
+                );
+            }
             if (content.startsWith('<') || content.includes('<?xml')) {
                 r = this.formatXml(content, '  ');
             }
@@ -56,6 +65,11 @@ export class PrettyPrintPipe implements PipeTransform {
         return escapeHtmlP ? escapeHtml(r) : r;
     };
 
+    private attachmentUrl(reference: string): string {
+        const attachmentId = reference.substring(reference.lastIndexOf(';') + 1);
+        return environment.backend + '/api/ui/scenario/execution/attachment/' + encodeURIComponent(attachmentId) + '/v1';
+    }
+
     formatXml = (input, indent) => {
         indent = indent || '\t'; //you can set/define other ident than tabs
 
@@ -17,6 +17,7 @@ enum class ChutneyConfigurationParameters(val parameter: String, private val def
     CONFIG_REPORT_ROOT_PATH("chutney.report.rootPath", CHUTNEY_REPORT_ROOT_PATH_DEFAULT),
     CONFIG_ENVIRONMENT_ROOT_PATH("chutney.environment.rootPath", CHUTNEY_ENV_ROOT_PATH_DEFAULT),
     CONFIG_ENVIRONMENT("chutney.environment.default", null),
+    CONFIG_EXECUTION_PARALLELISM("chutney.execution.parallelism", 1),
 
     /**
      * Properties to configure junit engine only
@@ -16,16 +16,28 @@ import com.chutneytesting.environment.api.environment.dto.EnvironmentDto
 import com.chutneytesting.kotlin.dsl.ChutneyEnvironment
 import com.chutneytesting.kotlin.dsl.ChutneyScenario
 import com.chutneytesting.kotlin.dsl.ChutneyTarget
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
 
 const val CHUTNEY_ROOT_PATH_DEFAULT = ".chutney"
 const val CHUTNEY_ENV_ROOT_PATH_DEFAULT = "$CHUTNEY_ROOT_PATH_DEFAULT/environments"
 
 
+private const val ENGINE_DEFAULT_THREADS = 10
+
+/**
+ * parallelism is the number of scenarios expected to run at the same time on the embedded engine.
+ * The engine executor is enlarged when it exceeds the default engine threads count.
+ * Its threads are daemons, and are stopped on close.
+ */
 class ExecutionService(
-    environmentJsonRootPath: String = CHUTNEY_ENV_ROOT_PATH_DEFAULT
-) {
+    environmentJsonRootPath: String = CHUTNEY_ENV_ROOT_PATH_DEFAULT,
+    parallelism: Int = 1
+) : AutoCloseable {
 
-    private val executionConfiguration = ExecutionConfiguration()
+    private val actionExecutor: ExecutorService = newEngineExecutor(maxOf(parallelism, ENGINE_DEFAULT_THREADS))
+    private val executionConfiguration = ExecutionConfiguration(5L, actionExecutor, emptyMap(), null, null)
     private val embeddedEnvironmentApi = EnvironmentConfiguration(environmentJsonRootPath).embeddedEnvironmentApi
 
 
@@ -61,6 +73,10 @@ class ExecutionService(
             .blockingLast()
     }
 
+    override fun close() {
+        actionExecutor.shutdownNow()
+    }
+
     fun getEnvironment(environmentName: String? = null): ChutneyEnvironment {
         val executionEnv = environmentName.takeUnless { it.isNullOrBlank() } ?: embeddedEnvironmentApi.defaultEnvironmentName()
         val environmentDto = embeddedEnvironmentApi.getEnvironment(executionEnv)
@@ -80,4 +96,11 @@ class ExecutionService(
             }
         )
     }
+
+    private fun newEngineExecutor(threads: Int): ExecutorService {
+        val threadCount = AtomicInteger()
+        return Executors.newFixedThreadPool(threads) { runnable ->
+            Thread(runnable, "chutney-engine-${threadCount.incrementAndGet()}").apply { isDaemon = true }
+        }
+    }
 }
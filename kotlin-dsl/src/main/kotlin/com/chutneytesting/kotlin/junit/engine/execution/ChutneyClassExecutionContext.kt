@@ -18,7 +18,7 @@ class ChutneyClassExecutionContext(
     private val chutneyClassDescriptor: ChutneyClassDescriptor
 ) {
     private val scenarioExecutionContexts: MutableSet<ChutneyScenarioExecutionContext> = HashSet()
-    private val syncExecutionSemaphore: Semaphore = Semaphore(1)
+    private val syncExecutionSemaphore: Semaphore = Semaphore(engineExecutionContext.parallelism)
     private val endExecutionLatch: CountDownLatch = CountDownLatch(chutneyClassDescriptor.children.size)
 
     fun execute() {
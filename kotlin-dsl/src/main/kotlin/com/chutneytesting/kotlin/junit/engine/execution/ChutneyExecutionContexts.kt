@@ -14,6 +14,7 @@ import com.chutneytesting.engine.domain.execution.event.EndStepExecutionEvent
 import com.chutneytesting.engine.domain.execution.event.StartScenarioExecutionEvent
 import com.chutneytesting.kotlin.ChutneyConfigurationParameters.CONFIG_ENGINE_STEP_AS_TEST
 import com.chutneytesting.kotlin.ChutneyConfigurationParameters.CONFIG_ENVIRONMENT_ROOT_PATH
+import com.chutneytesting.kotlin.ChutneyConfigurationParameters.CONFIG_EXECUTION_PARALLELISM
 import com.chutneytesting.kotlin.execution.ExecutionService
 import com.chutneytesting.kotlin.junit.engine.ChutneyClassDescriptor
 import com.chutneytesting.kotlin.junit.engine.execution.ChutneyEngineExecutionContext.ListenerEvent.*
@@ -27,6 +28,7 @@ import org.junit.platform.engine.TestExecutionResult.successful
 import org.junit.platform.engine.reporting.ReportEntry
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
+import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.Semaphore
 import java.util.concurrent.TimeUnit
@@ -35,7 +37,7 @@ class ChutneyEngineExecutionContext(val request: ExecutionRequest) {
     val configurationParameters: SystemEnvConfigurationParameters = SystemEnvConfigurationParameters()
     val executionService: ExecutionService
 
-    private val scenarioExecutions = HashMap<Long, ChutneyScenarioExecutionContext>()
+    private val scenarioExecutions = ConcurrentHashMap<Long, ChutneyScenarioExecutionContext>()
     private val syncExecutionSemaphore: Semaphore = Semaphore(1)
 
     private val endExecutionLatch: CountDownLatch = CountDownLatch(request.rootTestDescriptor.children.size)
@@ -43,6 +45,11 @@ class ChutneyEngineExecutionContext(val request: ExecutionRequest) {
     private val stepAsTest: Boolean = configurationParameters.getBoolean(CONFIG_ENGINE_STEP_AS_TEST.parameter).orElse(CONFIG_ENGINE_STEP_AS_TEST.defaultBoolean())
     private val environmentRootPath: String? = configurationParameters.get(CONFIG_ENVIRONMENT_ROOT_PATH.parameter).orElse(CONFIG_ENVIRONMENT_ROOT_PATH.defaultString())
 
+    /**
+     * Number of scenarios of a class executed at the same time
+     */
+    val parallelism: Int = configurationParameters.getInt(CONFIG_EXECUTION_PARALLELISM.parameter).orElse(CONFIG_EXECUTION_PARALLELISM.defaultNumber().toInt()).coerceAtLeast(1)
+
     private val startScenarioDisposable: Disposable
     private val beginStepDisposable: Disposable
     private val endStepDisposable: Disposable
@@ -53,7 +60,7 @@ class ChutneyEngineExecutionContext(val request: ExecutionRequest) {
     }
 
     init {
-        executionService = if (environmentRootPath == null) ExecutionService() else ExecutionService(environmentRootPath)
+        executionService = if (environmentRootPath == null) ExecutionService(parallelism = parallelism) else ExecutionService(environmentRootPath, parallelism)
 
         val chutneyBus = RxBus.getInstance()
         startScenarioDisposable =
@@ -94,6 +101,10 @@ class ChutneyEngineExecutionContext(val request: ExecutionRequest) {
 
     enum class ListenerEvent { STARTED, SKIPPED, FINISHED, REPORT, DYNAMIC }
 
+    /**
+     * Synchronized, as scenarios executed in parallel notify from different engine threads
+     */
+    @Synchronized
     fun notifyJUnitListener(
         event: ListenerEvent,
         testDescriptor: TestDescriptor,
@@ -128,6 +139,7 @@ class ChutneyEngineExecutionContext(val request: ExecutionRequest) {
     private fun endExecution() {
         endExecutionLatch.await()
         unregisterRxBus()
+        executionService.close()
 
         notifyJUnitListener(FINISHED, request.rootTestDescriptor, successful())
     }
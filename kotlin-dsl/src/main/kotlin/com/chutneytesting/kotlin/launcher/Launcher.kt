@@ -9,7 +9,9 @@ package com.chutneytesting.kotlin.launcher
 
 import com.chutneytesting.engine.api.execution.StatusDto
 import com.chutneytesting.engine.api.execution.StatusDto.SUCCESS
+import com.chutneytesting.engine.api.execution.StepExecutionReportDto
 import com.chutneytesting.kotlin.ChutneyConfigurationParameters.CONFIG_ENVIRONMENT_ROOT_PATH
+import com.chutneytesting.kotlin.ChutneyConfigurationParameters.CONFIG_EXECUTION_PARALLELISM
 import com.chutneytesting.kotlin.ChutneyConfigurationParameters.CONFIG_REPORT_ROOT_PATH
 import com.chutneytesting.kotlin.dsl.ChutneyEnvironment
 import com.chutneytesting.kotlin.dsl.ChutneyScenario
@@ -20,15 +22,24 @@ import com.chutneytesting.kotlin.util.SystemEnvConfigurationParameters
 import org.assertj.core.api.Assertions
 import org.assertj.core.api.SoftAssertions
 import java.util.Optional.ofNullable
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
 
 /**
  * reportRootPathInput defaulted to ChutneyConfigurationParameters.CONFIG_REPORT_ROOT_PATH
  * -------
  * environmentJsonRootPathInput defaulted to ChutneyConfigurationParameters.CONFIG_ENVIRONMENT_ROOT_PATH
+ * -------
+ * parallelismInput defaulted to ChutneyConfigurationParameters.CONFIG_EXECUTION_PARALLELISM
+ * When greater than 1, a list of scenarios is executed concurrently on the launcher's engine.
+ * Reports are still printed and written in the scenarios' order, once the previous ones are done.
  */
 class Launcher(
     reportRootPathInput: String? = null,
-    environmentJsonRootPathInput: String? = null
+    environmentJsonRootPathInput: String? = null,
+    parallelismInput: Int? = null
 ) {
     private val systemParameters = SystemEnvConfigurationParameters();
 
@@ -39,16 +50,32 @@ class Launcher(
     }
     private val reportRootPath: String = systemParameters.get(CONFIG_REPORT_ROOT_PATH.parameter).orElse(CONFIG_REPORT_ROOT_PATH.defaultString())
 
+    private val parallelism: Int = ofNullable(parallelismInput)
+        .or { systemParameters.getInt(CONFIG_EXECUTION_PARALLELISM.parameter) }
+        .orElse(CONFIG_EXECUTION_PARALLELISM.defaultNumber().toInt())
+        .coerceAtLeast(1)
+
     private val executionService = ExecutionService(ofNullable(environmentJsonRootPathInput).orElse(
             systemParameters.get(CONFIG_ENVIRONMENT_ROOT_PATH.parameter).orElse(CONFIG_ENVIRONMENT_ROOT_PATH.defaultString())
-        )
+        ),
+        parallelism
     )
 
     private fun run(
         scenario: ChutneyScenario,
         environment: ChutneyEnvironment
     ): StatusDto? {
-        val report = executionService.waitLastReport(executionService.execute(scenario, environment))
+        return writeReport(execute(scenario, environment))
+    }
+
+    private fun execute(
+        scenario: ChutneyScenario,
+        environment: ChutneyEnvironment
+    ): StepExecutionReportDto {
+        return executionService.waitLastReport(executionService.execute(scenario, environment))
+    }
+
+    private fun writeReport(report: StepExecutionReportDto): StatusDto? {
         AnsiReportWriter().printReport(report)
         JsonReportWriter.writeReport(report, reportRootPath)
         return report.status
@@ -84,10 +111,43 @@ class Launcher(
         expected: StatusDto = SUCCESS
     ) {
         val softly = SoftAssertions()
-        scenarios.map { runSoftly(it, environment, expected, softly) }
+        if (parallelism > 1 && scenarios.size > 1) {
+            runInParallel(scenarios, environment, expected, softly)
+        } else {
+            scenarios.map { runSoftly(it, environment, expected, softly) }
+        }
         softly.assertAll()
     }
 
+    /**
+     * Scenarios are executed by a bounded pool while reports are handled by the calling thread, in the scenarios' order.
+     */
+    private fun runInParallel(
+        scenarios: List<ChutneyScenario>,
+        environment: ChutneyEnvironment,
+        expected: StatusDto,
+        softly: SoftAssertions
+    ) {
+        val threadCount = AtomicInteger()
+        val executor = Executors.newFixedThreadPool(minOf(parallelism, scenarios.size)) { runnable ->
+            Thread(runnable, "chutney-launcher-${threadCount.incrementAndGet()}").apply { isDaemon = true }
+        }
+        try {
+            scenarios
+                .map { scenario -> executor.submit(Callable { execute(scenario, environment) }) }
+                .forEach { execution ->
+                    val report = try {
+                        execution.get()
+                    } catch (e: ExecutionException) {
+                        throw e.cause ?: e
+                    }
+                    softly.assertThat(writeReport(report)).isEqualTo(expected)
+                }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
     private fun runSoftly(
         scenario: ChutneyScenario,
         environment: ChutneyEnvironment,
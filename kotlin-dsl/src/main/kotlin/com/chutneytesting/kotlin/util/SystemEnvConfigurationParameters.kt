@@ -39,4 +39,8 @@ class SystemEnvConfigurationParameters()  {
         }
     }
 
+    fun getInt(key: String?): Optional<Int> {
+        return get(key).map { it.trim().toInt() }
+    }
+
 }
@@ -141,4 +141,20 @@ class ExecutionServiceTest {
         assertThat(report.steps[0].steps[0].name).isEqualTo("0 step description - X - Y") // First Iteration
     }
 
+    @Test
+    fun `should stop engine daemon threads on close`() {
+        val threadsBefore = engineThreads()
+        val sut = ExecutionService(parallelism = 12)
+        sut.waitLastReport(sut.execute(Scenario(title = "scenario") { When("success") { SuccessAction() } }))
+
+        val sutThreads = engineThreads() - threadsBefore
+        assertThat(sutThreads).isNotEmpty.allMatch { it.isDaemon }
+
+        sut.close()
+        sutThreads.forEach { it.join(5000) }
+        assertThat(sutThreads).noneMatch { it.isAlive }
+    }
+
+    private fun engineThreads(): Set<Thread> =
+        Thread.getAllStackTraces().keys.filter { it.name.startsWith("chutney-engine-") }.toSet()
 }
@@ -7,7 +7,9 @@
 
 package com.chutneytesting.kotlin.junit.engine
 
+import com.chutneytesting.kotlin.ChutneyConfigurationParameters.CONFIG_EXECUTION_PARALLELISM
 import com.chutneytesting.kotlin.junit.engine.ChutneyTestEngine.Companion.CHUTNEY_JUNIT_ENGINE_ID
+import com.chutneytesting.kotlin.junit.engine.execution.ChutneyJUnitReportingKeys.REPORT_JSON_STRING
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
@@ -15,13 +17,21 @@ import org.junit.jupiter.params.provider.MethodSource
 import org.junit.platform.engine.DiscoverySelector
 import org.junit.platform.engine.FilterResult
 import org.junit.platform.engine.TestDescriptor
+import org.junit.platform.engine.TestExecutionResult
+import org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL
 import org.junit.platform.engine.UniqueId
 import org.junit.platform.engine.discovery.DiscoverySelectors.*
+import org.junit.platform.engine.reporting.ReportEntry
 import org.junit.platform.launcher.PostDiscoveryFilter
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder
 import org.junit.platform.testkit.engine.EngineExecutionResults
 import org.junit.platform.testkit.engine.EngineTestKit
+import org.junit.platform.testkit.engine.Event
 import org.junit.platform.testkit.engine.EventStatistics
+import org.junit.platform.testkit.engine.EventType
+import org.junit.platform.testkit.engine.EventType.FINISHED
+import org.junit.platform.testkit.engine.EventType.REPORTING_ENTRY_PUBLISHED
+import org.junit.platform.testkit.engine.EventType.STARTED
 import org.mockito.Mockito
 import org.mockito.Mockito.any
 import org.mockito.Mockito.times
@@ -47,7 +57,7 @@ class ChutneyTestEngineTest {
         fun containerChutneyTestSelectors(): Array<Any> {
             return arrayOf(
                 arrayOf(selectClass("com.chutneytesting.kotlin.junit.engine.ChutneyTest"), 46, 46, 75),
-                arrayOf(selectClasspathRoots(setOf(Path.of(".")))[0], 49, 49, 77),
+                arrayOf(selectClasspathRoots(setOf(Path.of(".")))[0], 56, 56, 83),
                 arrayOf(
                     selectClasspathResource("com/chutneytesting/kotlin/junit/engine/ChutneyTest.class"), 46, 46, 75
                 ),
@@ -106,6 +116,56 @@ class ChutneyTestEngineTest {
             }
     }
 
+    @Test
+    fun should_execute_scenarios_of_a_class_in_parallel() {
+        System.setProperty(CONFIG_EXECUTION_PARALLELISM.parameter, "3")
+        val result: EngineExecutionResults = try {
+            EngineTestKit.engine(CHUTNEY_JUNIT_ENGINE_ID)
+                .selectors(selectClass("com.chutneytesting.kotlin.junit.engine.ParallelChutneyTest"))
+                .execute()
+        } finally {
+            System.clearProperty(CONFIG_EXECUTION_PARALLELISM.parameter)
+        }
+
+        val events = result.allEvents().list()
+        val scenarios = events.map { it.testDescriptor }.filterIsInstance<ChutneyScenarioDescriptor>().distinct()
+        assertThat(scenarios).hasSize(3)
+
+        // All scenarios are started before the first one finishes
+        val lastScenarioStarted = scenarios.maxOf { indexOf(events, STARTED, it) }
+        val firstScenarioFinished = scenarios.minOf { indexOf(events, FINISHED, it) }
+        assertThat(lastScenarioStarted).isLessThan(firstScenarioFinished)
+
+        // Each descriptor is started, then finished successfully, within its parent execution
+        events.filter { it.type == STARTED }.map { it.testDescriptor }.forEach { descriptor ->
+            val finished = events.filter { it.type == FINISHED && it.testDescriptor == descriptor }
+            assertThat(finished).hasSize(1)
+            assertThat(finished[0].getRequiredPayload(TestExecutionResult::class.java).status).isEqualTo(SUCCESSFUL)
+            assertThat(indexOf(events, STARTED, descriptor)).isLessThan(indexOf(events, FINISHED, descriptor))
+            descriptor.parent.filter { it.parent.isPresent }.ifPresent { parent ->
+                assertThat(indexOf(events, STARTED, parent)).isLessThan(indexOf(events, STARTED, descriptor))
+                assertThat(indexOf(events, FINISHED, descriptor)).isLessThan(indexOf(events, FINISHED, parent))
+            }
+        }
+
+        // Each scenario publishes its own report before finishing
+        scenarios.forEach { scenario ->
+            val reports = events
+                .filter { it.type == REPORTING_ENTRY_PUBLISHED && it.testDescriptor == scenario }
+                .map { it.getRequiredPayload(ReportEntry::class.java).keyValuePairs[REPORT_JSON_STRING.value] }
+            val scenarioIndex = scenario.displayName.last()
+            assertThat(reports).hasSize(1)
+            assertThat(reports[0]).contains("Sleep in scenario $scenarioIndex")
+            (1..3).filter { it.digitToChar() != scenarioIndex }.forEach { assertThat(reports[0]).doesNotContain("Sleep in scenario $it") }
+            assertThat(events.indexOfFirst { it.type == REPORTING_ENTRY_PUBLISHED && it.testDescriptor == scenario })
+                .isLessThan(indexOf(events, FINISHED, scenario))
+        }
+    }
+
+    private fun indexOf(events: List<Event>, type: EventType, descriptor: TestDescriptor): Int {
+        return events.indexOfFirst { it.type == type && it.testDescriptor == descriptor }
+    }
+
     @Test
     fun should_filter_on_method_name() {
         val filter = MyPostDiscoveryFilter()
@@ -123,7 +183,7 @@ class ChutneyTestEngineTest {
 
         testEngine.discover(discoveryRequest, UniqueId.forEngine(testEngine.id))
 
-        Mockito.verify(filterMock, times(10)).apply(any())
+        Mockito.verify(filterMock, times(13)).apply(any())
     }
 
     open class MyPostDiscoveryFilter : PostDiscoveryFilter {
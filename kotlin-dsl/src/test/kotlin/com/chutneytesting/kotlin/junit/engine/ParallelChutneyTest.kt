@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.kotlin.junit.engine
+
+import com.chutneytesting.kotlin.annotations.ChutneyTest
+import com.chutneytesting.kotlin.dsl.ChutneyScenario
+import com.chutneytesting.kotlin.dsl.Scenario
+import com.chutneytesting.kotlin.dsl.SleepAction
+
+class ParallelChutneyTest {
+
+    @ChutneyTest
+    fun sleepingScenarios(): List<ChutneyScenario> {
+        return (1..3).map { index ->
+            Scenario(title = "Sleeping scenario $index") {
+                When("Sleep in scenario $index") {
+                    SleepAction("500 ms")
+                }
+            }
+        }
+    }
+}
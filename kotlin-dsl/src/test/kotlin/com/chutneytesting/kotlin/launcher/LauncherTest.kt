@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: 2017-2024 Enedis
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+
+package com.chutneytesting.kotlin.launcher
+
+import com.chutneytesting.engine.api.execution.StatusDto
+import com.chutneytesting.kotlin.ChutneyConfigurationParameters.CONFIG_REPORT_ROOT_PATH
+import com.chutneytesting.kotlin.dsl.ChutneyEnvironment
+import com.chutneytesting.kotlin.dsl.FailAction
+import com.chutneytesting.kotlin.dsl.Scenario
+import com.chutneytesting.kotlin.dsl.SleepAction
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+import java.io.File
+import java.nio.file.Path
+import java.time.Duration
+import java.time.Instant
+
+class LauncherTest {
+
+    private val environment = ChutneyEnvironment("LAUNCHER_ENV")
+
+    @AfterEach
+    fun clearReportRootPath() {
+        System.clearProperty(CONFIG_REPORT_ROOT_PATH.parameter)
+    }
+
+    @Test
+    fun `should execute scenarios in parallel and write all reports`(@TempDir tempDir: Path) {
+        val scenarios = (1..4).map { i ->
+            Scenario(title = "parallel scenario $i") {
+                When("sleep") {
+                    SleepAction("1 s")
+                }
+            }
+        }
+        val sut = Launcher(tempDir.toString(), parallelismInput = 4)
+        // Warm up the engine and the soft assertions, so that their first use overhead is not measured
+        sut.run(listOf(Scenario(title = "warm up") { When("sleep") { SleepAction("10 ms") } }), environment)
+
+        val start = Instant.now()
+        sut.run(scenarios, environment)
+
+        assertThat(Duration.between(start, Instant.now())).isLessThan(Duration.ofSeconds(3))
+        assertThat(File(tempDir.toFile(), environment.name).list()!!.map { it.substringBefore(".") })
+            .containsExactlyInAnyOrder("WarmUp", "ParallelScenario1", "ParallelScenario2", "ParallelScenario3", "ParallelScenario4")
+    }
+
+    @Test
+    fun `should assert all scenarios statuses when executed in parallel`(@TempDir tempDir: Path) {
+        val scenarios = listOf(
+            Scenario(title = "failing scenario") {
+                When("fail") {
+                    FailAction()
+                }
+            },
+            Scenario(title = "sleeping scenario") {
+                When("sleep") {
+                    SleepAction("10 ms")
+                }
+            }
+        )
+        val sut = Launcher(tempDir.toString(), parallelismInput = 2)
+
+        val error = assertThrows<AssertionError> {
+            sut.run(scenarios, environment, StatusDto.SUCCESS)
+        }
+
+        assertThat(error.message).contains("FAILURE")
+        assertThat(File(tempDir.toFile(), environment.name).list()).hasSize(2)
+    }
+}